@@ -58,6 +58,16 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    @Override
+    public Histogram histogram(String name, Unit unit) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        Histogram histogram = new ThreadSafeHistogram(name, unit);
+        this.addMetric(name, histogram);
+        return histogram;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+/** Metric for measuring the distribution of values, e.g. latencies. */
+public interface Histogram extends Metric {
+
+    /**
+     * Record a value.
+     *
+     * @param value the value, negative values are recorded as zero
+     */
+    void update(long value);
+
+    /**
+     * Get number of values recorded in the histogram.
+     *
+     * @return number of values recorded in the histogram
+     */
+    long getCount();
+
+    /**
+     * Returns the value below which the given fraction of the recorded values fall.
+     *
+     * @param quantile the fraction between 0 and 1, e.g. 0.99
+     * @return the value at the quantile, 0 if no value was recorded
+     */
+    long getQuantile(double quantile);
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value, 0 if no value was recorded
+     */
+    long getMax();
+
+    /**
+     * Returns the average of the recorded values.
+     *
+     * @return the average of the recorded values, 0 if no value was recorded
+     */
+    double getMean();
+}
@@ -36,6 +36,33 @@ public interface Meter extends Metric {
      */
     double getRate();
 
+    /**
+     * Returns the exponentially decayed rate of events per second over the last minute.
+     *
+     * @return one minute rate of events per second
+     */
+    default double getOneMinuteRate() {
+        return getRate();
+    }
+
+    /**
+     * Returns the exponentially decayed rate of events per second over the last five minutes.
+     *
+     * @return five minute rate of events per second
+     */
+    default double getFiveMinuteRate() {
+        return getRate();
+    }
+
+    /**
+     * Returns the exponentially decayed rate of events per second over the last fifteen minutes.
+     *
+     * @return fifteen minute rate of events per second
+     */
+    default double getFifteenMinuteRate() {
+        return getRate();
+    }
+
     /**
      * Get number of events marked on the meter.
      *
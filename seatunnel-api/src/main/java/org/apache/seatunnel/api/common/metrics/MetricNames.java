@@ -33,4 +33,57 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+
+    /** The latencies in microseconds of each source poll, transform and sink write. */
+    public static final String SOURCE_POLL_LATENCY = "SourcePollLatency";
+
+    public static final String TRANSFORM_LATENCY = "TransformLatency";
+    public static final String SINK_WRITE_LATENCY = "SinkWriteLatency";
+    /** The time in microseconds from the first to the last barrier of a checkpoint at a task. */
+    public static final String CHECKPOINT_ALIGNMENT_LATENCY = "CheckpointAlignmentLatency";
+    /** The latency in microseconds of committing a checkpoint by the sink. */
+    public static final String SINK_COMMIT_LATENCY = "SinkCommitLatency";
+    /**
+     * The time in microseconds from a source collecting a row to the sink receiving it, measured by
+     * sampled latency markers.
+     */
+    public static final String SOURCE_TO_SINK_LATENCY = "SourceToSinkLatency";
+
+    /**
+     * The milliseconds per second a task is blocked on putting records into a full queue of its
+     * output, and is waiting for records from an empty queue of its input.
+     */
+    public static final String BACK_PRESSURED_TIME = "BackPressuredTimeMsPerSecond";
+
+    public static final String IDLE_TIME = "IdleTimeMsPerSecond";
+    /** The milliseconds per second a task is neither back pressured nor idle. */
+    public static final String BUSY_TIME = "BusyTimeMsPerSecond";
+
+    /** The suffixes of the rates of a meter, e.g. SinkWriteQPS1m. */
+    public static final String ONE_MINUTE_RATE = "1m";
+
+    public static final String FIVE_MINUTE_RATE = "5m";
+    public static final String FIFTEEN_MINUTE_RATE = "15m";
+
+    /** The suffixes of the values of a histogram, e.g. SinkWriteLatencyP99. */
+    public static final String P50 = "P50";
+
+    public static final String P95 = "P95";
+    public static final String P99 = "P99";
+    public static final String MAX = "Max";
+
+    public static final String VIRTUAL_THREAD_PINNED_COUNT = "VirtualThreadPinnedCount";
+    public static final String VIRTUAL_THREAD_PINNED_TIME = "VirtualThreadPinnedTime";
+
+    /**
+     * Append a suffix to a metric name before its table, e.g. SinkWriteQPS#db.t with 1m is
+     * SinkWriteQPS1m#db.t.
+     */
+    public static String withSuffix(String name, String suffix) {
+        int tableIndex = name.indexOf('#');
+        if (tableIndex < 0) {
+            return name + suffix;
+        }
+        return name.substring(0, tableIndex) + suffix + name.substring(tableIndex);
+    }
 }
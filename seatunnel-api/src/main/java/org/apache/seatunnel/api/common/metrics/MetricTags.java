@@ -37,6 +37,9 @@ public final class MetricTags {
 
     public static final String TASK_NAME = "taskName";
 
+    /** The actions of a task, e.g. Source[0]-FakeSource -> Transform[0]-Sql. */
+    public static final String VERTEX = "vertex";
+
     public static final String SERVICE = "service";
 
     public static final String TASK_GROUP_LOCATION = "taskGroupLocation";
@@ -54,4 +54,16 @@ public interface MetricsContext {
      * @return the registered meter
      */
     <M extends Meter> M meter(String name, M meter);
+
+    /**
+     * Registers a {@link ThreadSafeHistogram} with SeaTunnel. Contexts that can not report
+     * histograms return a histogram that is not registered.
+     *
+     * @param name name of the histogram
+     * @param unit unit of the recorded values
+     * @return the registered histogram
+     */
+    default Histogram histogram(String name, Unit unit) {
+        return new ThreadSafeHistogram(name, unit);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A histogram of log-linear buckets: values below 16 are counted exactly and every larger power of
+ * two is split into 8 buckets, so a quantile is at most 12.5% above the real value. Each recording
+ * thread writes to its own stripe of buckets, the stripes are created on first use and merged when
+ * the histogram is read or serialized.
+ */
+public class ThreadSafeHistogram implements Histogram, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Larger values are recorded as this value, e.g. about 12 days in microseconds. */
+    static final long MAX_VALUE = (1L << 40) - 1;
+
+    static final int BUCKETS = bucketIndex(MAX_VALUE) + 1;
+    private static final int COUNT = BUCKETS;
+    private static final int SUM = BUCKETS + 1;
+    private static final int MAX = BUCKETS + 2;
+
+    private static final int STRIPES = 4;
+
+    private final String name;
+
+    private final Unit unit;
+
+    private transient AtomicReferenceArray<AtomicLongArray> stripes;
+
+    public ThreadSafeHistogram(String name) {
+        this(name, Unit.COUNT);
+    }
+
+    public ThreadSafeHistogram(String name, Unit unit) {
+        this.name = name;
+        this.unit = unit;
+        this.stripes = new AtomicReferenceArray<>(STRIPES);
+    }
+
+    @Override
+    public void update(long value) {
+        value = Math.min(Math.max(value, 0), MAX_VALUE);
+        AtomicLongArray stripe = stripe();
+        stripe.incrementAndGet(bucketIndex(value));
+        stripe.incrementAndGet(COUNT);
+        stripe.addAndGet(SUM, value);
+        long max = stripe.get(MAX);
+        while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+            max = stripe.get(MAX);
+        }
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS + 3));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    /** @return the buckets of all stripes followed by the count, the sum and the max */
+    private long[] merge() {
+        long[] merged = new long[BUCKETS + 3];
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            for (int j = 0; j < MAX; j++) {
+                merged[j] += stripe.get(j);
+            }
+            merged[MAX] = Math.max(merged[MAX], stripe.get(MAX));
+        }
+        return merged;
+    }
+
+    @Override
+    public long getCount() {
+        return merge()[COUNT];
+    }
+
+    @Override
+    public long getQuantile(double quantile) {
+        long[] merged = merge();
+        if (merged[COUNT] == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * merged[COUNT]));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), merged[MAX]);
+            }
+        }
+        // the buckets and the count of a stripe are updated one after the other
+        return merged[MAX];
+    }
+
+    @Override
+    public long getMax() {
+        return merge()[MAX];
+    }
+
+    @Override
+    public double getMean() {
+        long[] merged = merge();
+        return merged[COUNT] == 0 ? 0 : (double) merged[SUM] / merged[COUNT];
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return unit;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(merge());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        stripes = new AtomicReferenceArray<>(STRIPES);
+        stripes.set(0, new AtomicLongArray((long[]) in.readObject()));
+    }
+
+    @Override
+    public String toString() {
+        long[] merged = merge();
+        return "ThreadSafeHistogram{"
+                + "name='"
+                + name
+                + '\''
+                + ", count="
+                + merged[COUNT]
+                + ", max="
+                + merged[MAX]
+                + '}';
+    }
+}
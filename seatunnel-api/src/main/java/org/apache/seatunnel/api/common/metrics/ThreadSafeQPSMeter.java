@@ -18,45 +18,122 @@
 package org.apache.seatunnel.api.common.metrics;
 
 import java.io.Serializable;
-import java.util.concurrent.atomic.AtomicLongFieldUpdater;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A meter with exponentially decayed one, five and fifteen minute rates like the unix load average.
+ * Events are counted in a {@link LongAdder}, whose cells give the marking threads their own
+ * recorders, and the rates are brought up to date lazily when they are read. {@link #getRate()} is
+ * the one minute rate, so a stalled task shows a falling rate instead of its lifetime average.
+ */
 public class ThreadSafeQPSMeter implements Meter, Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    /** The rates are decayed in steps of at least this interval. */
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toMillis(5);
 
-    private static final AtomicLongFieldUpdater<ThreadSafeQPSMeter> VOLATILE_VALUE_UPDATER =
-            AtomicLongFieldUpdater.newUpdater(ThreadSafeQPSMeter.class, "value");
+    private static final long[] WINDOWS = {
+        TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(5), TimeUnit.MINUTES.toMillis(15)
+    };
 
     private final String name;
 
-    private volatile long value;
+    private final LongAdder value = new LongAdder();
 
     private final long timestamp;
 
+    private long lastTickTime;
+
+    private long lastTickCount;
+
+    /** The rates of the windows, null before the first tick. */
+    private double[] rates;
+
     public ThreadSafeQPSMeter(String name) {
+        this(name, System.currentTimeMillis());
+    }
+
+    ThreadSafeQPSMeter(String name, long timestamp) {
         this.name = name;
-        timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
+        this.lastTickTime = timestamp;
     }
 
     @Override
     public void markEvent() {
-        VOLATILE_VALUE_UPDATER.incrementAndGet(this);
+        value.increment();
     }
 
     @Override
     public void markEvent(long n) {
-        VOLATILE_VALUE_UPDATER.addAndGet(this, n);
+        value.add(n);
     }
 
     @Override
     public double getRate() {
-        long cost = System.currentTimeMillis() - timestamp;
-        return (double) value * 1000 / cost;
+        return getOneMinuteRate();
+    }
+
+    @Override
+    public double getOneMinuteRate() {
+        return getWindowRate(0);
+    }
+
+    @Override
+    public double getFiveMinuteRate() {
+        return getWindowRate(1);
+    }
+
+    @Override
+    public double getFifteenMinuteRate() {
+        return getWindowRate(2);
+    }
+
+    private double getWindowRate(int window) {
+        return getWindowRate(window, System.currentTimeMillis());
+    }
+
+    synchronized double getWindowRate(int window, long now) {
+        tick(now);
+        if (rates == null) {
+            // less than a tick since the meter was created, e.g. a short batch job
+            long cost = Math.max(1, now - timestamp);
+            return (double) value.sum() * 1000 / cost;
+        }
+        return rates[window];
+    }
+
+    /**
+     * Decay the rates by the time since the last tick. The events since then are spread evenly over
+     * that time, which gives the same result for one long tick as for many short ones.
+     */
+    private void tick(long now) {
+        long elapsed = now - lastTickTime;
+        if (elapsed < TICK_INTERVAL) {
+            return;
+        }
+        long count = value.sum();
+        double instantRate = (double) (count - lastTickCount) * 1000 / elapsed;
+        if (rates == null) {
+            rates = new double[WINDOWS.length];
+            for (int i = 0; i < WINDOWS.length; i++) {
+                rates[i] = instantRate;
+            }
+        } else {
+            for (int i = 0; i < WINDOWS.length; i++) {
+                double decay = Math.exp(-(double) elapsed / WINDOWS[i]);
+                rates[i] = instantRate + (rates[i] - instantRate) * decay;
+            }
+        }
+        lastTickTime = now;
+        lastTickCount = count;
     }
 
     @Override
     public long getCount() {
-        return VOLATILE_VALUE_UPDATER.get(this);
+        return value.sum();
     }
 
     @Override
@@ -22,6 +22,8 @@ public enum Unit {
     BYTES,
     /** Timestamp or duration represented in ms */
     MS,
+    /** Duration represented in microseconds */
+    US,
     /** An integer in range 0..100 */
     PERCENT,
     /** Number of items: size, counter... */
@@ -78,6 +78,22 @@ public interface EnvCommonOptions {
                     .withDescription(
                             "The each parallelism bytes limit per second for read data from source.");
 
+    Option<Boolean> READ_LIMIT_ADAPTIVE =
+            Options.key("read_limit.adaptive")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the read limits are adjusted at runtime by the feedback of the sinks, "
+                                    + "the configured limits are the upper bounds. Only supported by the Zeta engine.");
+
+    Option<Long> LATENCY_TRACKING_INTERVAL =
+            Options.key("latency_tracking.interval")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The interval (in milliseconds) in which each source parallelism sends a latency marker "
+                                    + "through the job to measure the source to sink latency, disabled if not set.");
+
     Option<Long> CHECKPOINT_TIMEOUT =
             Options.key("checkpoint.timeout")
                     .longType()
@@ -33,6 +33,8 @@ public class EnvOptionRule {
                         EnvCommonOptions.CHECKPOINT_TIMEOUT,
                         EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND,
                         EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND,
+                        EnvCommonOptions.READ_LIMIT_ADAPTIVE,
+                        EnvCommonOptions.LATENCY_TRACKING_INTERVAL,
                         EnvCommonOptions.SAVEMODE_EXECUTE_LOCATION,
                         EnvCommonOptions.CUSTOM_PARAMETERS)
                 .build();
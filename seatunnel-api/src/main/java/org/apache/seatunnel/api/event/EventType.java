@@ -29,5 +29,6 @@ public enum EventType {
     LIFECYCLE_READER_OPEN,
     LIFECYCLE_READER_CLOSE,
     LIFECYCLE_WRITER_CLOSE,
+    WRITER_OVERLOADED,
     READER_MESSAGE_DELAYED,
 }
@@ -106,5 +106,13 @@ public interface SinkWriter<T, CommitInfoT, StateT> {
          * @return
          */
         EventListener getEventListener();
+
+        /**
+         * @return whether the engine runs the task of this writer on virtual threads, the threads
+         *     the writer starts for the task can be virtual threads too
+         */
+        default boolean isVirtualThreadsEnabled() {
+            return false;
+        }
     }
 }
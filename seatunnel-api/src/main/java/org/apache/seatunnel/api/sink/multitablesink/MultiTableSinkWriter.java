@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.tracing.MDCTracer;
+import org.apache.seatunnel.common.utils.VirtualThreadUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -66,23 +67,32 @@ public class MultiTableSinkWriter
             Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext) {
         this.sinkWriters = sinkWriters;
         this.sinkWritersContext = sinkWritersContext;
-        AtomicInteger cnt = new AtomicInteger(0);
-        executorService =
-                MDCTracer.tracing(
-                        Executors.newFixedThreadPool(
-                                // we use it in `MultiTableWriterRunnable` and `prepare commit
-                                // task`, so it
-                                // should be double.
-                                queueSize * 2,
-                                runnable -> {
-                                    Thread thread = new Thread(runnable);
-                                    thread.setDaemon(true);
-                                    thread.setName(
-                                            "st-multi-table-sink-writer"
-                                                    + "-"
-                                                    + cnt.incrementAndGet());
-                                    return thread;
-                                }));
+        if (sinkWritersContext.values().stream()
+                .anyMatch(SinkWriter.Context::isVirtualThreadsEnabled)) {
+            // one virtual thread per runnable, the writers may block on io without a carrier
+            executorService =
+                    MDCTracer.tracing(
+                            VirtualThreadUtils.newVirtualThreadPerTaskExecutor(
+                                    "st-multi-table-sink-writer-"));
+        } else {
+            AtomicInteger cnt = new AtomicInteger(0);
+            executorService =
+                    MDCTracer.tracing(
+                            Executors.newFixedThreadPool(
+                                    // we use it in `MultiTableWriterRunnable` and `prepare commit
+                                    // task`, so it
+                                    // should be double.
+                                    queueSize * 2,
+                                    runnable -> {
+                                        Thread thread = new Thread(runnable);
+                                        thread.setDaemon(true);
+                                        thread.setName(
+                                                "st-multi-table-sink-writer"
+                                                        + "-"
+                                                        + cnt.incrementAndGet());
+                                        return thread;
+                                    }));
+        }
         sinkWritersWithIndex = new ArrayList<>();
         for (int i = 0; i < queueSize; i++) {
             BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
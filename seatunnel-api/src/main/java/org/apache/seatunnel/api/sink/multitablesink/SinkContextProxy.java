@@ -54,4 +54,9 @@ public class SinkContextProxy implements SinkWriter.Context {
     public EventListener getEventListener() {
         return context.getEventListener();
     }
+
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return context.isVirtualThreadsEnabled();
+    }
 }
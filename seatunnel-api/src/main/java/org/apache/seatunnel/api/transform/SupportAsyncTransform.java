@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mark a {@link SeaTunnelTransform} that calls remote systems without blocking. Engines that
+ * support it call {@link #asyncMap(Object)} and keep up to {@link #getAsyncCapacity()} requests in
+ * flight, instead of waiting for {@link SeaTunnelTransform#map(Object)} row by row. All pending
+ * requests complete before a checkpoint barrier is forwarded. Engines without support keep calling
+ * {@link SeaTunnelTransform#map(Object)}, so both must produce the same rows.
+ */
+public interface SupportAsyncTransform<T> {
+
+    int DEFAULT_ASYNC_CAPACITY = 100;
+
+    long DEFAULT_ASYNC_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * Start transforming a row. The future completes with the transformed row, or with null if the
+     * row is filtered.
+     *
+     * @param row the data need be transformed.
+     * @return the future of the transformed data.
+     */
+    CompletableFuture<T> asyncMap(T row);
+
+    /** The max number of requests in flight. */
+    default int getAsyncCapacity() {
+        return DEFAULT_ASYNC_CAPACITY;
+    }
+
+    /** The time in milliseconds after which a request is failed, retried if attempts remain. */
+    default long getAsyncTimeoutMillis() {
+        return DEFAULT_ASYNC_TIMEOUT_MILLIS;
+    }
+
+    /** The number of times a failed or timed out request is retried. */
+    default int getAsyncMaxRetries() {
+        return 0;
+    }
+
+    /**
+     * Whether rows are emitted in input order. Unordered emission lets fast requests overtake slow
+     * ones, rows are still never moved across a checkpoint barrier.
+     */
+    default boolean isAsyncOrdered() {
+        return true;
+    }
+}
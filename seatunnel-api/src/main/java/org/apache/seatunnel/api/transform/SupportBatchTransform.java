@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import java.util.List;
+
+/**
+ * Mark a {@link SeaTunnelTransform} that can process rows in micro-batches. Engines that support it
+ * call {@link #flatMap(List, Collector)} instead of {@link SeaTunnelTransform#map(Object)}, with
+ * batches bounded by {@link #getBatchSize()} and {@link #getBatchLingerMillis()}. Pending rows are
+ * always flushed before a checkpoint barrier is forwarded. Engines without support keep calling
+ * {@link SeaTunnelTransform#map(Object)}, so both must produce the same rows.
+ */
+public interface SupportBatchTransform<T> {
+
+    int DEFAULT_BATCH_SIZE = 100;
+
+    long DEFAULT_BATCH_LINGER_MILLIS = 200;
+
+    /**
+     * Transform a batch of rows. Each input row may produce zero, one or many output rows, which
+     * must be emitted in order through the collector before this method returns.
+     *
+     * @param rows the rows need be transformed.
+     * @param collector the collector of transformed rows.
+     */
+    void flatMap(List<T> rows, Collector<T> collector);
+
+    /** The max number of rows in one batch. */
+    default int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /** The max time in milliseconds the first row of a batch waits before the batch is flushed. */
+    default long getBatchLingerMillis() {
+        return DEFAULT_BATCH_LINGER_MILLIS;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MetricsTest {
+
+    @Test
+    public void testMeterRates() {
+        ThreadSafeQPSMeter meter = new ThreadSafeQPSMeter("qps", 0);
+        meter.markEvent(1000);
+        // the lifetime average before the first tick
+        Assertions.assertEquals(1000, meter.getWindowRate(0, 1000), 0.001);
+        Assertions.assertEquals(100, meter.getWindowRate(0, 10_000), 0.001);
+
+        // a stall decays the short window faster than the long ones
+        Assertions.assertEquals(100 * Math.exp(-1), meter.getWindowRate(0, 70_000), 0.001);
+        Assertions.assertEquals(100 * Math.exp(-0.2), meter.getWindowRate(1, 70_000), 0.001);
+        Assertions.assertEquals(100 * Math.exp(-60 / 900D), meter.getWindowRate(2, 70_000), 0.001);
+        Assertions.assertEquals(1000, meter.getCount());
+
+        // reads within a tick do not change the rates
+        meter.markEvent(500);
+        Assertions.assertEquals(100 * Math.exp(-1), meter.getWindowRate(0, 71_000), 0.001);
+    }
+
+    @Test
+    public void testHistogramQuantiles() throws Exception {
+        ThreadSafeHistogram histogram = new ThreadSafeHistogram("latency", Unit.US);
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.update(i);
+        }
+        Assertions.assertEquals(10_000, histogram.getCount());
+        Assertions.assertEquals(10_000, histogram.getMax());
+        Assertions.assertEquals(5000.5, histogram.getMean(), 0.001);
+        assertQuantile(5000, histogram.getQuantile(0.5));
+        assertQuantile(9900, histogram.getQuantile(0.99));
+        Assertions.assertEquals(10_000, histogram.getQuantile(1));
+        Assertions.assertEquals(0, new ThreadSafeHistogram("empty").getQuantile(0.5));
+
+        // small values are exact and large values are capped
+        ThreadSafeHistogram small = new ThreadSafeHistogram("small");
+        small.update(-1);
+        small.update(3);
+        small.update(Long.MAX_VALUE);
+        Assertions.assertEquals(0, small.getQuantile(0.1));
+        Assertions.assertEquals(3, small.getQuantile(0.5));
+        Assertions.assertEquals(ThreadSafeHistogram.MAX_VALUE, small.getMax());
+    }
+
+    @Test
+    public void testHistogramThreads() throws Exception {
+        ThreadSafeHistogram histogram = new ThreadSafeHistogram("latency", Unit.US);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 1; i <= 1000; i++) {
+                                    histogram.update(i);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(8000, histogram.getCount());
+        assertQuantile(500, histogram.getQuantile(0.5));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(histogram);
+        }
+        ThreadSafeHistogram copy;
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ThreadSafeHistogram) in.readObject();
+        }
+        Assertions.assertEquals(8000, copy.getCount());
+        Assertions.assertEquals(1000, copy.getMax());
+        Assertions.assertEquals(Unit.US, copy.unit());
+        copy.update(2000);
+        Assertions.assertEquals(2000, copy.getMax());
+    }
+
+    @Test
+    public void testSuffix() {
+        Assertions.assertEquals(
+                "SinkWriteQPS1m",
+                MetricNames.withSuffix("SinkWriteQPS", MetricNames.ONE_MINUTE_RATE));
+        Assertions.assertEquals(
+                "SinkWriteQPS1m#db.t",
+                MetricNames.withSuffix("SinkWriteQPS#db.t", MetricNames.ONE_MINUTE_RATE));
+    }
+
+    /** A quantile is not below the real value and at most one bucket above it. */
+    private static void assertQuantile(long expected, long actual) {
+        Assertions.assertTrue(
+                actual >= expected && actual <= expected * 1.125,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Virtual threads of JDK 21+. SeaTunnel is built for Java 8, so the JDK methods are called by
+ * reflection and every method falls back to platform threads on older JDKs.
+ *
+ * <p>Whether virtual threads are used is decided by each task execution service of the engine,
+ * which passes it on to the code that creates threads for its tasks, e.g. the multi table sink
+ * writer.
+ */
+@Slf4j
+public class VirtualThreadUtils {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Method OF_VIRTUAL = findOfVirtual();
+
+    private static final AtomicLong PINNED_COUNT = new AtomicLong();
+    private static final AtomicLong PINNED_NANOS = new AtomicLong();
+    private static AutoCloseable pinnedEventStream;
+    // the number of executors that record the pinned events
+    private static int pinnedEventRecorders;
+
+    private VirtualThreadUtils() {}
+
+    /** @return whether the running JDK supports virtual threads */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Start recording the pinned virtual threads of the process. The recording runs until every
+     * caller has called {@link #stopPinnedEventRecording()}.
+     */
+    public static synchronized void startPinnedEventRecording() {
+        if (pinnedEventRecorders++ == 0) {
+            startPinnedEventStream();
+        }
+    }
+
+    public static synchronized void stopPinnedEventRecording() {
+        if (pinnedEventRecorders > 0 && --pinnedEventRecorders == 0) {
+            stopPinnedEventStream();
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task. The threads are named with
+     * the prefix and a counter, and their context class loader is the context class loader of the
+     * calling thread.
+     *
+     * @throws UnsupportedOperationException if the JDK does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by java "
+                            + System.getProperty("java.version"));
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder =
+                    builderClass
+                            .getMethod("name", String.class, long.class)
+                            .invoke(builder, namePrefix, 0L);
+            ThreadFactory virtualThreadFactory =
+                    (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            ThreadFactory threadFactory =
+                    runnable -> {
+                        Thread thread = virtualThreadFactory.newThread(runnable);
+                        thread.setContextClassLoader(contextClassLoader);
+                        return thread;
+                    };
+            return (ExecutorService)
+                    Executors.class
+                            .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                            .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Failed to create virtual threads", e);
+        }
+    }
+
+    /**
+     * @return how often a virtual thread was pinned to its carrier thread for longer than 20ms
+     *     since the recording started, e.g. while blocking inside a synchronized block
+     */
+    public static long getPinnedCount() {
+        return PINNED_COUNT.get();
+    }
+
+    /**
+     * @return the total time in nanoseconds that virtual threads were pinned for longer than 20ms
+     */
+    public static long getPinnedNanos() {
+        return PINNED_NANOS.get();
+    }
+
+    /** Count the pinned events with a JFR recording stream, which exists since JDK 14. */
+    private static void startPinnedEventStream() {
+        if (pinnedEventStream != null) {
+            return;
+        }
+        try {
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            Method getDuration =
+                    Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getDuration");
+            Object stream = streamClass.getConstructor().newInstance();
+            Object settings =
+                    streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settingsClass
+                    .getMethod("withThreshold", Duration.class)
+                    .invoke(settings, Duration.ofMillis(20));
+            Consumer<Object> onPinned =
+                    event -> {
+                        PINNED_COUNT.incrementAndGet();
+                        try {
+                            PINNED_NANOS.addAndGet(
+                                    ((Duration) getDuration.invoke(event)).toNanos());
+                        } catch (ReflectiveOperationException e) {
+                            // the count is still correct
+                        }
+                    };
+            streamClass
+                    .getMethod("onEvent", String.class, Consumer.class)
+                    .invoke(stream, PINNED_EVENT, onPinned);
+            streamClass.getMethod("startAsync").invoke(stream);
+            pinnedEventStream = (AutoCloseable) stream;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Failed to record pinned virtual threads", e);
+        }
+    }
+
+    private static void stopPinnedEventStream() {
+        if (pinnedEventStream == null) {
+            return;
+        }
+        try {
+            pinnedEventStream.close();
+        } catch (Exception e) {
+            log.warn("Failed to stop recording pinned virtual threads", e);
+        }
+        pinnedEventStream = null;
+    }
+
+    private static Method findOfVirtual() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            // virtual threads are a preview feature of JDK 19 and 20
+            ofVirtual.invoke(null);
+            return ofVirtual;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
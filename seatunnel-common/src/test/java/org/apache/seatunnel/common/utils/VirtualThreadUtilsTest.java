@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class VirtualThreadUtilsTest {
+
+    @Test
+    public void testVirtualThreadExecutor() throws Exception {
+        String version = System.getProperty("java.specification.version");
+        boolean supported = !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+        Assertions.assertEquals(supported, VirtualThreadUtils.isSupported());
+        if (!supported) {
+            Assertions.assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> VirtualThreadUtils.newVirtualThreadPerTaskExecutor("test-"));
+            return;
+        }
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], original);
+        ExecutorService executorService;
+        try (TemporaryClassLoaderContext ignored = TemporaryClassLoaderContext.of(classLoader)) {
+            executorService = VirtualThreadUtils.newVirtualThreadPerTaskExecutor("test-");
+        }
+        try {
+            Future<ClassLoader> contextClassLoader =
+                    executorService.submit(() -> Thread.currentThread().getContextClassLoader());
+            Assertions.assertSame(classLoader, contextClassLoader.get());
+            Future<String> name = executorService.submit(() -> Thread.currentThread().getName());
+            Assertions.assertTrue(name.get().startsWith("test-"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A Fetcher Manager with a bounded number of fetching threads (I/O threads) that each read one
+ * split at a time. Splits wait in a pending queue until a fetcher finished its split, so at most
+ * that number of splits are opened ahead of the reader.
+ *
+ * @param <E>
+ * @param <SplitT>
+ */
+public class MultiThreadFetcherManager<E, SplitT extends SourceSplit>
+        extends SplitFetcherManager<E, SplitT> {
+
+    private final int numFetchers;
+    // not the monitor of the manager, which is held while closing waits for the fetchers
+    private final Object lock = new Object();
+    private final Deque<SplitT> pendingSplits = new ArrayDeque<>();
+    // the split each fetcher is reading, null if the fetcher waits for the next split
+    private final Map<Integer, String> runningSplits = new HashMap<>();
+
+    public MultiThreadFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
+            Supplier<SplitReader<E, SplitT>> splitReaderSupplier,
+            int numFetchers) {
+        super(elementsQueue, splitReaderSupplier);
+        if (numFetchers <= 0) {
+            throw new IllegalArgumentException("The number of fetchers must be positive.");
+        }
+        this.numFetchers = numFetchers;
+    }
+
+    @Override
+    public void addSplits(Collection<SplitT> splitsToAdd) {
+        synchronized (lock) {
+            pendingSplits.addAll(splitsToAdd);
+            for (Map.Entry<Integer, String> entry : runningSplits.entrySet()) {
+                if (pendingSplits.isEmpty()) {
+                    return;
+                }
+                if (entry.getValue() == null) {
+                    assignNextSplit(entry.getKey());
+                }
+            }
+            while (!pendingSplits.isEmpty() && runningSplits.size() < numFetchers) {
+                SplitFetcher<E, SplitT> fetcher = createSplitFetcher();
+                runningSplits.put(fetcher.getFetcherId(), null);
+                assignNextSplit(fetcher.getFetcherId());
+                startFetcher(fetcher);
+            }
+        }
+    }
+
+    @Override
+    protected void onSplitsFinished(int fetcherId, Collection<String> finishedSplitIds) {
+        synchronized (lock) {
+            String runningSplit = runningSplits.get(fetcherId);
+            if (runningSplit != null && finishedSplitIds.contains(runningSplit)) {
+                runningSplits.put(fetcherId, null);
+                if (!pendingSplits.isEmpty()) {
+                    assignNextSplit(fetcherId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean maybeShutdownFinishedFetchers() {
+        synchronized (lock) {
+            // a fetcher is idle for a moment between two splits
+            if (!pendingSplits.isEmpty()
+                    || runningSplits.values().stream().anyMatch(Objects::nonNull)) {
+                return false;
+            }
+            boolean allShutdown = super.maybeShutdownFinishedFetchers();
+            runningSplits.keySet().retainAll(fetchers.keySet());
+            return allShutdown;
+        }
+    }
+
+    private void assignNextSplit(int fetcherId) {
+        SplitT split = pendingSplits.poll();
+        runningSplits.put(fetcherId, split.splitId());
+        fetchers.get(fetcherId).addSplits(Collections.singletonList(split));
+    }
+}
@@ -109,11 +109,20 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         () -> {
                             fetchers.remove(fetcherId);
                         },
-                        this.splitFinishedHook);
+                        finishedSplitIds -> {
+                            splitFinishedHook.accept(finishedSplitIds);
+                            onSplitsFinished(fetcherId, finishedSplitIds);
+                        });
         fetchers.put(fetcherId, splitFetcher);
         return splitFetcher;
     }
 
+    /**
+     * Called by the fetcher thread once the records of the finished splits are handed over to the
+     * reader.
+     */
+    protected void onSplitsFinished(int fetcherId, Collection<String> finishedSplitIds) {}
+
     public synchronized boolean maybeShutdownFinishedFetchers() {
         Iterator<Map.Entry<Integer, SplitFetcher<E, SplitT>>> iter = fetchers.entrySet().iterator();
         while (iter.hasNext()) {
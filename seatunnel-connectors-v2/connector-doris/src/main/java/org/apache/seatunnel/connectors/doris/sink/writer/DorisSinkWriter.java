@@ -17,8 +17,10 @@
 
 package org.apache.seatunnel.connectors.doris.sink.writer;
 
+import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -54,6 +56,7 @@ import static com.google.common.base.Preconditions.checkState;
 public class DorisSinkWriter
         implements SinkWriter<SeaTunnelRow, DorisCommitInfo, DorisSinkState>,
                 SupportMultiTableSinkWriter<Void> {
+    private static final String TOO_MANY_VERSIONS = "too many versions";
     private static final int INITIAL_DELAY = 200;
     private static final List<String> DORIS_SUCCESS_STATUS =
             new ArrayList<>(Arrays.asList(LoadStatus.SUCCESS, LoadStatus.PUBLISH_TIMEOUT));
@@ -66,6 +69,7 @@ public class DorisSinkWriter
     private final DorisSerializer serializer;
     private final CatalogTable catalogTable;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final EventListener eventListener;
     private volatile Exception loadException = null;
 
     public DorisSinkWriter(
@@ -93,6 +97,7 @@ public class DorisSinkWriter
                         1, new ThreadFactoryBuilder().setNameFormat("stream-load-check").build());
         this.serializer = createSerializer(dorisConfig, catalogTable.getSeaTunnelRowType());
         this.intervalTime = dorisConfig.getCheckInterval();
+        this.eventListener = context.getEventListener();
         this.initializeLoad();
     }
 
@@ -159,6 +164,7 @@ public class DorisSinkWriter
                     String.format(
                             "stream load error: %s, see more in %s",
                             respContent.getMessage(), respContent.getErrorURL());
+            reportIfOverloaded(respContent.getMessage());
             throw new DorisConnectorException(DorisConnectorErrorCode.STREAM_LOAD_FAILED, errMsg);
         }
         return respContent;
@@ -194,12 +200,25 @@ public class DorisSinkWriter
         log.debug("start timer checker, interval {} ms", intervalTime);
         if ((errorMsg = dorisStreamLoad.getLoadFailedMsg()) != null) {
             log.error("stream load finished unexpectedly: {}", errorMsg);
+            reportIfOverloaded(errorMsg);
             loadException =
                     new DorisConnectorException(
                             DorisConnectorErrorCode.STREAM_LOAD_FAILED, errorMsg);
         }
     }
 
+    /**
+     * Doris rejects loads with "too many versions" if the compaction can not keep up with the load
+     * frequency, which lets the engine slow down the sources of the job.
+     */
+    private void reportIfOverloaded(String message) {
+        if (eventListener != null
+                && message != null
+                && message.toLowerCase().contains(TOO_MANY_VERSIONS)) {
+            eventListener.onEvent(new WriterOverloadedEvent(message));
+        }
+    }
+
     private void checkLoadException() {
         if (loadException != null) {
             throw new RuntimeException("error while loading data.", loadException);
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.sink.writer;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.Event;
+import org.apache.seatunnel.api.sink.DefaultSinkWriterContext;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.doris.config.DorisConfig;
+import org.apache.seatunnel.connectors.doris.exception.DorisConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DorisSinkWriterTest {
+
+    private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+    private HttpServer server;
+    private volatile String loadResult;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // answers every stream load with the load result once the whole batch is read
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(
+                "/api/",
+                exchange -> {
+                    try (InputStream in = exchange.getRequestBody()) {
+                        byte[] buffer = new byte[1024];
+                        while (in.read(buffer) != -1) {
+                            // drain the batch
+                        }
+                    }
+                    byte[] response = loadResult.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, response.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(response);
+                    }
+                });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testTooManyVersionsReportsOverloadedWriter() throws Exception {
+        loadResult =
+                "{\"TxnId\":1,\"Label\":\"l\",\"Status\":\"Fail\","
+                        + "\"Message\":\"[E-235]too many versions, tablet_id=10001\"}";
+        DorisSinkWriter writer = createWriter();
+
+        writer.write(new SeaTunnelRow(new Object[] {1L}));
+        Assertions.assertThrows(DorisConnectorException.class, writer::prepareCommit);
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertTrue(events.get(0) instanceof WriterOverloadedEvent);
+        Assertions.assertTrue(
+                ((WriterOverloadedEvent) events.get(0)).getReason().contains("too many versions"));
+    }
+
+    @Test
+    void testOtherFailureDoesNotReportOverloadedWriter() throws Exception {
+        loadResult =
+                "{\"TxnId\":1,\"Label\":\"l\",\"Status\":\"Fail\","
+                        + "\"Message\":\"[DATA_QUALITY_ERROR]too many filtered rows\"}";
+        DorisSinkWriter writer = createWriter();
+
+        writer.write(new SeaTunnelRow(new Object[] {1L}));
+        Assertions.assertThrows(DorisConnectorException.class, writer::prepareCommit);
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    private DorisSinkWriter createWriter() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("fenodes", "127.0.0.1:" + server.getAddress().getPort());
+        config.put("username", "root");
+        config.put("password", "");
+        config.put("database", "db");
+        config.put("table", "t");
+        config.put("sink.label-prefix", "test");
+        config.put("sink.enable-2pc", false);
+        Map<String, String> streamLoadProps = new HashMap<>();
+        streamLoadProps.put("format", "json");
+        streamLoadProps.put("read_json_by_line", "true");
+        config.put("doris.config", streamLoadProps);
+        CatalogTable catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("doris", "db", "t"),
+                        TableSchema.builder()
+                                .column(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .dataType(BasicType.LONG_TYPE)
+                                                .build())
+                                .build(),
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        "");
+        return new DorisSinkWriter(
+                new DefaultSinkWriterContext(0, 1, events::add),
+                Collections.emptyList(),
+                catalogTable,
+                DorisConfig.of(ReadonlyConfig.fromMap(config)),
+                "1");
+    }
+}
@@ -131,6 +131,14 @@ public class BaseSourceConfigOptions {
                     .noDefaultValue()
                     .withDescription("The columns list that the user want to read");
 
+    public static final Option<String> READ_FILTER =
+            Options.key("read_filter")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The condition that the rows to read must match, e.g. \"age > 18 AND city IN ('a', 'b')\", "
+                                    + "only valid for orc/parquet files, which skip the stripes and row groups that can not match.");
+
     public static final Option<String> SHEET_NAME =
             Options.key("sheet_name")
                     .stringType()
@@ -170,6 +178,21 @@ public class BaseSourceConfigOptions {
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
 
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split large files so that several readers read one file in parallel, "
+                                    + "only valid for uncompressed text/csv/json files and for orc/parquet files.");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The target size in bytes of one split when enable_file_split is true.");
+
     public static final Option<List<Map<String, Object>>> TABLE_CONFIGS =
             Options.key("tables_configs")
                     .type(new TypeReference<List<Map<String, Object>>>() {})
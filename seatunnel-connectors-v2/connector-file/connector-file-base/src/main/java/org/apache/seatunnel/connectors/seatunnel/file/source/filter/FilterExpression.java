@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A row filter of the file source, see {@link FilterExpressionParser} for the syntax. The filter is
+ * evaluated with SQL semantics: comparisons with null are unknown and only rows for which the
+ * filter is true are kept. Negations are pushed down to the predicates while parsing, so the tree
+ * only contains {@link And}, {@link Or} and column predicates.
+ */
+public abstract class FilterExpression implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Evaluate the filter on the values of the row type the filter is bound to.
+     *
+     * @return the result, null if unknown
+     */
+    public abstract Boolean evaluate(Object[] values);
+
+    /** Resolve the columns in the row type and convert the literals to the column types. */
+    public abstract void bind(SeaTunnelRowType rowType);
+
+    public abstract void collectColumns(Set<String> columns);
+
+    /** Whether the row is kept. */
+    public boolean test(Object[] values) {
+        return Boolean.TRUE.equals(evaluate(values));
+    }
+
+    public enum Operator {
+        EQ("="),
+        NE("<>"),
+        LT("<"),
+        LTE("<="),
+        GT(">"),
+        GTE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public Operator negate() {
+            switch (this) {
+                case EQ:
+                    return NE;
+                case NE:
+                    return EQ;
+                case LT:
+                    return GTE;
+                case LTE:
+                    return GT;
+                case GT:
+                    return LTE;
+                default:
+                    return LT;
+            }
+        }
+
+        boolean test(int compareResult) {
+            switch (this) {
+                case EQ:
+                    return compareResult == 0;
+                case NE:
+                    return compareResult != 0;
+                case LT:
+                    return compareResult < 0;
+                case LTE:
+                    return compareResult <= 0;
+                case GT:
+                    return compareResult > 0;
+                default:
+                    return compareResult >= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    @Getter
+    public static class And extends FilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final List<FilterExpression> children;
+
+        public And(List<FilterExpression> children) {
+            this.children = children;
+        }
+
+        @Override
+        public Boolean evaluate(Object[] values) {
+            boolean unknown = false;
+            for (FilterExpression child : children) {
+                Boolean result = child.evaluate(values);
+                if (result == null) {
+                    unknown = true;
+                } else if (!result) {
+                    return false;
+                }
+            }
+            return unknown ? null : true;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            children.forEach(child -> child.bind(rowType));
+        }
+
+        @Override
+        public void collectColumns(Set<String> columns) {
+            children.forEach(child -> child.collectColumns(columns));
+        }
+
+        @Override
+        public String toString() {
+            return join(children, " AND ");
+        }
+    }
+
+    @Getter
+    public static class Or extends FilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final List<FilterExpression> children;
+
+        public Or(List<FilterExpression> children) {
+            this.children = children;
+        }
+
+        @Override
+        public Boolean evaluate(Object[] values) {
+            boolean unknown = false;
+            for (FilterExpression child : children) {
+                Boolean result = child.evaluate(values);
+                if (result == null) {
+                    unknown = true;
+                } else if (result) {
+                    return true;
+                }
+            }
+            return unknown ? null : false;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            children.forEach(child -> child.bind(rowType));
+        }
+
+        @Override
+        public void collectColumns(Set<String> columns) {
+            children.forEach(child -> child.collectColumns(columns));
+        }
+
+        @Override
+        public String toString() {
+            return join(children, " OR ");
+        }
+    }
+
+    /** A predicate on the value of one column. */
+    @Getter
+    public abstract static class ColumnPredicate extends FilterExpression {
+        private static final long serialVersionUID = 1L;
+
+        private final String column;
+        private int index = -1;
+        private SeaTunnelDataType<?> type;
+
+        ColumnPredicate(String column) {
+            this.column = column;
+        }
+
+        @Override
+        public void bind(SeaTunnelRowType rowType) {
+            index = rowType.indexOf(column, false);
+            if (index < 0) {
+                throw new FileConnectorException(
+                        SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                        String.format("Column [%s] of the read filter does not exist", column));
+            }
+            type = rowType.getFieldType(index);
+            bindLiterals();
+        }
+
+        void bindLiterals() {}
+
+        @Override
+        public void collectColumns(Set<String> columns) {
+            columns.add(column);
+        }
+
+        Object valueOf(Object[] values) {
+            return values[index];
+        }
+
+        Object convert(Literal literal) {
+            try {
+                return literal.convert(type);
+            } catch (RuntimeException e) {
+                throw new FileConnectorException(
+                        SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                        String.format(
+                                "Literal [%s] of the read filter can not be compared with column [%s] of type [%s]",
+                                literal, column, type),
+                        e);
+            }
+        }
+    }
+
+    @Getter
+    public static class Compare extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final Operator operator;
+        private final Literal literal;
+        private Object value;
+
+        public Compare(String column, Operator operator, Literal literal) {
+            super(column);
+            this.operator = operator;
+            this.literal = literal;
+        }
+
+        @Override
+        void bindLiterals() {
+            value = convert(literal);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Boolean evaluate(Object[] values) {
+            Object columnValue = valueOf(values);
+            if (columnValue == null || value == null) {
+                return null;
+            }
+            return operator.test(((Comparable) columnValue).compareTo(value));
+        }
+
+        Compare negate() {
+            return new Compare(getColumn(), operator.negate(), literal);
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + " " + operator + " " + literal;
+        }
+    }
+
+    @Getter
+    public static class In extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Literal> literals;
+        private List<Object> values;
+
+        public In(String column, List<Literal> literals) {
+            super(column);
+            this.literals = literals;
+        }
+
+        @Override
+        void bindLiterals() {
+            values = new ArrayList<>(literals.size());
+            for (Literal literal : literals) {
+                values.add(convert(literal));
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Boolean evaluate(Object[] row) {
+            Object columnValue = valueOf(row);
+            if (columnValue == null) {
+                return null;
+            }
+            boolean unknown = false;
+            for (Object value : values) {
+                if (value == null) {
+                    unknown = true;
+                } else if (((Comparable) columnValue).compareTo(value) == 0) {
+                    return true;
+                }
+            }
+            return unknown ? null : false;
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + " IN (" + join(literals, ", ") + ")";
+        }
+    }
+
+    @Getter
+    public static class IsNull extends ColumnPredicate {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean negated;
+
+        public IsNull(String column, boolean negated) {
+            super(column);
+            this.negated = negated;
+        }
+
+        @Override
+        public Boolean evaluate(Object[] values) {
+            return (valueOf(values) == null) != negated;
+        }
+
+        IsNull negate() {
+            return new IsNull(getColumn(), !negated);
+        }
+
+        @Override
+        public String toString() {
+            return getColumn() + (negated ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    /** A literal as written in the filter, converted once the column type is known. */
+    public static class Literal implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        static final Literal NULL = new Literal(null, false);
+
+        private final String text;
+        private final boolean quoted;
+
+        Literal(String text, boolean quoted) {
+            this.text = text;
+            this.quoted = quoted;
+        }
+
+        Object convert(SeaTunnelDataType<?> type) {
+            if (text == null) {
+                return null;
+            }
+            switch (type.getSqlType()) {
+                case STRING:
+                    return text;
+                case BOOLEAN:
+                    if (!"true".equalsIgnoreCase(text) && !"false".equalsIgnoreCase(text)) {
+                        throw new IllegalArgumentException("Not a boolean: " + text);
+                    }
+                    return Boolean.parseBoolean(text);
+                case TINYINT:
+                    return number().byteValueExact();
+                case SMALLINT:
+                    return number().shortValueExact();
+                case INT:
+                    return number().intValueExact();
+                case BIGINT:
+                    return number().longValueExact();
+                case FLOAT:
+                    return number().floatValue();
+                case DOUBLE:
+                    return number().doubleValue();
+                case DECIMAL:
+                    return number();
+                case DATE:
+                    return LocalDate.parse(text);
+                case TIME:
+                    return LocalTime.parse(text);
+                case TIMESTAMP:
+                    return LocalDateTime.parse(text.replace(' ', 'T'));
+                default:
+                    throw new UnsupportedOperationException(
+                            "Unsupported column type: " + type.getSqlType());
+            }
+        }
+
+        private BigDecimal number() {
+            if (quoted) {
+                throw new IllegalArgumentException("Not a number: " + this);
+            }
+            return new BigDecimal(text);
+        }
+
+        @Override
+        public String toString() {
+            if (text == null) {
+                return "NULL";
+            }
+            return quoted ? "'" + text.replace("'", "''") + "'" : text;
+        }
+    }
+
+    private static String join(List<?> items, String separator) {
+        List<String> strings = new ArrayList<>(items.size());
+        for (Object item : items) {
+            strings.add(
+                    item instanceof And || item instanceof Or
+                            ? "(" + item + ")"
+                            : String.valueOf(item));
+        }
+        return String.join(separator, strings);
+    }
+
+    static FilterExpression and(List<FilterExpression> children) {
+        List<FilterExpression> flattened = new ArrayList<>(children.size());
+        for (FilterExpression child : children) {
+            if (child instanceof And) {
+                flattened.addAll(((And) child).getChildren());
+            } else {
+                flattened.add(child);
+            }
+        }
+        return flattened.size() == 1 ? flattened.get(0) : new And(flattened);
+    }
+
+    static FilterExpression or(List<FilterExpression> children) {
+        List<FilterExpression> flattened = new ArrayList<>(children.size());
+        for (FilterExpression child : children) {
+            if (child instanceof Or) {
+                flattened.addAll(((Or) child).getChildren());
+            } else {
+                flattened.add(child);
+            }
+        }
+        return flattened.size() == 1 ? flattened.get(0) : new Or(flattened);
+    }
+
+    static FilterExpression negate(FilterExpression expression) {
+        List<FilterExpression> negated = new ArrayList<>();
+        if (expression instanceof And) {
+            for (FilterExpression child : ((And) expression).getChildren()) {
+                negated.add(negate(child));
+            }
+            return or(negated);
+        }
+        if (expression instanceof Or) {
+            for (FilterExpression child : ((Or) expression).getChildren()) {
+                negated.add(negate(child));
+            }
+            return and(negated);
+        }
+        if (expression instanceof Compare) {
+            return ((Compare) expression).negate();
+        }
+        if (expression instanceof IsNull) {
+            return ((IsNull) expression).negate();
+        }
+        In in = (In) expression;
+        for (Literal literal : in.getLiterals()) {
+            negated.add(new Compare(in.getColumn(), Operator.NE, literal));
+        }
+        return and(negated);
+    }
+}
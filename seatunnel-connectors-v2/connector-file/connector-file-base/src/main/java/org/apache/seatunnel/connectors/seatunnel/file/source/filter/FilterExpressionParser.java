@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Compare;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Literal;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parse the {@code read_filter} option of the file source. The syntax is a subset of a SQL WHERE
+ * clause:
+ *
+ * <pre>
+ * filter    := or
+ * or        := and ( OR and )*
+ * and       := not ( AND not )*
+ * not       := NOT not | '(' filter ')' | predicate
+ * predicate := column ( '=' | '!=' | '<>' | '<' | '<=' | '>' | '>=' ) literal
+ *            | column IS [ NOT ] NULL
+ *            | column [ NOT ] IN '(' literal ( ',' literal )* ')'
+ *            | column [ NOT ] BETWEEN literal AND literal
+ * column    := identifier | `quoted identifier`
+ * literal   := number | 'string' | TRUE | FALSE | NULL
+ * </pre>
+ *
+ * Dates and timestamps are written as strings, e.g. {@code dt >= '2024-01-01'}.
+ */
+public class FilterExpressionParser {
+
+    private final String filter;
+    private final List<Token> tokens;
+    private int position;
+
+    private FilterExpressionParser(String filter) {
+        this.filter = filter;
+        this.tokens = tokenize(filter);
+    }
+
+    public static FilterExpression parse(String filter) {
+        FilterExpressionParser parser = new FilterExpressionParser(filter);
+        FilterExpression expression = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw parser.error("Unexpected '" + parser.peek().text + "'");
+        }
+        return expression;
+    }
+
+    private FilterExpression parseOr() {
+        List<FilterExpression> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (acceptKeyword("OR")) {
+            children.add(parseAnd());
+        }
+        return FilterExpression.or(children);
+    }
+
+    private FilterExpression parseAnd() {
+        List<FilterExpression> children = new ArrayList<>();
+        children.add(parseNot());
+        while (acceptKeyword("AND")) {
+            children.add(parseNot());
+        }
+        return FilterExpression.and(children);
+    }
+
+    private FilterExpression parseNot() {
+        if (acceptKeyword("NOT")) {
+            return FilterExpression.negate(parseNot());
+        }
+        if (accept("(")) {
+            FilterExpression expression = parseOr();
+            expect(")");
+            return expression;
+        }
+        return parsePredicate();
+    }
+
+    private FilterExpression parsePredicate() {
+        Token columnToken = next();
+        if (columnToken.kind != TokenKind.IDENTIFIER
+                && columnToken.kind != TokenKind.QUOTED_IDENTIFIER) {
+            throw error("Expected a column but found '" + columnToken.text + "'");
+        }
+        String column = columnToken.text;
+        if (acceptKeyword("IS")) {
+            boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new IsNull(column, negated);
+        }
+        boolean negated = acceptKeyword("NOT");
+        FilterExpression predicate;
+        if (acceptKeyword("IN")) {
+            expect("(");
+            List<Literal> literals = new ArrayList<>();
+            do {
+                literals.add(parseLiteral());
+            } while (accept(","));
+            expect(")");
+            predicate = new In(column, literals);
+        } else if (acceptKeyword("BETWEEN")) {
+            Literal lower = parseLiteral();
+            expectKeyword("AND");
+            Literal upper = parseLiteral();
+            predicate =
+                    FilterExpression.and(
+                            Arrays.asList(
+                                    new Compare(column, Operator.GTE, lower),
+                                    new Compare(column, Operator.LTE, upper)));
+        } else if (negated) {
+            throw error("Expected IN or BETWEEN after NOT");
+        } else {
+            Operator operator = parseOperator();
+            predicate = new Compare(column, operator, parseLiteral());
+        }
+        return negated ? FilterExpression.negate(predicate) : predicate;
+    }
+
+    private Operator parseOperator() {
+        Token token = next();
+        if (token.kind == TokenKind.SYMBOL) {
+            switch (token.text) {
+                case "=":
+                    return Operator.EQ;
+                case "!=":
+                case "<>":
+                    return Operator.NE;
+                case "<":
+                    return Operator.LT;
+                case "<=":
+                    return Operator.LTE;
+                case ">":
+                    return Operator.GT;
+                case ">=":
+                    return Operator.GTE;
+                default:
+            }
+        }
+        throw error("Expected a comparison operator but found '" + token.text + "'");
+    }
+
+    private Literal parseLiteral() {
+        Token token = next();
+        switch (token.kind) {
+            case STRING:
+                return new Literal(token.text, true);
+            case NUMBER:
+                return new Literal(token.text, false);
+            case IDENTIFIER:
+                if (token.keyword("NULL")) {
+                    return Literal.NULL;
+                }
+                if (token.keyword("TRUE") || token.keyword("FALSE")) {
+                    return new Literal(token.text, false);
+                }
+                // fall through
+            default:
+                throw error("Expected a literal but found '" + token.text + "'");
+        }
+    }
+
+    private Token peek() {
+        return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    private Token next() {
+        Token token = peek();
+        if (token == null) {
+            throw error("Unexpected end of filter");
+        }
+        position++;
+        return token;
+    }
+
+    private boolean accept(String symbol) {
+        Token token = peek();
+        if (token != null && token.kind == TokenKind.SYMBOL && token.text.equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token != null && token.keyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!accept(symbol)) {
+            throw error("Expected '" + symbol + "'");
+        }
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("Expected " + keyword);
+        }
+    }
+
+    private FileConnectorException error(String message) {
+        return new FileConnectorException(
+                SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                String.format("Invalid read filter [%s]: %s", filter, message));
+    }
+
+    private List<Token> tokenize(String filter) {
+        List<Token> result = new ArrayList<>();
+        int i = 0;
+        while (i < filter.length()) {
+            char c = filter.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '`') {
+                // quotes are escaped by doubling them
+                StringBuilder text = new StringBuilder();
+                int j = i + 1;
+                while (true) {
+                    if (j >= filter.length()) {
+                        throw error("Unterminated quote");
+                    }
+                    if (filter.charAt(j) == c) {
+                        if (j + 1 < filter.length() && filter.charAt(j + 1) == c) {
+                            text.append(c);
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    text.append(filter.charAt(j++));
+                }
+                TokenKind kind = c == '\'' ? TokenKind.STRING : TokenKind.QUOTED_IDENTIFIER;
+                result.add(new Token(kind, text.toString()));
+                i = j + 1;
+            } else if (Character.isDigit(c)
+                    || ((c == '-' || c == '.')
+                            && i + 1 < filter.length()
+                            && Character.isDigit(filter.charAt(i + 1)))) {
+                int j = i + 1;
+                while (j < filter.length()
+                        && (Character.isLetterOrDigit(filter.charAt(j))
+                                || filter.charAt(j) == '.'
+                                || ((filter.charAt(j) == '-' || filter.charAt(j) == '+')
+                                        && Character.toUpperCase(filter.charAt(j - 1)) == 'E'))) {
+                    j++;
+                }
+                result.add(new Token(TokenKind.NUMBER, filter.substring(i, j)));
+                i = j;
+            } else if (Character.isLetter(c) || c == '_') {
+                int j = i + 1;
+                while (j < filter.length()
+                        && (Character.isLetterOrDigit(filter.charAt(j))
+                                || filter.charAt(j) == '_'
+                                || filter.charAt(j) == '.')) {
+                    j++;
+                }
+                result.add(new Token(TokenKind.IDENTIFIER, filter.substring(i, j)));
+                i = j;
+            } else {
+                String twoChars = i + 1 < filter.length() ? filter.substring(i, i + 2) : "";
+                if (twoChars.equals("<=")
+                        || twoChars.equals(">=")
+                        || twoChars.equals("<>")
+                        || twoChars.equals("!=")) {
+                    result.add(new Token(TokenKind.SYMBOL, twoChars));
+                    i += 2;
+                } else if ("=<>(),".indexOf(c) >= 0) {
+                    result.add(new Token(TokenKind.SYMBOL, String.valueOf(c)));
+                    i++;
+                } else {
+                    throw error("Unexpected character '" + c + "'");
+                }
+            }
+        }
+        return result;
+    }
+
+    private enum TokenKind {
+        IDENTIFIER,
+        QUOTED_IDENTIFIER,
+        STRING,
+        NUMBER,
+        SYMBOL
+    }
+
+    private static class Token {
+        private final TokenKind kind;
+        private final String text;
+
+        private Token(TokenKind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        private boolean keyword(String keyword) {
+            return kind == TokenKind.IDENTIFIER && text.equalsIgnoreCase(keyword);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.And;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.ColumnPredicate;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Compare;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Or;
+
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Convert a bound {@link FilterExpression} to an orc {@link SearchArgument}, which lets the orc
+ * reader skip stripes and row groups by statistics and bloom filters. Orc never drops single rows
+ * and the argument may keep more rows than the filter, so the rows are still tested with the filter
+ * after reading.
+ */
+public class OrcFilterConverter {
+
+    private OrcFilterConverter() {}
+
+    /** @return the search argument, or null if no part of the filter can be pushed down */
+    public static SearchArgument convert(FilterExpression expression) {
+        if (!canConvert(expression)) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder();
+        build(expression, builder);
+        return builder.build();
+    }
+
+    private static boolean canConvert(FilterExpression expression) {
+        if (expression instanceof And) {
+            // conjuncts that can not be converted are dropped, which only keeps more rows
+            return ((And) expression)
+                    .getChildren().stream().anyMatch(OrcFilterConverter::canConvert);
+        }
+        if (expression instanceof Or) {
+            return ((Or) expression)
+                    .getChildren().stream().allMatch(OrcFilterConverter::canConvert);
+        }
+        if (typeOf((ColumnPredicate) expression) == null) {
+            return false;
+        }
+        if (expression instanceof In) {
+            return ((In) expression).getValues().stream().anyMatch(value -> value != null);
+        }
+        return !(expression instanceof Compare) || ((Compare) expression).getValue() != null;
+    }
+
+    private static void build(FilterExpression expression, SearchArgument.Builder builder) {
+        if (expression instanceof And) {
+            builder.startAnd();
+            for (FilterExpression child : ((And) expression).getChildren()) {
+                if (canConvert(child)) {
+                    build(child, builder);
+                }
+            }
+            builder.end();
+            return;
+        }
+        if (expression instanceof Or) {
+            builder.startOr();
+            for (FilterExpression child : ((Or) expression).getChildren()) {
+                build(child, builder);
+            }
+            builder.end();
+            return;
+        }
+        ColumnPredicate predicate = (ColumnPredicate) expression;
+        String column = predicate.getColumn();
+        PredicateLeaf.Type type = typeOf(predicate);
+        if (expression instanceof IsNull) {
+            if (((IsNull) expression).isNegated()) {
+                builder.startNot().isNull(column, type).end();
+            } else {
+                builder.isNull(column, type);
+            }
+            return;
+        }
+        if (expression instanceof In) {
+            List<Object> values = new ArrayList<>();
+            for (Object value : ((In) expression).getValues()) {
+                if (value != null) {
+                    values.add(toOrcValue(value));
+                }
+            }
+            builder.in(column, type, values.toArray());
+            return;
+        }
+        Compare compare = (Compare) expression;
+        Object value = toOrcValue(compare.getValue());
+        switch (compare.getOperator()) {
+            case EQ:
+                builder.equals(column, type, value);
+                break;
+            case NE:
+                builder.startNot().equals(column, type, value).end();
+                break;
+            case LT:
+                builder.lessThan(column, type, value);
+                break;
+            case LTE:
+                builder.lessThanEquals(column, type, value);
+                break;
+            case GT:
+                builder.startNot().lessThanEquals(column, type, value).end();
+                break;
+            default:
+                builder.startNot().lessThan(column, type, value).end();
+        }
+    }
+
+    private static PredicateLeaf.Type typeOf(ColumnPredicate predicate) {
+        switch (predicate.getType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return PredicateLeaf.Type.LONG;
+            case FLOAT:
+            case DOUBLE:
+                return PredicateLeaf.Type.FLOAT;
+            case STRING:
+                return PredicateLeaf.Type.STRING;
+            case DATE:
+                return PredicateLeaf.Type.DATE;
+            case BOOLEAN:
+                return PredicateLeaf.Type.BOOLEAN;
+            default:
+                // decimals and timestamps need hive types and time zones
+                return null;
+        }
+    }
+
+    private static Object toOrcValue(Object value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.And;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.ColumnPredicate;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Compare;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.In;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.IsNull;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Operator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression.Or;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Convert a bound {@link FilterExpression} to a parquet {@link FilterPredicate}, which lets the
+ * parquet reader skip row groups by statistics, dictionaries and bloom filters. The predicate may
+ * keep more rows than the filter, e.g. if a column type can not be pushed down, so the rows are
+ * still tested with the filter after reading.
+ */
+public class ParquetFilterConverter {
+
+    private ParquetFilterConverter() {}
+
+    /**
+     * @param fileSchema the schema of the files, only columns whose physical type matches the
+     *     column type are pushed down
+     * @return the predicate, or null if no part of the filter can be pushed down
+     */
+    public static FilterPredicate convert(FilterExpression expression, MessageType fileSchema) {
+        if (expression instanceof And) {
+            FilterPredicate result = null;
+            for (FilterExpression child : ((And) expression).getChildren()) {
+                // dropping a conjunct only keeps more rows
+                FilterPredicate predicate = convert(child, fileSchema);
+                if (predicate != null) {
+                    result = result == null ? predicate : FilterApi.and(result, predicate);
+                }
+            }
+            return result;
+        }
+        if (expression instanceof Or) {
+            List<FilterExpression> children = ((Or) expression).getChildren();
+            List<FilterPredicate> predicates = new ArrayList<>(children.size());
+            for (FilterExpression child : children) {
+                FilterPredicate predicate = convert(child, fileSchema);
+                if (predicate == null) {
+                    return null;
+                }
+                predicates.add(predicate);
+            }
+            return or(predicates);
+        }
+        ColumnPredicate predicate = (ColumnPredicate) expression;
+        if (!isPushable(predicate, fileSchema)) {
+            return null;
+        }
+        if (expression instanceof IsNull) {
+            return compare(
+                    predicate, ((IsNull) expression).isNegated() ? Operator.NE : Operator.EQ, null);
+        }
+        if (expression instanceof In) {
+            List<FilterPredicate> predicates = new ArrayList<>();
+            for (Object value : ((In) expression).getValues()) {
+                if (value != null) {
+                    predicates.add(compare(predicate, Operator.EQ, value));
+                }
+            }
+            return predicates.isEmpty() ? null : or(predicates);
+        }
+        Compare compare = (Compare) expression;
+        if (compare.getValue() == null) {
+            return null;
+        }
+        return compare(predicate, compare.getOperator(), compare.getValue());
+    }
+
+    private static FilterPredicate or(List<FilterPredicate> predicates) {
+        FilterPredicate result = predicates.get(0);
+        for (int i = 1; i < predicates.size(); i++) {
+            result = FilterApi.or(result, predicates.get(i));
+        }
+        return result;
+    }
+
+    private static boolean isPushable(ColumnPredicate predicate, MessageType fileSchema) {
+        String name = predicate.getColumn();
+        // parquet reads dots as the separator of nested columns
+        if (name.contains(".")
+                || !fileSchema.containsField(name)
+                || !fileSchema.getType(name).isPrimitive()) {
+            return false;
+        }
+        PrimitiveType.PrimitiveTypeName physicalType =
+                fileSchema.getType(name).asPrimitiveType().getPrimitiveTypeName();
+        switch (predicate.getType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case DATE:
+                return physicalType == PrimitiveType.PrimitiveTypeName.INT32;
+            case BIGINT:
+                return physicalType == PrimitiveType.PrimitiveTypeName.INT64;
+            case FLOAT:
+                return physicalType == PrimitiveType.PrimitiveTypeName.FLOAT;
+            case DOUBLE:
+                return physicalType == PrimitiveType.PrimitiveTypeName.DOUBLE;
+            case BOOLEAN:
+                return physicalType == PrimitiveType.PrimitiveTypeName.BOOLEAN;
+            case STRING:
+                return physicalType == PrimitiveType.PrimitiveTypeName.BINARY;
+            default:
+                // decimals and timestamps have several physical encodings
+                return false;
+        }
+    }
+
+    /** Compare the column with the value, a null value only with EQ or NE for IS [NOT] NULL. */
+    private static FilterPredicate compare(
+            ColumnPredicate predicate, Operator operator, Object value) {
+        String name = predicate.getColumn();
+        switch (predicate.getType().getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+                return compare(
+                        FilterApi.intColumn(name),
+                        operator,
+                        value == null ? null : ((Number) value).intValue());
+            case DATE:
+                return compare(
+                        FilterApi.intColumn(name),
+                        operator,
+                        value == null ? null : (int) ((LocalDate) value).toEpochDay());
+            case BIGINT:
+                return compare(FilterApi.longColumn(name), operator, (Long) value);
+            case FLOAT:
+                return compare(FilterApi.floatColumn(name), operator, (Float) value);
+            case DOUBLE:
+                return compare(FilterApi.doubleColumn(name), operator, (Double) value);
+            case STRING:
+                return compare(
+                        FilterApi.binaryColumn(name),
+                        operator,
+                        value == null ? null : Binary.fromString((String) value));
+            default:
+                Operators.BooleanColumn column = FilterApi.booleanColumn(name);
+                if (operator == Operator.EQ) {
+                    return FilterApi.eq(column, (Boolean) value);
+                }
+                return operator == Operator.NE ? FilterApi.notEq(column, (Boolean) value) : null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate compare(C column, Operator operator, T value) {
+        switch (operator) {
+            case EQ:
+                return FilterApi.eq(column, value);
+            case NE:
+                return FilterApi.notEq(column, value);
+            case LT:
+                return FilterApi.lt(column, value);
+            case LTE:
+                return FilterApi.ltEq(column, value);
+            case GT:
+                return FilterApi.gt(column, value);
+            default:
+                return FilterApi.gtEq(column, value);
+        }
+    }
+}
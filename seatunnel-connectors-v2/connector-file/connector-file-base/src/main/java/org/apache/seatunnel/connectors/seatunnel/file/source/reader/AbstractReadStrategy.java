@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -28,28 +29,38 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressForm
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpression;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FilterExpressionParser;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -68,6 +79,8 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected static final BigDecimal[] TYPE_ARRAY_BIG_DECIMAL = new BigDecimal[0];
     protected static final LocalDate[] TYPE_ARRAY_LOCAL_DATE = new LocalDate[0];
     protected static final LocalDateTime[] TYPE_ARRAY_LOCAL_DATETIME = new LocalDateTime[0];
+    // the last split of a file may be this much larger than the split size, like hadoop does
+    private static final double SPLIT_SLOP = 1.1;
 
     protected HadoopConf hadoopConf;
     protected SeaTunnelRowType seaTunnelRowType;
@@ -76,12 +89,15 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected List<String> fileNames = new ArrayList<>();
     protected List<String> readPartitions = new ArrayList<>();
     protected List<String> readColumns = new ArrayList<>();
+    protected FilterExpression readFilter;
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
     protected transient boolean isKerberosAuthorization = false;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
 
     protected Pattern pattern;
 
@@ -162,11 +178,98 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             readColumns.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_COLUMNS.key()));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_FILTER.key())) {
+            if (!supportReadFilter()) {
+                throw new FileConnectorException(
+                        SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                        String.format(
+                                "The option [%s] is only supported by orc and parquet files",
+                                BaseSourceConfigOptions.READ_FILTER.key()));
+            }
+            readFilter =
+                    FilterExpressionParser.parse(
+                            pluginConfig.getString(BaseSourceConfigOptions.READ_FILTER.key()));
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key())) {
             String filterPattern =
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+    }
+
+    protected boolean supportReadFilter() {
+        return false;
+    }
+
+    /** The columns of the read filter that are not read columns, they are decoded as well. */
+    protected List<String> getFilterOnlyColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        if (readFilter != null) {
+            readFilter.collectColumns(columns);
+            columns.removeAll(readColumns);
+        }
+        return new ArrayList<>(columns);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit || fileSplitSize <= 0 || !isSplittable(path)) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        return splitByRange(tableId, path, fileLength, fileSplitSize);
+    }
+
+    static List<FileSourceSplit> splitByRange(
+            String tableId, String path, long fileLength, long splitSize) {
+        if (fileLength <= splitSize * SPLIT_SLOP) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = 0;
+        while (fileLength - start > splitSize * SPLIT_SLOP) {
+            splits.add(new FileSourceSplit(tableId, path, start, splitSize));
+            start += splitSize;
+        }
+        splits.add(new FileSourceSplit(tableId, path, start, fileLength - start));
+        return splits;
+    }
+
+    /** Whether the file can be read in byte ranges, see {@link #getFileSourceSplits}. */
+    protected boolean isSplittable(String path) {
+        return false;
+    }
+
+    /** Open the lines of the split's byte range, for line delimited formats. */
+    protected InputStream getSplitInputStream(FileSourceSplit split) throws IOException {
+        FSDataInputStream inputStream = hadoopFileSystemProxy.getInputStream(split.getFilePath());
+        try {
+            if (split.getStart() > 0) {
+                inputStream.seek(split.getStart() - 1);
+            }
+            return new LineRangeInputStream(
+                    new BufferedInputStream(inputStream), split.getStart(), split.getLength());
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /** Whether the lines of a file in this encoding can be found by searching for '\n' bytes. */
+    protected static boolean isLineSplittableEncoding(String encoding) {
+        try {
+            return Arrays.equals("\n".getBytes(encoding), new byte[] {'\n'});
+        } catch (UnsupportedEncodingException e) {
+            return false;
+        }
     }
 
     @Override
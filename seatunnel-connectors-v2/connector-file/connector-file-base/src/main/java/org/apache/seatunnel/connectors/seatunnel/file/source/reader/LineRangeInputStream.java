@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The lines of a byte range of a line delimited file. A line belongs to the range that contains its
+ * first byte, so the stream skips the line the range starts in the middle of and reads past the end
+ * of the range until the last line is complete. Ranges that cover a file without gaps therefore
+ * read every line exactly once.
+ *
+ * <p>Lines are split on {@code '\n'}, which is only correct for encodings that never use that byte
+ * inside another character, e.g. UTF-8 or ISO-8859-1.
+ */
+public class LineRangeInputStream extends InputStream {
+    private static final int LINE_FEED = '\n';
+
+    private final InputStream in;
+    // bytes left before the end of the range, negative once past it
+    private long remaining;
+    private boolean atLineStart = true;
+    private boolean finished;
+
+    /**
+     * @param in the stream positioned at {@code start - 1}, or at {@code start} if start is 0
+     * @param start the offset of the range in the file
+     * @param length the length of the range
+     */
+    public LineRangeInputStream(InputStream in, long start, long length) throws IOException {
+        this.in = in;
+        this.remaining = length;
+        if (start > 0) {
+            // the byte before the range tells whether the range starts with a new line
+            int b;
+            do {
+                b = in.read();
+                remaining--;
+            } while (b != -1 && b != LINE_FEED);
+            if (b == -1) {
+                finished = true;
+            }
+            // the byte before the range does not belong to it
+            remaining++;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (finished || (remaining <= 0 && atLineStart)) {
+            finished = true;
+            return -1;
+        }
+        int b = in.read();
+        if (b == -1) {
+            finished = true;
+            return -1;
+        }
+        remaining--;
+        atLineStart = b == LINE_FEED;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (remaining <= 0) {
+            // past the range, complete the last line byte by byte
+            int b = read();
+            if (b == -1) {
+                return -1;
+            }
+            buffer[offset] = (byte) b;
+            return 1;
+        }
+        if (finished) {
+            return -1;
+        }
+        int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+        if (read == -1) {
+            finished = true;
+            return -1;
+        }
+        remaining -= read;
+        atLineStart = buffer[offset + read - 1] == LINE_FEED;
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
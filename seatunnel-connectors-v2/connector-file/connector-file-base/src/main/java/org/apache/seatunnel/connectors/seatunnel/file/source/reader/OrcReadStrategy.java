@@ -33,6 +33,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.OrcFilterConverter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -41,6 +43,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -53,6 +56,7 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -80,9 +84,20 @@ import static org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWrit
 public class OrcReadStrategy extends AbstractReadStrategy {
     private static final long MIN_SIZE = 16 * 1024;
 
+    // the read columns followed by the columns that only the read filter needs
+    private SeaTunnelRowType projectedRowType;
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,29 +113,47 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                                     OrcFile.readerOptions(configuration);
                             return OrcFile.createReader(new Path(path), readerOptions);
                         })) {
+            SeaTunnelRowType rowType =
+                    projectedRowType != null ? projectedRowType : seaTunnelRowType;
+            int fieldsCount = seaTunnelRowType.getTotalFields();
+            int partitionCount = isMergePartition ? partitionsMap.size() : 0;
+            // only the projected columns are decoded
             TypeDescription schema = TypeDescription.createStruct();
-            for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
-                TypeDescription typeDescription =
-                        buildFieldWithRowType(seaTunnelRowType.getFieldType(i));
-                schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
+            for (int i = 0; i < rowType.getTotalFields(); i++) {
+                TypeDescription typeDescription = buildFieldWithRowType(rowType.getFieldType(i));
+                schema.addField(rowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (readFilter != null) {
+                SearchArgument searchArgument = OrcFilterConverter.convert(readFilter);
+                if (searchArgument != null) {
+                    options.searchArgument(searchArgument, rowType.getFieldNames());
+                }
+            }
+            if (!split.isWholeFile()) {
+                // a stripe is read by the split that contains its midpoint, like the row groups
+                // of parquet, so a stripe crossing the split boundary is read exactly once
+                long rangeStart = Long.MAX_VALUE;
+                long rangeEnd = 0;
+                for (StripeInformation stripe : reader.getStripes()) {
+                    long midpoint = stripe.getOffset() + stripe.getLength() / 2;
+                    if (midpoint >= split.getStart() && midpoint < split.getEnd()) {
+                        rangeStart = Math.min(rangeStart, stripe.getOffset());
+                        rangeEnd = Math.max(rangeEnd, stripe.getOffset() + stripe.getLength());
+                    }
+                }
+                if (rangeEnd == 0) {
+                    return;
+                }
+                options.range(rangeStart, rangeEnd - rangeStart);
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
-                int num = 0;
                 for (int i = 0; i < rowBatch.size; i++) {
                     int numCols = rowBatch.numCols;
-                    Object[] fields;
-                    if (isMergePartition) {
-                        int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
-                        for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
-                        }
-                    } else {
-                        fields = new Object[numCols];
-                    }
+                    Object[] fields = new Object[Math.max(numCols, fieldsCount + partitionCount)];
                     ColumnVector[] cols = rowBatch.cols;
                     for (int j = 0; j < numCols; j++) {
                         if (cols[j] == null) {
@@ -128,21 +161,40 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                         } else {
                             fields[j] =
                                     readColumn(
-                                            cols[j],
-                                            children.get(j),
-                                            seaTunnelRowType.getFieldType(j),
-                                            num);
+                                            cols[j], children.get(j), rowType.getFieldType(j), i);
+                        }
+                    }
+                    // orc only skips row groups, the rows in them are tested here
+                    if (readFilter != null && !readFilter.test(fields)) {
+                        continue;
+                    }
+                    if (fields.length > fieldsCount + partitionCount) {
+                        fields = Arrays.copyOf(fields, fieldsCount + partitionCount);
+                    }
+                    if (isMergePartition) {
+                        int index = fieldsCount;
+                        for (String value : partitionsMap.values()) {
+                            fields[index++] = value;
                         }
                     }
                     SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
                     seaTunnelRow.setTableId(tableId);
                     output.collect(seaTunnelRow);
-                    num++;
                 }
             }
         }
     }
 
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
+    @Override
+    protected boolean supportReadFilter() {
+        return true;
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfoWithUserConfigRowType(path, null);
@@ -183,6 +235,30 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                                         : null);
             }
             seaTunnelRowType = new SeaTunnelRowType(fields, types);
+            projectedRowType = seaTunnelRowType;
+            if (readFilter != null) {
+                List<String> projectedFields = new ArrayList<>(Arrays.asList(fields));
+                List<SeaTunnelDataType<?>> projectedTypes = new ArrayList<>(Arrays.asList(types));
+                for (String column : getFilterOnlyColumns()) {
+                    // missing columns are reported when the filter is bound
+                    int index = fieldNames.indexOf(column);
+                    if (index != -1) {
+                        projectedFields.add(column);
+                        projectedTypes.add(
+                                orcDataType2SeaTunnelDataType(
+                                        schema.getChildren().get(index), null));
+                    }
+                }
+                projectedRowType =
+                        new SeaTunnelRowType(
+                                projectedFields.toArray(new String[0]),
+                                projectedTypes.toArray(new SeaTunnelDataType<?>[0]));
+                readFilter.bind(projectedRowType);
+                log.info(
+                        "Push down the read filter [{}] as [{}]",
+                        readFilter,
+                        OrcFilterConverter.convert(readFilter));
+            }
             seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
             return getActualSeaTunnelRowTypeInfo();
         } catch (IOException e) {
@@ -33,21 +33,30 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.ParquetFilterConverter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.InputFile;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
@@ -80,11 +89,21 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
 
-    private int[] indexes;
+    // the read columns followed by the columns that only the read filter needs
+    private SeaTunnelRowType projectedRowType;
+    private FilterPredicate filterPredicate;
 
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
+        String tableId = split.getTableId();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -99,29 +118,43 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
         int fieldsCount = seaTunnelRowType.getTotalFields();
+        SeaTunnelRowType rowType = projectedRowType != null ? projectedRowType : seaTunnelRowType;
+        int projectedCount = rowType.getTotalFields();
+        int partitionCount = isMergePartition ? partitionsMap.size() : 0;
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
-                AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+        // only the projected columns are decoded
+        ParquetReader.Builder<GenericData.Record> builder =
+                new ProjectedReaderBuilder(hadoopInputFile, dataModel, rowType.getFieldNames());
+        if (filterPredicate != null) {
+            builder.withFilter(FilterCompat.get(filterPredicate));
+        }
+        if (!split.isWholeFile()) {
+            // a row group is read by the range that contains its midpoint
+            builder.withFileRange(split.getStart(), split.getEnd());
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
-                Object[] fields;
+                Object[] fields =
+                        new Object[Math.max(projectedCount, fieldsCount + partitionCount)];
+                for (int i = 0; i < projectedCount; i++) {
+                    fields[i] = resolveObject(record.get(i), rowType.getFieldType(i));
+                }
+                // the parquet filter may keep more rows, e.g. of types it can not compare
+                if (readFilter != null && !readFilter.test(fields)) {
+                    continue;
+                }
+                if (fields.length > fieldsCount + partitionCount) {
+                    fields = Arrays.copyOf(fields, fieldsCount + partitionCount);
+                }
                 if (isMergePartition) {
                     int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
                     for (String value : partitionsMap.values()) {
                         fields[index++] = value;
                     }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
-                for (int i = 0; i < fieldsCount; i++) {
-                    Object data = record.get(indexes[i]);
-                    fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
                 }
                 SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
                 seaTunnelRow.setTableId(tableId);
@@ -130,6 +163,16 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
+    @Override
+    protected boolean supportReadFilter() {
+        return true;
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -266,20 +309,33 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 readColumns.add(originalSchema.getFieldName(i));
             }
         }
-        String[] fields = new String[readColumns.size()];
-        SeaTunnelDataType<?>[] types = new SeaTunnelDataType[readColumns.size()];
-        indexes = new int[readColumns.size()];
+        List<String> projectedColumns = new ArrayList<>(readColumns);
+        for (String column : getFilterOnlyColumns()) {
+            // missing columns are reported when the filter is bound
+            if (originalSchema.containsField(column)) {
+                projectedColumns.add(column);
+            }
+        }
+        String[] fields = new String[projectedColumns.size()];
+        SeaTunnelDataType<?>[] types = new SeaTunnelDataType[projectedColumns.size()];
         buildColumnsWithErrorCheck(
                 tablePath,
-                IntStream.range(0, readColumns.size()).iterator(),
+                IntStream.range(0, projectedColumns.size()).iterator(),
                 i -> {
-                    fields[i] = readColumns.get(i);
+                    fields[i] = projectedColumns.get(i);
                     Type type = originalSchema.getType(fields[i]);
-                    int fieldIndex = originalSchema.getFieldIndex(fields[i]);
-                    indexes[i] = fieldIndex;
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
-        seaTunnelRowType = new SeaTunnelRowType(fields, types);
+        projectedRowType = new SeaTunnelRowType(fields, types);
+        if (readFilter != null) {
+            readFilter.bind(projectedRowType);
+            filterPredicate = ParquetFilterConverter.convert(readFilter, originalSchema);
+            log.info("Push down the read filter [{}] as [{}]", readFilter, filterPredicate);
+        }
+        seaTunnelRowType =
+                new SeaTunnelRowType(
+                        Arrays.copyOf(fields, readColumns.size()),
+                        Arrays.copyOf(types, readColumns.size()));
         seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
         return getActualSeaTunnelRowTypeInfo();
     }
@@ -418,4 +474,82 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
             throw new FileConnectorException(FileConnectorErrorCode.FILE_TYPE_INVALID, errorMsg);
         }
     }
+
+    /** Reads only the given columns, instead of all columns of the file. */
+    private static class ProjectedReaderBuilder extends ParquetReader.Builder<GenericData.Record> {
+        private final GenericData dataModel;
+        private final String[] columns;
+
+        private ProjectedReaderBuilder(InputFile file, GenericData dataModel, String[] columns) {
+            super(file);
+            this.dataModel = dataModel;
+            this.columns = columns;
+        }
+
+        @Override
+        protected ReadSupport<GenericData.Record> getReadSupport() {
+            return new ProjectedAvroReadSupport(dataModel, columns);
+        }
+    }
+
+    private static class ProjectedAvroReadSupport extends AvroReadSupport<GenericData.Record> {
+        private static final String[] AVRO_SCHEMA_METADATA_KEYS = {
+            "parquet.avro.schema", "avro.schema"
+        };
+        private static final String AVRO_READ_SCHEMA_METADATA_KEY = "avro.read.schema";
+
+        private final String[] columns;
+
+        private ProjectedAvroReadSupport(GenericData dataModel, String[] columns) {
+            super(dataModel);
+            this.columns = columns;
+        }
+
+        @Override
+        public ReadContext init(
+                Configuration configuration,
+                Map<String, String> keyValueMetaData,
+                MessageType fileSchema) {
+            ReadContext context = super.init(configuration, keyValueMetaData, fileSchema);
+            List<Type> fields = new ArrayList<>(columns.length);
+            for (String column : columns) {
+                fields.add(fileSchema.getType(column));
+            }
+            MessageType projection = new MessageType(fileSchema.getName(), fields);
+            // records are built with the avro schema of the projection, so that the field
+            // positions match the projected columns
+            Map<String, String> metadata = new HashMap<>(context.getReadSupportMetadata());
+            Schema avroSchema = null;
+            for (String key : AVRO_SCHEMA_METADATA_KEYS) {
+                if (keyValueMetaData.get(key) != null) {
+                    avroSchema = project(new Schema.Parser().parse(keyValueMetaData.get(key)));
+                    break;
+                }
+            }
+            if (avroSchema == null) {
+                avroSchema = new AvroSchemaConverter(configuration).convert(projection);
+            }
+            metadata.put(AVRO_READ_SCHEMA_METADATA_KEY, avroSchema.toString());
+            return new ReadContext(projection, metadata);
+        }
+
+        private Schema project(Schema schema) {
+            List<Schema.Field> fields = new ArrayList<>(columns.length);
+            for (String column : columns) {
+                Schema.Field field = schema.getField(column);
+                if (field == null) {
+                    return null;
+                }
+                fields.add(
+                        new Schema.Field(
+                                field.name(), field.schema(), field.doc(), field.defaultVal()));
+            }
+            return Schema.createRecord(
+                    schema.getName(),
+                    schema.getDoc(),
+                    schema.getNamespace(),
+                    schema.isError(),
+                    fields);
+        }
+    }
 }
@@ -28,11 +28,13 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.DateUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
@@ -70,6 +72,31 @@ public class TextReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.TEXT);
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), split.getTableId(), output);
+            return;
+        }
+        String path = split.getFilePath();
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        // only the first range of a file contains the header
+        readProcess(
+                split.getTableId(),
+                output,
+                getSplitInputStream(split),
+                partitionsMap,
+                split.getStart() == 0 ? skipHeaderNumber : 0);
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE
+                && isLineSplittableEncoding(encoding);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -79,6 +106,16 @@ public class TextReadStrategy extends AbstractReadStrategy {
             Map<String, String> partitionsMap,
             String currentFileName)
             throws IOException {
+        readProcess(tableId, output, inputStream, partitionsMap, skipHeaderNumber);
+    }
+
+    private void readProcess(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         InputStream actualInputStream;
         switch (compressFormat) {
             case LZO:
@@ -99,7 +136,7 @@ public class TextReadStrategy extends AbstractReadStrategy {
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
                                 try {
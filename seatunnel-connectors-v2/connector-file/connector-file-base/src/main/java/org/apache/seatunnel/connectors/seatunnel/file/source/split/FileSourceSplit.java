@@ -21,29 +21,76 @@ import org.apache.seatunnel.api.source.SourceSplit;
 
 import lombok.Getter;
 
+import java.util.Objects;
+
 public class FileSourceSplit implements SourceSplit {
     private static final long serialVersionUID = 1L;
 
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /** The byte offset of the range to read, 0 if the whole file is read. */
+    @Getter private final long start;
+
+    /** The byte length of the range to read, 0 if the whole file is read. */
+    @Getter private final long length;
+
     public FileSourceSplit(String splitId) {
         this.filePath = splitId;
         this.tableId = null;
+        this.start = 0;
+        this.length = 0;
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    /** Whether this split covers the whole file, splits restored from old states always do. */
+    public boolean isWholeFile() {
+        return length <= 0;
+    }
+
+    /** The exclusive end offset of the range, only valid if not {@link #isWholeFile()}. */
+    public long getEnd() {
+        return start + length;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String splitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return splitId;
         }
-        return tableId + "_" + filePath;
+        return splitId + "_" + start + "_" + length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileSourceSplit that = (FileSourceSplit) o;
+        return start == that.start
+                && length == that.length
+                && Objects.equals(tableId, that.tableId)
+                && Objects.equals(filePath, that.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, filePath, start, length);
     }
 }
@@ -20,6 +20,9 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -32,6 +35,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,13 +45,15 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Context<FileSourceSplit> context;
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
-    private final Map<String, List<String>> filePathMap;
+    private final Map<String, BaseFileSourceConfig> fileSourceConfigMap;
+    // created on the first reader registration, so that files are only split once
+    private List<FileSourceSplit> allSplits;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
             BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig) {
         this.context = context;
-        this.filePathMap =
+        this.fileSourceConfigMap =
                 multipleTableFileSourceConfig.getFileSourceConfigs().stream()
                         .collect(
                                 Collectors.toMap(
@@ -57,7 +63,7 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .getTableId()
                                                         .toTablePath()
                                                         .toString(),
-                                        BaseFileSourceConfig::getFilePaths));
+                                        Function.identity()));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
     }
@@ -89,16 +95,35 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+        if (allSplits == null) {
+            allSplits = createSplits();
+        }
+        for (FileSourceSplit split : allSplits) {
+            if (!assignedSplit.contains(split)) {
+                pendingSplit.add(split);
             }
         }
         assignSplit(subtaskId);
     }
 
+    private List<FileSourceSplit> createSplits() {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (Map.Entry<String, BaseFileSourceConfig> configEntry : fileSourceConfigMap.entrySet()) {
+            String tableId = configEntry.getKey();
+            ReadStrategy readStrategy = configEntry.getValue().getReadStrategy();
+            for (String filePath : configEntry.getValue().getFilePaths()) {
+                try {
+                    splits.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                } catch (IOException e) {
+                    String errorMsg = String.format("Split this file [%s] failed", filePath);
+                    throw new FileConnectorException(
+                            FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+                }
+            }
+        }
+        return splits;
+    }
+
     @Override
     public FileSourceState snapshotState(long checkpointId) {
         return new FileSourceState(assignedSplit);
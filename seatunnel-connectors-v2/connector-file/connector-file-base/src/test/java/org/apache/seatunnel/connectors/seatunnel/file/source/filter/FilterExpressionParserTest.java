@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+public class FilterExpressionParserTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "dt", "price"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        BasicType.DOUBLE_TYPE
+                    });
+
+    @Test
+    public void testParse() {
+        Assertions.assertEquals(
+                "(id > 1 AND id <= 10) OR name IN ('a', 'b''c')",
+                FilterExpressionParser.parse("id > 1 and id <= 10 or name in ('a','b''c')")
+                        .toString());
+        Assertions.assertEquals(
+                "id < 1 OR id > 10",
+                FilterExpressionParser.parse("NOT (id BETWEEN 1 AND 10)").toString());
+        Assertions.assertEquals(
+                "id <> 1 AND id <> 2 AND name IS NOT NULL",
+                FilterExpressionParser.parse("id NOT IN (1, 2) AND NOT `name` IS NULL").toString());
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FilterExpressionParser.parse("id = "));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FilterExpressionParser.parse("id = 1 1"));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FilterExpressionParser.parse("name = 'a"));
+    }
+
+    @Test
+    public void testEvaluate() {
+        FilterExpression filter =
+                FilterExpressionParser.parse(
+                        "(id >= 2 OR name = 'a') AND dt < '2024-01-01' AND price IS NOT NULL");
+        filter.bind(ROW_TYPE);
+        Assertions.assertTrue(filter.test(new Object[] {2, "b", LocalDate.of(2023, 1, 1), 1.0}));
+        Assertions.assertTrue(filter.test(new Object[] {null, "a", LocalDate.of(2023, 1, 1), 1.0}));
+        Assertions.assertFalse(filter.test(new Object[] {1, "b", LocalDate.of(2023, 1, 1), 1.0}));
+        Assertions.assertFalse(filter.test(new Object[] {2, "b", LocalDate.of(2024, 1, 1), 1.0}));
+        Assertions.assertFalse(filter.test(new Object[] {2, "b", LocalDate.of(2023, 1, 1), null}));
+
+        // comparisons with null are unknown, and so are their negations
+        FilterExpression notEqual = FilterExpressionParser.parse("NOT id = 1");
+        notEqual.bind(ROW_TYPE);
+        Assertions.assertNull(notEqual.evaluate(new Object[] {null, null, null, null}));
+        Assertions.assertFalse(notEqual.test(new Object[] {null, null, null, null}));
+        FilterExpression notIn = FilterExpressionParser.parse("id NOT IN (1, NULL)");
+        notIn.bind(ROW_TYPE);
+        Assertions.assertFalse(notIn.test(new Object[] {2, null, null, null}));
+    }
+
+    @Test
+    public void testBind() {
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FilterExpressionParser.parse("missing = 1").bind(ROW_TYPE));
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FilterExpressionParser.parse("id = 'a'").bind(ROW_TYPE));
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FilterExpressionParser.parse("id = 1.5").bind(ROW_TYPE));
+    }
+
+    @Test
+    public void testConvert() {
+        FilterExpression filter =
+                FilterExpressionParser.parse("id > 1 AND (dt = '2024-01-01' OR price < 1)");
+        filter.bind(ROW_TYPE);
+        MessageType fileSchema =
+                MessageTypeParser.parseMessageType(
+                        "message test { optional int32 id; optional binary name (UTF8);"
+                                + " optional int32 dt (DATE); optional double price; }");
+        FilterPredicate predicate = ParquetFilterConverter.convert(filter, fileSchema);
+        Assertions.assertEquals(
+                "and(gt(id, 1), or(eq(dt, 19723), lt(price, 1.0)))", predicate.toString());
+        SearchArgument searchArgument = OrcFilterConverter.convert(filter);
+        Assertions.assertNotNull(searchArgument);
+        Assertions.assertEquals(3, searchArgument.getLeaves().size());
+
+        // conjuncts whose physical type does not match are dropped, disjuncts drop the whole or
+        MessageType otherSchema =
+                MessageTypeParser.parseMessageType(
+                        "message test { optional int64 id; optional binary name (UTF8);"
+                                + " optional int32 dt (DATE); optional float price; }");
+        Assertions.assertNull(ParquetFilterConverter.convert(filter, otherSchema));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LineRangeInputStreamTest {
+
+    @Test
+    public void testSplitsReadEveryLineOnce() throws IOException {
+        List<String> lines =
+                Arrays.asList("a", "", "bb", "ccc", "dddddddddddd", "中文", "e", "ffff", "g");
+        for (String lastLineEnd : Arrays.asList("", "\n")) {
+            byte[] content =
+                    (String.join("\n", lines) + lastLineEnd).getBytes(StandardCharsets.UTF_8);
+            for (long splitSize = 1; splitSize <= content.length + 1; splitSize++) {
+                List<String> readLines = new ArrayList<>();
+                for (FileSourceSplit split :
+                        AbstractReadStrategy.splitByRange(
+                                "t", "/tmp/t.txt", content.length, splitSize)) {
+                    readLines.addAll(readLines(content, split));
+                }
+                Assertions.assertEquals(lines, readLines, "split size " + splitSize);
+            }
+        }
+    }
+
+    @Test
+    public void testSplitByRange() {
+        List<FileSourceSplit> splits = AbstractReadStrategy.splitByRange("t", "/p", 105, 100);
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertTrue(splits.get(0).isWholeFile());
+        Assertions.assertEquals("t_/p", splits.get(0).splitId());
+
+        splits = AbstractReadStrategy.splitByRange("t", "/p", 250, 100);
+        Assertions.assertEquals(
+                Arrays.asList(0L, 100L, 200L),
+                splits.stream().map(FileSourceSplit::getStart).collect(Collectors.toList()));
+        Assertions.assertEquals(
+                Arrays.asList(100L, 100L, 50L),
+                splits.stream().map(FileSourceSplit::getLength).collect(Collectors.toList()));
+        Assertions.assertEquals("t_/p_100_100", splits.get(1).splitId());
+    }
+
+    private static List<String> readLines(byte[] content, FileSourceSplit split)
+            throws IOException {
+        InputStream in;
+        if (split.isWholeFile()) {
+            in = new ByteArrayInputStream(content);
+        } else {
+            ByteArrayInputStream bytes = new ByteArrayInputStream(content);
+            if (split.getStart() > 0) {
+                bytes.skip(split.getStart() - 1);
+            }
+            in = new LineRangeInputStream(bytes, split.getStart(), split.getLength());
+        }
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
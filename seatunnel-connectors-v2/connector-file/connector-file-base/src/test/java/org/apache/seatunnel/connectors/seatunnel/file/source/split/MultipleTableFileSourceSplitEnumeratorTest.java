@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+public class MultipleTableFileSourceSplitEnumeratorTest {
+
+    private static final String TABLE_ID = "db.t";
+    private static final String FILE_PATH = "/tmp/seatunnel/test.orc";
+
+    private SourceSplitEnumerator.Context<FileSourceSplit> context;
+    private BaseMultipleTableFileSourceConfig sourceConfig;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ReadStrategy readStrategy = Mockito.mock(ReadStrategy.class);
+        Mockito.when(readStrategy.getFileSourceSplits(TABLE_ID, FILE_PATH))
+                .thenReturn(
+                        Arrays.asList(
+                                new FileSourceSplit(TABLE_ID, FILE_PATH, 0, 100),
+                                new FileSourceSplit(TABLE_ID, FILE_PATH, 100, 100)));
+        BaseFileSourceConfig fileSourceConfig = Mockito.mock(BaseFileSourceConfig.class);
+        Mockito.when(fileSourceConfig.getCatalogTable())
+                .thenReturn(
+                        CatalogTable.of(
+                                TableIdentifier.of("file", "db", "t"),
+                                TableSchema.builder().build(),
+                                Collections.emptyMap(),
+                                Collections.emptyList(),
+                                ""));
+        Mockito.when(fileSourceConfig.getReadStrategy()).thenReturn(readStrategy);
+        Mockito.when(fileSourceConfig.getFilePaths())
+                .thenReturn(Collections.singletonList(FILE_PATH));
+        sourceConfig = Mockito.mock(BaseMultipleTableFileSourceConfig.class);
+        Mockito.when(sourceConfig.getFileSourceConfigs())
+                .thenReturn(Collections.singletonList(fileSourceConfig));
+        context = Mockito.mock(SourceSplitEnumerator.Context.class);
+        Mockito.when(context.currentParallelism()).thenReturn(1);
+    }
+
+    @Test
+    void testRestoredSplitsAreNotAssignedAgain() {
+        // the restored state holds copies of the splits, not the instances created on splitting
+        FileSourceState state =
+                new FileSourceState(
+                        new HashSet<>(
+                                Collections.singletonList(
+                                        new FileSourceSplit(TABLE_ID, FILE_PATH, 0, 100))));
+        MultipleTableFileSourceSplitEnumerator enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, sourceConfig, state);
+
+        enumerator.registerReader(0);
+
+        Assertions.assertEquals(
+                Collections.singletonList(new FileSourceSplit(TABLE_ID, FILE_PATH, 100, 100)),
+                captureAssignedSplits());
+        Assertions.assertEquals(2, enumerator.snapshotState(1).getAssignedSplit().size());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FileSourceSplit> captureAssignedSplits() {
+        ArgumentCaptor<List<FileSourceSplit>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(context).assignSplit(Mockito.eq(0), captor.capture());
+        return captor.getValue();
+    }
+}
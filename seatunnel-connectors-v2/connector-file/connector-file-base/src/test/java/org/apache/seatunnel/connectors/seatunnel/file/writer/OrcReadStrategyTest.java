@@ -25,9 +25,21 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.Reader;
+import org.apache.orc.StripeInformation;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -88,6 +100,104 @@ public class OrcReadStrategyTest {
         }
     }
 
+    @Test
+    public void testOrcReadFilter() throws Exception {
+        URL orcFile = OrcReadStrategyTest.class.getResource("/test.orc");
+        Assertions.assertNotNull(orcFile);
+        String orcFilePath = Paths.get(orcFile.toURI()).toString();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(localConf);
+        orcReadStrategy.setPluginConfig(
+                ConfigFactory.parseString("read_columns = [tinyint_col, boolean_col]"));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+        TestCollector allRows = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", allRows);
+        Assertions.assertFalse(allRows.getRows().isEmpty());
+        Object tinyint = allRows.getRows().get(0).getField(0);
+
+        // the filter column is read to test the rows but not emitted
+        orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(localConf);
+        orcReadStrategy.setPluginConfig(
+                ConfigFactory.parseString(
+                        "read_columns = [boolean_col]\nread_filter = \"tinyint_col = "
+                                + tinyint
+                                + " OR tinyint_col IS NULL\""));
+        SeaTunnelRowType rowType = orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+        Assertions.assertEquals(1, rowType.getTotalFields());
+        TestCollector filteredRows = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", filteredRows);
+        List<Object> expected = new ArrayList<>();
+        for (SeaTunnelRow row : allRows.getRows()) {
+            if (row.getField(0) == null || tinyint.equals(row.getField(0))) {
+                expected.add(row.getField(1));
+            }
+        }
+        List<Object> actual = new ArrayList<>();
+        for (SeaTunnelRow row : filteredRows.getRows()) {
+            Assertions.assertEquals(1, row.getArity());
+            actual.add(row.getField(0));
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testOrcReadSplitByStripeMidpoint(@TempDir java.nio.file.Path tempDir)
+            throws Exception {
+        String orcFilePath = tempDir.resolve("stripes.orc").toString();
+        Configuration configuration = new Configuration();
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(orcFilePath),
+                        OrcFile.writerOptions(configuration).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            LongColumnVector ids = (LongColumnVector) batch.cols[0];
+            for (int stripe = 0; stripe < 3; stripe++) {
+                for (int i = 0; i < 1000; i++) {
+                    ids.vector[batch.size++] = stripe * 1000L + i;
+                    if (batch.size == batch.getMaxSize()) {
+                        writer.addRowBatch(batch);
+                        batch.reset();
+                    }
+                }
+                writer.addRowBatch(batch);
+                batch.reset();
+                // closes the stripe
+                writer.writeIntermediateFooter();
+            }
+        }
+        List<StripeInformation> stripes;
+        long fileLength;
+        try (Reader reader =
+                OrcFile.createReader(new Path(orcFilePath), OrcFile.readerOptions(configuration))) {
+            stripes = reader.getStripes();
+            fileLength = reader.getContentLength();
+        }
+        Assertions.assertEquals(3, stripes.size());
+
+        // the boundary is inside the second stripe before its midpoint
+        StripeInformation crossing = stripes.get(1);
+        long boundary = crossing.getOffset() + 1;
+        Assertions.assertTrue(boundary < crossing.getOffset() + crossing.getLength() / 2);
+
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+        TestCollector first = new TestCollector();
+        orcReadStrategy.read(new FileSourceSplit("", orcFilePath, 0, boundary), first);
+        TestCollector second = new TestCollector();
+        orcReadStrategy.read(
+                new FileSourceSplit("", orcFilePath, boundary, fileLength - boundary), second);
+
+        Assertions.assertEquals(stripes.get(0).getNumberOfRows(), first.getRows().size());
+        Assertions.assertEquals(
+                stripes.get(1).getNumberOfRows() + stripes.get(2).getNumberOfRows(),
+                second.getRows().size());
+        Assertions.assertEquals(1000L, second.getRows().get(0).getField(0));
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
@@ -190,6 +190,39 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadFilter() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        // the filter column is read to test the rows but not emitted
+        parquetReadStrategy.setPluginConfig(
+                ConfigFactory.parseString(
+                        "read_columns = [name]\nread_filter = \"id > 1 AND salary >= 50000\""));
+        SeaTunnelRowType seaTunnelRowTypeInfo =
+                parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        Assertions.assertEquals(1, seaTunnelRowTypeInfo.getTotalFields());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(1, rows.get(0).getArity());
+        Assertions.assertEquals("Bob", rows.get(0).getField(0));
+
+        // row groups whose statistics do not match are skipped
+        parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(
+                ConfigFactory.parseString("read_filter = \"name NOT IN ('Alice', 'Bob')\""));
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        Assertions.assertTrue(testCollector.getRows().isEmpty());
+        AutoGenerateParquetData.deleteFile();
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
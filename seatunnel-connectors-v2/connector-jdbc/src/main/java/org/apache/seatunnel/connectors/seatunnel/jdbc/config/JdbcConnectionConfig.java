@@ -41,6 +41,8 @@ public class JdbcConnectionConfig implements Serializable {
 
     public int batchSize = JdbcOptions.BATCH_SIZE.defaultValue();
 
+    public int flushBuffers = JdbcOptions.FLUSH_BUFFERS.defaultValue();
+
     public String xaDataSourceClassName;
 
     public boolean decimalTypeNarrowing = JdbcOptions.DECIMAL_TYPE_NARROWING.defaultValue();
@@ -68,11 +70,14 @@ public class JdbcConnectionConfig implements Serializable {
         builder.maxRetries(config.get(JdbcOptions.MAX_RETRIES));
         builder.connectionCheckTimeoutSeconds(config.get(JdbcOptions.CONNECTION_CHECK_TIMEOUT_SEC));
         builder.batchSize(config.get(JdbcOptions.BATCH_SIZE));
+        builder.flushBuffers(config.get(JdbcOptions.FLUSH_BUFFERS));
         if (config.get(JdbcOptions.IS_EXACTLY_ONCE)) {
             builder.xaDataSourceClassName(config.get(JdbcOptions.XA_DATA_SOURCE_CLASS_NAME));
             builder.maxCommitAttempts(config.get(JdbcOptions.MAX_COMMIT_ATTEMPTS));
             builder.transactionTimeoutSec(config.get(JdbcOptions.TRANSACTION_TIMEOUT_SEC));
             builder.maxRetries(0);
+            // the xa transaction must not see statements of another thread
+            builder.flushBuffers(1);
         }
         if (config.get(JdbcOptions.USE_KERBEROS)) {
             builder.useKerberos(config.get(JdbcOptions.USE_KERBEROS));
@@ -128,6 +133,10 @@ public class JdbcConnectionConfig implements Serializable {
         return batchSize;
     }
 
+    public int getFlushBuffers() {
+        return flushBuffers;
+    }
+
     public String getXaDataSourceClassName() {
         return xaDataSourceClassName;
     }
@@ -160,6 +169,7 @@ public class JdbcConnectionConfig implements Serializable {
         private String query;
         private boolean autoCommit = JdbcOptions.AUTO_COMMIT.defaultValue();
         private int batchSize = JdbcOptions.BATCH_SIZE.defaultValue();
+        private int flushBuffers = JdbcOptions.FLUSH_BUFFERS.defaultValue();
         private String xaDataSourceClassName;
         private boolean decimalTypeNarrowing = JdbcOptions.DECIMAL_TYPE_NARROWING.defaultValue();
         private int maxCommitAttempts = JdbcOptions.MAX_COMMIT_ATTEMPTS.defaultValue();
@@ -227,6 +237,11 @@ public class JdbcConnectionConfig implements Serializable {
             return this;
         }
 
+        public Builder flushBuffers(int flushBuffers) {
+            this.flushBuffers = flushBuffers;
+            return this;
+        }
+
         public Builder xaDataSourceClassName(String xaDataSourceClassName) {
             this.xaDataSourceClassName = xaDataSourceClassName;
             return this;
@@ -270,6 +285,7 @@ public class JdbcConnectionConfig implements Serializable {
         public JdbcConnectionConfig build() {
             JdbcConnectionConfig jdbcConnectionConfig = new JdbcConnectionConfig();
             jdbcConnectionConfig.batchSize = this.batchSize;
+            jdbcConnectionConfig.flushBuffers = this.flushBuffers;
             jdbcConnectionConfig.driverName = this.driverName;
             jdbcConnectionConfig.compatibleMode = this.compatibleMode;
             jdbcConnectionConfig.maxRetries = this.maxRetries;
@@ -81,6 +81,14 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> FLUSH_BUFFERS =
+            Options.key("flush_buffers")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of batch buffers of a sink connection. With two or more buffers the batches are executed by a flusher thread, "
+                                    + "while the writer fills the next buffer, and the writer only waits if all buffers are in flight.");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +172,14 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_STAGED_UPSERT =
+            Options.key("use_staged_upsert")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Upsert each batch by loading it into a temporary staging table with the bulk load of the database, "
+                                    + "and applying it with one set-based upsert (mysql, postgresql, sqlserver, sqlite)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -94,6 +94,15 @@ public interface JdbcSourceOptions {
                                     + "For example, a value of 1000 means a sampling rate of 1/1000. "
                                     + "This parameter is used when the sample sharding strategy is triggered.");
 
+    Option<Integer> SPLIT_PREFETCH_NUMBER =
+            Options.key("split.prefetch-number")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of splits each reader opens ahead on its own connections "
+                                    + "while the current split is emitted. "
+                                    + "0 reads the splits one after another in the task thread.");
+
     Option<Boolean> USE_SELECT_COUNT =
             Options.key("use_select_count")
                     .booleanType()
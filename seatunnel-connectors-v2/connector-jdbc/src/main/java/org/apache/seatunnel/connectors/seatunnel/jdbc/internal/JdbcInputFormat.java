@@ -42,6 +42,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * InputFormat to read data from a database and generate Rows. The InputFormat has to be configured
@@ -62,6 +63,10 @@ public class JdbcInputFormat implements Serializable {
     private transient TableSchema splitTableSchema;
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
+    // the index of the split key in the rows, -1 if the split can not be resumed
+    private transient int splitKeyIndex;
+    // the row after the last returned one, read ahead to find split key boundaries
+    private transient SeaTunnelRow nextRow;
     private volatile boolean hasNext;
 
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
@@ -95,9 +100,16 @@ public class JdbcInputFormat implements Serializable {
             splitTableSchema = tables.get(inputSplit.getTablePath()).getTableSchema();
             splitTableId = inputSplit.getTablePath().toString();
 
+            splitKeyIndex =
+                    chunkSplitter.isResumable(inputSplit)
+                            ? splitTableSchema
+                                    .toPhysicalRowDataType()
+                                    .indexOf(inputSplit.getSplitKeyName())
+                            : -1;
+
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
-            hasNext = resultSet.next();
+            readNextRow();
         } catch (SQLException se) {
             throw new JdbcConnectorException(
                     JdbcConnectorErrorCode.CONNECT_DATABASE_FAILED,
@@ -128,6 +140,17 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    private void readNextRow() throws SQLException {
+        hasNext = resultSet.next();
+        if (hasNext) {
+            nextRow = jdbcRowConverter.toInternal(resultSet, splitTableSchema);
+            nextRow.setTableId(splitTableId);
+            nextRow.setRowKind(RowKind.INSERT);
+        } else {
+            nextRow = null;
+        }
+    }
+
     /**
      * Checks whether all data has been read.
      *
@@ -137,18 +160,37 @@ public class JdbcInputFormat implements Serializable {
         return !hasNext;
     }
 
+    /**
+     * Whether the split is read ordered by its split key, so that it can be resumed after the split
+     * key of a read row, see {@link #isSplitKeyBoundary(SeaTunnelRow)}.
+     */
+    public boolean isResumable() {
+        return splitKeyIndex >= 0;
+    }
+
+    public Object getSplitKeyValue(SeaTunnelRow row) {
+        return row.getField(splitKeyIndex);
+    }
+
+    /**
+     * Whether the rows after the given last read row all have a greater split key, so that the
+     * split can be resumed after its split key without losing rows with the same key.
+     */
+    public boolean isSplitKeyBoundary(SeaTunnelRow lastRow) {
+        Object splitKeyValue = getSplitKeyValue(lastRow);
+        return splitKeyValue != null
+                && (!hasNext || !Objects.equals(splitKeyValue, getSplitKeyValue(nextRow)));
+    }
+
     /** Convert a row of data to seatunnelRow */
     public SeaTunnelRow nextRecord() {
         try {
             if (!hasNext) {
                 return null;
             }
-            SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, splitTableSchema);
-            seaTunnelRow.setTableId(splitTableId);
-            seaTunnelRow.setRowKind(RowKind.INSERT);
-
+            SeaTunnelRow seaTunnelRow = nextRow;
             // update hasNext after we've read the record
-            hasNext = resultSet.next();
+            readNextRow();
             return seaTunnelRow;
         } catch (SQLException se) {
             throw new JdbcConnectorException(
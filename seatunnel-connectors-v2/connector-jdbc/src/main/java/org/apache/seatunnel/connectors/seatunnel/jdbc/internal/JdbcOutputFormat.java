@@ -28,14 +28,29 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatc
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-/** A JDBC outputFormat */
+/**
+ * A JDBC outputFormat.
+ *
+ * <p>With more than one flush buffer, the records of a full batch are handed to a flusher thread,
+ * which adds them to the statement executor and executes the batch, while the writer fills the next
+ * buffer. The writer only waits if all other buffers are in flight, and {@link #flush()} waits
+ * until every buffer is executed.
+ */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implements Serializable {
 
     protected final JdbcConnectionProvider connectionProvider;
@@ -52,6 +67,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    private transient ThreadPoolExecutor flusher;
+    private transient Semaphore inFlightBuffers;
+    private transient List<I> bufferedRecords;
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
@@ -72,6 +91,25 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        int flushBuffers = jdbcConnectionConfig.getFlushBuffers();
+        if (flushBuffers > 1) {
+            // the thread stops when idle, the output format is replaced without closing it after
+            // a schema change
+            flusher =
+                    new ThreadPoolExecutor(
+                            1,
+                            1,
+                            60,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jdbc-flusher-%d")
+                                    .setDaemon(true)
+                                    .build());
+            flusher.allowCoreThreadTimeOut(true);
+            inFlightBuffers = new Semaphore(flushBuffers - 1);
+            bufferedRecords = new ArrayList<>();
+        }
     }
 
     private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
@@ -99,11 +137,19 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     public final synchronized void writeRecord(I record) {
         checkFlushException();
         try {
-            addToBatch(record);
+            if (flusher != null) {
+                bufferedRecords.add(record);
+            } else {
+                addToBatch(record);
+            }
             batchCount++;
             if (jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+                if (flusher != null) {
+                    submitBuffer();
+                } else {
+                    flush();
+                }
             }
         } catch (Exception e) {
             throw new JdbcConnectorException(
@@ -118,6 +164,16 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     }
 
     public synchronized void flush() throws IOException {
+        if (flusher != null) {
+            // a buffer may fail after the caller checked the exception, so the flush always waits
+            // for the buffers in flight and reports their failure before a commit can follow
+            if (batchCount > 0 && flushException == null) {
+                submitBuffer();
+            }
+            awaitInFlightBuffers();
+            checkFlushException();
+            return;
+        }
         if (flushException != null) {
             LOG.warn(
                     String.format(
@@ -129,12 +185,64 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             LOG.debug("No data to flush.");
             return;
         }
+        flushWithRetries();
+        batchCount = 0;
+    }
+
+    /** Hand the buffered records to the flusher, waits if all other buffers are in flight. */
+    private void submitBuffer() {
+        List<I> records = bufferedRecords;
+        bufferedRecords = new ArrayList<>(records.size());
+        batchCount = 0;
+        acquireInFlightBuffers(1);
+        try {
+            flusher.execute(() -> flushBuffer(records));
+        } catch (RuntimeException e) {
+            inFlightBuffers.release();
+            throw e;
+        }
+    }
+
+    private void flushBuffer(List<I> records) {
+        try {
+            // the batches of a failed buffer are lost, skip the following buffers
+            if (flushException == null) {
+                for (I record : records) {
+                    addToBatch(record);
+                }
+                flushWithRetries();
+            }
+        } catch (Exception e) {
+            LOG.error("Writing records to JDBC failed.", e);
+            flushException = e;
+        } finally {
+            inFlightBuffers.release();
+        }
+    }
+
+    private void awaitInFlightBuffers() {
+        int permits = jdbcConnectionConfig.getFlushBuffers() - 1;
+        acquireInFlightBuffers(permits);
+        inFlightBuffers.release(permits);
+    }
 
+    private void acquireInFlightBuffers(int permits) {
+        try {
+            inFlightBuffers.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for the flusher",
+                    e);
+        }
+    }
+
+    private void flushWithRetries() {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -177,7 +285,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         if (!closed) {
             closed = true;
 
-            if (batchCount > 0) {
+            if (batchCount > 0 || flusher != null) {
                 try {
                     flush();
                 } catch (Exception e) {
@@ -190,6 +298,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
             }
 
+            if (flusher != null) {
+                flusher.shutdown();
+            }
+
             try {
                 if (jdbcStatementExecutor != null) {
                     jdbcStatementExecutor.closeStatements();
@@ -22,6 +22,8 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
@@ -32,6 +34,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNam
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.StagedUpsertBatchStatementExecutor;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -81,6 +84,11 @@ public class JdbcOutputFormatBuilder {
             statementExecutorFactory =
                     () -> createSimpleBufferedExecutor(dialect, database, table, tableSchema);
         } else {
+            if (jdbcSinkConfig.isUseStagedUpsert()
+                    && !jdbcSinkConfig.isSupportUpsertByInsertOnly()) {
+                checkStagedUpsertSupported(
+                        dialect, database, table, tableSchema, primaryKeys.toArray(new String[0]));
+            }
             statementExecutorFactory =
                     () ->
                             createUpsertBufferedExecutor(
@@ -91,7 +99,8 @@ public class JdbcOutputFormatBuilder {
                                     primaryKeys.toArray(new String[0]),
                                     jdbcSinkConfig.isEnableUpsert(),
                                     jdbcSinkConfig.isPrimaryKeyUpdated(),
-                                    jdbcSinkConfig.isSupportUpsertByInsertOnly());
+                                    jdbcSinkConfig.isSupportUpsertByInsertOnly(),
+                                    jdbcSinkConfig.isUseStagedUpsert());
         }
 
         return new JdbcOutputFormat(
@@ -122,7 +131,8 @@ public class JdbcOutputFormatBuilder {
             String[] pkNames,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useStagedUpsert) {
         int[] pkFields =
                 Arrays.stream(pkNames)
                         .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
@@ -151,7 +161,8 @@ public class JdbcOutputFormatBuilder {
                         keyExtractor,
                         enableUpsert,
                         isPrimaryKeyUpdated,
-                        supportUpsertByInsertOnly);
+                        supportUpsertByInsertOnly,
+                        useStagedUpsert);
         return new BufferReducedBatchStatementExecutor(
                 upsertExecutor, deleteExecutor, keyExtractor, Function.identity());
     }
@@ -166,10 +177,14 @@ public class JdbcOutputFormatBuilder {
             Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useStagedUpsert) {
         if (supportUpsertByInsertOnly) {
             return createInsertOnlyExecutor(dialect, database, table, tableSchema);
         }
+        if (useStagedUpsert) {
+            return createStagedUpsertExecutor(dialect, database, table, tableSchema, pkNames);
+        }
         if (enableUpsert) {
             Optional<String> upsertSQL =
                     dialect.getUpsertStatement(
@@ -192,6 +207,46 @@ public class JdbcOutputFormatBuilder {
                 dialect, database, table, tableSchema, pkNames, isPrimaryKeyUpdated);
     }
 
+    private static void checkStagedUpsertSupported(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        String stagingTable = dialect.getStagingTableIdentifier(database, table);
+        if (!dialect.getCreateStagingTableStatement(
+                                database, table, stagingTable, tableSchema.getFieldNames())
+                        .isPresent()
+                || !dialect.getUpsertFromStagingTableStatement(
+                                database, table, stagingTable, tableSchema.getFieldNames(), pkNames)
+                        .isPresent()) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "The staged upsert is not supported by the "
+                            + dialect.dialectName()
+                            + " dialect. Please configure option use_staged_upsert = false.");
+        }
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createStagedUpsertExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        String stagingTable = dialect.getStagingTableIdentifier(database, table);
+        return new StagedUpsertBatchStatementExecutor(
+                dialect.getDropStagingTableStatement(stagingTable),
+                dialect.getCreateStagingTableStatement(database, table, stagingTable, fieldNames)
+                        .get(),
+                dialect.createStagingTableLoader(stagingTable, tableSchema),
+                dialect.getUpsertFromStagingTableStatement(
+                                database, table, stagingTable, fieldNames, pkNames)
+                        .get(),
+                dialect.getClearStagingTableStatement(stagingTable));
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createCopyInBufferStatementExecutor(
             CopyManagerBatchStatementExecutor copyManagerBatchStatementExecutor) {
         return new BufferedBatchStatementExecutor(
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.ConverterLoader;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
@@ -29,12 +30,16 @@ import org.apache.seatunnel.api.table.event.AlterTableColumnsEvent;
 import org.apache.seatunnel.api.table.event.AlterTableDropColumnEvent;
 import org.apache.seatunnel.api.table.event.AlterTableModifyColumnEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -231,6 +236,82 @@ public interface JdbcDialect extends Serializable {
     Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
 
+    /**
+     * The staged upsert loads each batch into a session scoped staging table with the bulk load of
+     * the database, and applies it to the sink table with one set-based upsert.
+     *
+     * @return the quoted identifier of the staging table of the sink table
+     */
+    default String getStagingTableIdentifier(String database, String tableName) {
+        return quoteIdentifier("st_stage_" + tableName.substring(tableName.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Constructs the statement that creates the staging table of the staged upsert if it does not
+     * exist. The staging table has the {@code fieldNames} columns of the sink table and no
+     * constraints, and it is dropped by the database when the connection is closed.
+     *
+     * @return the statement, or {@link Optional#empty()} if the staged upsert is not supported.
+     */
+    default Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        return Optional.empty();
+    }
+
+    /**
+     * Constructs the statement that upserts all rows of the staging table into the sink table, such
+     * as {@code INSERT ... SELECT ... ON CONFLICT} or {@code MERGE}. The rows of the staging table
+     * have distinct keys.
+     *
+     * @return the statement, or {@link Optional#empty()} if the staged upsert is not supported.
+     */
+    default Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
+
+    /**
+     * Constructs the statement that drops the staging table of the connection if it exists, so that
+     * a staging table created before a schema change of the sink table is not reused.
+     */
+    default String getDropStagingTableStatement(String stagingTable) {
+        return "DROP TABLE IF EXISTS " + stagingTable;
+    }
+
+    /** @return the statement that deletes all rows of the staging table. */
+    default String getClearStagingTableStatement(String stagingTable) {
+        return "DELETE FROM " + stagingTable;
+    }
+
+    /**
+     * Creates the executor that loads a batch into the staging table. The default executor inserts
+     * the rows with a batched statement, dialects override it with the bulk load of the database.
+     */
+    default JdbcBatchStatementExecutor<SeaTunnelRow> createStagingTableLoader(
+            String stagingTable, TableSchema tableSchema) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        String insertSql =
+                String.format(
+                        "INSERT INTO %s (%s) VALUES (%s)",
+                        stagingTable,
+                        Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", ")),
+                        Arrays.stream(fieldNames)
+                                .map(fieldName -> ":" + fieldName)
+                                .collect(Collectors.joining(", ")));
+        return new SimpleBatchStatementExecutor(
+                connection ->
+                        FieldNamedPreparedStatement.prepareStatement(
+                                connection, insertSql, fieldNames),
+                tableSchema,
+                getRowConverter());
+    }
+
     /**
      * Different dialects optimize their PreparedStatement
      *
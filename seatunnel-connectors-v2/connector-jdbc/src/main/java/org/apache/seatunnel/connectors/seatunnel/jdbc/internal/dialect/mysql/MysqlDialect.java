@@ -18,13 +18,19 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.LoadDataBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.MysqlDefaultValueUtils;
 
@@ -109,6 +115,85 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public String getStagingTableIdentifier(String database, String tableName) {
+        return tableIdentifier(database, "st_stage_" + tableName);
+    }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        return Optional.of(
+                String.format(
+                        "CREATE TEMPORARY TABLE IF NOT EXISTS %s SELECT %s FROM %s LIMIT 0",
+                        stagingTable,
+                        Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", ")),
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public String getDropStagingTableStatement(String stagingTable) {
+        return "DROP TEMPORARY TABLE IF EXISTS " + stagingTable;
+    }
+
+    @Override
+    public Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .map(
+                                fieldName ->
+                                        quoteIdentifier(fieldName)
+                                                + "=VALUES("
+                                                + quoteIdentifier(fieldName)
+                                                + ")")
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s ON DUPLICATE KEY UPDATE %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTable,
+                        updateClause));
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> createStagingTableLoader(
+            String stagingTable, TableSchema tableSchema) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        List<String> columns = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String column = quoteIdentifier(rowType.getFieldName(i));
+            if (rowType.getFieldType(i).getSqlType() == SqlType.BYTES) {
+                // bytes are loaded hex encoded
+                columns.add("@v" + i);
+                assignments.add(column + "=UNHEX(@v" + i + ")");
+            } else {
+                columns.add(column);
+            }
+        }
+        String loadDataSql =
+                String.format(
+                        "LOAD DATA LOCAL INFILE 'stream' INTO TABLE %s CHARACTER SET utf8mb4 (%s)",
+                        stagingTable, String.join(", ", columns));
+        if (!assignments.isEmpty()) {
+            loadDataSql += " SET " + String.join(", ", assignments);
+        }
+        return new LoadDataBatchStatementExecutor(loadDataSql, tableSchema);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -19,12 +19,16 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -163,6 +167,75 @@ public class PostgresDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        return Optional.of(
+                String.format(
+                        "CREATE TEMPORARY TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WITH NO DATA",
+                        stagingTable,
+                        Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", ")),
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String uniqueColumns =
+                Arrays.stream(uniqueKeyFields)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .map(
+                                fieldName ->
+                                        quoteIdentifier(fieldName)
+                                                + "=EXCLUDED."
+                                                + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s ON CONFLICT (%s) DO UPDATE SET %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTable,
+                        uniqueColumns,
+                        updateClause));
+    }
+
+    @Override
+    public String getDropStagingTableStatement(String stagingTable) {
+        return "DROP TABLE IF EXISTS pg_temp." + stagingTable;
+    }
+
+    @Override
+    public String getClearStagingTableStatement(String stagingTable) {
+        return "TRUNCATE TABLE " + stagingTable;
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> createStagingTableLoader(
+            String stagingTable, TableSchema tableSchema) {
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        return new CopyManagerBatchStatementExecutor(
+                String.format("COPY %s %s FROM STDIN WITH CSV", stagingTable, columns),
+                tableSchema);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -32,4 +32,14 @@ public class PostgresLowDialect extends PostgresDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
 }
@@ -73,4 +73,55 @@ public class SqliteDialect implements JdbcDialect {
                         + updateClause;
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        return Optional.of(
+                String.format(
+                        "CREATE TEMP TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WHERE 0",
+                        stagingTable,
+                        Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", ")),
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public String getDropStagingTableStatement(String stagingTable) {
+        return "DROP TABLE IF EXISTS temp." + stagingTable;
+    }
+
+    @Override
+    public Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .map(
+                                fieldName ->
+                                        quoteIdentifier(fieldName)
+                                                + "=excluded."
+                                                + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        // the where clause resolves the ambiguity of the on conflict clause after a select
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s WHERE true ON CONFLICT(%s) DO UPDATE SET %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTable,
+                        Arrays.stream(uniqueKeyFields)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(",")),
+                        updateClause));
+    }
 }
@@ -130,6 +130,86 @@ public class SqlServerDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public String getStagingTableIdentifier(String database, String tableName) {
+        return quoteIdentifier("#st_stage_" + tableName.substring(tableName.lastIndexOf('.') + 1));
+    }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        String select =
+                String.format(
+                        "SELECT TOP 0 %s FROM %s",
+                        Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", ")),
+                        tableIdentifier(database, tableName));
+        // the union drops the identity property of the columns
+        return Optional.of(
+                String.format(
+                        "IF OBJECT_ID('tempdb..%s') IS NULL"
+                                + " SELECT * INTO %s FROM (%s UNION ALL %s) AS [T]",
+                        stagingTable, stagingTable, select, select));
+    }
+
+    @Override
+    public String getDropStagingTableStatement(String stagingTable) {
+        return String.format(
+                "IF OBJECT_ID('tempdb..%s') IS NOT NULL DROP TABLE %s", stagingTable, stagingTable);
+    }
+
+    @Override
+    public Optional<String> getUpsertFromStagingTableStatement(
+            String database,
+            String tableName,
+            String stagingTable,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        List<String> nonUniqueKeyFields =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .collect(Collectors.toList());
+        String onConditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        String updateSetClause =
+                nonUniqueKeyFields.stream()
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(", "));
+        String insertFields =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String insertValues =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "[SOURCE]." + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "MERGE INTO %s AS [TARGET] USING %s AS [SOURCE] ON (%s)%s"
+                                + " WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s);",
+                        tableIdentifier(database, tableName),
+                        stagingTable,
+                        onConditions,
+                        nonUniqueKeyFields.isEmpty()
+                                ? ""
+                                : " WHEN MATCHED THEN UPDATE SET " + updateSetClause,
+                        insertFields,
+                        insertValues));
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
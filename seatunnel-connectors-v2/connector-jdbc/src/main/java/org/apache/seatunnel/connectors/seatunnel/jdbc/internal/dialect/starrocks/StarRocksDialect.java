@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.starrock
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
 
+import java.util.Optional;
+
 public class StarRocksDialect extends MysqlDialect {
 
     public StarRocksDialect() {}
@@ -31,4 +33,10 @@ public class StarRocksDialect extends MysqlDialect {
     public String hashModForField(String fieldName, int mod) {
         return "ABS(murmur_hash3_32(" + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTable, String[] fieldNames) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Encodes rows in the CSV format of PostgreSQL {@code COPY} into a reusable byte buffer, which is
+ * handed to the {@link Sink} whenever it is full. Every column has an encoder for its type that
+ * writes the value into the buffer without intermediate strings where possible, so the memory does
+ * not grow with the batch size.
+ */
+class CopyCsvEncoder {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
+
+    /** Receives the encoded bytes, the buffer is reused after the call returns. */
+    @FunctionalInterface
+    interface Sink {
+        void write(byte[] buffer, int length) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface FieldEncoder {
+        void encode(CopyCsvEncoder out, Object value) throws SQLException;
+    }
+
+    private final FieldEncoder[] encoders;
+    private final byte[] buffer;
+    private int position;
+    private Sink sink;
+
+    CopyCsvEncoder(SeaTunnelRowType rowType, int bufferSize) {
+        this.encoders = new FieldEncoder[rowType.getTotalFields()];
+        for (int i = 0; i < encoders.length; i++) {
+            encoders[i] = createEncoder(rowType.getFieldType(i));
+        }
+        // a code point or a padded date field always fits into the buffer
+        this.buffer = new byte[Math.max(bufferSize, 16)];
+    }
+
+    void setSink(Sink sink) {
+        this.sink = sink;
+    }
+
+    void encode(SeaTunnelRow row) throws SQLException {
+        for (int i = 0; i < encoders.length; i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            Object value = row.getField(i);
+            // an unquoted empty value is null
+            if (value != null) {
+                encoders[i].encode(this, value);
+            }
+        }
+        writeByte('\n');
+    }
+
+    void flush() throws SQLException {
+        if (position > 0) {
+            sink.write(buffer, position);
+            position = 0;
+        }
+    }
+
+    /** Drops the encoded bytes that have not been flushed. */
+    void reset() {
+        position = 0;
+    }
+
+    private static FieldEncoder createEncoder(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return (out, value) -> out.writeQuoted((String) value);
+            case BOOLEAN:
+                return (out, value) -> out.writeByte((Boolean) value ? 't' : 'f');
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return (out, value) -> out.writeLong(((Number) value).longValue());
+            case FLOAT:
+            case DOUBLE:
+                return (out, value) -> out.writeAscii(value.toString());
+            case DECIMAL:
+                return (out, value) -> out.writeAscii(((BigDecimal) value).toString());
+            case DATE:
+                return (out, value) -> out.writeDate((LocalDate) value);
+            case TIME:
+                return (out, value) -> out.writeTime((LocalTime) value);
+            case TIMESTAMP:
+                return (out, value) -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.writeDate(dateTime.toLocalDate());
+                    out.writeByte(' ');
+                    out.writeTime(dateTime.toLocalTime());
+                };
+            case BYTES:
+                return (out, value) -> out.writeBytea((byte[]) value);
+            case NULL:
+                return (out, value) -> {};
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + dataType);
+        }
+    }
+
+    private void ensure(int length) throws SQLException {
+        if (buffer.length - position < length) {
+            flush();
+        }
+    }
+
+    private void writeByte(int b) throws SQLException {
+        ensure(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeAscii(String value) throws SQLException {
+        for (int i = 0; i < value.length(); i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    private void writeLong(long value) throws SQLException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private void writePadded(int value, int width) throws SQLException {
+        ensure(width);
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void writeDate(LocalDate date) throws SQLException {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            // years before the common era are written with the BC suffix by PostgreSQL
+            writeAscii(java.sql.Date.valueOf(date).toString());
+            return;
+        }
+        writePadded(year, 4);
+        writeByte('-');
+        writePadded(date.getMonthValue(), 2);
+        writeByte('-');
+        writePadded(date.getDayOfMonth(), 2);
+    }
+
+    private void writeTime(LocalTime time) throws SQLException {
+        writePadded(time.getHour(), 2);
+        writeByte(':');
+        writePadded(time.getMinute(), 2);
+        writeByte(':');
+        writePadded(time.getSecond(), 2);
+        int nanos = time.getNano();
+        if (nanos > 0) {
+            writeByte('.');
+            if (nanos % 1000 == 0) {
+                writePadded(nanos / 1000, 6);
+            } else {
+                writePadded(nanos, 9);
+            }
+        }
+    }
+
+    /** Writes the bytes in the hex format of bytea, e.g. {@code \x0aff}. */
+    private void writeBytea(byte[] value) throws SQLException {
+        writeByte('\\');
+        writeByte('x');
+        for (byte b : value) {
+            ensure(2);
+            buffer[position++] = HEX_DIGITS[(b >> 4) & 0xf];
+            buffer[position++] = HEX_DIGITS[b & 0xf];
+        }
+    }
+
+    /** Writes the string UTF-8 encoded in quotes, which distinguishes an empty string from null. */
+    private void writeQuoted(String value) throws SQLException {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            ensure(4);
+            if (c < 0x80) {
+                if (c == '"') {
+                    buffer[position++] = '"';
+                }
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // an unpaired surrogate is replaced like String#getBytes does
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xe0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        writeByte('"');
+    }
+}
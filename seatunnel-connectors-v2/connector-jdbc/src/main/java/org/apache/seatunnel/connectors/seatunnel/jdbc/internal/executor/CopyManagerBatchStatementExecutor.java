@@ -17,40 +17,40 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
 
 import org.apache.seatunnel.api.table.catalog.TableSchema;
-import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
+import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
-import java.io.StringReader;
 import java.lang.reflect.InvocationTargetException;
-import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * Writes the rows with {@code COPY FROM STDIN} of PostgreSQL. The copy is started by the first row
+ * of a batch and the rows are encoded into a reusable buffer that is streamed to the server
+ * whenever it is full, so the batch is never held in memory as a whole.
+ */
+@Slf4j
 public class CopyManagerBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
 
     private final String copySql;
-    private final TableSchema tableSchema;
+    private final CopyCsvEncoder encoder;
     CopyManagerProxy copyManagerProxy;
-    CSVFormat csvFormat = CSVFormat.POSTGRESQL_CSV;
-    CSVPrinter csvPrinter;
+    private Object copyIn;
 
     public CopyManagerBatchStatementExecutor(String copySql, TableSchema tableSchema) {
+        this(copySql, tableSchema, CopyCsvEncoder.DEFAULT_BUFFER_SIZE);
+    }
+
+    CopyManagerBatchStatementExecutor(String copySql, TableSchema tableSchema, int bufferSize) {
         this.copySql = copySql;
-        this.tableSchema = tableSchema;
+        this.encoder = new CopyCsvEncoder(tableSchema.toPhysicalRowDataType(), bufferSize);
+        this.encoder.setSink(
+                (buffer, length) -> copyManagerProxy.writeToCopy(copyIn, buffer, 0, length));
     }
 
     public static void copyManagerProxyChecked(JdbcConnectionProvider connectionProvider) {
@@ -71,11 +71,7 @@ public class CopyManagerBatchStatementExecutor implements JdbcBatchStatementExec
     public void prepareStatements(Connection connection) throws SQLException {
         try {
             this.copyManagerProxy = new CopyManagerProxy(connection);
-            this.csvPrinter = new CSVPrinter(new StringBuilder(), csvFormat);
-        } catch (NoSuchMethodException
-                | IllegalAccessException
-                | InvocationTargetException
-                | IOException e) {
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             throw new JdbcConnectorException(
                     JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
                     "unable to open CopyManager Operation in this JDBC writer. Please configure option use_copy_statement = false.",
@@ -88,108 +84,52 @@ public class CopyManagerBatchStatementExecutor implements JdbcBatchStatementExec
 
     @Override
     public void addToBatch(SeaTunnelRow record) throws SQLException {
-        try {
-            this.csvPrinter.printRecord(toExtract(record));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (copyIn == null) {
+            copyIn = copyManagerProxy.copyIn(copySql);
         }
-    }
-
-    private List<Object> toExtract(SeaTunnelRow record) {
-        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
-        List<Object> csvRecord = new ArrayList<>();
-        for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
-            SeaTunnelDataType<?> seaTunnelDataType = rowType.getFieldType(fieldIndex);
-            Object fieldValue = record.getField(fieldIndex);
-            if (fieldValue == null) {
-                csvRecord.add(null);
-                continue;
-            }
-            switch (seaTunnelDataType.getSqlType()) {
-                case STRING:
-                    csvRecord.add((String) record.getField(fieldIndex));
-                    break;
-                case BOOLEAN:
-                    csvRecord.add((Boolean) record.getField(fieldIndex));
-                    break;
-                case TINYINT:
-                    csvRecord.add((Byte) record.getField(fieldIndex));
-                    break;
-                case SMALLINT:
-                    csvRecord.add((Short) record.getField(fieldIndex));
-                    break;
-                case INT:
-                    csvRecord.add((Integer) record.getField(fieldIndex));
-                    break;
-                case BIGINT:
-                    csvRecord.add((Long) record.getField(fieldIndex));
-                    break;
-                case FLOAT:
-                    csvRecord.add((Float) record.getField(fieldIndex));
-                    break;
-                case DOUBLE:
-                    csvRecord.add((Double) record.getField(fieldIndex));
-                    break;
-                case DECIMAL:
-                    csvRecord.add((BigDecimal) record.getField(fieldIndex));
-                    break;
-                case DATE:
-                    LocalDate localDate = (LocalDate) record.getField(fieldIndex);
-                    csvRecord.add((java.sql.Date) java.sql.Date.valueOf(localDate));
-                    break;
-                case TIME:
-                    LocalTime localTime = (LocalTime) record.getField(fieldIndex);
-                    csvRecord.add((java.sql.Time) java.sql.Time.valueOf(localTime));
-                    break;
-                case TIMESTAMP:
-                    LocalDateTime localDateTime = (LocalDateTime) record.getField(fieldIndex);
-                    csvRecord.add((java.sql.Timestamp) java.sql.Timestamp.valueOf(localDateTime));
-                    break;
-                case BYTES:
-                    csvRecord.add(
-                            org.apache.commons.codec.binary.Base64.encodeBase64String(
-                                    (byte[]) record.getField(fieldIndex)));
-                    break;
-                case NULL:
-                    csvRecord.add(null);
-                    break;
-                case MAP:
-                case ARRAY:
-                case ROW:
-                default:
-                    throw new JdbcConnectorException(
-                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
-                            "Unexpected value: " + seaTunnelDataType);
-            }
+        try {
+            encoder.encode(record);
+        } catch (SQLException | RuntimeException e) {
+            cancelCopy();
+            throw e;
         }
-        return csvRecord;
     }
 
     @Override
     public void executeBatch() throws SQLException {
+        if (copyIn == null) {
+            return;
+        }
         try {
-            this.csvPrinter.flush();
-            this.copyManagerProxy.doCopy(
-                    copySql, new StringReader(this.csvPrinter.getOut().toString()));
-        } catch (InvocationTargetException | IllegalAccessException | IOException e) {
+            encoder.flush();
+            copyManagerProxy.endCopy(copyIn);
+        } catch (SQLException e) {
+            cancelCopy();
             throw new JdbcConnectorException(
-                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED, "Sql command: " + copySql);
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED, "Sql command: " + copySql, e);
         } finally {
-            try {
-                this.csvPrinter.close();
-                this.csvPrinter = new CSVPrinter(new StringBuilder(), csvFormat);
-            } catch (Exception ignore) {
-            }
+            copyIn = null;
         }
     }
 
     @Override
     public void closeStatements() throws SQLException {
+        cancelCopy();
         this.copyManagerProxy = null;
+    }
+
+    /** Aborts the running copy, which keeps the connection usable for the retry. */
+    private void cancelCopy() {
+        encoder.reset();
+        if (copyIn == null) {
+            return;
+        }
         try {
-            this.csvPrinter.close();
-            this.csvPrinter = null;
-        } catch (Exception ignore) {
+            copyManagerProxy.cancelCopy(copyIn);
+        } catch (SQLException e) {
+            log.warn("Failed to cancel the copy operation", e);
+        } finally {
+            copyIn = null;
         }
     }
 }
@@ -19,7 +19,6 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
@@ -36,6 +35,9 @@ class CopyManagerProxy {
     Class<?> copyManagerClazz;
     Method getCopyAPIMethod;
     Method copyInMethod;
+    Method writeToCopyMethod;
+    Method endCopyMethod;
+    Method cancelCopyMethod;
 
     CopyManagerProxy(Connection connection)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException,
@@ -58,12 +60,43 @@ class CopyManagerProxy {
         this.getCopyAPIMethod = this.connectionClazz.getMethod("getCopyAPI");
         this.copyManager = this.getCopyAPIMethod.invoke(this.connection);
         this.copyManagerClazz = this.copyManager.getClass();
-        this.copyInMethod = this.copyManagerClazz.getMethod("copyIn", String.class, Reader.class);
+        this.copyInMethod = this.copyManagerClazz.getMethod("copyIn", String.class);
+        // the public interface of the copy operation, its implementation may not be public
+        Class<?> copyInClazz = copyInMethod.getReturnType();
+        this.writeToCopyMethod =
+                copyInClazz.getMethod("writeToCopy", byte[].class, int.class, int.class);
+        this.endCopyMethod = copyInClazz.getMethod("endCopy");
+        this.cancelCopyMethod = copyInClazz.getMethod("cancelCopy");
     }
 
-    long doCopy(String sql, Reader reader)
-            throws InvocationTargetException, IllegalAccessException {
-        return (long) this.copyInMethod.invoke(this.copyManager, sql, reader);
+    /** Starts a {@code COPY FROM STDIN}, the connection can not be used until it ends. */
+    Object copyIn(String sql) throws SQLException {
+        return invoke(copyInMethod, copyManager, sql);
+    }
+
+    void writeToCopy(Object copyIn, byte[] buffer, int offset, int length) throws SQLException {
+        invoke(writeToCopyMethod, copyIn, buffer, offset, length);
+    }
+
+    long endCopy(Object copyIn) throws SQLException {
+        return (long) invoke(endCopyMethod, copyIn);
+    }
+
+    void cancelCopy(Object copyIn) throws SQLException {
+        invoke(cancelCopyMethod, copyIn);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Failed to invoke " + method.getName(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new SQLException("Failed to invoke " + method.getName(), e);
+        }
     }
 
     private static Object getConnectionFromInvocationHandler(InvocationHandler handler)
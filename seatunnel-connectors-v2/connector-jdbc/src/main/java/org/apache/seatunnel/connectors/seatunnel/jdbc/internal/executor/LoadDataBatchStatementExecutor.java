@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a batch with MySQL {@code LOAD DATA LOCAL INFILE}, the rows are streamed to the server from
+ * memory in the default tab separated format of the statement. Bytes fields are hex encoded, the
+ * statement must decode them with {@code UNHEX}. The connection needs {@code
+ * allowLoadLocalInfile=true}.
+ */
+public class LoadDataBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final String[] STATEMENT_CLASSES = {
+        "com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement"
+    };
+
+    private final String loadDataSql;
+    private final TableSchema tableSchema;
+    private transient Statement statement;
+    private transient Object mysqlStatement;
+    private transient Method setLocalInfileInputStream;
+    private transient CSVPrinter csvPrinter;
+    private transient boolean hasRows;
+
+    public LoadDataBatchStatementExecutor(String loadDataSql, TableSchema tableSchema) {
+        this.loadDataSql = loadDataSql;
+        this.tableSchema = tableSchema;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        statement = connection.createStatement();
+        for (String className : STATEMENT_CLASSES) {
+            try {
+                Class<?> statementClass =
+                        Class.forName(className, false, statement.getClass().getClassLoader());
+                if (statement.isWrapperFor(statementClass)) {
+                    mysqlStatement = statement.unwrap(statementClass);
+                    setLocalInfileInputStream =
+                            statementClass.getMethod(
+                                    "setLocalInfileInputStream", InputStream.class);
+                    break;
+                }
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                // try the statement of the next driver version
+            }
+        }
+        if (setLocalInfileInputStream == null) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to load data in this JDBC writer, the MySQL Connector/J driver is required. Please configure option use_staged_upsert = false.");
+        }
+        newCsvPrinter();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        try {
+            csvPrinter.printRecord(toExtract(record));
+            hasRows = true;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<Object> toExtract(SeaTunnelRow record) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        List<Object> values = new ArrayList<>(rowType.getTotalFields());
+        for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
+            SeaTunnelDataType<?> seaTunnelDataType = rowType.getFieldType(fieldIndex);
+            Object fieldValue = record.getField(fieldIndex);
+            if (fieldValue == null) {
+                values.add(null);
+                continue;
+            }
+            switch (seaTunnelDataType.getSqlType()) {
+                case STRING:
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                    values.add(fieldValue);
+                    break;
+                case BOOLEAN:
+                    values.add((Boolean) fieldValue ? 1 : 0);
+                    break;
+                case DECIMAL:
+                    values.add(((BigDecimal) fieldValue).toPlainString());
+                    break;
+                case DATE:
+                    values.add(java.sql.Date.valueOf((LocalDate) fieldValue));
+                    break;
+                case TIME:
+                    values.add(java.sql.Time.valueOf((LocalTime) fieldValue));
+                    break;
+                case TIMESTAMP:
+                    values.add(java.sql.Timestamp.valueOf((LocalDateTime) fieldValue));
+                    break;
+                case BYTES:
+                    values.add(Hex.encodeHexString((byte[]) fieldValue));
+                    break;
+                case NULL:
+                    values.add(null);
+                    break;
+                default:
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                            "Unexpected value: " + seaTunnelDataType);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (!hasRows) {
+            return;
+        }
+        try {
+            csvPrinter.flush();
+            byte[] data = csvPrinter.getOut().toString().getBytes(StandardCharsets.UTF_8);
+            setLocalInfileInputStream.invoke(mysqlStatement, new ByteArrayInputStream(data));
+            statement.execute(loadDataSql);
+        } catch (InvocationTargetException | IllegalAccessException | IOException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Sql command: " + loadDataSql,
+                    e);
+        } finally {
+            hasRows = false;
+            newCsvPrinter();
+        }
+    }
+
+    private void newCsvPrinter() {
+        try {
+            csvPrinter = new CSVPrinter(new StringBuilder(), CSVFormat.MYSQL);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        csvPrinter = null;
+        if (statement != null) {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Upserts a batch in three set-based statements: the rows are bulk loaded into a staging table of
+ * the connection, applied to the sink table with one upsert, and deleted from the staging table.
+ */
+@RequiredArgsConstructor
+public class StagedUpsertBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    @NonNull private final String dropStagingTableSql;
+    @NonNull private final String createStagingTableSql;
+    @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> stagingTableLoader;
+    @NonNull private final String upsertSql;
+    @NonNull private final String clearStagingTableSql;
+    private transient Statement statement;
+    private transient boolean staged;
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        statement = connection.createStatement();
+        // the staging table is dropped with the connection, but a format rebuilt after a schema
+        // change reuses the connection and needs the staging table with the new columns
+        statement.execute(dropStagingTableSql);
+        statement.execute(createStagingTableSql);
+        stagingTableLoader.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        stagingTableLoader.addToBatch(record);
+        staged = true;
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (!staged) {
+            return;
+        }
+        staged = false;
+        try {
+            stagingTableLoader.executeBatch();
+            statement.executeUpdate(upsertSql);
+        } catch (SQLException | RuntimeException e) {
+            // a retry loads the whole batch again
+            try {
+                statement.executeUpdate(clearStagingTableSql);
+            } catch (SQLException clearException) {
+                e.addSuppressed(clearException);
+            }
+            throw e;
+        }
+        statement.executeUpdate(clearStagingTableSql);
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        try {
+            stagingTableLoader.closeStatements();
+        } finally {
+            if (statement != null) {
+                statement.close();
+            }
+        }
+    }
+}
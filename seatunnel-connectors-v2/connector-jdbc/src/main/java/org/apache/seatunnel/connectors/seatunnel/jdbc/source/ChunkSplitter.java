@@ -124,7 +124,45 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
+    /**
+     * Whether the statement of the split reads the rows ordered by the split key and only rows with
+     * a non null split key, so that a read of the split can be resumed after the split key of the
+     * last read row, see {@link JdbcSourceSplit#getSplitKeyOffset()}.
+     */
+    public boolean isResumable(JdbcSourceSplit split) {
+        return false;
+    }
+
+    /**
+     * Whether the database orders and compares the values of the split key type the same way as
+     * {@link java.util.Objects#equals(Object, Object)} on the read values, which does not hold for
+     * strings compared under a database collation.
+     */
+    protected static boolean isResumableSplitKeyType(SeaTunnelDataType<?> splitKeyType) {
+        switch (splitKeyType.getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DECIMAL:
+            case FLOAT:
+            case DOUBLE:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null);
+    }
+
+    /** @param orderBy the expression to order the rows by, or null if the order does not matter */
+    protected PreparedStatement createPreparedStatement(String sql, String orderBy)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,6 +172,9 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        if (orderBy != null) {
+            sql = String.format("%s ORDER BY %s", sql, orderBy);
+        }
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
@@ -95,10 +95,24 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return splits;
     }
 
+    @Override
+    public boolean isResumable(JdbcSourceSplit split) {
+        // a chunk without bounds also reads the rows whose split key is null
+        return split.getSplitKeyName() != null
+                && isResumableSplitKeyType(split.getSplitKeyType())
+                && (split.getSplitStart() != null || split.getSplitEnd() != null);
+    }
+
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        String orderBy = null;
+        if (isResumable(split)) {
+            StringBuilder sql = new StringBuilder();
+            addKeyColumnsToCondition(schema, splitKeyRowType(split), sql, "");
+            orderBy = sql.toString();
+        }
+        PreparedStatement statement = createPreparedStatement(splitQuery, orderBy);
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
@@ -456,12 +470,11 @@ public class DynamicChunkSplitter extends ChunkSplitter {
 
     @VisibleForTesting
     String createDynamicSplitQuerySQL(JdbcSourceSplit split, TableSchema schema) {
-        SeaTunnelRowType rowType =
-                new SeaTunnelRowType(
-                        new String[] {split.getSplitKeyName()},
-                        new SeaTunnelDataType[] {split.getSplitKeyType()});
-        boolean isFirstSplit = split.getSplitStart() == null;
+        SeaTunnelRowType rowType = splitKeyRowType(split);
+        boolean isFirstSplit = splitStartOf(split) == null;
         boolean isLastSplit = split.getSplitEnd() == null;
+        // a resumed split starts after the split key of the last read row
+        String startPredicate = split.getSplitKeyOffset() == null ? " >= ?" : " > ?";
 
         final String condition;
         if (isFirstSplit && isLastSplit) {
@@ -475,11 +488,11 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             condition = sql.toString();
         } else if (isLastSplit) {
             StringBuilder sql = new StringBuilder();
-            addKeyColumnsToCondition(schema, rowType, sql, " >= ?");
+            addKeyColumnsToCondition(schema, rowType, sql, startPredicate);
             condition = sql.toString();
         } else {
             StringBuilder sql = new StringBuilder();
-            addKeyColumnsToCondition(schema, rowType, sql, " >= ?");
+            addKeyColumnsToCondition(schema, rowType, sql, startPredicate);
             sql.append(" AND NOT (");
             addKeyColumnsToCondition(schema, rowType, sql, " = ?");
             sql.append(")");
@@ -505,6 +518,18 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return sql.toString();
     }
 
+    private static SeaTunnelRowType splitKeyRowType(JdbcSourceSplit split) {
+        return new SeaTunnelRowType(
+                new String[] {split.getSplitKeyName()},
+                new SeaTunnelDataType[] {split.getSplitKeyType()});
+    }
+
+    private static Object splitStartOf(JdbcSourceSplit split) {
+        return split.getSplitKeyOffset() != null
+                ? split.getSplitKeyOffset()
+                : split.getSplitStart();
+    }
+
     private void addKeyColumnsToCondition(
             TableSchema schema, SeaTunnelRowType rowType, StringBuilder sql, String predicate) {
         Map<String, Column> columns =
@@ -523,13 +548,13 @@ public class DynamicChunkSplitter extends ChunkSplitter {
 
     private static void prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
-        boolean isFirstSplit = split.getSplitStart() == null;
+        boolean isFirstSplit = splitStartOf(split) == null;
         boolean isLastSplit = split.getSplitEnd() == null;
         if (isFirstSplit && isLastSplit) {
             return;
         }
 
-        Object[] splitStart = new Object[] {split.getSplitStart()};
+        Object[] splitStart = new Object[] {splitStartOf(split)};
         Object[] splitEnd = new Object[] {split.getSplitEnd()};
         int splitKeyNumbers = 1;
         if (isFirstSplit) {
@@ -103,6 +103,15 @@ public class FixedChunkSplitter extends ChunkSplitter {
         return createNumberColumnSplitStatement(split);
     }
 
+    @Override
+    public boolean isResumable(JdbcSourceSplit split) {
+        // number split keys are split by range unless the table has no rows with a non null
+        // split key, string split keys are re-read as their collation may differ from equals
+        return split.getSplitKeyName() != null
+                && isResumableSplitKeyType(split.getSplitKeyType())
+                && (split.getSplitStart() != null || split.getSplitEnd() != null);
+    }
+
     private Collection<JdbcSourceSplit> createStringColumnSplits(
             JdbcSourceTable table, String splitKeyName, SeaTunnelDataType splitKeyType) {
         List<JdbcSourceSplit> splits = new ArrayList<>(table.getPartitionNumber());
@@ -149,8 +158,17 @@ public class FixedChunkSplitter extends ChunkSplitter {
 
     private PreparedStatement createStringColumnSplitStatement(JdbcSourceSplit split)
             throws SQLException {
-        PreparedStatement statement = createPreparedStatement(split.getSplitQuery());
+        String splitKeyName = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        String splitQuery = split.getSplitQuery();
+        if (split.getSplitKeyOffset() != null) {
+            // the split query ends with the hash condition, resume after the last read row
+            splitQuery = String.format("%s AND %s > ?", splitQuery, splitKeyName);
+        }
+        PreparedStatement statement = createPreparedStatement(splitQuery, splitKeyName);
         statement.setInt(1, (Integer) split.getSplitStart());
+        if (split.getSplitKeyOffset() != null) {
+            statement.setObject(2, split.getSplitKeyOffset());
+        }
         return statement;
     }
 
@@ -185,22 +203,30 @@ public class FixedChunkSplitter extends ChunkSplitter {
             throws SQLException {
         String splitQuery;
         String splitKeyName = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        // a resumed split starts after the split key of the last read row
+        Object splitStart = split.getSplitStart();
+        String startPredicate = ">=";
+        if (split.getSplitKeyOffset() != null) {
+            splitStart = split.getSplitKeyOffset();
+            startPredicate = ">";
+        }
         if (StringUtils.isNotBlank(split.getSplitQuery())) {
             splitQuery =
                     String.format(
-                            "SELECT * FROM (%s) st_jdbc_splitter WHERE %s >= ? AND %s <= ?",
-                            split.getSplitQuery(), splitKeyName, splitKeyName);
+                            "SELECT * FROM (%s) st_jdbc_splitter WHERE %s %s ? AND %s <= ?",
+                            split.getSplitQuery(), splitKeyName, startPredicate, splitKeyName);
         } else {
             splitQuery =
                     String.format(
-                            "SELECT * FROM %s WHERE %s >= ? AND %s <= ?",
+                            "SELECT * FROM %s WHERE %s %s ? AND %s <= ?",
                             jdbcDialect.tableIdentifier(split.getTablePath()),
                             splitKeyName,
+                            startPredicate,
                             splitKeyName);
         }
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement = createPreparedStatement(splitQuery, splitKeyName);
 
-        Object[] parameterValues = new Object[] {split.getSplitStart(), split.getSplitEnd()};
+        Object[] parameterValues = new Object[] {splitStart, split.getSplitEnd()};
         for (int i = 0; i < parameterValues.length; i++) {
             Object param = parameterValues[i];
             if (param instanceof String) {
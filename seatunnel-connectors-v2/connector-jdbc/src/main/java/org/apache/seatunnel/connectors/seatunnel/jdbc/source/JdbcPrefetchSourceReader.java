@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderBase;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.MultiThreadFetcherManager;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * A jdbc source reader that opens up to {@link JdbcSourceConfig#getSplitPrefetchNumber()} splits
+ * ahead, each in a fetcher thread with its own connection. The fetchers hand the rows over in
+ * slices through a bounded queue, the task thread only emits them.
+ */
+public class JdbcPrefetchSourceReader
+        extends SourceReaderBase<
+                JdbcSourceSlice, SeaTunnelRow, JdbcSourceSplit, JdbcSourceSplitState> {
+
+    public JdbcPrefetchSourceReader(
+            Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
+        this(new ArrayBlockingQueue<>(config.getSplitPrefetchNumber()), context, config, tables);
+    }
+
+    private JdbcPrefetchSourceReader(
+            BlockingQueue<RecordsWithSplitIds<JdbcSourceSlice>> elementsQueue,
+            Context context,
+            JdbcSourceConfig config,
+            Map<TablePath, CatalogTable> tables) {
+        super(
+                elementsQueue,
+                new MultiThreadFetcherManager<>(
+                        elementsQueue,
+                        () -> new JdbcSourceSplitReader(config, tables),
+                        config.getSplitPrefetchNumber()),
+                new JdbcSourceRecordEmitter(),
+                new SourceReaderOptions(ReadonlyConfig.fromMap(new HashMap<>())),
+                context);
+    }
+
+    @Override
+    public List<JdbcSourceSplit> snapshotState(long checkpointId) {
+        // finished splits keep their state until the rest of their fetch is emitted
+        return super.snapshotState(checkpointId).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void onSplitFinished(Map<String, JdbcSourceSplitState> finishedSplitIds) {}
+
+    @Override
+    protected JdbcSourceSplitState initializedState(JdbcSourceSplit split) {
+        return new JdbcSourceSplitState(split);
+    }
+
+    @Override
+    protected JdbcSourceSplit toSplitType(String splitId, JdbcSourceSplitState splitState) {
+        return splitState.isFinished() ? null : splitState.getSplit();
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+}
@@ -83,6 +83,9 @@ public class JdbcSource
         for (TablePath tablePath : jdbcSourceTables.keySet()) {
             tables.put(tablePath, jdbcSourceTables.get(tablePath).getCatalogTable());
         }
+        if (jdbcSourceConfig.getSplitPrefetchNumber() > 0) {
+            return new JdbcPrefetchSourceReader(readerContext, jdbcSourceConfig, tables);
+        }
         return new JdbcSourceReader(readerContext, jdbcSourceConfig, tables);
     }
 
@@ -36,9 +36,14 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
+    // the rows read at most while holding the checkpoint lock, unless the split key repeats
+    private static final int SLICE_SIZE = 1024;
+
     private final Context context;
     private final JdbcInputFormat inputFormat;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    // the split being read, with the split key of the last emitted row
+    private volatile JdbcSourceSplit currentSplit;
     private volatile boolean noMoreSplit;
 
     public JdbcSourceReader(
@@ -60,31 +65,65 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @Override
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        if (currentSplit == null) {
+            synchronized (output.getCheckpointLock()) {
+                currentSplit = splits.poll();
+            }
+            if (currentSplit == null) {
+                if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                } else {
+                    Thread.sleep(1000L);
+                }
+                return;
+            }
+            // the query may take long, checkpoints keep the split to read it again
+            inputFormat.open(currentSplit);
+        }
+
+        boolean finished;
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
-                    inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
-                    }
-                } finally {
-                    inputFormat.close();
+            if (inputFormat.isResumable()) {
+                // emit a slice and remember where it ended, so that checkpoints can pass
+                // between slices and a recovery does not read the split from the start
+                SeaTunnelRow lastRow = null;
+                int count = 0;
+                while (!inputFormat.reachedEnd()
+                        && (count < SLICE_SIZE || !inputFormat.isSplitKeyBoundary(lastRow))) {
+                    lastRow = inputFormat.nextRecord();
+                    output.collect(lastRow);
+                    count++;
+                }
+                if (!inputFormat.reachedEnd()) {
+                    currentSplit = currentSplit.resumeAfter(inputFormat.getSplitKeyValue(lastRow));
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
             } else {
-                Thread.sleep(1000L);
+                // the split can only be checkpointed as a whole
+                while (!inputFormat.reachedEnd()) {
+                    output.collect(inputFormat.nextRecord());
+                }
+            }
+            finished = inputFormat.reachedEnd();
+            if (finished) {
+                currentSplit = null;
             }
         }
+        if (finished) {
+            inputFormat.close();
+        }
     }
 
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        JdbcSourceSplit split = currentSplit;
+        if (split != null) {
+            state.add(split);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
+
+public class JdbcSourceRecordEmitter
+        implements RecordEmitter<JdbcSourceSlice, SeaTunnelRow, JdbcSourceSplitState> {
+
+    @Override
+    public void emitRecord(
+            JdbcSourceSlice slice,
+            Collector<SeaTunnelRow> collector,
+            JdbcSourceSplitState splitState) {
+        // called under the checkpoint lock, checkpoints see the whole slice or none of it
+        slice.emit(collector);
+        if (slice.isLast()) {
+            splitState.finish();
+        } else {
+            splitState.resumeAfter(slice.getSplitKeyOffset());
+        }
+    }
+}
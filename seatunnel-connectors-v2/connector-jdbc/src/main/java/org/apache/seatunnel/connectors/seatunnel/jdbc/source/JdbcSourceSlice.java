@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rows of a split that a {@link JdbcSourceSplitReader} hands over to the reader at once. A
+ * resumable split is read in slices that end at a split key boundary, any other split hands over
+ * its open cursor, which the reader drains while the fetcher waits.
+ */
+public class JdbcSourceSlice {
+
+    private final List<SeaTunnelRow> rows;
+    // the split key of the last row to resume after, null if the slice ends the split
+    @Getter private final Object splitKeyOffset;
+    private final JdbcInputFormat cursor;
+    private final CountDownLatch drained = new CountDownLatch(1);
+
+    private JdbcSourceSlice(
+            List<SeaTunnelRow> rows, Object splitKeyOffset, JdbcInputFormat cursor) {
+        this.rows = rows;
+        this.splitKeyOffset = splitKeyOffset;
+        this.cursor = cursor;
+    }
+
+    public static JdbcSourceSlice of(List<SeaTunnelRow> rows, Object splitKeyOffset) {
+        return new JdbcSourceSlice(rows, splitKeyOffset, null);
+    }
+
+    public static JdbcSourceSlice handOver(JdbcInputFormat cursor) {
+        return new JdbcSourceSlice(null, null, cursor);
+    }
+
+    public boolean isLast() {
+        return splitKeyOffset == null;
+    }
+
+    public void emit(Collector<SeaTunnelRow> collector) {
+        if (cursor == null) {
+            rows.forEach(collector::collect);
+            return;
+        }
+        try {
+            while (!cursor.reachedEnd()) {
+                collector.collect(cursor.nextRecord());
+            }
+        } finally {
+            drained.countDown();
+        }
+    }
+
+    /** Wait until the reader drained the handed over cursor. */
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        return cursor == null || drained.await(timeout, unit);
+    }
+}
@@ -36,6 +36,40 @@ public class JdbcSourceSplit implements SourceSplit {
     private final SeaTunnelDataType splitKeyType;
     private final Object splitStart;
     private final Object splitEnd;
+    /** The split key of the last read row, or null if no row was read. */
+    private final Object splitKeyOffset;
+
+    public JdbcSourceSplit(
+            TablePath tablePath,
+            String splitId,
+            String splitQuery,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            Object splitStart,
+            Object splitEnd) {
+        this(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null);
+    }
+
+    /** The split to read the rows after the row with the given split key. */
+    public JdbcSourceSplit resumeAfter(Object splitKeyValue) {
+        return new JdbcSourceSplit(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                splitKeyValue);
+    }
 
     @Override
     public String splitId() {
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsBySplits;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the splits assigned to one fetcher of a {@link JdbcPrefetchSourceReader} on its own
+ * connection, so that the next splits are queried while the reader emits the current one.
+ */
+@Slf4j
+public class JdbcSourceSplitReader implements SplitReader<JdbcSourceSlice, JdbcSourceSplit> {
+    // the rows read at most per slice, unless the split key repeats
+    private static final int SLICE_SIZE = 1024;
+    private static final long DRAIN_CHECK_INTERVAL_MS = 100L;
+
+    private final JdbcInputFormat inputFormat;
+    private final Deque<JdbcSourceSplit> splits = new ArrayDeque<>();
+    private JdbcSourceSplit currentSplit;
+    // the input format is not used until the reader drained the handed over cursor, and the
+    // split is finished after that
+    private JdbcSourceSlice handedOverSlice;
+    private volatile boolean wakeup;
+
+    public JdbcSourceSplitReader(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
+        this.inputFormat = new JdbcInputFormat(config, tables);
+        inputFormat.openInputFormat();
+    }
+
+    @Override
+    public RecordsWithSplitIds<JdbcSourceSlice> fetch() throws IOException {
+        if (handedOverSlice != null) {
+            if (!awaitDrained(handedOverSlice)) {
+                return emptyFetch();
+            }
+            // the split is only finished now, a fetcher without splits may be shut down
+            handedOverSlice = null;
+            inputFormat.close();
+            String splitId = currentSplit.splitId();
+            currentSplit = null;
+            return new RecordsBySplits<>(Collections.emptyMap(), Collections.singleton(splitId));
+        }
+        if (currentSplit == null) {
+            currentSplit = splits.poll();
+            if (currentSplit == null) {
+                return emptyFetch();
+            }
+            inputFormat.open(currentSplit);
+        }
+
+        String splitId = currentSplit.splitId();
+        JdbcSourceSlice slice;
+        boolean finished;
+        if (inputFormat.isResumable()) {
+            List<SeaTunnelRow> rows = new ArrayList<>();
+            SeaTunnelRow lastRow = null;
+            while (!inputFormat.reachedEnd()
+                    && (rows.size() < SLICE_SIZE || !inputFormat.isSplitKeyBoundary(lastRow))) {
+                lastRow = inputFormat.nextRecord();
+                rows.add(lastRow);
+            }
+            finished = inputFormat.reachedEnd();
+            slice =
+                    JdbcSourceSlice.of(
+                            rows, finished ? null : inputFormat.getSplitKeyValue(lastRow));
+            if (finished) {
+                inputFormat.close();
+            }
+        } else {
+            // the split can only be checkpointed as a whole, so the reader emits it at once
+            slice = JdbcSourceSlice.handOver(inputFormat);
+            handedOverSlice = slice;
+            finished = false;
+        }
+        if (finished) {
+            currentSplit = null;
+        }
+
+        Map<String, Collection<JdbcSourceSlice>> slices = new HashMap<>();
+        slices.put(splitId, Collections.singletonList(slice));
+        return new RecordsBySplits<>(
+                slices, finished ? Collections.singleton(splitId) : Collections.emptySet());
+    }
+
+    private boolean awaitDrained(JdbcSourceSlice slice) {
+        try {
+            while (!slice.awaitDrained(DRAIN_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (wakeup) {
+                    wakeup = false;
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RecordsWithSplitIds<JdbcSourceSlice> emptyFetch() {
+        return new RecordsBySplits<>(Collections.emptyMap(), Collections.emptySet());
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<JdbcSourceSplit> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+        splits.addAll(splitsChanges.splits());
+    }
+
+    @Override
+    public void wakeUp() {
+        wakeup = true;
+    }
+
+    @Override
+    public void close() throws Exception {
+        inputFormat.closeInputFormat();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psqllow.PostgresLowDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlite.SqliteDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+public class JdbcOutputFormatTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testFlushBuffers() throws Exception {
+        String url = createTable();
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> flushThreads = ConcurrentHashMap.newKeySet();
+        JdbcOutputFormat<Long, InsertExecutor> outputFormat =
+                new JdbcOutputFormat<>(
+                        new SimpleJdbcConnectionProvider(createConfig(url, 2)),
+                        createConfig(url, 2),
+                        () ->
+                                new InsertExecutor() {
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        flushThreads.add(Thread.currentThread().getName());
+                                        executing.countDown();
+                                        try {
+                                            release.await();
+                                        } catch (InterruptedException e) {
+                                            throw new SQLException(e);
+                                        }
+                                        super.executeBatch();
+                                    }
+                                });
+        outputFormat.open();
+
+        // the first batch is in flight while the writer fills the second buffer
+        for (long i = 0; i < 19; i++) {
+            outputFormat.writeRecord(i);
+        }
+        executing.await();
+        Assertions.assertEquals(0, count(url));
+
+        release.countDown();
+        outputFormat.flush();
+        Assertions.assertEquals(19, count(url));
+        Assertions.assertEquals(1, flushThreads.size());
+        Assertions.assertTrue(flushThreads.iterator().next().startsWith("jdbc-flusher-"));
+
+        outputFormat.writeRecord(19L);
+        outputFormat.close();
+        Assertions.assertEquals(20, count(url));
+    }
+
+    @Test
+    public void testFlushBuffersFailure() throws Exception {
+        String url = createTable();
+        JdbcOutputFormat<Long, InsertExecutor> outputFormat =
+                new JdbcOutputFormat<>(
+                        new SimpleJdbcConnectionProvider(createConfig(url, 3)),
+                        createConfig(url, 3),
+                        InsertExecutor::new);
+        outputFormat.open();
+        for (long i = 0; i < 10; i++) {
+            outputFormat.writeRecord(i);
+        }
+        // the duplicated key fails the second batch, which is only reported by the flush
+        for (long i = 9; i < 19; i++) {
+            outputFormat.writeRecord(i);
+        }
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertThrows(JdbcConnectorException.class, () -> outputFormat.writeRecord(20L));
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+        Assertions.assertEquals(10, count(url));
+    }
+
+    @Test
+    public void testFlushBuffersFailureAfterCheck() throws Exception {
+        String url = createTable();
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder()
+                        .url(url)
+                        .driverName("org.sqlite.JDBC")
+                        .autoCommit(true)
+                        .batchSize(10)
+                        .flushBuffers(2)
+                        .maxRetries(0)
+                        .build();
+        JdbcOutputFormat<Long, InsertExecutor> outputFormat =
+                new JdbcOutputFormat<>(
+                        new SimpleJdbcConnectionProvider(config),
+                        config,
+                        () ->
+                                new InsertExecutor() {
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        executing.countDown();
+                                        try {
+                                            release.await();
+                                        } catch (InterruptedException e) {
+                                            throw new SQLException(e);
+                                        }
+                                        throw new SQLException("failed buffer");
+                                    }
+                                });
+        outputFormat.open();
+        for (long i = 0; i < 10; i++) {
+            outputFormat.writeRecord(i);
+        }
+        executing.await();
+        // the writer checks before the commit while the buffer is still in flight
+        outputFormat.checkFlushException();
+        outputFormat.writeRecord(10L);
+        release.countDown();
+
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        // the failure is reported by every later flush instead of skipping it
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+        Assertions.assertEquals(0, count(url));
+    }
+
+    @Test
+    public void testStagedUpsert() throws Exception {
+        String url = createTable();
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE t ADD COLUMN name TEXT");
+            statement.execute("INSERT INTO t VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .dataType(BasicType.LONG_TYPE)
+                                                .build(),
+                                        PhysicalColumn.builder()
+                                                .name("name")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .build()))
+                        .build();
+        JdbcSinkConfig sinkConfig =
+                JdbcSinkConfig.builder()
+                        .jdbcConnectionConfig(createConfig(url, 1))
+                        .database("main")
+                        .table("t")
+                        .primaryKeys(Collections.singletonList("id"))
+                        .enableUpsert(true)
+                        .useStagedUpsert(true)
+                        .build();
+        JdbcOutputFormat<SeaTunnelRow, ?> outputFormat =
+                new JdbcOutputFormatBuilder(
+                                new SqliteDialect(),
+                                new SimpleJdbcConnectionProvider(
+                                        sinkConfig.getJdbcConnectionConfig()),
+                                sinkConfig,
+                                tableSchema)
+                        .build();
+        outputFormat.open();
+        outputFormat.writeRecord(row(RowKind.UPDATE_AFTER, 1L, "x"));
+        outputFormat.writeRecord(row(RowKind.DELETE, 2L, "b"));
+        outputFormat.writeRecord(row(RowKind.INSERT, 4L, "d"));
+        outputFormat.writeRecord(row(RowKind.UPDATE_AFTER, 4L, "y"));
+        outputFormat.flush();
+        // the staging table is emptied after each batch
+        outputFormat.writeRecord(row(RowKind.INSERT, 5L, "e"));
+        outputFormat.close();
+
+        Map<Long, String> rows = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT id, name FROM t")) {
+            while (resultSet.next()) {
+                rows.put(resultSet.getLong(1), resultSet.getString(2));
+            }
+        }
+        Map<Long, String> expected = new HashMap<>();
+        expected.put(1L, "x");
+        expected.put(3L, "c");
+        expected.put(4L, "y");
+        expected.put(5L, "e");
+        Assertions.assertEquals(expected, rows);
+
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () ->
+                        new JdbcOutputFormatBuilder(
+                                        new PostgresLowDialect(FieldIdeEnum.ORIGINAL.getValue()),
+                                        new SimpleJdbcConnectionProvider(
+                                                sinkConfig.getJdbcConnectionConfig()),
+                                        sinkConfig,
+                                        tableSchema)
+                                .build());
+    }
+
+    @Test
+    public void testStagedUpsertAfterAddColumn() throws Exception {
+        String url = createTable();
+        PhysicalColumn id =
+                PhysicalColumn.builder().name("id").dataType(BasicType.LONG_TYPE).build();
+        PhysicalColumn name =
+                PhysicalColumn.builder().name("name").dataType(BasicType.STRING_TYPE).build();
+        JdbcSinkConfig sinkConfig =
+                JdbcSinkConfig.builder()
+                        .jdbcConnectionConfig(createConfig(url, 1))
+                        .database("main")
+                        .table("t")
+                        .primaryKeys(Collections.singletonList("id"))
+                        .enableUpsert(true)
+                        .useStagedUpsert(true)
+                        .build();
+        SimpleJdbcConnectionProvider connectionProvider =
+                new SimpleJdbcConnectionProvider(sinkConfig.getJdbcConnectionConfig());
+        JdbcOutputFormat<SeaTunnelRow, ?> outputFormat =
+                new JdbcOutputFormatBuilder(
+                                new SqliteDialect(),
+                                connectionProvider,
+                                sinkConfig,
+                                TableSchema.builder()
+                                        .columns(Collections.singletonList(id))
+                                        .build())
+                        .build();
+        outputFormat.open();
+        outputFormat.writeRecord(row(RowKind.INSERT, 1L));
+        outputFormat.flush();
+
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE t ADD COLUMN name TEXT");
+        }
+        // the sink writer rebuilds the format on the same connection after a schema change
+        outputFormat =
+                new JdbcOutputFormatBuilder(
+                                new SqliteDialect(),
+                                connectionProvider,
+                                sinkConfig,
+                                TableSchema.builder().columns(Arrays.asList(id, name)).build())
+                        .build();
+        outputFormat.open();
+        outputFormat.writeRecord(row(RowKind.UPDATE_AFTER, 1L, "a"));
+        outputFormat.writeRecord(row(RowKind.INSERT, 2L, "b"));
+        outputFormat.close();
+
+        Map<Long, String> rows = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT id, name FROM t")) {
+            while (resultSet.next()) {
+                rows.put(resultSet.getLong(1), resultSet.getString(2));
+            }
+        }
+        Map<Long, String> expected = new HashMap<>();
+        expected.put(1L, "a");
+        expected.put(2L, "b");
+        Assertions.assertEquals(expected, rows);
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, Object... fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private String createTable() throws SQLException {
+        String url = "jdbc:sqlite:" + tempDir.resolve("test.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY)");
+        }
+        return url;
+    }
+
+    private static JdbcConnectionConfig createConfig(String url, int flushBuffers) {
+        return JdbcConnectionConfig.builder()
+                .url(url)
+                .driverName("org.sqlite.JDBC")
+                .autoCommit(true)
+                .batchSize(10)
+                .flushBuffers(flushBuffers)
+                .build();
+    }
+
+    private static int count(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM t")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static class InsertExecutor implements JdbcBatchStatementExecutor<Long> {
+        private PreparedStatement statement;
+
+        @Override
+        public void prepareStatements(Connection connection) throws SQLException {
+            statement = connection.prepareStatement("INSERT INTO t VALUES (?)");
+        }
+
+        @Override
+        public void addToBatch(Long record) throws SQLException {
+            statement.setLong(1, record);
+            statement.addBatch();
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            statement.executeBatch();
+            statement.clearBatch();
+        }
+
+        @Override
+        public void closeStatements() throws SQLException {
+            statement.close();
+        }
+    }
+}
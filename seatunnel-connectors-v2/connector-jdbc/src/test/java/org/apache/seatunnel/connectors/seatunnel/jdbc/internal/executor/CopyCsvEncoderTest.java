@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+public class CopyCsvEncoderTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "id", "name", "flag", "price", "amount", "dt", "tm", "ts", "data"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        PrimitiveByteArrayType.INSTANCE
+                    });
+
+    @Test
+    public void testEncode() throws Exception {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            -1234567890123L,
+                            "a \"quoted\", text\nwith ünïcode 中文 😀",
+                            true,
+                            1.5d,
+                            new BigDecimal("12.30"),
+                            LocalDate.of(2024, 2, 9),
+                            LocalTime.of(8, 5, 3, 120_000_000),
+                            LocalDateTime.of(999, 12, 31, 23, 59, 59),
+                            new byte[] {0, 10, (byte) 0xff}
+                        });
+        String expected =
+                "-1234567890123,\"a \"\"quoted\"\", text\nwith ünïcode 中文 😀\",t,1.5,12.30,"
+                        + "2024-02-09,08:05:03.120000,0999-12-31 23:59:59,\\x000aff\n";
+        Assertions.assertEquals(expected, encode(64, row));
+
+        // a small buffer is flushed in chunks, never in the middle of a character
+        Assertions.assertEquals(expected, encode(16, row));
+    }
+
+    @Test
+    public void testEncodeNulls() throws Exception {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[9]);
+        row.setField(1, "");
+        row.setField(0, 0L);
+        // only an unquoted empty value is null, an empty string is quoted
+        Assertions.assertEquals("0,\"\",,,,,,,\n", encode(64, row));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"map"},
+                        new SeaTunnelDataType[] {
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                        });
+        Assertions.assertThrows(
+                JdbcConnectorException.class, () -> new CopyCsvEncoder(rowType, 64));
+    }
+
+    private static String encode(int bufferSize, SeaTunnelRow... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CopyCsvEncoder encoder = new CopyCsvEncoder(ROW_TYPE, bufferSize);
+        encoder.setSink(
+                (buffer, length) -> {
+                    Assertions.assertTrue(length <= bufferSize);
+                    // each chunk must be valid UTF-8 on its own
+                    String chunk = new String(buffer, 0, length, StandardCharsets.UTF_8);
+                    Assertions.assertArrayEquals(
+                            chunk.getBytes(StandardCharsets.UTF_8), Arrays.copyOf(buffer, length));
+                    out.write(buffer, 0, length);
+                });
+        for (SeaTunnelRow row : rows) {
+            encoder.encode(row);
+        }
+        encoder.flush();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -110,6 +110,25 @@ public class DynamicChunkSplitterTest {
         Assertions.assertEquals(
                 "SELECT * FROM (select * from table1) tmp WHERE \"id\"::text >= ? AND NOT (\"id\"::text = ?) AND \"id\"::text <= ?",
                 splitQuerySQL);
+
+        // a resumed split starts after the last read split key
+        splitQuerySQL = splitter.createDynamicSplitQuerySQL(split.resumeAfter(5), tableSchema);
+        Assertions.assertEquals(
+                "SELECT * FROM (select * from table1) tmp WHERE \"id\"::text > ? AND NOT (\"id\"::text = ?) AND \"id\"::text <= ?",
+                splitQuerySQL);
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        "select * from table1",
+                        "id",
+                        BasicType.INT_TYPE,
+                        null,
+                        10);
+        splitQuerySQL = splitter.createDynamicSplitQuerySQL(split.resumeAfter(5), tableSchema);
+        Assertions.assertEquals(
+                "SELECT * FROM (select * from table1) tmp WHERE \"id\"::text > ? AND NOT (\"id\"::text = ?) AND \"id\"::text <= ?",
+                splitQuerySQL);
     }
 
     @Test
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JdbcSourceReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("main", "t");
+    private static final int ROWS = 3000;
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testResumeSplitAfterCheckpoint() throws Exception {
+        JdbcSourceConfig config = createTable(0);
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TABLE_PATH,
+                        "t-0",
+                        "SELECT * FROM t",
+                        "id",
+                        BasicType.LONG_TYPE,
+                        1L,
+                        (long) ROWS);
+
+        // the first poll emits one slice and the checkpoint keeps the rest of the split
+        TestCollector collector = new TestCollector();
+        SourceReader<SeaTunnelRow, JdbcSourceSplit> reader =
+                createReader(config, new TestContext());
+        reader.addSplits(Collections.singletonList(split));
+        reader.pollNext(collector);
+        List<JdbcSourceSplit> state = reader.snapshotState(1);
+        reader.close();
+        int emitted = collector.rows.size();
+        Assertions.assertTrue(emitted > 0 && emitted < ROWS);
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals((long) emitted, state.get(0).getSplitKeyOffset());
+
+        // a restored reader continues after the last emitted row
+        TestContext context = new TestContext();
+        reader = createReader(config, context);
+        reader.addSplits(state);
+        reader.handleNoMoreSplits();
+        while (!context.noMoreElement) {
+            reader.pollNext(collector);
+        }
+        Assertions.assertTrue(reader.snapshotState(2).isEmpty());
+        reader.close();
+        List<Long> ids = new ArrayList<>();
+        for (SeaTunnelRow row : collector.rows) {
+            ids.add((Long) row.getField(0));
+        }
+        for (int i = 0; i < ROWS; i++) {
+            Assertions.assertEquals(i + 1L, ids.get(i));
+        }
+        Assertions.assertEquals(ROWS, ids.size());
+    }
+
+    @Test
+    public void testPrefetchSplits() throws Exception {
+        JdbcSourceConfig config = createTable(2);
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            splits.add(
+                    new JdbcSourceSplit(
+                            TABLE_PATH,
+                            "t-" + i,
+                            "SELECT * FROM t",
+                            "id",
+                            BasicType.LONG_TYPE,
+                            i * 750L + 1,
+                            (i + 1) * 750L));
+        }
+        // a split without bounds is not resumable and handed over as a whole
+        splits.add(
+                new JdbcSourceSplit(
+                        TABLE_PATH,
+                        "t-3",
+                        "SELECT * FROM t WHERE id > 2250",
+                        "id",
+                        BasicType.LONG_TYPE,
+                        null,
+                        null));
+
+        TestCollector collector = new TestCollector();
+        SourceReader<SeaTunnelRow, JdbcSourceSplit> reader =
+                createReader(config, new TestContext());
+        Assertions.assertTrue(reader instanceof JdbcPrefetchSourceReader);
+        reader.addSplits(splits);
+        while (collector.rows.size() < ROWS / 2) {
+            reader.pollNext(collector);
+        }
+        List<JdbcSourceSplit> state = reader.snapshotState(1);
+        reader.close();
+        Assertions.assertFalse(state.isEmpty());
+
+        TestContext context = new TestContext();
+        reader = createReader(config, context);
+        reader.addSplits(state);
+        reader.handleNoMoreSplits();
+        while (!context.noMoreElement) {
+            reader.pollNext(collector);
+        }
+        Assertions.assertTrue(reader.snapshotState(2).isEmpty());
+        reader.close();
+        List<Long> ids = new ArrayList<>();
+        for (SeaTunnelRow row : collector.rows) {
+            ids.add((Long) row.getField(0));
+        }
+        Collections.sort(ids);
+        for (int i = 0; i < ROWS; i++) {
+            Assertions.assertEquals(i + 1L, ids.get(i));
+        }
+        Assertions.assertEquals(ROWS, ids.size());
+    }
+
+    private JdbcSourceConfig createTable(int splitPrefetchNumber) throws Exception {
+        String url = "jdbc:sqlite:" + tempDir.resolve("test.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY, name TEXT)");
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert =
+                    connection.prepareStatement("INSERT INTO t VALUES (?, ?)")) {
+                // inserted in reverse order, the split must be read ordered by its key
+                for (int i = ROWS; i >= 1; i--) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "name" + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+        return JdbcSourceConfig.builder()
+                .jdbcConnectionConfig(
+                        JdbcConnectionConfig.builder()
+                                .url(url)
+                                .driverName("org.sqlite.JDBC")
+                                .autoCommit(true)
+                                .build())
+                .splitPrefetchNumber(splitPrefetchNumber)
+                .build();
+    }
+
+    private static SourceReader<SeaTunnelRow, JdbcSourceSplit> createReader(
+            JdbcSourceConfig config, TestContext context) throws Exception {
+        TableSchema schema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("INTEGER")
+                                                .dataType(BasicType.LONG_TYPE)
+                                                .build(),
+                                        PhysicalColumn.builder()
+                                                .name("name")
+                                                .sourceType("TEXT")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .build()))
+                        .build();
+        CatalogTable table =
+                CatalogTable.of(
+                        TableIdentifier.of("sqlite", TABLE_PATH),
+                        schema,
+                        new HashMap<>(),
+                        new ArrayList<>(),
+                        null);
+        Map<TablePath, CatalogTable> tables = new HashMap<>();
+        tables.put(TABLE_PATH, table);
+        SourceReader<SeaTunnelRow, JdbcSourceSplit> reader =
+                config.getSplitPrefetchNumber() > 0
+                        ? new JdbcPrefetchSourceReader(context, config, tables)
+                        : new JdbcSourceReader(context, config, tables);
+        reader.open();
+        return reader;
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+        private final Object lock = new Object();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return lock;
+        }
+    }
+
+    private static class TestContext implements SourceReader.Context {
+        private boolean noMoreElement;
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes the commands of a batch of keys with one pipeline per cluster node. The keys are grouped
+ * by the node that owns their hash slot and up to {@code parallelism} nodes are served at the same
+ * time. Keys redirected with MOVED are sent again after the slot cache is renewed, keys redirected
+ * with ASK are sent to the importing node with ASKING in front of every command. The keys of a node
+ * whose connection failed are only sent again if their commands are idempotent, because the node
+ * may have executed a part of the pipeline.
+ */
+@Slf4j
+class ClusterPipelineExecutor implements Closeable {
+
+    private static final CommandObject<String> ASKING =
+            new CommandObject<>(
+                    new CommandArguments(Protocol.Command.ASKING), BuilderFactory.STRING);
+
+    private final ClusterConnectionProvider provider;
+    private final int maxAttempts;
+    private final ExecutorService executor;
+
+    ClusterPipelineExecutor(ClusterConnectionProvider provider, int parallelism, int maxAttempts) {
+        this.provider = provider;
+        this.maxAttempts = maxAttempts;
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("redis-cluster-pipeline-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /**
+     * @param commands the commands of every key, all of them must address the key
+     * @param idempotent whether the commands can be executed twice, like reads or SET, which allows
+     *     to send them again after a connection failure
+     * @return the reply of the first command of every key
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> execute(
+            List<String> keys, List<List<CommandObject<?>>> commands, boolean idempotent) {
+        Object[] replies = new Object[keys.size()];
+        List<Integer> indexes = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            indexes.add(i);
+        }
+        Map<HostAndPort, List<Integer>> batches = groupByNode(keys, indexes);
+        Map<HostAndPort, List<Integer>> askingBatches = new HashMap<>();
+        for (int attempt = 1; ; attempt++) {
+            Redirects redirects = new Redirects();
+            List<NodeBatch> nodeBatches = new ArrayList<>();
+            batches.forEach((node, batch) -> nodeBatches.add(new NodeBatch(node, batch, false)));
+            askingBatches.forEach(
+                    (node, batch) -> nodeBatches.add(new NodeBatch(node, batch, true)));
+            executeBatches(nodeBatches, commands, idempotent, replies, redirects);
+            if (redirects.moved.isEmpty() && redirects.asked.isEmpty()) {
+                return (List<T>) Arrays.asList(replies);
+            }
+            if (attempt >= maxAttempts) {
+                throw new RedisConnectorException(
+                        RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED,
+                        String.format(
+                                "%d keys are still redirected after %d attempts",
+                                redirects.moved.size() + redirects.asked.size(), attempt));
+            }
+            if (!redirects.moved.isEmpty()) {
+                provider.renewSlotCache();
+            }
+            batches = groupByNode(keys, redirects.moved);
+            askingBatches = redirects.asked;
+        }
+    }
+
+    private void executeBatches(
+            List<NodeBatch> nodeBatches,
+            List<List<CommandObject<?>>> commands,
+            boolean idempotent,
+            Object[] replies,
+            Redirects redirects) {
+        if (nodeBatches.size() == 1) {
+            // a single node does not need to wait for a thread
+            redirects.add(executeOnNode(nodeBatches.get(0), commands, idempotent, replies));
+            return;
+        }
+        List<Future<Redirects>> futures = new ArrayList<>(nodeBatches.size());
+        for (NodeBatch nodeBatch : nodeBatches) {
+            futures.add(
+                    executor.submit(() -> executeOnNode(nodeBatch, commands, idempotent, replies)));
+        }
+        try {
+            for (Future<Redirects> future : futures) {
+                redirects.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RedisConnectorException(
+                    RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED,
+                    "Interrupted while waiting for the pipelines",
+                    e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RedisConnectorException(
+                    RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED,
+                    RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED.getErrorMessage(),
+                    e.getCause());
+        }
+    }
+
+    private Redirects executeOnNode(
+            NodeBatch nodeBatch,
+            List<List<CommandObject<?>>> commands,
+            boolean idempotent,
+            Object[] replies) {
+        Redirects redirects = new Redirects();
+        List<List<Response<?>>> responses = new ArrayList<>(nodeBatch.indexes.size());
+        try (Connection connection = provider.getConnection(nodeBatch.node);
+                Pipeline pipeline = new Pipeline(connection)) {
+            for (int index : nodeBatch.indexes) {
+                List<Response<?>> keyResponses = new ArrayList<>();
+                for (CommandObject<?> command : commands.get(index)) {
+                    // ASKING only allows the next command on the importing node
+                    if (nodeBatch.asking) {
+                        pipeline.appendCommand(ASKING);
+                    }
+                    keyResponses.add(pipeline.appendCommand(command));
+                }
+                responses.add(keyResponses);
+            }
+            pipeline.sync();
+        } catch (JedisConnectionException e) {
+            // the node may have failed over after it executed a part of the pipeline, only
+            // idempotent commands are sent again with renewed slots
+            if (!idempotent) {
+                throw commandFailed(nodeBatch.node, e);
+            }
+            log.warn("Failed to execute the pipeline on {}", nodeBatch.node, e);
+            redirects.moved.addAll(nodeBatch.indexes);
+            return redirects;
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            int index = nodeBatch.indexes.get(i);
+            List<Response<?>> keyResponses = responses.get(i);
+            try {
+                replies[index] = keyResponses.get(0).get();
+            } catch (JedisMovedDataException e) {
+                redirects.moved.add(index);
+                continue;
+            } catch (JedisAskDataException e) {
+                redirects
+                        .asked
+                        .computeIfAbsent(e.getTargetNode(), k -> new ArrayList<>())
+                        .add(index);
+                continue;
+            } catch (JedisDataException e) {
+                throw commandFailed(nodeBatch.node, e);
+            }
+            // a node does not execute a command it redirects with MOVED or ASK, so sending the key
+            // again after a redirect of its first command never repeats a write. A failure of a
+            // later command of the key can not be retried.
+            for (int j = 1; j < keyResponses.size(); j++) {
+                try {
+                    keyResponses.get(j).get();
+                } catch (JedisDataException e) {
+                    throw commandFailed(nodeBatch.node, e);
+                }
+            }
+        }
+        return redirects;
+    }
+
+    private Map<HostAndPort, List<Integer>> groupByNode(List<String> keys, List<Integer> indexes) {
+        Map<HostAndPort, List<Integer>> batches = new LinkedHashMap<>();
+        for (int index : indexes) {
+            HostAndPort node = getNode(JedisClusterCRC16.getSlot(keys.get(index)));
+            batches.computeIfAbsent(node, k -> new ArrayList<>()).add(index);
+        }
+        return batches;
+    }
+
+    /** @return the master node that owns the hash slot */
+    HostAndPort getNode(int slot) {
+        HostAndPort node = provider.getNode(slot);
+        if (node == null) {
+            provider.renewSlotCache();
+            node = provider.getNode(slot);
+        }
+        if (node == null) {
+            throw new RedisConnectorException(
+                    RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED,
+                    "No redis node serves the slot " + slot);
+        }
+        return node;
+    }
+
+    private static RedisConnectorException commandFailed(HostAndPort node, Exception e) {
+        return new RedisConnectorException(
+                RedisErrorCode.EXECUTE_CLUSTER_PIPELINE_FAILED,
+                "Failed to execute the pipeline on " + node,
+                e);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        provider.close();
+    }
+
+    private static class NodeBatch {
+        private final HostAndPort node;
+        private final List<Integer> indexes;
+        private final boolean asking;
+
+        private NodeBatch(HostAndPort node, List<Integer> indexes, boolean asking) {
+            this.node = node;
+            this.indexes = indexes;
+            this.asking = asking;
+        }
+    }
+
+    private static class Redirects {
+        private final List<Integer> moved = new ArrayList<>();
+        private final Map<HostAndPort, List<Integer>> asked = new HashMap<>();
+
+        private void add(Redirects other) {
+            moved.addAll(other.moved);
+            other.asked.forEach(
+                    (node, indexes) ->
+                            asked.computeIfAbsent(node, k -> new ArrayList<>()).addAll(indexes));
+        }
+    }
+}
@@ -50,30 +50,40 @@ public abstract class RedisClient extends Jedis {
 
     public ScanResult<String> scanKeys(
             String cursor, int batchSize, String keysPattern, RedisDataType type) {
+        return scanKeys(jedis, cursor, batchSize, keysPattern, type);
+    }
+
+    /** Scan the keys of the given node, which must be a node of the cluster in cluster mode. */
+    public ScanResult<String> scanKeys(
+            Jedis node, String cursor, int batchSize, String keysPattern, RedisDataType type) {
         ScanParams scanParams = new ScanParams();
         scanParams.match(keysPattern);
         scanParams.count(batchSize);
-        return scanByRedisVersion(cursor, scanParams, type, redisVersion);
+        return scanByRedisVersion(node, cursor, scanParams, type, redisVersion);
     }
 
     private ScanResult<String> scanByRedisVersion(
-            String cursor, ScanParams scanParams, RedisDataType type, Integer redisVersion) {
+            Jedis node,
+            String cursor,
+            ScanParams scanParams,
+            RedisDataType type,
+            Integer redisVersion) {
         if (redisVersion <= REDIS_5) {
-            return scanOnRedis5(cursor, scanParams, type);
+            return scanOnRedis5(node, cursor, scanParams, type);
         } else {
-            return jedis.scan(cursor, scanParams, type.name());
+            return node.scan(cursor, scanParams, type.name());
         }
     }
 
     // When the version is earlier than redis5, scan command does not support type
     private ScanResult<String> scanOnRedis5(
-            String cursor, ScanParams scanParams, RedisDataType type) {
-        ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+            Jedis node, String cursor, ScanParams scanParams, RedisDataType type) {
+        ScanResult<String> scanResult = node.scan(cursor, scanParams);
         String resultCursor = scanResult.getCursor();
         List<String> keys = scanResult.getResult();
         List<String> typeKeys = new ArrayList<>(keys.size());
         for (String key : keys) {
-            String keyType = jedis.type(key);
+            String keyType = node.type(key);
             if (type.name().equalsIgnoreCase(keyType)) {
                 typeKeys.add(key);
             }
@@ -17,122 +17,154 @@
 
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
-import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
+import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
+// In cluster mode, the keys are pipelined per node that owns their hash slot
 public class RedisClusterClient extends RedisClient {
-    public RedisClusterClient(RedisParameters redisParameters, Jedis jedis, int redisVersion) {
+
+    private final CommandObjects commandObjects = new CommandObjects();
+
+    private final ClusterPipelineExecutor pipelineExecutor;
+
+    public RedisClusterClient(
+            RedisParameters redisParameters,
+            Jedis jedis,
+            int redisVersion,
+            ClusterConnectionProvider connectionProvider) {
         super(redisParameters, jedis, redisVersion);
+        this.pipelineExecutor =
+                new ClusterPipelineExecutor(
+                        connectionProvider,
+                        redisParameters.getClusterPipelineParallelism(),
+                        JedisCluster.DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /** @return the master node that owns the hash slot as host:port */
+    public String getMasterNode(int slot) {
+        return pipelineExecutor.getNode(slot).toString();
     }
 
     @Override
     public List<String> batchGetString(List<String> keys) {
-        if (CollectionUtils.isEmpty(keys)) {
-            return new ArrayList<>();
-        }
-        List<String> result = new ArrayList<>(keys.size());
-        for (String key : keys) {
-            result.add(jedis.get(key));
-        }
-        return result;
+        return batchGet(keys, commandObjects::get);
     }
 
     @Override
     public List<List<String>> batchGetList(List<String> keys) {
-        if (CollectionUtils.isEmpty(keys)) {
-            return new ArrayList<>();
-        }
-        List<List<String>> result = new ArrayList<>(keys.size());
-        for (String key : keys) {
-            result.add(jedis.lrange(key, 0, -1));
-        }
-        return result;
+        return batchGet(keys, key -> commandObjects.lrange(key, 0, -1));
     }
 
     @Override
     public List<Set<String>> batchGetSet(List<String> keys) {
-        if (CollectionUtils.isEmpty(keys)) {
-            return new ArrayList<>();
-        }
-        List<Set<String>> result = new ArrayList<>(keys.size());
-        for (String key : keys) {
-            result.add(jedis.smembers(key));
-        }
-        return result;
+        return batchGet(keys, commandObjects::smembers);
     }
 
     @Override
     public List<Map<String, String>> batchGetHash(List<String> keys) {
-        if (CollectionUtils.isEmpty(keys)) {
-            return new ArrayList<>();
-        }
-        List<Map<String, String>> result = new ArrayList<>(keys.size());
-        for (String key : keys) {
-            Map<String, String> map = jedis.hgetAll(key);
-            map.put("hash_key", key);
-            result.add(map);
+        List<Map<String, String>> result = batchGet(keys, commandObjects::hgetAll);
+        for (int i = 0; i < result.size(); i++) {
+            Map<String, String> map = result.get(i);
+            if (map != null) {
+                map.put("hash_key", keys.get(i));
+            }
         }
         return result;
     }
 
     @Override
     public List<List<String>> batchGetZset(List<String> keys) {
-        if (CollectionUtils.isEmpty(keys)) {
-            return new ArrayList<>();
-        }
-        List<List<String>> result = new ArrayList<>(keys.size());
-        for (String key : keys) {
-            result.add(jedis.zrange(key, 0, -1));
-        }
-        return result;
+        return batchGet(keys, key -> commandObjects.zrange(key, 0, -1));
     }
 
     @Override
     public void batchWriteString(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.STRING.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(keys, values, expireSeconds, true, commandObjects::set);
     }
 
     @Override
     public void batchWriteList(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.LIST.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        // a repeated LPUSH adds the value twice
+        batchWrite(keys, values, expireSeconds, false, commandObjects::lpush);
     }
 
     @Override
     public void batchWriteSet(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.SET.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(keys, values, expireSeconds, true, commandObjects::sadd);
     }
 
     @Override
     public void batchWriteHash(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.HASH.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        batchWrite(
+                keys,
+                values,
+                expireSeconds,
+                true,
+                (key, value) -> commandObjects.hset(key, JsonUtils.toMap(value)));
     }
 
     @Override
     public void batchWriteZset(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.ZSET.set(this, keys.get(i), values.get(i), expireSeconds);
+        batchWrite(
+                keys,
+                values,
+                expireSeconds,
+                true,
+                (key, value) -> commandObjects.zadd(key, 1, value));
+    }
+
+    private <T> List<T> batchGet(List<String> keys, Function<String, CommandObject<T>> read) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return new ArrayList<>();
+        }
+        List<List<CommandObject<?>>> commands = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            commands.add(Collections.singletonList(read.apply(key)));
+        }
+        return pipelineExecutor.execute(keys, commands, true);
+    }
+
+    private void batchWrite(
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            boolean idempotent,
+            BiFunction<String, String, CommandObject<?>> write) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return;
+        }
+        List<List<CommandObject<?>>> commands = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            CommandObject<?> command = write.apply(key, values.get(i));
+            commands.add(
+                    expireSeconds > 0
+                            ? Arrays.asList(command, commandObjects.expire(key, expireSeconds))
+                            : Collections.singletonList(command));
         }
+        pipelineExecutor.execute(keys, commands, idempotent);
+    }
+
+    @Override
+    public void close() {
+        pipelineExecutor.close();
+        jedis.close();
     }
 }
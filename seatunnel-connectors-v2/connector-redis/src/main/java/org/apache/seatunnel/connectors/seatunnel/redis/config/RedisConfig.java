@@ -127,6 +127,23 @@ public class RedisConfig {
                             "batch_size is used to control the size of a batch of data during read and write operations"
                                     + ",default 10");
 
+    public static final Option<Integer> CLUSTER_PIPELINE_PARALLELISM =
+            Options.key("cluster_pipeline_parallelism")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of cluster nodes that a batch is read from or written to in parallel"
+                                    + ", only used in cluster mode, default 4");
+
+    public static final Option<List<String>> SCAN_PARTITIONS =
+            Options.key("scan_partitions")
+                    .listType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "key patterns that split the scan of a single redis into parallel splits, every pattern is "
+                                    + "scanned instead of keys by its own split and the patterns must not match the same keys, "
+                                    + "e.g. [\"user:[0-4]*\", \"user:[5-9]*\"]. In cluster mode every master node is a split");
+
     public enum Format {
         JSON,
         // TEXT will be supported later
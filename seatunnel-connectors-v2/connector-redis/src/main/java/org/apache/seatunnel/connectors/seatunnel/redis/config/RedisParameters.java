@@ -29,14 +29,18 @@ import org.apache.commons.lang3.StringUtils;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
 import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
 
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.GET_REDIS_VERSION_INFO_FAILED;
 import static org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode.INVALID_CONFIG;
@@ -57,6 +61,9 @@ public class RedisParameters implements Serializable {
     private List<String> redisNodes = Collections.emptyList();
     private long expire = RedisConfig.EXPIRE.defaultValue();
     private int batchSize = RedisConfig.BATCH_SIZE.defaultValue();
+    private List<String> scanPartitions = Collections.emptyList();
+    private int clusterPipelineParallelism =
+            RedisConfig.CLUSTER_PIPELINE_PARALLELISM.defaultValue();
 
     private int redisVersion;
 
@@ -97,6 +104,10 @@ public class RedisParameters implements Serializable {
         this.redisDataType = config.get(RedisConfig.DATA_TYPE);
         // Indicates the number of keys to attempt to return per iteration.default 10
         this.batchSize = config.get(RedisConfig.BATCH_SIZE);
+        this.clusterPipelineParallelism = config.get(RedisConfig.CLUSTER_PIPELINE_PARALLELISM);
+        if (config.getOptional(RedisConfig.SCAN_PARTITIONS).isPresent()) {
+            this.scanPartitions = config.get(RedisConfig.SCAN_PARTITIONS);
+        }
     }
 
     public RedisClient buildRedisClient() {
@@ -105,7 +116,8 @@ public class RedisParameters implements Serializable {
         if (mode.equals(RedisConfig.RedisMode.SINGLE)) {
             return new RedisSingleClient(this, jedis, redisVersion);
         } else {
-            return new RedisClusterClient(this, jedis, redisVersion);
+            return new RedisClusterClient(
+                    this, jedis, redisVersion, buildClusterConnectionProvider());
         }
     }
 
@@ -137,6 +149,47 @@ public class RedisParameters implements Serializable {
                 "Did not get the expected redis_version from the jedis.info() method");
     }
 
+    /**
+     * Build a provider of connections to the nodes of the cluster, which knows the node that owns a
+     * hash slot and is used to pipeline the commands per node.
+     */
+    public ClusterConnectionProvider buildClusterConnectionProvider() {
+        return new ClusterConnectionProvider(getClusterNodes(), buildClusterClientConfig());
+    }
+
+    /** Connect to a single node of the cluster, e.g. to scan the keys of the node. */
+    public Jedis buildClusterNodeJedis(String node) {
+        return new Jedis(HostAndPort.from(node), buildClusterClientConfig());
+    }
+
+    private JedisClientConfig buildClusterClientConfig() {
+        DefaultJedisClientConfig.Builder clientConfig = DefaultJedisClientConfig.builder();
+        if (StringUtils.isNotBlank(auth)) {
+            clientConfig.password(auth);
+        }
+        return clientConfig.build();
+    }
+
+    private Set<HostAndPort> getClusterNodes() {
+        Set<HostAndPort> nodes = new HashSet<>();
+        HostAndPort node = new HostAndPort(host, port);
+        nodes.add(node);
+        if (!redisNodes.isEmpty()) {
+            for (String redisNode : redisNodes) {
+                String[] splits = redisNode.split(":");
+                if (splits.length != 2) {
+                    throw new RedisConnectorException(
+                            INVALID_CONFIG,
+                            "Invalid redis node information,"
+                                    + "redis node information must like as the following: [host:port]");
+                }
+                HostAndPort hostAndPort = new HostAndPort(splits[0], Integer.parseInt(splits[1]));
+                nodes.add(hostAndPort);
+            }
+        }
+        return nodes;
+    }
+
     public Jedis buildJedis() {
         switch (mode) {
             case SINGLE:
@@ -150,23 +203,7 @@ public class RedisParameters implements Serializable {
                 jedis.select(dbNum);
                 return jedis;
             case CLUSTER:
-                HashSet<HostAndPort> nodes = new HashSet<>();
-                HostAndPort node = new HostAndPort(host, port);
-                nodes.add(node);
-                if (!redisNodes.isEmpty()) {
-                    for (String redisNode : redisNodes) {
-                        String[] splits = redisNode.split(":");
-                        if (splits.length != 2) {
-                            throw new RedisConnectorException(
-                                    INVALID_CONFIG,
-                                    "Invalid redis node information,"
-                                            + "redis node information must like as the following: [host:port]");
-                        }
-                        HostAndPort hostAndPort =
-                                new HostAndPort(splits[0], Integer.parseInt(splits[1]));
-                        nodes.add(hostAndPort);
-                    }
-                }
+                Set<HostAndPort> nodes = getClusterNodes();
                 ConnectionPoolConfig connectionPoolConfig = new ConnectionPoolConfig();
                 JedisCluster jedisCluster;
                 if (StringUtils.isNotBlank(auth)) {
@@ -20,7 +20,9 @@ import org.apache.seatunnel.common.exception.SeaTunnelErrorCode;
 
 public enum RedisErrorCode implements SeaTunnelErrorCode {
     GET_REDIS_VERSION_INFO_FAILED("RedisErrorCode-01", "Failed to get the redis version"),
-    INVALID_CONFIG("RedisErrorCode-02", "Invalid redis Config");
+    INVALID_CONFIG("RedisErrorCode-02", "Invalid redis Config"),
+    EXECUTE_CLUSTER_PIPELINE_FAILED(
+            "RedisErrorCode-03", "Failed to execute the pipelined commands on the redis cluster");
 
     private final String code;
     private final String description;
@@ -53,6 +53,7 @@ public class RedisSinkFactory implements TableSinkFactory {
                         RedisConfig.KEY_PATTERN,
                         RedisConfig.FORMAT,
                         RedisConfig.EXPIRE,
+                        RedisConfig.CLUSTER_PIPELINE_PARALLELISM,
                         SinkCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .conditional(RedisConfig.MODE, RedisConfig.RedisMode.CLUSTER, RedisConfig.NODES)
                 .build();
@@ -19,12 +19,12 @@ package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.JsonUtils;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
@@ -32,24 +32,36 @@ import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorE
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final Deque<RedisSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    // the split being scanned, with the cursor of the next batch
+    private volatile RedisSourceSplit currentSplit;
+    private volatile boolean noMoreSplit;
     private RedisClient redisClient;
+    // the master node of the current split in cluster mode
+    private Jedis nodeJedis;
 
     public RedisSourceReader(
             RedisParameters redisParameters,
-            SingleSplitReaderContext context,
+            Context context,
             DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
@@ -63,32 +75,115 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
 
     @Override
     public void close() throws IOException {
+        closeNode();
         if (Objects.nonNull(redisClient)) {
             redisClient.close();
         }
     }
 
     @Override
-    public void internalPollNext(Collector<SeaTunnelRow> output) throws Exception {
+    @SuppressWarnings("magicnumber")
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        if (currentSplit == null) {
+            RedisSourceSplit split;
+            synchronized (output.getCheckpointLock()) {
+                split = splits.poll();
+            }
+            if (split == null) {
+                if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded redis source");
+                    context.signalNoMoreElement();
+                } else {
+                    Thread.sleep(1000L);
+                }
+                return;
+            }
+            split = connect(split);
+            synchronized (output.getCheckpointLock()) {
+                currentSplit = split;
+            }
+        }
+
         RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
-        String cursor = ScanParams.SCAN_POINTER_START;
-        String keysPattern = redisParameters.getKeysPattern();
+        RedisSourceSplit split = currentSplit;
         int batchSize = redisParameters.getBatchSize();
-        while (true) {
-            // String cursor, int batchSize, String keysPattern, RedisType type
-            ScanResult<String> scanResult =
-                    redisClient.scanKeys(cursor, batchSize, keysPattern, redisDataType);
-            cursor = scanResult.getCursor();
-            List<String> keys = scanResult.getResult();
-            pollNext(keys, redisDataType, output);
-            // when cursor return "0", scan end
-            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
-                break;
-            }
+        ScanResult<String> scanResult =
+                nodeJedis == null
+                        ? redisClient.scanKeys(
+                                split.getCursor(), batchSize, split.getKeysPattern(), redisDataType)
+                        : redisClient.scanKeys(
+                                nodeJedis,
+                                split.getCursor(),
+                                batchSize,
+                                split.getKeysPattern(),
+                                redisDataType);
+        String cursor = scanResult.getCursor();
+        // when cursor return "0", scan end
+        boolean finished = ScanParams.SCAN_POINTER_START.equals(cursor);
+        synchronized (output.getCheckpointLock()) {
+            pollNext(scanResult.getResult(), redisDataType, output);
+            currentSplit = finished ? null : split.resumeAt(cursor);
+        }
+        if (finished) {
+            log.info("Finished the scan of split {}", split.splitId());
+            closeNode();
+        }
+    }
+
+    /**
+     * Connect to the master node of the split in cluster mode. After a failover the slot of the
+     * split is owned by another node, whose keys are scanned from the start because a cursor is
+     * only valid on the node that returned it.
+     */
+    private RedisSourceSplit connect(RedisSourceSplit split) {
+        if (split.getNode() == null) {
+            return split;
+        }
+        String master = ((RedisClusterClient) redisClient).getMasterNode(split.getSlot());
+        if (!master.equals(split.getNode())) {
+            log.warn(
+                    "The master of split {} changed from {} to {}, scan the new master from the start",
+                    split.splitId(),
+                    split.getNode(),
+                    master);
+            split = split.moveTo(master);
+        }
+        nodeJedis = redisParameters.buildClusterNodeJedis(master);
+        return split;
+    }
+
+    private void closeNode() {
+        if (nodeJedis != null) {
+            nodeJedis.close();
+            nodeJedis = null;
         }
-        context.signalNoMoreElement();
     }
 
+    @Override
+    public List<RedisSourceSplit> snapshotState(long checkpointId) throws Exception {
+        List<RedisSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        RedisSourceSplit split = currentSplit;
+        if (split != null) {
+            state.add(split);
+        }
+        state.addAll(splits);
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+
     private void pollNext(List<String> keys, RedisDataType dataType, Collector<SeaTunnelRow> output)
             throws IOException {
         if (CollectionUtils.isEmpty(keys)) {
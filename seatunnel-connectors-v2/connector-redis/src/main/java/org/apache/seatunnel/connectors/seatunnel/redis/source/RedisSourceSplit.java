@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import redis.clients.jedis.params.ScanParams;
+
+/**
+ * Scans the keys of one master node in cluster mode, or the keys of one key pattern in single mode.
+ * The split keeps the SCAN cursor of the next batch, so a restored reader continues the scan.
+ */
+@Data
+@AllArgsConstructor
+public class RedisSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String splitId;
+
+    /** The master node that is scanned in cluster mode as host:port, null in single mode. */
+    private final String node;
+
+    /** A hash slot of the master node, which locates the new master after a failover. */
+    private final int slot;
+
+    private final String keysPattern;
+
+    private final String cursor;
+
+    public RedisSourceSplit(String splitId, String node, int slot, String keysPattern) {
+        this(splitId, node, slot, keysPattern, ScanParams.SCAN_POINTER_START);
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    /** @return this split continuing at the cursor returned by the last scanned batch */
+    public RedisSourceSplit resumeAt(String cursor) {
+        return new RedisSourceSplit(splitId, node, slot, keysPattern, cursor);
+    }
+
+    /** @return this split scanning another node from the start */
+    public RedisSourceSplit moveTo(String node) {
+        return new RedisSourceSplit(
+                splitId, node, slot, keysPattern, ScanParams.SCAN_POINTER_START);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates one split per master node in cluster mode, and one split per scan partition in single
+ * mode. The splits are assigned round robin, so every reader scans its own nodes or partitions.
+ */
+@Slf4j
+public class RedisSourceSplitEnumerator
+        implements SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+
+    private final Context<RedisSourceSplit> context;
+    private final RedisParameters redisParameters;
+    private final Map<Integer, List<RedisSourceSplit>> pendingSplits;
+    private boolean splitsDiscovered;
+    private final Object stateLock = new Object();
+
+    public RedisSourceSplitEnumerator(
+            Context<RedisSourceSplit> context,
+            RedisParameters redisParameters,
+            RedisSourceState sourceState) {
+        this.context = context;
+        this.redisParameters = redisParameters;
+        if (sourceState == null) {
+            this.pendingSplits = new HashMap<>();
+            this.splitsDiscovered = false;
+        } else {
+            this.pendingSplits = new HashMap<>(sourceState.getPendingSplits());
+            this.splitsDiscovered = sourceState.isSplitsDiscovered();
+        }
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() throws Exception {
+        if (!splitsDiscovered) {
+            List<RedisSourceSplit> splits = discoverSplits();
+            log.info("Split the redis scan into {} splits: {}", splits.size(), splits);
+            synchronized (stateLock) {
+                int readerCount = context.currentParallelism();
+                for (int i = 0; i < splits.size(); i++) {
+                    addPendingSplit(Collections.singletonList(splits.get(i)), i % readerCount);
+                }
+                splitsDiscovered = true;
+            }
+        }
+        synchronized (stateLock) {
+            assignSplit(context.registeredReaders());
+        }
+        log.info("No more splits to assign, send NoMoreSplitsEvent to readers.");
+        context.registeredReaders().forEach(context::signalNoMoreSplits);
+    }
+
+    private List<RedisSourceSplit> discoverSplits() {
+        List<RedisSourceSplit> splits = new ArrayList<>();
+        String keysPattern = redisParameters.getKeysPattern();
+        switch (redisParameters.getMode()) {
+            case SINGLE:
+                List<String> partitions = redisParameters.getScanPartitions();
+                if (partitions.isEmpty()) {
+                    splits.add(new RedisSourceSplit("keys", null, -1, keysPattern));
+                }
+                for (int i = 0; i < partitions.size(); i++) {
+                    splits.add(new RedisSourceSplit("partition-" + i, null, -1, partitions.get(i)));
+                }
+                return splits;
+            case CLUSTER:
+                for (Map.Entry<String, Integer> master : discoverMasters().entrySet()) {
+                    splits.add(
+                            new RedisSourceSplit(
+                                    "slot-" + master.getValue(),
+                                    master.getKey(),
+                                    master.getValue(),
+                                    keysPattern));
+                }
+                return splits;
+            default:
+                throw new RedisConnectorException(
+                        CommonErrorCode.OPERATION_NOT_SUPPORTED, "Not support this redis mode");
+        }
+    }
+
+    /** @return the master nodes of the cluster with the first hash slot they own */
+    private Map<String, Integer> discoverMasters() {
+        Map<String, Integer> masters = new LinkedHashMap<>();
+        try (ClusterConnectionProvider provider =
+                redisParameters.buildClusterConnectionProvider()) {
+            for (int slot = 0; slot < Protocol.CLUSTER_HASHSLOTS; slot++) {
+                HostAndPort node = provider.getNode(slot);
+                if (node != null) {
+                    masters.putIfAbsent(node.toString(), slot);
+                }
+            }
+        }
+        return masters;
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<RedisSourceSplit> splits, int subtaskId) {
+        if (!splits.isEmpty()) {
+            synchronized (stateLock) {
+                addPendingSplit(splits, subtaskId);
+                if (context.registeredReaders().contains(subtaskId)) {
+                    assignSplit(Collections.singletonList(subtaskId));
+                } else {
+                    log.warn(
+                            "Reader {} is not registered. Pending splits {} are not assigned.",
+                            subtaskId,
+                            splits);
+                }
+            }
+        }
+        log.info("Add back splits {} to RedisSourceSplitEnumerator.", splits.size());
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return splitsDiscovered && pendingSplits.isEmpty() ? 0 : 1;
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {
+        throw new RedisConnectorException(
+                CommonErrorCode.OPERATION_NOT_SUPPORTED,
+                String.format("Unsupported handleSplitRequest: %d", subtaskId));
+    }
+
+    @Override
+    public void registerReader(int subtaskId) {
+        log.info("Register reader {} to RedisSourceSplitEnumerator.", subtaskId);
+        if (!pendingSplits.isEmpty()) {
+            synchronized (stateLock) {
+                assignSplit(Collections.singletonList(subtaskId));
+            }
+        }
+    }
+
+    @Override
+    public RedisSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (stateLock) {
+            return new RedisSourceState(splitsDiscovered, new HashMap<>(pendingSplits));
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+
+    private void assignSplit(Collection<Integer> readers) {
+        for (int reader : readers) {
+            List<RedisSourceSplit> assignmentForReader = pendingSplits.remove(reader);
+            if (assignmentForReader != null && !assignmentForReader.isEmpty()) {
+                log.info("Assign splits {} to reader {}", assignmentForReader, reader);
+                context.assignSplit(reader, assignmentForReader);
+            }
+        }
+    }
+
+    private void addPendingSplit(Collection<RedisSourceSplit> splits, int ownerReader) {
+        pendingSplits.computeIfAbsent(ownerReader, r -> new ArrayList<>()).addAll(splits);
+    }
+}
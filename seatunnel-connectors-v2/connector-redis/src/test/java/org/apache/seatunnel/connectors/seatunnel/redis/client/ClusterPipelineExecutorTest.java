@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+class ClusterPipelineExecutorTest {
+
+    private static final HostAndPort NODE_A = new HostAndPort("redis-a", 6379);
+    private static final HostAndPort NODE_B = new HostAndPort("redis-b", 6379);
+    private static final IntFunction<HostAndPort> SPLIT_SLOTS =
+            slot -> slot < Protocol.CLUSTER_HASHSLOTS / 2 ? NODE_A : NODE_B;
+
+    private final CommandObjects commandObjects = new CommandObjects();
+    private final AtomicReference<IntFunction<HostAndPort>> slots =
+            new AtomicReference<>(SPLIT_SLOTS);
+    private ClusterConnectionProvider provider;
+    private List<String> keys;
+
+    @BeforeEach
+    void setUp() {
+        provider = Mockito.mock(ClusterConnectionProvider.class);
+        Mockito.when(provider.getNode(Mockito.anyInt()))
+                .thenAnswer(invocation -> slots.get().apply(invocation.getArgument(0)));
+        Mockito.doAnswer(
+                        invocation -> {
+                            slots.set(SPLIT_SLOTS);
+                            return null;
+                        })
+                .when(provider)
+                .renewSlotCache();
+        keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keys.add("key" + i);
+        }
+        Assertions.assertFalse(keysOf(NODE_A).isEmpty());
+        Assertions.assertFalse(keysOf(NODE_B).isEmpty());
+    }
+
+    @Test
+    void testRepliesInKeyOrder() {
+        FakeNode nodeA = new FakeNode(NODE_A, ClusterPipelineExecutorTest::value);
+        FakeNode nodeB = new FakeNode(NODE_B, ClusterPipelineExecutorTest::value);
+
+        Assertions.assertEquals(expectedValues(), execute(3));
+        Assertions.assertEquals(keysOf(NODE_A), nodeA.sent);
+        Assertions.assertEquals(keysOf(NODE_B), nodeB.sent);
+        Mockito.verify(provider, Mockito.never()).renewSlotCache();
+    }
+
+    @Test
+    void testMovedKeysAreRegrouped() {
+        // the slot cache maps every slot to node a until it is renewed
+        slots.set(slot -> NODE_A);
+        FakeNode nodeA =
+                new FakeNode(
+                        NODE_A,
+                        key ->
+                                SPLIT_SLOTS.apply(JedisClusterCRC16.getSlot(key)) == NODE_A
+                                        ? value(key)
+                                        : new JedisMovedDataException(
+                                                "MOVED", NODE_B, JedisClusterCRC16.getSlot(key)));
+        FakeNode nodeB = new FakeNode(NODE_B, ClusterPipelineExecutorTest::value);
+
+        Assertions.assertEquals(expectedValues(), execute(3));
+        Assertions.assertEquals(keys, nodeA.sent);
+        Assertions.assertEquals(keysOf(NODE_B), nodeB.sent);
+        Mockito.verify(provider, Mockito.times(1)).renewSlotCache();
+    }
+
+    @Test
+    void testAskedKeysAreSentWithAsking() {
+        keys = keysOf(NODE_A);
+        String askedKey = keys.get(0);
+        FakeNode nodeA =
+                new FakeNode(
+                        NODE_A,
+                        key ->
+                                key.equals(askedKey)
+                                        ? new JedisAskDataException(
+                                                "ASK", NODE_B, JedisClusterCRC16.getSlot(key))
+                                        : value(key));
+        FakeNode nodeB = new FakeNode(NODE_B, ClusterPipelineExecutorTest::value);
+
+        Assertions.assertEquals(expectedValues(), execute(3));
+        Assertions.assertEquals(keys, nodeA.sent);
+        Assertions.assertEquals(Arrays.asList(FakeNode.ASKING, askedKey), nodeB.sent);
+        Mockito.verify(provider, Mockito.never()).renewSlotCache();
+    }
+
+    @Test
+    void testAttemptLimit() {
+        keys = keysOf(NODE_A);
+        new FakeNode(
+                NODE_A,
+                key ->
+                        new JedisMovedDataException(
+                                "MOVED", NODE_A, JedisClusterCRC16.getSlot(key)));
+
+        Assertions.assertThrows(RedisConnectorException.class, () -> execute(3));
+        Mockito.verify(provider, Mockito.times(3)).getConnection(NODE_A);
+        Mockito.verify(provider, Mockito.times(2)).renewSlotCache();
+    }
+
+    @Test
+    void testConnectionFailureRetriesIdempotentCommands() {
+        FakeNode nodeA = new FakeNode(NODE_A, ClusterPipelineExecutorTest::value);
+        nodeA.connectionFailures = 1;
+        FakeNode nodeB = new FakeNode(NODE_B, ClusterPipelineExecutorTest::value);
+
+        Assertions.assertEquals(expectedValues(), execute(3, true));
+        List<String> sentTwice = new ArrayList<>(keysOf(NODE_A));
+        sentTwice.addAll(keysOf(NODE_A));
+        Assertions.assertEquals(sentTwice, nodeA.sent);
+        Assertions.assertEquals(keysOf(NODE_B), nodeB.sent);
+        Mockito.verify(provider, Mockito.times(1)).renewSlotCache();
+    }
+
+    @Test
+    void testConnectionFailureFailsOtherCommands() {
+        FakeNode nodeA = new FakeNode(NODE_A, ClusterPipelineExecutorTest::value);
+        nodeA.connectionFailures = 1;
+        new FakeNode(NODE_B, ClusterPipelineExecutorTest::value);
+
+        // the node may have executed the commands before the connection failed
+        Assertions.assertThrows(RedisConnectorException.class, () -> execute(3, false));
+        Assertions.assertEquals(keysOf(NODE_A), nodeA.sent);
+        Mockito.verify(provider, Mockito.never()).renewSlotCache();
+    }
+
+    private List<String> execute(int maxAttempts) {
+        return execute(maxAttempts, true);
+    }
+
+    private List<String> execute(int maxAttempts, boolean idempotent) {
+        List<List<CommandObject<?>>> commands =
+                keys.stream()
+                        .map(
+                                key ->
+                                        Collections.<CommandObject<?>>singletonList(
+                                                commandObjects.get(key)))
+                        .collect(Collectors.toList());
+        try (ClusterPipelineExecutor executor =
+                new ClusterPipelineExecutor(provider, 2, maxAttempts)) {
+            return executor.execute(keys, commands, idempotent);
+        }
+    }
+
+    private List<String> keysOf(HostAndPort node) {
+        return keys.stream()
+                .filter(key -> SPLIT_SLOTS.apply(JedisClusterCRC16.getSlot(key)) == node)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> expectedValues() {
+        return keys.stream().map(key -> key + "-value").collect(Collectors.toList());
+    }
+
+    private static Object value(String key) {
+        return SafeEncoder.encode(key + "-value");
+    }
+
+    /** A node that replies to the pipelined commands of its connection. */
+    private class FakeNode {
+        private static final String ASKING = "ASKING";
+
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> pending = new ArrayList<>();
+        // the number of pipelines whose connection fails after the commands were sent
+        private int connectionFailures;
+
+        private FakeNode(HostAndPort node, Function<String, Object> replies) {
+            Connection connection = Mockito.mock(Connection.class);
+            Mockito.doAnswer(
+                            invocation -> {
+                                CommandArguments arguments = invocation.getArgument(0);
+                                String command =
+                                        arguments.getCommand() == Protocol.Command.ASKING
+                                                ? ASKING
+                                                : keyOf(arguments);
+                                sent.add(command);
+                                pending.add(command);
+                                return null;
+                            })
+                    .when(connection)
+                    .sendCommand(Mockito.any(CommandArguments.class));
+            Mockito.when(connection.getMany(Mockito.anyInt()))
+                    .thenAnswer(
+                            invocation -> {
+                                if (connectionFailures > 0) {
+                                    connectionFailures--;
+                                    pending.clear();
+                                    throw new JedisConnectionException("Connection reset");
+                                }
+                                List<Object> result = new ArrayList<>();
+                                for (String command : pending) {
+                                    result.add(
+                                            ASKING.equals(command)
+                                                    ? SafeEncoder.encode("OK")
+                                                    : replies.apply(command));
+                                }
+                                pending.clear();
+                                return result;
+                            });
+            Mockito.when(provider.getConnection(node)).thenReturn(connection);
+        }
+
+        private String keyOf(CommandArguments arguments) {
+            Iterator<Rawable> iterator = arguments.iterator();
+            iterator.next();
+            return SafeEncoder.encode(iterator.next().getRaw());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class RedisSourceSplitEnumeratorTest {
+
+    @Test
+    void testScanPartitions() throws Exception {
+        RedisParameters parameters = new RedisParameters();
+        parameters.setMode(RedisConfig.RedisMode.SINGLE);
+        parameters.setKeysPattern("user:*");
+        parameters.setScanPartitions(Arrays.asList("user:[0-3]*", "user:[4-6]*", "user:[7-9]*"));
+
+        TestContext context = new TestContext(2);
+        RedisSourceSplitEnumerator enumerator =
+                new RedisSourceSplitEnumerator(context, parameters, null);
+        enumerator.run();
+        Assertions.assertEquals(Arrays.asList("user:[0-3]*", "user:[7-9]*"), context.patternsOf(0));
+        Assertions.assertEquals(Arrays.asList("user:[4-6]*"), context.patternsOf(1));
+        Assertions.assertEquals(context.registeredReaders(), context.noMoreSplits);
+
+        // a restored enumerator does not create the splits again
+        RedisSourceState state = enumerator.snapshotState(1);
+        Assertions.assertTrue(state.isSplitsDiscovered());
+        Assertions.assertTrue(state.getPendingSplits().isEmpty());
+        TestContext restoredContext = new TestContext(2);
+        new RedisSourceSplitEnumerator(restoredContext, parameters, state).run();
+        Assertions.assertTrue(restoredContext.assigned.isEmpty());
+    }
+
+    @Test
+    void testResumeSplit() {
+        RedisSourceSplit split = new RedisSourceSplit("slot-0", "127.0.0.1:7000", 0, "*");
+        Assertions.assertEquals("0", split.getCursor());
+        RedisSourceSplit resumed = split.resumeAt("42");
+        Assertions.assertEquals("42", resumed.getCursor());
+        Assertions.assertEquals(split.splitId(), resumed.splitId());
+        // a cursor is only valid on the node that returned it
+        RedisSourceSplit moved = resumed.moveTo("127.0.0.1:7003");
+        Assertions.assertEquals("0", moved.getCursor());
+        Assertions.assertEquals("127.0.0.1:7003", moved.getNode());
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<RedisSourceSplit> {
+        private final int parallelism;
+        private final Map<Integer, List<RedisSourceSplit>> assigned = new HashMap<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        private TestContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        private List<String> patternsOf(int subtaskId) {
+            return assigned.get(subtaskId).stream()
+                    .map(RedisSourceSplit::getKeysPattern)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            Set<Integer> readers = new HashSet<>();
+            for (int i = 0; i < parallelism; i++) {
+                readers.add(i);
+            }
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<RedisSourceSplit> splits) {
+            assigned.computeIfAbsent(subtaskId, k -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
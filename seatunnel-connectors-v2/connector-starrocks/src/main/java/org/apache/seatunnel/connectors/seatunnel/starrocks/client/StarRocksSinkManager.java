@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,19 +36,32 @@ import java.util.UUID;
 @Slf4j
 public class StarRocksSinkManager {
 
+    private static final String TOO_MANY_VERSIONS = "too many versions";
+
     private final SinkConfig sinkConfig;
     private final List<byte[]> batchList;
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
+    private final EventListener eventListener;
     private volatile boolean initialize;
     private volatile Exception flushException;
     private int batchRowCount = 0;
     private long batchBytesSize = 0;
 
-    public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
+    public StarRocksSinkManager(
+            SinkConfig sinkConfig, List<String> fileNames, EventListener eventListener) {
+        this(sinkConfig, new StarRocksStreamLoadVisitor(sinkConfig, fileNames), eventListener);
+    }
+
+    @VisibleForTesting
+    StarRocksSinkManager(
+            SinkConfig sinkConfig,
+            StarRocksStreamLoadVisitor starrocksStreamLoadVisitor,
+            EventListener eventListener) {
         this.sinkConfig = sinkConfig;
         this.batchList = new ArrayList<>();
-        starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
+        this.eventListener = eventListener;
+        this.starrocksStreamLoadVisitor = starrocksStreamLoadVisitor;
     }
 
     private void tryInit() throws IOException {
@@ -88,6 +104,7 @@ public class StarRocksSinkManager {
                 }
             } catch (Exception e) {
                 log.warn("Writing records to StarRocks failed, retry times = {}", i, e);
+                reportIfOverloaded(e);
                 if (i >= sinkConfig.getMaxRetries()) {
                     throw new StarRocksConnectorException(
                             StarRocksConnectorErrorCode.WRITE_RECORDS_FAILED,
@@ -123,6 +140,19 @@ public class StarRocksSinkManager {
         batchBytesSize = 0;
     }
 
+    /**
+     * StarRocks rejects loads with "too many versions" if the compaction can not keep up with the
+     * load frequency, which lets the engine slow down the sources of the job.
+     */
+    private void reportIfOverloaded(Exception e) {
+        String message = e.getMessage();
+        if (eventListener != null
+                && message != null
+                && message.toLowerCase().contains(TOO_MANY_VERSIONS)) {
+            eventListener.onEvent(new WriterOverloadedEvent(message));
+        }
+    }
+
     private void checkFlushException() {
         if (flushException != null) {
             throw new StarRocksConnectorException(
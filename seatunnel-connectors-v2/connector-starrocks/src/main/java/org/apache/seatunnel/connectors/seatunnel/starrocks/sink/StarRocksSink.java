@@ -62,7 +62,7 @@ public class StarRocksSink extends AbstractSimpleSink<SeaTunnelRow, Void>
 
     @Override
     public AbstractSinkWriter<SeaTunnelRow, Void> createWriter(SinkWriter.Context context) {
-        return new StarRocksSinkWriter(sinkConfig, seaTunnelRowType);
+        return new StarRocksSinkWriter(sinkConfig, seaTunnelRowType, context.getEventListener());
     }
 
     @Override
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.sink;
 
+import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
@@ -44,14 +45,15 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
     private final StarRocksISerializer serializer;
     private final StarRocksSinkManager manager;
 
-    public StarRocksSinkWriter(SinkConfig sinkConfig, SeaTunnelRowType seaTunnelRowType) {
+    public StarRocksSinkWriter(
+            SinkConfig sinkConfig, SeaTunnelRowType seaTunnelRowType, EventListener eventListener) {
         List<String> fieldNames =
                 Arrays.stream(seaTunnelRowType.getFieldNames()).collect(Collectors.toList());
         if (sinkConfig.isEnableUpsertDelete()) {
             fieldNames.add(StarRocksSinkOP.COLUMN_KEY);
         }
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
-        this.manager = new StarRocksSinkManager(sinkConfig, fieldNames);
+        this.manager = new StarRocksSinkManager(sinkConfig, fieldNames, eventListener);
     }
 
     @Override
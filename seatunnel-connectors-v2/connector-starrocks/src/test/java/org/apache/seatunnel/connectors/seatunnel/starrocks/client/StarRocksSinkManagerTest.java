@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.api.event.Event;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StarRocksSinkManagerTest {
+
+    private final List<Event> events = new ArrayList<>();
+    private SinkConfig sinkConfig;
+    private StarRocksStreamLoadVisitor visitor;
+
+    @BeforeEach
+    void setUp() {
+        sinkConfig = new SinkConfig();
+        sinkConfig.setBatchMaxSize(100);
+        sinkConfig.setBatchMaxBytes(1024);
+        sinkConfig.setMaxRetries(1);
+        visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+    }
+
+    @Test
+    void testTooManyVersionsReportsOverloadedWriter() throws Exception {
+        Mockito.when(visitor.doStreamLoad(Mockito.any()))
+                .thenThrow(
+                        new StarRocksConnectorException(
+                                StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                                "Failed to flush data to StarRocks \ndb/t\n"
+                                        + "Too many versions. tablet_id: 10001, version_count: 1001"))
+                .thenReturn(true);
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor, events::add);
+
+        manager.write("{\"id\":1}");
+        manager.flush();
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertTrue(events.get(0) instanceof WriterOverloadedEvent);
+        Assertions.assertTrue(
+                ((WriterOverloadedEvent) events.get(0)).getReason().contains("Too many versions"));
+        Mockito.verify(visitor, Mockito.times(2)).doStreamLoad(Mockito.any());
+    }
+
+    @Test
+    void testOtherFailureDoesNotReportOverloadedWriter() throws Exception {
+        Mockito.when(visitor.doStreamLoad(Mockito.any()))
+                .thenThrow(
+                        new StarRocksConnectorException(
+                                StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                                "Unable to flush data to StarRocks: unknown result status."));
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor, events::add);
+
+        manager.write("{\"id\":1}");
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::flush);
+        Assertions.assertTrue(events.isEmpty());
+    }
+}
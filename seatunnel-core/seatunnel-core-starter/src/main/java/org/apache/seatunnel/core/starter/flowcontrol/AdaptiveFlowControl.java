@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.core.starter.flowcontrol;
+
+import static org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate.DEFAULT_VALUE;
+
+/**
+ * Adjust the limits of a {@link FlowControlGate} by the feedback of the downstream. The limits are
+ * halved when the downstream is congested, and raised by a tenth of their bound while it is not.
+ * The limits of the strategy are the bounds. The row limit is always adjusted, the byte limit only
+ * if it is bounded.
+ *
+ * <p>An unbounded limit is raised by a tenth of the rate before its last decrease, and removed once
+ * it is twice that rate.
+ */
+public class AdaptiveFlowControl {
+
+    /** The lowest limits, so a throttled source still makes progress. */
+    static final int MIN_COUNT_PER_SECOND = 10;
+
+    static final int MIN_BYTES_PER_SECOND = 10 * 1024;
+
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private static final int INCREASE_STEPS = 10;
+
+    private final FlowControlGate gate;
+
+    private final Limit bytesLimit;
+
+    private final Limit countLimit;
+
+    private long lastAuditedBytes;
+
+    private long lastAuditedCount;
+
+    public AdaptiveFlowControl(FlowControlGate gate, FlowControlStrategy strategy) {
+        this.gate = gate;
+        this.bytesLimit = new Limit(MIN_BYTES_PER_SECOND, strategy.getBytesPerSecond());
+        this.countLimit = new Limit(MIN_COUNT_PER_SECOND, strategy.getCountPerSecond());
+        this.lastAuditedBytes = gate.getAuditedBytes();
+        this.lastAuditedCount = gate.getAuditedCount();
+    }
+
+    /**
+     * Adjust the limits by the rates of the rows that passed the gate since the last adjustment.
+     *
+     * @param congested whether the downstream is congested, e.g. the output queue is full or the
+     *     sink writes slower than before
+     * @param intervalMillis the time since the last adjustment
+     */
+    public synchronized void adjust(boolean congested, long intervalMillis) {
+        long auditedBytes = gate.getAuditedBytes();
+        long auditedCount = gate.getAuditedCount();
+        double seconds = Math.max(intervalMillis, 1) / 1000D;
+        double bytesRate = (auditedBytes - lastAuditedBytes) / seconds;
+        double countRate = (auditedCount - lastAuditedCount) / seconds;
+        lastAuditedBytes = auditedBytes;
+        lastAuditedCount = auditedCount;
+
+        int bytesPerSecond =
+                bytesLimit.isBounded()
+                        ? bytesLimit.adjust(gate.getBytesPerSecond(), bytesRate, congested)
+                        : DEFAULT_VALUE;
+        int countPerSecond = countLimit.adjust(gate.getCountPerSecond(), countRate, congested);
+        gate.updateLimits(bytesPerSecond, countPerSecond);
+    }
+
+    /**
+     * Replace the bounds, e.g. by a request of the user. The limits are set to the bounds and
+     * adjusted from there, {@link Integer#MAX_VALUE} is unbounded.
+     */
+    public synchronized void setLimits(int bytesPerSecond, int countPerSecond) {
+        gate.updateLimits(bytesPerSecond, countPerSecond);
+        bytesLimit.setBound(bytesPerSecond);
+        countLimit.setBound(countPerSecond);
+    }
+
+    public FlowControlGate getGate() {
+        return gate;
+    }
+
+    private static class Limit {
+
+        private final int min;
+
+        private int bound;
+
+        /** The rate before the last decrease, the target of an unbounded limit. */
+        private double rateBeforeDecrease;
+
+        private Limit(int min, int bound) {
+            this.min = min;
+            this.bound = bound;
+        }
+
+        private boolean isBounded() {
+            return bound != DEFAULT_VALUE;
+        }
+
+        private void setBound(int bound) {
+            this.bound = bound;
+            this.rateBeforeDecrease = 0;
+        }
+
+        private int adjust(int current, double rate, boolean congested) {
+            int lowest = Math.min(min, bound);
+            if (congested) {
+                if (rate <= 0) {
+                    // nothing passed the gate, e.g. the source had no data
+                    return current;
+                }
+                rateBeforeDecrease = Math.min(current, rate);
+                return (int) Math.max(lowest, rateBeforeDecrease * DECREASE_FACTOR);
+            }
+            if (current == DEFAULT_VALUE) {
+                return current;
+            }
+            double target = isBounded() ? bound : rateBeforeDecrease;
+            long next = current + Math.max(lowest, (long) (target / INCREASE_STEPS));
+            if (isBounded()) {
+                return (int) Math.min(bound, next);
+            }
+            return next >= Math.min(2 * rateBeforeDecrease, DEFAULT_VALUE)
+                    ? DEFAULT_VALUE
+                    : (int) next;
+        }
+    }
+}
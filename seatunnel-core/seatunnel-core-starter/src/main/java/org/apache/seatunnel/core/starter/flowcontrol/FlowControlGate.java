@@ -21,31 +21,87 @@ import org.apache.seatunnel.shade.com.google.common.util.concurrent.RateLimiter;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
-import java.util.Optional;
-
+/**
+ * Limit the rows and bytes per second that pass the gate. The limits can be changed while rows are
+ * audited, e.g. by {@link AdaptiveFlowControl} or a request of the user.
+ */
 public class FlowControlGate {
 
-    private static final int DEFAULT_VALUE = Integer.MAX_VALUE;
+    static final int DEFAULT_VALUE = Integer.MAX_VALUE;
+
+    /** The limiters, null if unlimited. */
+    private volatile RateLimiter bytesRateLimiter;
+
+    private volatile RateLimiter countRateLimiter;
+
+    /** The bytes and rows that passed the gate, only updated by the auditing thread. */
+    private volatile long auditedBytes;
 
-    private final Optional<RateLimiter> bytesRateLimiter;
-    private final Optional<RateLimiter> countRateLimiter;
+    private volatile long auditedCount;
 
     private FlowControlGate(FlowControlStrategy flowControlStrategy) {
-        final int bytesPerSecond = flowControlStrategy.getBytesPerSecond();
-        final int countPerSecond = flowControlStrategy.getCountPerSecond();
-        this.bytesRateLimiter =
-                bytesPerSecond == DEFAULT_VALUE
-                        ? Optional.empty()
-                        : Optional.of(RateLimiter.create(bytesPerSecond));
-        this.countRateLimiter =
-                countPerSecond == DEFAULT_VALUE
-                        ? Optional.empty()
-                        : Optional.of(RateLimiter.create(countPerSecond));
+        updateLimits(
+                flowControlStrategy.getBytesPerSecond(), flowControlStrategy.getCountPerSecond());
     }
 
     public void audit(SeaTunnelRow row) {
-        bytesRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(row.getBytesSize()));
-        countRateLimiter.ifPresent(RateLimiter::acquire);
+        int bytesSize = row.getBytesSize();
+        RateLimiter bytesLimiter = bytesRateLimiter;
+        if (bytesLimiter != null) {
+            bytesLimiter.acquire(bytesSize);
+        }
+        RateLimiter countLimiter = countRateLimiter;
+        if (countLimiter != null) {
+            countLimiter.acquire();
+        }
+        auditedBytes += bytesSize;
+        auditedCount++;
+    }
+
+    /**
+     * Change the limits, {@link Integer#MAX_VALUE} is unlimited. A row that is waiting for permits
+     * keeps the rate it started to wait with.
+     */
+    public synchronized void updateLimits(int bytesPerSecond, int countPerSecond) {
+        if (bytesPerSecond <= 0 || countPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "bytesPerSecond and countPerSecond must be positive");
+        }
+        bytesRateLimiter = updateLimiter(bytesRateLimiter, bytesPerSecond);
+        countRateLimiter = updateLimiter(countRateLimiter, countPerSecond);
+    }
+
+    private static RateLimiter updateLimiter(RateLimiter rateLimiter, int permitsPerSecond) {
+        if (permitsPerSecond == DEFAULT_VALUE) {
+            return null;
+        }
+        if (rateLimiter == null) {
+            return RateLimiter.create(permitsPerSecond);
+        }
+        if (getLimit(rateLimiter) != permitsPerSecond) {
+            rateLimiter.setRate(permitsPerSecond);
+        }
+        return rateLimiter;
+    }
+
+    public int getBytesPerSecond() {
+        return getLimit(bytesRateLimiter);
+    }
+
+    public int getCountPerSecond() {
+        return getLimit(countRateLimiter);
+    }
+
+    private static int getLimit(RateLimiter rateLimiter) {
+        return rateLimiter == null ? DEFAULT_VALUE : (int) Math.round(rateLimiter.getRate());
+    }
+
+    public long getAuditedBytes() {
+        return auditedBytes;
+    }
+
+    public long getAuditedCount() {
+        return auditedCount;
     }
 
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
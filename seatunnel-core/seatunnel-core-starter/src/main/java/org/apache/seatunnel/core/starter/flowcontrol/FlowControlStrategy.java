@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.apache.seatunnel.api.env.EnvCommonOptions.READ_LIMIT_ADAPTIVE;
 import static org.apache.seatunnel.api.env.EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND;
 import static org.apache.seatunnel.api.env.EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND;
 
@@ -31,13 +32,21 @@ public final class FlowControlStrategy {
 
     private final int countPerSecond;
 
+    /** Whether the limits are adjusted by the feedback of the sinks, with the limits as bounds. */
+    private final boolean adaptive;
+
     FlowControlStrategy(int bytesPerSecond, int countPerSecond) {
+        this(bytesPerSecond, countPerSecond, false);
+    }
+
+    FlowControlStrategy(int bytesPerSecond, int countPerSecond, boolean adaptive) {
         if (bytesPerSecond <= 0 || countPerSecond <= 0) {
             throw new IllegalArgumentException(
                     "bytesPerSecond and countPerSecond must be positive");
         }
         this.bytesPerSecond = bytesPerSecond;
         this.countPerSecond = countPerSecond;
+        this.adaptive = adaptive;
     }
 
     public int getBytesPerSecond() {
@@ -48,6 +57,10 @@ public final class FlowControlStrategy {
         return countPerSecond;
     }
 
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -58,6 +71,8 @@ public final class FlowControlStrategy {
 
         private int countPerSecond = Integer.MAX_VALUE;
 
+        private boolean adaptive = false;
+
         private Builder() {}
 
         public Builder bytesPerSecond(int bytesPerSecond) {
@@ -70,8 +85,13 @@ public final class FlowControlStrategy {
             return this;
         }
 
+        public Builder adaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
         public FlowControlStrategy build() {
-            return new FlowControlStrategy(bytesPerSecond, countPerSecond);
+            return new FlowControlStrategy(bytesPerSecond, countPerSecond, adaptive);
         }
     }
 
@@ -97,10 +117,13 @@ public final class FlowControlStrategy {
         }
         final Object bytePerSecond = envOption.get(READ_LIMIT_BYTES_PER_SECOND.key());
         final Object countPerSecond = envOption.get(READ_LIMIT_ROW_PER_SECOND.key());
+        final Object adaptive = envOption.get(READ_LIMIT_ADAPTIVE.key());
         Optional.ofNullable(bytePerSecond)
                 .ifPresent(bps -> builder.bytesPerSecond(Integer.parseInt(bps.toString())));
         Optional.ofNullable(countPerSecond)
                 .ifPresent(cps -> builder.countPerSecond(Integer.parseInt(cps.toString())));
+        Optional.ofNullable(adaptive)
+                .ifPresent(a -> builder.adaptive(Boolean.parseBoolean(a.toString())));
         return builder.build();
     }
 
@@ -112,6 +135,9 @@ public final class FlowControlStrategy {
         if (envConfig.hasPath(READ_LIMIT_ROW_PER_SECOND.key())) {
             builder.countPerSecond(envConfig.getInt(READ_LIMIT_ROW_PER_SECOND.key()));
         }
+        if (envConfig.hasPath(READ_LIMIT_ADAPTIVE.key())) {
+            builder.adaptive(envConfig.getBoolean(READ_LIMIT_ADAPTIVE.key()));
+        }
         return builder.build();
     }
 }
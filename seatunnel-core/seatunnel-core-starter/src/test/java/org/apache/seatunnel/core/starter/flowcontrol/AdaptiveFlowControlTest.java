@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.core.starter.flowcontrol;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveFlowControlTest {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    @Test
+    public void testBoundedLimit() {
+        FlowControlStrategy strategy =
+                FlowControlStrategy.builder().countPerSecond(1000).adaptive(true).build();
+        FlowControlGate gate = FlowControlGate.create(strategy);
+        AdaptiveFlowControl flowControl = new AdaptiveFlowControl(gate, strategy);
+
+        // the limit is halved from the observed rate, not from the bound
+        audit(gate, 100);
+        flowControl.adjust(true, 1000);
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+        Assertions.assertEquals(UNLIMITED, gate.getBytesPerSecond());
+
+        // and raised by a tenth of the bound up to the bound
+        flowControl.adjust(false, 1000);
+        Assertions.assertEquals(150, gate.getCountPerSecond());
+        for (int i = 0; i < 10; i++) {
+            flowControl.adjust(false, 1000);
+        }
+        Assertions.assertEquals(1000, gate.getCountPerSecond());
+
+        // an idle source keeps its limit
+        flowControl.adjust(true, 1000);
+        Assertions.assertEquals(1000, gate.getCountPerSecond());
+    }
+
+    @Test
+    public void testUnboundedLimit() {
+        FlowControlStrategy strategy = FlowControlStrategy.builder().adaptive(true).build();
+        FlowControlGate gate = FlowControlGate.create(strategy);
+        AdaptiveFlowControl flowControl = new AdaptiveFlowControl(gate, strategy);
+
+        flowControl.adjust(false, 1000);
+        Assertions.assertEquals(UNLIMITED, gate.getCountPerSecond());
+        audit(gate, 200);
+        flowControl.adjust(true, 1000);
+        Assertions.assertEquals(100, gate.getCountPerSecond());
+
+        // raised by a tenth of the rate before the congestion, removed at twice that rate
+        flowControl.adjust(false, 1000);
+        Assertions.assertEquals(120, gate.getCountPerSecond());
+        for (int i = 0; i < 13; i++) {
+            flowControl.adjust(false, 1000);
+        }
+        Assertions.assertEquals(380, gate.getCountPerSecond());
+        flowControl.adjust(false, 1000);
+        Assertions.assertEquals(UNLIMITED, gate.getCountPerSecond());
+    }
+
+    @Test
+    public void testSetLimits() {
+        FlowControlStrategy strategy =
+                FlowControlStrategy.builder().countPerSecond(1000).adaptive(true).build();
+        FlowControlGate gate = FlowControlGate.create(strategy);
+        AdaptiveFlowControl flowControl = new AdaptiveFlowControl(gate, strategy);
+
+        flowControl.setLimits(100 * 1024, 500);
+        Assertions.assertEquals(100 * 1024, gate.getBytesPerSecond());
+        Assertions.assertEquals(500, gate.getCountPerSecond());
+        audit(gate, 100);
+        flowControl.adjust(true, 1000);
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+        Assertions.assertTrue(gate.getBytesPerSecond() < 100 * 1024);
+
+        // the byte limit is not adjusted without a bound
+        flowControl.setLimits(UNLIMITED, UNLIMITED);
+        audit(gate, 100);
+        flowControl.adjust(true, 1000);
+        Assertions.assertEquals(UNLIMITED, gate.getBytesPerSecond());
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+    }
+
+    private static void audit(FlowControlGate gate, int rows) {
+        for (int i = 0; i < rows; i++) {
+            gate.audit(new SeaTunnelRow(new Object[] {i, "test"}));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfi
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageMode;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.SlotAllocationStrategy;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryMetricConfig;
@@ -96,6 +97,10 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.SLOT_NUM.key().equals(name)) {
                 slotServiceConfig.setSlotNum(
                         getIntegerValue(ServerConfigOptions.SLOT_NUM.key(), getTextContent(node)));
+            } else if (ServerConfigOptions.SLOT_ALLOCATION_STRATEGY.key().equals(name)) {
+                slotServiceConfig.setSlotAllocationStrategy(
+                        SlotAllocationStrategy.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
@@ -137,6 +142,13 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS.key().equals(name)) {
+                engineConfig.setTaskExecutionCooperativeThreads(
+                        getIntegerValue(
+                                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_VIRTUAL_THREADS.key().equals(name)) {
+                engineConfig.setTaskExecutionVirtualThreads(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
@@ -194,6 +206,13 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_UNALIGNED.key().equals(name)) {
+                checkpointConfig.setUnaligned(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_ALIGNED_TIMEOUT.key().equals(name)) {
+                checkpointConfig.setAlignedTimeout(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_ALIGNED_TIMEOUT.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
@@ -215,6 +234,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.key().equals(name)) {
+                checkpointStorageConfig.setIncremental(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE_PLUGIN_CONFIG.key().equals(name)) {
                 Map<String, String> pluginConfig = parseCheckpointPluginConfig(node);
                 checkpointStorageConfig.setStoragePluginConfig(pluginConfig);
@@ -37,6 +37,9 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private boolean unaligned = ServerConfigOptions.CHECKPOINT_UNALIGNED.defaultValue();
+    private long alignedTimeout = ServerConfigOptions.CHECKPOINT_ALIGNED_TIMEOUT.defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -51,6 +54,11 @@ public class CheckpointConfig implements Serializable {
         this.checkpointTimeout = checkpointTimeout;
     }
 
+    public void setAlignedTimeout(long alignedTimeout) {
+        checkArgument(alignedTimeout >= 0, "The aligned timeout must not be negative.");
+        this.alignedTimeout = alignedTimeout;
+    }
+
     public void setSchemaChangeCheckpointTimeout(long checkpointTimeout) {
         checkArgument(
                 checkpointTimeout >= MINIMAL_CHECKPOINT_TIME,
@@ -58,6 +58,20 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<Integer> TASK_EXECUTION_COOPERATIVE_THREADS =
+            Options.key("task_execution_cooperative_threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of threads that run the thread share tasks of TaskExecutionServer. Default is 0, which means the number of available processors");
+
+    public static final Option<Boolean> TASK_EXECUTION_VIRTUAL_THREADS =
+            Options.key("task_execution_virtual_threads")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the tasks that do not share threads and the multi table sink writers on virtual threads, which needs java 21 or later. Default is false");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -71,6 +85,13 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The number of slots. Only valid when dynamic slot is disabled.");
 
+    public static final Option<SlotAllocationStrategy> SLOT_ALLOCATION_STRATEGY =
+            Options.key("slot-allocation-strategy")
+                    .type(new TypeReference<SlotAllocationStrategy>() {})
+                    .defaultValue(SlotAllocationStrategy.RANDOM)
+                    .withDescription(
+                            "How to choose the worker of a slot, RANDOM or LOAD_AWARE. LOAD_AWARE scores the workers by the cpu, memory and task load of their heartbeats and keeps shuffle readers close to their writers.");
+
     public static final Option<Integer> CHECKPOINT_INTERVAL =
             Options.key("interval")
                     .intType()
@@ -91,6 +112,20 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The timeout (in milliseconds) for a schema change checkpoint.");
 
+    public static final Option<Boolean> CHECKPOINT_UNALIGNED =
+            Options.key("unaligned")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the barriers of checkpoints overtake the records buffered in the shuffle queues, the overtaken records are stored in the checkpoint.");
+
+    public static final Option<Integer> CHECKPOINT_ALIGNED_TIMEOUT =
+            Options.key("aligned-timeout")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The time (in milliseconds) after the trigger of an unaligned checkpoint, during which its barriers are still aligned. 0 means the barriers are unaligned at once.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE =
             Options.key("type")
                     .stringType()
@@ -103,6 +138,13 @@ public class ServerConfigOptions {
                     .defaultValue(20)
                     .withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether a checkpoint only stores the states changed since an earlier checkpoint.");
+
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
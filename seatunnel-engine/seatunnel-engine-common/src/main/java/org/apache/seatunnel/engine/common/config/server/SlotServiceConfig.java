@@ -30,6 +30,9 @@ public class SlotServiceConfig implements Serializable {
 
     private int slotNum = ServerConfigOptions.SLOT_NUM.defaultValue();
 
+    private SlotAllocationStrategy slotAllocationStrategy =
+            ServerConfigOptions.SLOT_ALLOCATION_STRATEGY.defaultValue();
+
     public void setSlotNum(int slotNum) {
         checkPositive(slotNum, ServerConfigOptions.SLOT_NUM + " must be > 0");
         this.slotNum = slotNum;
@@ -36,6 +36,8 @@ public class ShuffleConfig implements Config {
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
     private ShuffleStrategy shuffleStrategy;
+    /** Whether the barriers of checkpoints may overtake the records in the shuffle queues. */
+    private boolean unalignedCheckpoint;
 
     @Tolerate
     public ShuffleConfig() {}
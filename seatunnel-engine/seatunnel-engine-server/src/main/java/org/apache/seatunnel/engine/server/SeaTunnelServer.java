@@ -153,7 +153,8 @@ public class SeaTunnelServer
 
     private void startWorker() {
         taskExecutionService =
-                new TaskExecutionService(classLoaderService, nodeEngine, eventService);
+                new TaskExecutionService(
+                        classLoaderService, nodeEngine, eventService, seaTunnelConfig);
         nodeEngine.getMetricsRegistry().registerDynamicMetricsProvider(taskExecutionService);
         taskExecutionService.start();
         getSlotService();
@@ -19,12 +19,13 @@ package org.apache.seatunnel.engine.server;
 
 import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.event.Event;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
 import org.apache.seatunnel.api.tracing.MDCExecutorService;
 import org.apache.seatunnel.api.tracing.MDCTracer;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
+import org.apache.seatunnel.common.utils.VirtualThreadUtils;
 import org.apache.seatunnel.engine.common.Constant;
-import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
@@ -35,7 +36,6 @@ import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundExce
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
-import org.apache.seatunnel.engine.server.execution.TaskCallTimer;
 import org.apache.seatunnel.engine.server.execution.TaskDeployState;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -48,6 +48,7 @@ import org.apache.seatunnel.engine.server.execution.TaskTracker;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.SourceSeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 
@@ -60,6 +61,8 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
@@ -67,7 +70,6 @@ import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.net.URL;
@@ -77,9 +79,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -90,14 +92,15 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
@@ -107,6 +110,8 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.VIRTUAL_THREAD_PINNED_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.VIRTUAL_THREAD_PINNED_TIME;
 import static org.apache.seatunnel.api.common.metrics.MetricTags.JOB_ID;
 import static org.apache.seatunnel.api.common.metrics.MetricTags.PIPELINE_ID;
 import static org.apache.seatunnel.api.common.metrics.MetricTags.TASK_GROUP_ID;
@@ -121,12 +126,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     private final ClassLoaderService classLoaderService;
     private final ILogger logger;
     private volatile boolean isRunning = true;
-    private final LinkedBlockingDeque<TaskTracker> threadShareTaskQueue =
-            new LinkedBlockingDeque<>();
     private final ExecutorService executorService =
             newCachedThreadPool(new BlockingTaskThreadFactory());
-    private final RunBusWorkSupplier runBusWorkSupplier =
-            new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    // runs the blocking tasks, the same as executorService unless the tasks run on virtual threads
+    private final ExecutorService blockingTaskExecutorService;
+    private final CooperativeTaskScheduler cooperativeTaskScheduler;
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts =
             new ConcurrentHashMap<>();
@@ -146,11 +150,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    /** key: jobId, the writer overloaded events reported by the local sinks of the job. */
+    private final ConcurrentMap<Long, AtomicLong> writerOverloadedCounts =
+            new ConcurrentHashMap<>();
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
-            EventService eventService) {
-        seaTunnelConfig = ConfigProvider.locateAndGetSeaTunnelConfig();
+            EventService eventService,
+            SeaTunnelConfig seaTunnelConfig) {
+        this.seaTunnelConfig = seaTunnelConfig;
         this.hzInstanceName = nodeEngine.getHazelcastInstance().getName();
         this.nodeEngine = nodeEngine;
         this.classLoaderService = classLoaderService;
@@ -173,16 +182,52 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        boolean virtualThreads = seaTunnelConfig.getEngineConfig().isTaskExecutionVirtualThreads();
+        if (virtualThreads && !VirtualThreadUtils.isSupported()) {
+            logger.warning(
+                    String.format(
+                            "Virtual threads are not supported by java %s, use platform threads",
+                            System.getProperty("java.version")));
+            virtualThreads = false;
+        }
+        if (virtualThreads) {
+            logger.info("Run the blocking tasks on virtual threads");
+            this.blockingTaskExecutorService =
+                    VirtualThreadUtils.newVirtualThreadPerTaskExecutor(
+                            String.format("hz.%s.seaTunnel.task.virtual-thread-", hzInstanceName));
+            VirtualThreadUtils.startPinnedEventRecording();
+        } else {
+            this.blockingTaskExecutorService = executorService;
+        }
+
+        int cooperativeThreads =
+                seaTunnelConfig.getEngineConfig().getTaskExecutionCooperativeThreads();
+        this.cooperativeTaskScheduler =
+                new CooperativeTaskScheduler(
+                        cooperativeThreads > 0
+                                ? cooperativeThreads
+                                : Runtime.getRuntime().availableProcessors());
     }
 
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        cooperativeTaskScheduler.start();
     }
 
     public void shutdown() {
         isRunning = false;
+        cooperativeTaskScheduler.shutdown();
         executorService.shutdownNow();
+        blockingTaskExecutorService.shutdownNow();
         scheduledExecutorService.shutdown();
+        if (isVirtualThreadsEnabled()) {
+            VirtualThreadUtils.stopPinnedEventRecording();
+        }
+    }
+
+    /** @return whether the blocking tasks of this service run on virtual threads */
+    public boolean isVirtualThreadsEnabled() {
+        return blockingTaskExecutorService != executorService;
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -229,13 +274,13 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            taskTrackerStream.filter(Objects::nonNull).forEach(cooperativeTaskScheduler::submit);
         }
     }
 
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
+        MDCExecutorService mdcExecutorService = MDCTracer.tracing(blockingTaskExecutorService);
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
         taskGroupExecutionTracker.blockingFutures =
@@ -524,6 +569,13 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     public void notifyCleanTaskGroupContext(TaskGroupLocation taskGroupLocation) {
         finishedExecutionContexts.remove(taskGroupLocation);
+        long jobId = taskGroupLocation.getJobId();
+        if (Stream.concat(
+                        executionContexts.keySet().stream(),
+                        finishedExecutionContexts.keySet().stream())
+                .noneMatch(location -> location.getJobId() == jobId)) {
+            writerOverloadedCounts.remove(jobId);
+        }
     }
 
     @Override
@@ -535,6 +587,20 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
             contextMap.putAll(finishedExecutionContexts);
             contextMap.putAll(executionContexts);
+            if (isVirtualThreadsEnabled()) {
+                context.collect(
+                        copy1,
+                        VIRTUAL_THREAD_PINNED_COUNT,
+                        ProbeLevel.INFO,
+                        ProbeUnit.COUNT,
+                        VirtualThreadUtils.getPinnedCount());
+                context.collect(
+                        copy1,
+                        VIRTUAL_THREAD_PINNED_TIME,
+                        ProbeLevel.INFO,
+                        ProbeUnit.MS,
+                        TimeUnit.NANOSECONDS.toMillis(VirtualThreadUtils.getPinnedNanos()));
+            }
             contextMap.forEach(
                     (taskGroupLocation, taskGroupContext) -> {
                         MetricDescriptor copy2 =
@@ -580,28 +646,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
         IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
-        Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
-        contextMap.putAll(finishedExecutionContexts);
-        contextMap.putAll(executionContexts);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
-        contextMap.forEach(
-                (taskGroupLocation, taskGroupContext) -> {
-                    taskGroupContext
-                            .getTaskGroup()
-                            .getTasks()
-                            .forEach(
-                                    task -> {
-                                        // MetricsContext only exists in SeaTunnelTask
-                                        if (task instanceof SeaTunnelTask) {
-                                            SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
-                                            if (null != seaTunnelTask.getMetricsContext()) {
-                                                localMap.put(
-                                                        seaTunnelTask.getTaskLocation(),
-                                                        seaTunnelTask.getMetricsContext());
-                                            }
-                                        }
-                                    });
-                });
+        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = getMetricsContexts(true);
         if (!localMap.isEmpty()) {
             boolean lockedIMap = false;
             try {
@@ -638,11 +683,50 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         this.printTaskExecutionRuntimeInfo();
     }
 
+    /**
+     * @param withFinished whether the tasks of finished task groups are included
+     * @return the metrics contexts of the local tasks
+     */
+    public HashMap<TaskLocation, SeaTunnelMetricsContext> getMetricsContexts(boolean withFinished) {
+        Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
+        if (withFinished) {
+            contextMap.putAll(finishedExecutionContexts);
+        }
+        contextMap.putAll(executionContexts);
+        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
+        contextMap.forEach(
+                (taskGroupLocation, taskGroupContext) -> {
+                    taskGroupContext
+                            .getTaskGroup()
+                            .getTasks()
+                            .forEach(
+                                    task -> {
+                                        // MetricsContext only exists in SeaTunnelTask
+                                        if (task instanceof SeaTunnelTask) {
+                                            SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
+                                            if (null != seaTunnelTask.getMetricsContext()) {
+                                                localMap.put(
+                                                        seaTunnelTask.getTaskLocation(),
+                                                        seaTunnelTask.getMetricsContext());
+                                            }
+                                        }
+                                    });
+                });
+        return localMap;
+    }
+
+    /** @return the number of tasks of the running task groups */
+    public int getRunningTaskCount() {
+        return executionContexts.values().stream()
+                .mapToInt(context -> context.getTaskGroup().getTasks().size())
+                .sum();
+    }
+
     public void printTaskExecutionRuntimeInfo() {
         if (logger.isFineEnabled()) {
             ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
             int activeCount = threadPoolExecutor.getActiveCount();
-            int taskQueueSize = threadShareTaskQueue.size();
+            int taskQueueSize = cooperativeTaskScheduler.getQueuedTaskCount();
             long completedTaskCount = threadPoolExecutor.getCompletedTaskCount();
             long taskCount = threadPoolExecutor.getTaskCount();
             logger.fine(
@@ -660,9 +744,47 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     }
 
     public void reportEvent(Event e) {
+        if (e instanceof WriterOverloadedEvent && e.getJobId() != null) {
+            writerOverloadedCounts
+                    .computeIfAbsent(Long.parseLong(e.getJobId()), jobId -> new AtomicLong())
+                    .incrementAndGet();
+        }
         eventService.reportEvent(e);
     }
 
+    /** @return the writer overloaded events reported by the local sinks of the job */
+    public long getWriterOverloadedCount(long jobId) {
+        AtomicLong count = writerOverloadedCounts.get(jobId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Replace the read limits of the running local source tasks of the job, {@link
+     * Integer#MAX_VALUE} is unlimited.
+     *
+     * @return the number of source tasks whose limits were replaced
+     */
+    public int updateReadLimit(long jobId, int bytesPerSecond, int countPerSecond) {
+        int updated = 0;
+        for (Map.Entry<TaskGroupLocation, TaskGroupContext> entry : executionContexts.entrySet()) {
+            if (entry.getKey().getJobId() != jobId) {
+                continue;
+            }
+            for (Task task : entry.getValue().getTaskGroup().getTasks()) {
+                if (task instanceof SourceSeaTunnelTask
+                        && ((SourceSeaTunnelTask<?, ?>) task)
+                                .updateReadLimit(bytesPerSecond, countPerSecond)) {
+                    updated++;
+                }
+            }
+        }
+        logger.info(
+                String.format(
+                        "Update the read limits of %s source tasks of job %s to %s bytes and %s rows per second",
+                        updated, jobId, bytesPerSecond, countPerSecond));
+        return updated;
+    }
+
     private final class BlockingWorker implements Runnable {
 
         private final TaskTracker tracker;
@@ -673,6 +795,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             this.startedLatch = startedLatch;
         }
 
+        /** Continue a thread share task that was already initialized by a cooperative worker. */
+        private BlockingWorker(TaskTracker tracker) {
+            this(tracker, null);
+        }
+
         @Override
         public void run() {
             TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker =
@@ -686,9 +813,12 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             Thread.currentThread().setContextClassLoader(classLoader);
             final Task t = tracker.task;
             ProgressState result = null;
+            taskGroupExecutionTracker.currRunningTaskThreads.put(t.getTaskID(), currentThread());
             try {
-                startedLatch.countDown();
-                t.init();
+                if (startedLatch != null) {
+                    startedLatch.countDown();
+                    t.init();
+                }
                 do {
                     result = t.call();
                 } while (!result.isDone()
@@ -704,6 +834,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 logger.warning("Exception in " + t, e);
                 taskGroupExecutionTracker.exception(e);
             } finally {
+                taskGroupExecutionTracker.currRunningTaskThreads.remove(t.getTaskID());
                 taskGroupExecutionTracker.taskDone(t);
                 if (result == null || !result.isDone()) {
                     try {
@@ -731,137 +862,232 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     }
 
     /**
-     * CooperativeTaskWorker is used to poll the task call method, When a task times out, a new
-     * BusWork will be created to take over the execution of the task
+     * Runs the thread share tasks on a fixed number of {@link CooperativeTaskWorker}s. Each worker
+     * owns a deque of tasks and steals from the tail of the other deques once its own is empty, so
+     * slow tasks do not hold back the tasks queued behind them. A worker whose task call blocks
+     * longer than {@link #BLOCKED_CALL_TIMEOUT_MILLIS} is detached from the scheduler and a new
+     * worker takes over its deque. Once the blocking call returns, the detached worker puts the
+     * task back into the deque and its thread returns to the pool. A task that detached its worker
+     * {@link #MAX_BLOCKED_CALLS} times is not put back, the detached worker keeps running it alone
+     * on its thread. The number of threads is bounded by the number of workers plus the number of
+     * blocked calls.
+     */
+    public final class CooperativeTaskScheduler {
+
+        private static final long BLOCKED_CALL_TIMEOUT_MILLIS = 1000;
+        private static final int MAX_BLOCKED_CALLS = 3;
+        private static final long WATCHDOG_INTERVAL_MILLIS = 100;
+
+        private final CooperativeTaskWorker[] workers;
+        private final AtomicInteger nextWorker = new AtomicInteger();
+        private final ScheduledExecutorService watchdog =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r,
+                                            String.format(
+                                                    "hz.%s.seaTunnel.task.watchdog",
+                                                    hzInstanceName));
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        private CooperativeTaskScheduler(int workerCount) {
+            this.workers = new CooperativeTaskWorker[workerCount];
+        }
+
+        void start() {
+            for (int i = 0; i < workers.length; i++) {
+                startWorker(i, new LinkedBlockingDeque<>());
+            }
+            watchdog.scheduleWithFixedDelay(
+                    () -> {
+                        try {
+                            detachBlockedWorkers();
+                        } catch (Throwable e) {
+                            logger.warning("Failed to detach blocked cooperative workers", e);
+                        }
+                    },
+                    WATCHDOG_INTERVAL_MILLIS,
+                    WATCHDOG_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        void shutdown() {
+            watchdog.shutdownNow();
+        }
+
+        void submit(TaskTracker taskTracker) {
+            CooperativeTaskWorker worker =
+                    workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+            worker.taskQueue.offerLast(taskTracker);
+        }
+
+        int getQueuedTaskCount() {
+            int count = 0;
+            for (CooperativeTaskWorker worker : workers) {
+                count += worker.taskQueue.size();
+            }
+            return count;
+        }
+
+        private synchronized void startWorker(int index, LinkedBlockingDeque<TaskTracker> queue) {
+            CooperativeTaskWorker worker = new CooperativeTaskWorker(index, queue);
+            workers[index] = worker;
+            executorService.submit(worker);
+        }
+
+        private TaskTracker steal(CooperativeTaskWorker thief) {
+            for (int i = 1; i < workers.length; i++) {
+                CooperativeTaskWorker victim = workers[(thief.index + i) % workers.length];
+                TaskTracker taskTracker = victim.taskQueue.pollLast();
+                if (taskTracker != null) {
+                    return taskTracker;
+                }
+            }
+            return null;
+        }
+
+        private void detachBlockedWorkers() {
+            long now = System.nanoTime();
+            for (CooperativeTaskWorker worker : workers) {
+                long callStartNanos = worker.callStartNanos;
+                if (callStartNanos != 0
+                        && now - callStartNanos
+                                > TimeUnit.MILLISECONDS.toNanos(BLOCKED_CALL_TIMEOUT_MILLIS)
+                        && worker.detached.compareAndSet(false, true)) {
+                    logger.info(
+                            String.format(
+                                    "Task %s blocks cooperative worker %d, start a new worker for its deque",
+                                    worker.runningTask, worker.index));
+                    startWorker(worker.index, worker.taskQueue);
+                }
+            }
+        }
+    }
+
+    /**
+     * CooperativeTaskWorker polls the task call method of the tasks in its deque. Tasks that did
+     * not finish are put back to the end of the deque, and the worker backs off while none of its
+     * tasks makes progress.
      */
     public final class CooperativeTaskWorker implements Runnable {
 
-        AtomicBoolean keep = new AtomicBoolean(true);
-        public AtomicReference<TaskTracker> exclusiveTaskTracker = new AtomicReference<>();
-        final TaskCallTimer timer;
-        private Thread myThread;
-        public LinkedBlockingDeque<TaskTracker> taskQueue;
-        private Future<?> thisTaskFuture;
-        private BlockingQueue<Future<?>> futureBlockingQueue;
-
-        public CooperativeTaskWorker(
-                LinkedBlockingDeque<TaskTracker> taskQueue,
-                RunBusWorkSupplier runBusWorkSupplier,
-                BlockingQueue<Future<?>> futureBlockingQueue) {
-            logger.info(String.format("Created new BusWork : %s", this.hashCode()));
+        private static final long MAX_IDLE_NANOS = 1_000_000L;
+        private static final long EMPTY_QUEUE_POLL_MILLIS = 10;
+
+        private final int index;
+        private final LinkedBlockingDeque<TaskTracker> taskQueue;
+        private final AtomicBoolean detached = new AtomicBoolean(false);
+        // the start of the running task call, 0 if the worker does not call a task
+        private volatile long callStartNanos;
+        private volatile TaskTracker runningTask;
+        private long idleNanos;
+
+        private CooperativeTaskWorker(int index, LinkedBlockingDeque<TaskTracker> taskQueue) {
+            this.index = index;
             this.taskQueue = taskQueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
-            this.futureBlockingQueue = futureBlockingQueue;
         }
 
-        @SneakyThrows
         @Override
         public void run() {
-            thisTaskFuture = futureBlockingQueue.take();
-            futureBlockingQueue = null;
-            myThread = currentThread();
-            while (keep.get() && isRunning) {
-                TaskTracker taskTracker =
-                        null != exclusiveTaskTracker.get()
-                                ? exclusiveTaskTracker.get()
-                                : taskQueue.takeFirst();
-                TaskGroupExecutionTracker taskGroupExecutionTracker =
-                        taskTracker.taskGroupExecutionTracker;
-                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    if (null != exclusiveTaskTracker.get()) {
-                        // If it's exclusive need to end the work
-                        break;
-                    } else {
-                        // No action required and don't put back
-                        continue;
-                    }
-                }
-                taskGroupExecutionTracker.currRunningTaskFuture.put(
-                        taskTracker.task.getTaskID(), thisTaskFuture);
-                // start timer, if it's exclusive, don't need to start
-                if (null == exclusiveTaskTracker.get()) {
-                    timer.timerStart(taskTracker);
-                }
-                ProgressState call = null;
+            logger.info(String.format("Started cooperative worker %d", index));
+            int noProgressCalls = 0;
+            while (isRunning && !detached.get()) {
+                TaskTracker taskTracker;
                 try {
-                    // run task
-                    myThread.setContextClassLoader(
-                            executionContexts
-                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
-                                    .getClassLoaders()
-                                    .get(taskTracker.task.getTaskID()));
-                    call = taskTracker.task.call();
-                    synchronized (timer) {
-                        timer.timerStop();
-                    }
+                    taskTracker = nextTask(noProgressCalls);
                 } catch (InterruptedException e) {
-                    if (taskGroupExecutionTracker.executionException.get() == null
-                            && !taskGroupExecutionTracker.isCancel.get()) {
-                        taskGroupExecutionTracker.exception(e);
-                    }
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } catch (Throwable e) {
-                    // task Failure and complete
-                    taskGroupExecutionTracker.exception(e);
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    // If it's exclusive need to end the work
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } finally {
-                    // stop timer
-                    timer.timerStop();
-                    taskGroupExecutionTracker.currRunningTaskFuture.remove(
-                            taskTracker.task.getTaskID());
+                    // the interrupt was meant for a task call that already returned
+                    continue;
                 }
-                // task call finished
-                if (null != call) {
-                    if (call.isDone()) {
-                        // If it's exclusive, you need to end the work
-                        taskGroupExecutionTracker.taskDone(taskTracker.task);
-                        if (null != exclusiveTaskTracker.get()) {
-                            break;
-                        }
-                    } else {
-                        // Task is not completed. Put task to the end of the queue
-                        // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
-                            taskQueue.offer(taskTracker);
-                        }
-                    }
+                if (taskTracker == null) {
+                    continue;
+                }
+                ProgressState call = runTask(taskTracker);
+                if (call == null || call.isMadeProgress()) {
+                    noProgressCalls = 0;
+                    idleNanos = 0;
+                } else {
+                    noProgressCalls++;
                 }
             }
         }
-    }
-
-    /** Used to create a new BusWork and run */
-    public final class RunBusWorkSupplier {
-
-        ExecutorService executorService;
-        LinkedBlockingDeque<TaskTracker> taskQueue;
 
-        public RunBusWorkSupplier(
-                ExecutorService executorService, LinkedBlockingDeque<TaskTracker> taskqueue) {
-            this.executorService = executorService;
-            this.taskQueue = taskqueue;
+        private TaskTracker nextTask(int noProgressCalls) throws InterruptedException {
+            TaskTracker taskTracker = taskQueue.pollFirst();
+            if (taskTracker == null) {
+                taskTracker = cooperativeTaskScheduler.steal(this);
+            }
+            if (taskTracker == null) {
+                return taskQueue.pollFirst(EMPTY_QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (noProgressCalls > taskQueue.size()) {
+                // none of the tasks of this worker made progress since the last round
+                idleNanos = Math.min(MAX_IDLE_NANOS, Math.max(1000, idleNanos * 2));
+                LockSupport.parkNanos(idleNanos);
+            }
+            return taskTracker;
         }
 
-        public boolean runNewBusWork(boolean checkTaskQueue) {
-            if (!checkTaskQueue || !taskQueue.isEmpty()) {
-                BlockingQueue<Future<?>> futureBlockingQueue = new LinkedBlockingQueue<>();
-                CooperativeTaskWorker cooperativeTaskWorker =
-                        new CooperativeTaskWorker(taskQueue, this, futureBlockingQueue);
-                Future<?> submit = executorService.submit(cooperativeTaskWorker);
-                futureBlockingQueue.add(submit);
-                return true;
+        private ProgressState runTask(TaskTracker taskTracker) {
+            TaskGroupExecutionTracker taskGroupExecutionTracker =
+                    taskTracker.taskGroupExecutionTracker;
+            Task task = taskTracker.task;
+            if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                taskGroupExecutionTracker.taskDone(task);
+                return null;
+            }
+            Thread myThread = currentThread();
+            taskGroupExecutionTracker.currRunningTaskThreads.put(task.getTaskID(), myThread);
+            runningTask = taskTracker;
+            callStartNanos = System.nanoTime();
+            ProgressState call = null;
+            try {
+                myThread.setContextClassLoader(
+                        executionContexts
+                                .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                                .getClassLoaders()
+                                .get(task.getTaskID()));
+                call = task.call();
+            } catch (InterruptedException e) {
+                if (taskGroupExecutionTracker.executionException.get() == null
+                        && !taskGroupExecutionTracker.isCancel.get()) {
+                    taskGroupExecutionTracker.exception(e);
+                }
+                taskGroupExecutionTracker.taskDone(task);
+                logger.warning("Exception in " + task, e);
+            } catch (Throwable e) {
+                // task Failure and complete
+                taskGroupExecutionTracker.exception(e);
+                taskGroupExecutionTracker.taskDone(task);
+                logger.warning("Exception in " + task, e);
+            } finally {
+                callStartNanos = 0;
+                runningTask = null;
+                taskGroupExecutionTracker.currRunningTaskThreads.remove(task.getTaskID());
+                // clear an interrupt that came after the call returned
+                Thread.interrupted();
+            }
+            if (call != null) {
+                if (call.isDone()) {
+                    taskGroupExecutionTracker.taskDone(task);
+                } else if (detached.get()
+                        && taskTracker.expiredTimes.incrementAndGet()
+                                >= CooperativeTaskScheduler.MAX_BLOCKED_CALLS) {
+                    // the task keeps blocking the workers, run it on this thread alone from now on
+                    logger.info(
+                            String.format(
+                                    "Task %s blocked cooperative workers %d times, run it on a blocking thread",
+                                    task, taskTracker.expiredTimes.get()));
+                    new BlockingWorker(taskTracker).run();
+                } else {
+                    // a detached worker hands the task to the worker that took over the deque
+                    taskQueue.offerLast(taskTracker);
+                }
             }
-            return false;
+            return call;
         }
     }
 
@@ -880,7 +1106,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
         private final AtomicBoolean isCancel = new AtomicBoolean(false);
 
-        private final Map<Long, Future<?>> currRunningTaskFuture = new ConcurrentHashMap<>();
+        // the threads that run a call of a thread share task or a blocking task at the moment
+        private final Map<Long, Thread> currRunningTaskThreads = new ConcurrentHashMap<>();
 
         TaskGroupExecutionTracker(
                 @NonNull CompletableFuture<Void> cancellationFuture,
@@ -911,7 +1138,18 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         private void cancelAllTask(TaskGroupLocation taskGroupLocation) {
             try {
                 blockingFutures.forEach(f -> f.cancel(true));
-                currRunningTaskFuture.values().forEach(f -> f.cancel(true));
+                // the thread is only interrupted while it still calls the task, a thread that
+                // returned from the call waits for the interrupt before it removes the task
+                currRunningTaskThreads
+                        .keySet()
+                        .forEach(
+                                taskId ->
+                                        currRunningTaskThreads.computeIfPresent(
+                                                taskId,
+                                                (id, thread) -> {
+                                                    thread.interrupt();
+                                                    return thread;
+                                                }));
             } catch (CancellationException ignore) {
                 // ignore
             }
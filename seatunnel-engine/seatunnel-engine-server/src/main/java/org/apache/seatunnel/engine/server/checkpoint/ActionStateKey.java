@@ -38,4 +38,9 @@ public class ActionStateKey implements Serializable {
     public static ActionStateKey of(Action action) {
         return new ActionStateKey("ActionStateKey - " + action.getName());
     }
+
+    /** The key of the records a shuffle reader stores in unaligned checkpoints. */
+    public static ActionStateKey ofInFlightRecords(Action action) {
+        return new ActionStateKey("InFlightRecords - " + action.getName());
+    }
 }
@@ -30,4 +30,10 @@ public class ActionSubtaskState implements Serializable {
     private final ActionStateKey stateKey;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * The id of the earlier checkpoint that stores the state, it is only set in an incremental
+     * checkpoint if the state did not change since that checkpoint, the state is null then.
+     */
+    private Long sharedCheckpointId;
 }
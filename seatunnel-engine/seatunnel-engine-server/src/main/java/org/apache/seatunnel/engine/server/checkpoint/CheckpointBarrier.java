@@ -39,6 +39,12 @@ public class CheckpointBarrier implements Barrier, Serializable {
     private final Set<TaskLocation> prepareCloseTasks;
     private final Set<TaskLocation> closedTasks;
 
+    /**
+     * The time in milliseconds after the trigger during which the barrier is aligned, a negative
+     * value if the barrier is always aligned.
+     */
+    private final long alignedTimeout;
+
     public CheckpointBarrier(long id, long timestamp, CheckpointType checkpointType) {
         this(id, timestamp, checkpointType, Collections.emptySet(), Collections.emptySet());
     }
@@ -49,7 +55,18 @@ public class CheckpointBarrier implements Barrier, Serializable {
             CheckpointType checkpointType,
             Set<TaskLocation> prepareCloseTasks,
             Set<TaskLocation> closedTasks) {
+        this(id, timestamp, checkpointType, prepareCloseTasks, closedTasks, -1);
+    }
+
+    public CheckpointBarrier(
+            long id,
+            long timestamp,
+            CheckpointType checkpointType,
+            Set<TaskLocation> prepareCloseTasks,
+            Set<TaskLocation> closedTasks,
+            long alignedTimeout) {
         this.id = id;
+        this.alignedTimeout = alignedTimeout;
         this.timestamp = timestamp;
         this.checkpointType = checkNotNull(checkpointType);
         this.prepareCloseTasks = prepareCloseTasks;
@@ -83,6 +100,20 @@ public class CheckpointBarrier implements Barrier, Serializable {
         return Collections.unmodifiableSet(closedTasks);
     }
 
+    /**
+     * Whether the barrier may overtake the records buffered before it, which are stored in the
+     * checkpoint then. Only general checkpoints that close no task are unaligned, the other
+     * checkpoints rely on the order of records and barriers.
+     *
+     * @param now the current time in milliseconds
+     */
+    public boolean isUnaligned(long now) {
+        return alignedTimeout >= 0
+                && checkpointType.isGeneralCheckpoint()
+                && prepareCloseTasks.isEmpty()
+                && now - timestamp >= alignedTimeout;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hashCode(id, timestamp, checkpointType);
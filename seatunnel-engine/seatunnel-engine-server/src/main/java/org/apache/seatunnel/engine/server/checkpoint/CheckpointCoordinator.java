@@ -75,6 +75,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneakyThrow;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.CHECKPOINT_TYPE;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.SAVEPOINT_TYPE;
@@ -119,6 +120,8 @@ public class CheckpointCoordinator {
 
     private final ArrayDeque<String> completedCheckpointIds;
 
+    private final IncrementalCheckpointRegistry incrementalCheckpointRegistry;
+
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
     private final CheckpointConfig coordinatorConfig;
@@ -177,6 +180,7 @@ public class CheckpointCoordinator {
         this.pendingCheckpoints = new ConcurrentHashMap<>();
         this.completedCheckpointIds =
                 new ArrayDeque<>(coordinatorConfig.getStorage().getMaxRetainedCheckpoints() + 1);
+        this.incrementalCheckpointRegistry = new IncrementalCheckpointRegistry();
         this.scheduler =
                 Executors.newScheduledThreadPool(
                         2,
@@ -203,8 +207,18 @@ public class CheckpointCoordinator {
                 jobId,
                 plan);
         if (pipelineState != null) {
-            this.latestCompletedCheckpoint =
+            CompletedCheckpoint restoredCheckpoint =
                     serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            List<Long> storedCheckpointIds =
+                    incrementalCheckpointRegistry.restore(restoredCheckpoint, this::loadCheckpoint);
+            if (coordinatorConfig.getStorage().isIncremental()
+                    && !restoredCheckpoint.getCheckpointType().isSavepoint()) {
+                // the restored checkpoint and the checkpoints it refers to are retained like the
+                // new checkpoints, so they are deleted once no retained checkpoint refers to them
+                storedCheckpointIds.forEach(
+                        id -> completedCheckpointIds.addLast(String.valueOf(id)));
+            }
+            this.latestCompletedCheckpoint = restoredCheckpoint;
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -241,6 +255,21 @@ public class CheckpointCoordinator {
         return pipelineId;
     }
 
+    private CompletedCheckpoint loadCheckpoint(long checkpointId) {
+        PipelineState pipelineState =
+                sneaky(
+                        () ->
+                                checkpointStorage.getCheckpoint(
+                                        String.valueOf(jobId),
+                                        String.valueOf(pipelineId),
+                                        String.valueOf(checkpointId)));
+        if (pipelineState == null) {
+            return null;
+        }
+        return sneaky(
+                () -> serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class));
+    }
+
     // --------------------------------------------------------------------------------------------
     // The start step of the coordinator
     // --------------------------------------------------------------------------------------------
@@ -629,7 +658,11 @@ public class CheckpointCoordinator {
                                                                     .getCheckpointTimestamp(),
                                                             pendingCheckpoint.getCheckpointType(),
                                                             new HashSet<>(readyToCloseIdleTask),
-                                                            new HashSet<>(closedIdleTask)),
+                                                            new HashSet<>(closedIdleTask),
+                                                            coordinatorConfig.isUnaligned()
+                                                                    ? coordinatorConfig
+                                                                            .getAlignedTimeout()
+                                                                    : -1),
                                             executorService)
                                     .thenApplyAsync(this::triggerCheckpoint, executorService);
 
@@ -837,6 +870,10 @@ public class CheckpointCoordinator {
         }
     }
 
+    private List<Long> retainedCheckpointIds() {
+        return completedCheckpointIds.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
@@ -850,8 +887,18 @@ public class CheckpointCoordinator {
         final long checkpointId = completedCheckpoint.getCheckpointId();
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
         try {
+            boolean incremental = coordinatorConfig.getStorage().isIncremental();
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
+                // savepoints are self-contained, they are kept after the job is stopped
+                byte[] states =
+                        serializer.serialize(
+                                incremental
+                                                && !completedCheckpoint
+                                                        .getCheckpointType()
+                                                        .isSavepoint()
+                                        ? incrementalCheckpointRegistry.toIncremental(
+                                                completedCheckpoint, retainedCheckpointIds())
+                                        : completedCheckpoint);
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
@@ -872,6 +919,19 @@ public class CheckpointCoordinator {
                         i++) {
                     needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
                 }
+                if (incremental) {
+                    // checkpoints still referred to by retained checkpoints are deleted later
+                    needDeleteCheckpointId =
+                            incrementalCheckpointRegistry
+                                    .expire(
+                                            needDeleteCheckpointId.stream()
+                                                    .map(Long::valueOf)
+                                                    .collect(Collectors.toList()),
+                                            retainedCheckpointIds())
+                                    .stream()
+                                    .map(String::valueOf)
+                                    .collect(Collectors.toList());
+                }
                 checkpointStorage.deleteCheckpoint(
                         String.valueOf(completedCheckpoint.getJobId()),
                         String.valueOf(completedCheckpoint.getPipelineId()),
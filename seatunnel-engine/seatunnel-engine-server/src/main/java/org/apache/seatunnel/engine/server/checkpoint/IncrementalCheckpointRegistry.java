@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Tracks which stored checkpoint holds the state of each subtask. An incremental checkpoint only
+ * stores the subtask states that changed since an earlier retained checkpoint and refers to that
+ * checkpoint for the other states, so a checkpoint file can only be deleted when no retained
+ * checkpoint refers to it any more.
+ */
+public class IncrementalCheckpointRegistry {
+
+    /** The latest stored state of each subtask. */
+    private final Map<SubtaskKey, StoredState> storedStates = new HashMap<>();
+
+    /** checkpoint id -> ids of the earlier checkpoints it refers to. */
+    private final Map<Long, Set<Long>> references = new HashMap<>();
+
+    /** Checkpoints out of retention that are still referred to. */
+    private final Set<Long> expiredCheckpointIds = new LinkedHashSet<>();
+
+    /**
+     * Create the checkpoint to store, the unchanged subtask states refer to the checkpoint that
+     * stores them. A state is stored again if that checkpoint is not retained any more, so every
+     * reference expires after at most two retention windows.
+     *
+     * @param retainedCheckpointIds the stored checkpoints that can be referred to
+     */
+    public CompletedCheckpoint toIncremental(
+            CompletedCheckpoint checkpoint, Collection<Long> retainedCheckpointIds) {
+        long checkpointId = checkpoint.getCheckpointId();
+        Set<Long> referredCheckpointIds = new HashSet<>();
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            ActionState stored = new ActionState(entry.getKey(), actionState.getParallelism());
+            for (int i = -1; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState subtaskState =
+                        i < 0
+                                ? actionState.getCoordinatorState()
+                                : actionState.getSubtaskStates().get(i);
+                if (subtaskState == null) {
+                    continue;
+                }
+                SubtaskKey key = new SubtaskKey(entry.getKey(), i);
+                StoredState storedState = storedStates.get(key);
+                if (storedState != null
+                        && retainedCheckpointIds.contains(storedState.checkpointId)
+                        && sameState(storedState.state, subtaskState.getState())) {
+                    ActionSubtaskState reference =
+                            new ActionSubtaskState(
+                                    subtaskState.getStateKey(), subtaskState.getIndex(), null);
+                    reference.setSharedCheckpointId(storedState.checkpointId);
+                    referredCheckpointIds.add(storedState.checkpointId);
+                    stored.reportState(i, reference);
+                } else {
+                    storedStates.put(key, new StoredState(checkpointId, subtaskState.getState()));
+                    stored.reportState(i, subtaskState);
+                }
+            }
+            taskStates.put(entry.getKey(), stored);
+        }
+        if (!referredCheckpointIds.isEmpty()) {
+            references.put(checkpointId, referredCheckpointIds);
+        }
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpointId,
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                taskStates,
+                checkpoint.getTaskStatistics());
+    }
+
+    /**
+     * Expire checkpoints that are out of retention.
+     *
+     * @param retainedCheckpointIds the checkpoints that are still retained
+     * @return the expired checkpoints that no retained checkpoint refers to and can be deleted, the
+     *     others are returned by a later call once they are not referred to any more
+     */
+    public List<Long> expire(
+            Collection<Long> expiredCheckpointIds, Collection<Long> retainedCheckpointIds) {
+        this.expiredCheckpointIds.addAll(expiredCheckpointIds);
+        Set<Long> referredCheckpointIds = new HashSet<>();
+        for (Long retainedCheckpointId : retainedCheckpointIds) {
+            referredCheckpointIds.addAll(
+                    references.getOrDefault(retainedCheckpointId, new HashSet<>()));
+        }
+        List<Long> deletableCheckpointIds = new ArrayList<>();
+        Iterator<Long> iterator = this.expiredCheckpointIds.iterator();
+        while (iterator.hasNext()) {
+            Long checkpointId = iterator.next();
+            if (!referredCheckpointIds.contains(checkpointId)) {
+                iterator.remove();
+                references.remove(checkpointId);
+                deletableCheckpointIds.add(checkpointId);
+            }
+        }
+        return deletableCheckpointIds;
+    }
+
+    /**
+     * Rebuild the stored states and references of a restored checkpoint, so that the next
+     * checkpoints can refer to its states and the checkpoints it refers to are deleted once they
+     * expire. The references of the checkpoint are replaced with the referred states like {@link
+     * #resolve}.
+     *
+     * @param loader loads a stored checkpoint by id
+     * @return the ids of the restored checkpoint and the checkpoints it refers to in ascending
+     *     order
+     */
+    public List<Long> restore(
+            CompletedCheckpoint checkpoint, Function<Long, CompletedCheckpoint> loader) {
+        long checkpointId = checkpoint.getCheckpointId();
+        Map<SubtaskKey, Long> storedCheckpointIds = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            for (int i = -1; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState subtaskState =
+                        i < 0
+                                ? actionState.getCoordinatorState()
+                                : actionState.getSubtaskStates().get(i);
+                if (subtaskState != null) {
+                    storedCheckpointIds.put(
+                            new SubtaskKey(entry.getKey(), i),
+                            subtaskState.getSharedCheckpointId() == null
+                                    ? checkpointId
+                                    : subtaskState.getSharedCheckpointId());
+                }
+            }
+        }
+        resolve(checkpoint, loader);
+        Set<Long> referredCheckpointIds = new HashSet<>();
+        for (Map.Entry<SubtaskKey, Long> entry : storedCheckpointIds.entrySet()) {
+            SubtaskKey key = entry.getKey();
+            ActionState actionState = checkpoint.getTaskStates().get(key.stateKey);
+            ActionSubtaskState subtaskState =
+                    key.index < 0
+                            ? actionState.getCoordinatorState()
+                            : actionState.getSubtaskStates().get(key.index);
+            storedStates.put(key, new StoredState(entry.getValue(), subtaskState.getState()));
+            if (entry.getValue() != checkpointId) {
+                referredCheckpointIds.add(entry.getValue());
+            }
+        }
+        if (!referredCheckpointIds.isEmpty()) {
+            references.put(checkpointId, referredCheckpointIds);
+        }
+        List<Long> checkpointIds = new ArrayList<>(referredCheckpointIds);
+        Collections.sort(checkpointIds);
+        checkpointIds.add(checkpointId);
+        return checkpointIds;
+    }
+
+    /**
+     * Replace the references of a stored checkpoint with the states of the referred checkpoints.
+     *
+     * @param loader loads a stored checkpoint by id
+     * @return the checkpoint with all states
+     */
+    public static CompletedCheckpoint resolve(
+            CompletedCheckpoint checkpoint, Function<Long, CompletedCheckpoint> loader) {
+        Map<Long, CompletedCheckpoint> referredCheckpoints = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            for (int i = -1; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState subtaskState =
+                        i < 0
+                                ? actionState.getCoordinatorState()
+                                : actionState.getSubtaskStates().get(i);
+                if (subtaskState == null || subtaskState.getSharedCheckpointId() == null) {
+                    continue;
+                }
+                CompletedCheckpoint referredCheckpoint =
+                        referredCheckpoints.computeIfAbsent(
+                                subtaskState.getSharedCheckpointId(), loader);
+                ActionState referredState =
+                        referredCheckpoint == null
+                                ? null
+                                : referredCheckpoint.getTaskStates().get(entry.getKey());
+                ActionSubtaskState sharedState =
+                        referredState == null
+                                ? null
+                                : i < 0
+                                        ? referredState.getCoordinatorState()
+                                        : referredState.getSubtaskStates().get(i);
+                if (sharedState == null || sharedState.getState() == null) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "The state of %s[%s] in checkpoint %s refers to checkpoint %s, which does not store it",
+                                    entry.getKey(),
+                                    i,
+                                    checkpoint.getCheckpointId(),
+                                    subtaskState.getSharedCheckpointId()));
+                }
+                actionState.reportState(i, sharedState);
+            }
+        }
+        return checkpoint;
+    }
+
+    private static boolean sameState(List<byte[]> state, List<byte[]> other) {
+        if (state == null || other == null || state.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < state.size(); i++) {
+            if (!Arrays.equals(state.get(i), other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class SubtaskKey {
+        private final ActionStateKey stateKey;
+        /** The subtask index, -1 for the coordinator. */
+        private final int index;
+    }
+
+    @AllArgsConstructor
+    private static class StoredState {
+        private final long checkpointId;
+        private final List<byte[]> state;
+    }
+}
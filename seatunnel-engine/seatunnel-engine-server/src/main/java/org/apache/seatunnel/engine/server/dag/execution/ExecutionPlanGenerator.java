@@ -260,7 +260,10 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .unalignedCheckpoint(engineConfig.getCheckpointConfig().isUnaligned())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -119,6 +119,9 @@ public class PhysicalPlanGenerator {
      */
     private final Map<TaskLocation, Set<Tuple2<ActionStateKey, Integer>>> subtaskActions;
 
+    /** The in-flight record states of shuffle readers, which are not actions of the pipeline. */
+    private final Map<ActionStateKey, Integer> inFlightActions;
+
     private final IMap<Object, Object> runningJobStateIMap;
 
     private final IMap<Object, Object> runningJobStateTimestampsIMap;
@@ -145,6 +148,7 @@ public class PhysicalPlanGenerator {
         this.pipelineTasks = new HashSet<>();
         this.startingTasks = new HashSet<>();
         this.subtaskActions = new HashMap<>();
+        this.inFlightActions = new HashMap<>();
         this.runningJobStateIMap = runningJobStateIMap;
         this.runningJobStateTimestampsIMap = runningJobStateTimestampsIMap;
         this.queueType = queueType;
@@ -170,6 +174,7 @@ public class PhysicalPlanGenerator {
                                     this.pipelineTasks.clear();
                                     this.startingTasks.clear();
                                     this.subtaskActions.clear();
+                                    this.inFlightActions.clear();
                                     final int pipelineId = pipeline.getId();
                                     final List<ExecutionEdge> edges = pipeline.getEdges();
 
@@ -200,6 +205,7 @@ public class PhysicalPlanGenerator {
                                                     .pipelineSubtasks(pipelineTasks)
                                                     .startingSubtasks(startingTasks)
                                                     .pipelineActions(pipeline.getActions())
+                                                    .pipelineActions(inFlightActions)
                                                     .subtaskActions(subtaskActions)
                                                     .build());
                                     return new SubPlan(
@@ -661,6 +667,12 @@ public class PhysicalPlanGenerator {
                                         Tuple2.tuple2(
                                                 stateKey, task.getTaskLocation().getTaskIndex()))
                         .collect(Collectors.toSet()));
+        ShuffleAction shuffleSourceAction = task.getShuffleSourceAction();
+        if (shuffleSourceAction != null) {
+            inFlightActions.put(
+                    ActionStateKey.ofInFlightRecords(shuffleSourceAction),
+                    shuffleSourceAction.getParallelism());
+        }
     }
 
     /**
@@ -17,18 +17,26 @@
 
 package org.apache.seatunnel.engine.server.dag.physical;
 
+import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.resourcemanager.NoEnoughResourceException;
 import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 
+import com.hazelcast.cluster.Address;
 import lombok.NonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 public class ResourceUtils {
 
@@ -45,13 +53,39 @@ public class ResourceUtils {
                                         applyResourceForTask(
                                                 resourceManager, coordinator, subPlan.getTags())));
 
+        // with a locality aware allocation the shuffle readers are placed after the writers,
+        // preferring the workers of the writers
+        boolean localityAware = resourceManager.isLocalityAware();
+        List<PhysicalVertex> shuffleReaders = new ArrayList<>();
+        List<CompletableFuture<SlotProfile>> shuffleWriters = new ArrayList<>();
         subPlan.getPhysicalVertexList()
                 .forEach(
-                        task ->
-                                futures.put(
-                                        task.getTaskGroupLocation(),
-                                        applyResourceForTask(
-                                                resourceManager, task, subPlan.getTags())));
+                        task -> {
+                            if (localityAware && anyTask(task, SeaTunnelTask::isShuffleReader)) {
+                                shuffleReaders.add(task);
+                                return;
+                            }
+                            CompletableFuture<SlotProfile> future =
+                                    applyResourceForTask(resourceManager, task, subPlan.getTags());
+                            futures.put(task.getTaskGroupLocation(), future);
+                            if (anyTask(task, SeaTunnelTask::isShuffleWriter)) {
+                                shuffleWriters.add(future);
+                            }
+                        });
+        if (!shuffleReaders.isEmpty()) {
+            CompletableFuture<Set<Address>> writerWorkers = workersOf(shuffleWriters);
+            shuffleReaders.forEach(
+                    task ->
+                            futures.put(
+                                    task.getTaskGroupLocation(),
+                                    writerWorkers.thenCompose(
+                                            workers ->
+                                                    applyResourceForTask(
+                                                            resourceManager,
+                                                            task,
+                                                            subPlan.getTags(),
+                                                            workers))));
+        }
 
         futures.forEach(
                 (key, value) -> {
@@ -69,10 +103,49 @@ public class ResourceUtils {
         }
     }
 
+    /**
+     * @return the workers of the slots once all of them are applied, a slot that could not be
+     *     applied is left out as it fails the pipeline anyway
+     */
+    static CompletableFuture<Set<Address>> workersOf(List<CompletableFuture<SlotProfile>> slots) {
+        return CompletableFuture.allOf(slots.toArray(new CompletableFuture[0]))
+                .handle(
+                        (ignored, e) -> {
+                            Set<Address> workers = new HashSet<>();
+                            for (CompletableFuture<SlotProfile> slot : slots) {
+                                if (!slot.isCompletedExceptionally()) {
+                                    workers.add(slot.join().getWorker());
+                                }
+                            }
+                            return workers;
+                        });
+    }
+
+    private static boolean anyTask(PhysicalVertex vertex, Predicate<SeaTunnelTask> predicate) {
+        for (Task task : vertex.getTaskGroup().getTasks()) {
+            if (task instanceof SeaTunnelTask && predicate.test((SeaTunnelTask) task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static CompletableFuture<SlotProfile> applyResourceForTask(
             ResourceManager resourceManager, PhysicalVertex task, Map<String, String> tags) {
         // TODO custom resource size
         return resourceManager.applyResource(
                 task.getTaskGroupLocation().getJobId(), new ResourceProfile(), tags);
     }
+
+    public static CompletableFuture<SlotProfile> applyResourceForTask(
+            ResourceManager resourceManager,
+            PhysicalVertex task,
+            Map<String, String> tags,
+            Set<Address> preferredWorkers) {
+        return resourceManager.applyResource(
+                task.getTaskGroupLocation().getJobId(),
+                new ResourceProfile(),
+                tags,
+                preferredWorkers);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.BACK_PRESSURED_TIME;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.IDLE_TIME;
+
+/**
+ * The time a task is blocked on its output and waits for its input. Both are meters of
+ * milliseconds, so their rates are the milliseconds per second. A vertex that is rarely idle and
+ * not back pressured, while its upstream vertex is back pressured, is the bottleneck of the job.
+ *
+ * <p>Blocking calls are measured in slices of at most {@link #MAX_WAIT_MILLIS}, so a task that is
+ * blocked for a long time is reported while it waits.
+ */
+public class BackPressureMetrics {
+
+    public static final long MAX_WAIT_MILLIS = 100;
+
+    private final Meter backPressuredTime;
+
+    private final Meter idleTime;
+
+    /** The nanoseconds below a millisecond that are not marked yet. */
+    private long backPressuredNanos;
+
+    private long idleNanos;
+
+    public BackPressureMetrics(MetricsContext metricsContext) {
+        this.backPressuredTime = metricsContext.meter(BACK_PRESSURED_TIME);
+        this.idleTime = metricsContext.meter(IDLE_TIME);
+    }
+
+    public synchronized void addBackPressuredTime(long nanos) {
+        backPressuredNanos = mark(backPressuredTime, backPressuredNanos + nanos);
+    }
+
+    public synchronized void addIdleTime(long nanos) {
+        idleNanos = mark(idleTime, idleNanos + nanos);
+    }
+
+    /** @return the total milliseconds the task was back pressured */
+    public long getBackPressuredMillis() {
+        return backPressuredTime.getCount();
+    }
+
+    private static long mark(Meter meter, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (millis > 0) {
+            meter.markEvent(millis);
+        }
+        return nanos - TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.Metric;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 
@@ -30,10 +33,17 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.Map;
+
 @Slf4j
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
 
+    public Map<String, Metric> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor tagger, MetricsCollectionContext context) {
         metrics.forEach(
@@ -46,12 +56,58 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                                 toProbeUnit(metric.unit()),
                                 ((Counter) metric).getCount());
                     } else if (metric instanceof Meter) {
+                        Meter meter = (Meter) metric;
+                        ProbeUnit unit = toProbeUnit(metric.unit());
+                        context.collect(
+                                tagger.copy(), name, ProbeLevel.INFO, unit, meter.getRate());
                         context.collect(
                                 tagger.copy(),
-                                name,
+                                MetricNames.withSuffix(name, MetricNames.ONE_MINUTE_RATE),
                                 ProbeLevel.INFO,
-                                toProbeUnit(metric.unit()),
-                                ((Meter) metric).getRate());
+                                unit,
+                                meter.getOneMinuteRate());
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.FIVE_MINUTE_RATE),
+                                ProbeLevel.INFO,
+                                unit,
+                                meter.getFiveMinuteRate());
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.FIFTEEN_MINUTE_RATE),
+                                ProbeLevel.INFO,
+                                unit,
+                                meter.getFifteenMinuteRate());
+                    } else if (metric instanceof Histogram) {
+                        Histogram histogram = (Histogram) metric;
+                        if (histogram.getCount() == 0) {
+                            return;
+                        }
+                        ProbeUnit unit = toProbeUnit(metric.unit());
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.P50),
+                                ProbeLevel.INFO,
+                                unit,
+                                histogram.getQuantile(0.5));
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.P95),
+                                ProbeLevel.INFO,
+                                unit,
+                                histogram.getQuantile(0.95));
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.P99),
+                                ProbeLevel.INFO,
+                                unit,
+                                histogram.getQuantile(0.99));
+                        context.collect(
+                                tagger.copy(),
+                                MetricNames.withSuffix(name, MetricNames.MAX),
+                                ProbeLevel.INFO,
+                                unit,
+                                histogram.getMax());
                     } else {
                         throw new SeaTunnelException(
                                 "The value of Metric does not support "
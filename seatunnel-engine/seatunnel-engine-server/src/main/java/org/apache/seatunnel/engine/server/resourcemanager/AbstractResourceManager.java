@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server.resourcemanager;
 
 import org.apache.seatunnel.engine.common.config.EngineConfig;
 import org.apache.seatunnel.engine.common.runtime.ExecutionMode;
+import org.apache.seatunnel.engine.server.resourcemanager.allocation.WorkerSelector;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ReleaseSlotOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ResetResourceOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.SyncWorkerProfileOperation;
@@ -39,6 +40,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -57,6 +59,8 @@ public abstract class AbstractResourceManager implements ResourceManager {
 
     private final EngineConfig engineConfig;
 
+    private final WorkerSelector workerSelector;
+
     private volatile boolean isRunning = true;
 
     public AbstractResourceManager(NodeEngine nodeEngine, EngineConfig engineConfig) {
@@ -64,6 +68,8 @@ public abstract class AbstractResourceManager implements ResourceManager {
         this.nodeEngine = nodeEngine;
         this.engineConfig = engineConfig;
         this.mode = engineConfig.getMode();
+        this.workerSelector =
+                WorkerSelector.of(engineConfig.getSlotServiceConfig().getSlotAllocationStrategy());
     }
 
     @Override
@@ -105,8 +111,22 @@ public abstract class AbstractResourceManager implements ResourceManager {
     public CompletableFuture<SlotProfile> applyResource(
             long jobId, ResourceProfile resourceProfile, Map<String, String> tagFilter)
             throws NoEnoughResourceException {
+        return applyResource(jobId, resourceProfile, tagFilter, Collections.emptySet());
+    }
+
+    @Override
+    public CompletableFuture<SlotProfile> applyResource(
+            long jobId,
+            ResourceProfile resourceProfile,
+            Map<String, String> tagFilter,
+            Set<Address> preferredWorkers)
+            throws NoEnoughResourceException {
         CompletableFuture<SlotProfile> completableFuture = new CompletableFuture<>();
-        applyResources(jobId, Collections.singletonList(resourceProfile), tagFilter)
+        applyResources(
+                        jobId,
+                        Collections.singletonList(resourceProfile),
+                        tagFilter,
+                        preferredWorkers)
                 .whenComplete(
                         (profile, error) -> {
                             if (error != null) {
@@ -145,13 +165,24 @@ public abstract class AbstractResourceManager implements ResourceManager {
     public CompletableFuture<List<SlotProfile>> applyResources(
             long jobId, List<ResourceProfile> resourceProfile, Map<String, String> tagFilter)
             throws NoEnoughResourceException {
+        return applyResources(jobId, resourceProfile, tagFilter, Collections.emptySet());
+    }
+
+    @Override
+    public CompletableFuture<List<SlotProfile>> applyResources(
+            long jobId,
+            List<ResourceProfile> resourceProfile,
+            Map<String, String> tagFilter,
+            Set<Address> preferredWorkers)
+            throws NoEnoughResourceException {
         waitingWorkerRegister();
         ConcurrentMap<Address, WorkerProfile> matchedWorker = filterWorkerByTag(tagFilter);
         if (matchedWorker.isEmpty()) {
             log.error("No matched worker with tag filter {}.", tagFilter);
             throw new NoEnoughResourceException();
         }
-        return new ResourceRequestHandler(jobId, resourceProfile, matchedWorker, this)
+        return new ResourceRequestHandler(
+                        jobId, resourceProfile, matchedWorker, this, preferredWorkers)
                 .request(tagFilter);
     }
 
@@ -239,6 +270,16 @@ public abstract class AbstractResourceManager implements ResourceManager {
             log.debug("received worker heartbeat from: " + workerProfile.getAddress());
         }
         registerWorker.put(workerProfile.getAddress(), workerProfile);
+        workerSelector.heartbeat(workerProfile);
+    }
+
+    WorkerSelector getWorkerSelector() {
+        return workerSelector;
+    }
+
+    @Override
+    public boolean isLocalityAware() {
+        return workerSelector.isLocalityAware();
     }
 
     @Override
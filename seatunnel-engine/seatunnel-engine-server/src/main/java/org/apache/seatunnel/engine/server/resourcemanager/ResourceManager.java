@@ -21,10 +21,12 @@ import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfi
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
 
+import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.services.MembershipServiceEvent;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 public interface ResourceManager {
@@ -34,10 +36,35 @@ public interface ResourceManager {
             long jobId, ResourceProfile resourceProfile, Map<String, String> tagFilter)
             throws NoEnoughResourceException;
 
+    /**
+     * Apply for a slot, preferring the given workers if they have enough resources and the slot
+     * allocation strategy takes locality into account.
+     *
+     * @param preferredWorkers the workers of the task groups the slot exchanges data with
+     */
+    CompletableFuture<SlotProfile> applyResource(
+            long jobId,
+            ResourceProfile resourceProfile,
+            Map<String, String> tagFilter,
+            Set<Address> preferredWorkers)
+            throws NoEnoughResourceException;
+
     CompletableFuture<List<SlotProfile>> applyResources(
             long jobId, List<ResourceProfile> resourceProfile, Map<String, String> tagFilter)
             throws NoEnoughResourceException;
 
+    /** Whether the slot allocation strategy takes the preferred workers into account. */
+    default boolean isLocalityAware() {
+        return false;
+    }
+
+    CompletableFuture<List<SlotProfile>> applyResources(
+            long jobId,
+            List<ResourceProfile> resourceProfile,
+            Map<String, String> tagFilter,
+            Set<Address> preferredWorkers)
+            throws NoEnoughResourceException;
+
     CompletableFuture<Void> releaseResources(long jobId, List<SlotProfile> profiles);
 
     CompletableFuture<Void> releaseResource(long jobId, SlotProfile profile);
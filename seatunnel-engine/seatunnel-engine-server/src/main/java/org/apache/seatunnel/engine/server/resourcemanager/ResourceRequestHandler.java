@@ -35,9 +35,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 
@@ -62,17 +64,29 @@ public class ResourceRequestHandler {
 
     private final AbstractResourceManager resourceManager;
 
+    private final Set<Address> preferredWorkers;
+
     public ResourceRequestHandler(
             long jobId,
             List<ResourceProfile> resourceProfile,
             ConcurrentMap<Address, WorkerProfile> registerWorker,
             AbstractResourceManager resourceManager) {
+        this(jobId, resourceProfile, registerWorker, resourceManager, Collections.emptySet());
+    }
+
+    public ResourceRequestHandler(
+            long jobId,
+            List<ResourceProfile> resourceProfile,
+            ConcurrentMap<Address, WorkerProfile> registerWorker,
+            AbstractResourceManager resourceManager,
+            Set<Address> preferredWorkers) {
         this.completableFuture = new CompletableFuture<>();
         this.resultSlotProfiles = new ConcurrentHashMap<>();
         this.jobId = jobId;
         this.resourceProfile = resourceProfile;
         this.registerWorker = registerWorker;
         this.resourceManager = resourceManager;
+        this.preferredWorkers = preferredWorkers;
     }
 
     public CompletableFuture<List<SlotProfile>> request(Map<String, String> tags) {
@@ -207,12 +221,10 @@ public class ResourceRequestHandler {
 
     @VisibleForTesting
     public Optional<WorkerProfile> preCheckWorkerResource(ResourceProfile r) {
-        // Shuffle the order to ensure random selection of workers
         List<WorkerProfile> workerProfiles =
                 Arrays.asList(registerWorker.values().toArray(new WorkerProfile[0]));
-        Collections.shuffle(workerProfiles);
         // Check if there are still unassigned slots
-        Optional<WorkerProfile> workerProfile =
+        List<WorkerProfile> candidates =
                 workerProfiles.stream()
                         .filter(
                                 worker ->
@@ -221,18 +233,18 @@ public class ResourceRequestHandler {
                                                         slot ->
                                                                 slot.getResourceProfile()
                                                                         .enoughThan(r)))
-                        .findAny();
+                        .collect(Collectors.toList());
 
-        if (!workerProfile.isPresent()) {
+        if (candidates.isEmpty()) {
             // Check if there are still unassigned resources
-            workerProfile =
+            candidates =
                     workerProfiles.stream()
                             .filter(WorkerProfile::isDynamicSlot)
                             .filter(worker -> worker.getUnassignedResource().enoughThan(r))
-                            .findAny();
+                            .collect(Collectors.toList());
         }
 
-        return workerProfile;
+        return resourceManager.getWorkerSelector().select(candidates, preferredWorkers);
     }
 
     /**
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.allocation;
+
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Choose the worker with the lowest load score. The score weighs the cpu load, the heap usage and
+ * the running tasks per processor that the worker reported in its last heartbeat. The slots chosen
+ * since that heartbeat count as running tasks, so a burst of requests is spread instead of stacked
+ * on the worker that was idle a moment ago. Workers that run the writers of the shuffle a slot
+ * reads get a bonus, which keeps the shuffle local unless the worker is much busier than the
+ * others.
+ */
+public class LoadAwareWorkerSelector implements WorkerSelector {
+
+    private static final double CPU_WEIGHT = 0.3;
+    private static final double MEMORY_WEIGHT = 0.3;
+    private static final double TASK_WEIGHT = 0.4;
+    private static final double LOCALITY_BONUS = 0.2;
+
+    private final ConcurrentMap<Address, AtomicInteger> pendingSlots = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isLocalityAware() {
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<WorkerProfile> select(
+            List<WorkerProfile> candidates, Set<Address> preferredWorkers) {
+        Optional<WorkerProfile> worker =
+                candidates.stream()
+                        .min(Comparator.comparingDouble(w -> score(w, preferredWorkers)));
+        worker.ifPresent(
+                w ->
+                        pendingSlots
+                                .computeIfAbsent(w.getAddress(), address -> new AtomicInteger())
+                                .incrementAndGet());
+        return worker;
+    }
+
+    @Override
+    public void heartbeat(WorkerProfile workerProfile) {
+        pendingSlots.remove(workerProfile.getAddress());
+    }
+
+    double score(WorkerProfile worker, Set<Address> preferredWorkers) {
+        AtomicInteger pending = pendingSlots.get(worker.getAddress());
+        // slots that are assigned but not yet deployed have no running tasks
+        int tasks =
+                Math.max(worker.getRunningTasks(), worker.getAssignedSlots().length)
+                        + (pending == null ? 0 : pending.get());
+        double taskLoad = (double) tasks / Math.max(1, worker.getProcessors());
+        double score =
+                CPU_WEIGHT * Math.min(1, Math.max(0, worker.getCpuLoad()))
+                        + MEMORY_WEIGHT * worker.getMemoryUsage()
+                        + TASK_WEIGHT * taskLoad;
+        if (preferredWorkers.contains(worker.getAddress())) {
+            score -= LOCALITY_BONUS;
+        }
+        return score;
+    }
+}
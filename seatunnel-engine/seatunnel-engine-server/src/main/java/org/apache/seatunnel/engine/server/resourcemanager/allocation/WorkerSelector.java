@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.allocation;
+
+import org.apache.seatunnel.engine.common.config.server.SlotAllocationStrategy;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/** Choose the worker of a slot among the workers that have enough resources for it. */
+public interface WorkerSelector {
+
+    /**
+     * @param candidates the workers that have enough resources for the slot
+     * @param preferredWorkers the workers that run the task groups the slot exchanges data with
+     */
+    Optional<WorkerProfile> select(List<WorkerProfile> candidates, Set<Address> preferredWorkers);
+
+    /** Called with the latest profile of a worker, which contains the slots chosen so far. */
+    default void heartbeat(WorkerProfile workerProfile) {}
+
+    /** Whether {@link #select} takes the preferred workers into account. */
+    default boolean isLocalityAware() {
+        return false;
+    }
+
+    static WorkerSelector of(SlotAllocationStrategy strategy) {
+        switch (strategy) {
+            case LOAD_AWARE:
+                return new LoadAwareWorkerSelector();
+            case RANDOM:
+            default:
+                return new RandomWorkerSelector();
+        }
+    }
+}
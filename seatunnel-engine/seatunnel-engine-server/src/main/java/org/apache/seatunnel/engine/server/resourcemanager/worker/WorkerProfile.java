@@ -25,7 +25,6 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.IOException;
@@ -35,7 +34,6 @@ import java.util.Map;
  * Used to describe the status of the current Worker, including address and resource assign status
  */
 @Data
-@AllArgsConstructor
 public class WorkerProfile implements IdentifiedDataSerializable {
 
     private Address address;
@@ -52,6 +50,34 @@ public class WorkerProfile implements IdentifiedDataSerializable {
 
     private Map<String, String> attributes;
 
+    /** The system load average per processor, negative if the system does not provide it. */
+    private double cpuLoad = -1;
+
+    /** The used part of the maximum heap memory. */
+    private double memoryUsage;
+
+    /** The number of tasks of the running task groups. */
+    private int runningTasks;
+
+    private int processors = 1;
+
+    public WorkerProfile(
+            Address address,
+            ResourceProfile profile,
+            ResourceProfile unassignedResource,
+            boolean dynamicSlot,
+            SlotProfile[] assignedSlots,
+            SlotProfile[] unassignedSlots,
+            Map<String, String> attributes) {
+        this.address = address;
+        this.profile = profile;
+        this.unassignedResource = unassignedResource;
+        this.dynamicSlot = dynamicSlot;
+        this.assignedSlots = assignedSlots;
+        this.unassignedSlots = unassignedSlots;
+        this.attributes = attributes;
+    }
+
     public WorkerProfile(Address address) {
         this.address = address;
         this.unassignedResource = new ResourceProfile();
@@ -86,6 +112,10 @@ public class WorkerProfile implements IdentifiedDataSerializable {
         }
         out.writeBoolean(dynamicSlot);
         out.writeObject(attributes);
+        out.writeDouble(cpuLoad);
+        out.writeDouble(memoryUsage);
+        out.writeInt(runningTasks);
+        out.writeInt(processors);
     }
 
     @Override
@@ -105,5 +135,9 @@ public class WorkerProfile implements IdentifiedDataSerializable {
         }
         dynamicSlot = in.readBoolean();
         attributes = in.readObject();
+        cpuLoad = in.readDouble();
+        memoryUsage = in.readDouble();
+        runningTasks = in.readInt();
+        processors = in.readInt();
     }
 }
@@ -45,6 +45,8 @@ public class RestConstant {
 
     public static final String METRICS = "metrics";
 
+    public static final String UPDATED_TASKS = "updatedTasks";
+
     public static final String OVERVIEW = "/hazelcast/rest/maps/overview";
     public static final String RUNNING_JOBS_URL = "/hazelcast/rest/maps/running-jobs";
     @Deprecated public static final String RUNNING_JOB_URL = "/hazelcast/rest/maps/running-job";
@@ -64,6 +66,7 @@ public class RestConstant {
     public static final String STOP_JOB_URL = "/hazelcast/rest/maps/stop-job";
     public static final String STOP_JOBS_URL = "/hazelcast/rest/maps/stop-jobs";
     public static final String UPDATE_TAGS_URL = "/hazelcast/rest/maps/update-tags";
+    public static final String UPDATE_READ_LIMIT_URL = "/hazelcast/rest/maps/update-read-limit";
 
     // metrics
     public static final String TELEMETRY_METRICS_URL = "/hazelcast/rest/instance/metrics";
@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.JsonUtils;
@@ -76,14 +77,31 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.BACK_PRESSURED_TIME;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.BUSY_TIME;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_ALIGNMENT_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.FIFTEEN_MINUTE_RATE;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.FIVE_MINUTE_RATE;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.IDLE_TIME;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.MAX;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.ONE_MINUTE_RATE;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.P50;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.P95;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.P99;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_COMMIT_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_QPS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_POLL_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_TO_SINK_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.TRANSFORM_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.withSuffix;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.FINISHED_JOBS_INFO;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.JOB_INFO_URL;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.OVERVIEW;
@@ -97,6 +115,8 @@ import static org.apache.seatunnel.engine.server.rest.RestConstant.THREAD_DUMP;
 
 public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCommand> {
 
+    private static final String BACK_PRESSURE = "BackPressure";
+    private static final String BACK_PRESSURE_LEVEL = "BackPressureLevel";
     private static final String TABLE_SOURCE_RECEIVED_COUNT = "TableSourceReceivedCount";
     private static final String TABLE_SINK_WRITE_COUNT = "TableSinkWriteCount";
     private static final String TABLE_SOURCE_RECEIVED_QPS = "TableSourceReceivedQPS";
@@ -423,12 +443,34 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         String[] countMetricsNames = {
             SOURCE_RECEIVED_COUNT, SINK_WRITE_COUNT, SOURCE_RECEIVED_BYTES, SINK_WRITE_BYTES
         };
-        String[] rateMetricsNames = {
-            SOURCE_RECEIVED_QPS,
-            SINK_WRITE_QPS,
-            SOURCE_RECEIVED_BYTES_PER_SECONDS,
-            SINK_WRITE_BYTES_PER_SECONDS
-        };
+        String[] rateMetricsNames =
+                Stream.of(
+                                SOURCE_RECEIVED_QPS,
+                                SINK_WRITE_QPS,
+                                SOURCE_RECEIVED_BYTES_PER_SECONDS,
+                                SINK_WRITE_BYTES_PER_SECONDS)
+                        .flatMap(
+                                name ->
+                                        Stream.of(
+                                                name,
+                                                withSuffix(name, ONE_MINUTE_RATE),
+                                                withSuffix(name, FIVE_MINUTE_RATE),
+                                                withSuffix(name, FIFTEEN_MINUTE_RATE)))
+                        .toArray(String[]::new);
+        // latencies are not additive, the slowest task of the job is reported
+        String[] latencyMetricsNames =
+                Stream.of(
+                                SOURCE_POLL_LATENCY,
+                                TRANSFORM_LATENCY,
+                                SINK_WRITE_LATENCY,
+                                CHECKPOINT_ALIGNMENT_LATENCY,
+                                SINK_COMMIT_LATENCY,
+                                SOURCE_TO_SINK_LATENCY)
+                        .flatMap(
+                                name ->
+                                        Stream.of(P50, P95, P99, MAX)
+                                                .map(suffix -> withSuffix(name, suffix)))
+                        .toArray(String[]::new);
         String[] tableCountMetricsNames = {
             TABLE_SOURCE_RECEIVED_COUNT,
             TABLE_SINK_WRITE_COUNT,
@@ -441,6 +483,9 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
             TABLE_SOURCE_RECEIVED_BYTES_PER_SECONDS,
             TABLE_SINK_WRITE_BYTES_PER_SECONDS
         };
+        // the slowest task of the source to sink latencies of each table, e.g.
+        // TableSourceToSinkLatencyP99 -> {db.t -> 1200}
+        Map<String, Map<String, Long>> tableLatencyMetrics = new HashMap<>();
         Long[] metricsSums =
                 Stream.generate(() -> 0L).limit(countMetricsNames.length).toArray(Long[]::new);
         Double[] metricsRates =
@@ -472,6 +517,20 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                                     JsonNode metricNode = jobMetricsStr.get(metricName);
                                     processMetric(
                                             metricName, tableName, metricNode, tableMetricsMaps);
+                                    String latencyName = metricName.split("#")[0];
+                                    if (latencyName.startsWith(SOURCE_TO_SINK_LATENCY)
+                                            && metricNode.isArray()) {
+                                        Map<String, Long> tableLatencies =
+                                                tableLatencyMetrics.computeIfAbsent(
+                                                        "Table" + latencyName,
+                                                        name -> new HashMap<>());
+                                        for (JsonNode node : metricNode) {
+                                            tableLatencies.merge(
+                                                    tableName,
+                                                    node.path("value").asLong(),
+                                                    Math::max);
+                                        }
+                                    }
                                 }
                             });
 
@@ -482,6 +541,21 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                     metricsRates,
                     ArrayUtils.addAll(countMetricsNames, rateMetricsNames));
 
+            for (String latencyMetricsName : latencyMetricsNames) {
+                JsonNode metricNode = jobMetricsStr.get(latencyMetricsName);
+                if (metricNode != null && metricNode.isArray()) {
+                    long latency = 0;
+                    for (JsonNode node : metricNode) {
+                        latency = Math.max(latency, node.path("value").asLong());
+                    }
+                    metricsMap.put(latencyMetricsName, latency);
+                }
+            }
+            metricsMap.putAll(tableLatencyMetrics);
+            Map<String, Object> backPressure = getBackPressure(jobMetricsStr);
+            if (!backPressure.isEmpty()) {
+                metricsMap.put(BACK_PRESSURE, backPressure);
+            }
         } catch (JsonProcessingException e) {
             return metricsMap;
         }
@@ -501,6 +575,65 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         return metricsMap;
     }
 
+    /**
+     * The back pressure of each vertex, i.e. of the tasks that run the same actions. The values are
+     * of the most back pressured and of the busiest task. A vertex that is busy but not back
+     * pressured, while the vertex before it is back pressured, is the bottleneck of the job.
+     */
+    private Map<String, Object> getBackPressure(JsonNode jobMetricsStr) {
+        String[] timeMetricsNames = {BACK_PRESSURED_TIME, IDLE_TIME};
+        // task -> the milliseconds per second of each time metric
+        Map<String, double[]> taskTimes = new HashMap<>();
+        Map<String, String> taskVertices = new HashMap<>();
+        for (int i = 0; i < timeMetricsNames.length; i++) {
+            JsonNode metricNode = jobMetricsStr.get(timeMetricsNames[i]);
+            if (metricNode == null || !metricNode.isArray()) {
+                continue;
+            }
+            for (JsonNode node : metricNode) {
+                JsonNode tags = node.path("tags");
+                if (!tags.hasNonNull(MetricTags.VERTEX)) {
+                    continue;
+                }
+                String task =
+                        tags.path(MetricTags.TASK_GROUP_LOCATION).asText()
+                                + "/"
+                                + tags.path(MetricTags.TASK_ID).asText();
+                taskVertices.put(task, tags.get(MetricTags.VERTEX).asText());
+                taskTimes.computeIfAbsent(task, key -> new double[timeMetricsNames.length])[i] =
+                        node.path("value").asDouble();
+            }
+        }
+
+        Map<String, Map<String, Object>> vertices = new HashMap<>();
+        taskTimes.forEach(
+                (task, times) -> {
+                    double busyTime = Math.max(0, 1000 - times[0] - times[1]);
+                    Map<String, Object> vertex =
+                            vertices.computeIfAbsent(
+                                    taskVertices.get(task), name -> new HashMap<>());
+                    vertex.merge(BACK_PRESSURED_TIME, Math.round(times[0]), this::max);
+                    vertex.merge(IDLE_TIME, Math.round(times[1]), this::max);
+                    vertex.merge(BUSY_TIME, Math.round(busyTime), this::max);
+                });
+        Map<String, Object> backPressure = new HashMap<>();
+        vertices.forEach(
+                (name, vertex) -> {
+                    long backPressuredTime = (long) vertex.get(BACK_PRESSURED_TIME);
+                    vertex.put(
+                            BACK_PRESSURE_LEVEL,
+                            backPressuredTime > 500
+                                    ? "HIGH"
+                                    : backPressuredTime > 100 ? "LOW" : "OK");
+                    backPressure.put(name, vertex);
+                });
+        return backPressure;
+    }
+
+    private Object max(Object value1, Object value2) {
+        return Math.max((long) value1, (long) value2);
+    }
+
     private void processMetric(
             String metricName,
             String tableName,
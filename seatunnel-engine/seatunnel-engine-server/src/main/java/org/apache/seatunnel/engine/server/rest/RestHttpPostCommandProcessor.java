@@ -35,11 +35,13 @@ import org.apache.seatunnel.engine.server.log.Log4j2HttpPostCommandProcessor;
 import org.apache.seatunnel.engine.server.operation.CancelJobOperation;
 import org.apache.seatunnel.engine.server.operation.SavePointJobOperation;
 import org.apache.seatunnel.engine.server.operation.SubmitJobOperation;
+import org.apache.seatunnel.engine.server.task.operation.source.UpdateReadLimitOperation;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 import org.apache.seatunnel.engine.server.utils.RestUtil;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.hazelcast.cluster.Member;
 import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.internal.ascii.TextCommandService;
 import com.hazelcast.internal.ascii.rest.HttpCommandProcessor;
@@ -64,6 +66,7 @@ import static org.apache.seatunnel.engine.server.rest.RestConstant.STOP_JOBS_URL
 import static org.apache.seatunnel.engine.server.rest.RestConstant.STOP_JOB_URL;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.SUBMIT_JOBS_URL;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.SUBMIT_JOB_URL;
+import static org.apache.seatunnel.engine.server.rest.RestConstant.UPDATE_READ_LIMIT_URL;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.UPDATE_TAGS_URL;
 
 public class RestHttpPostCommandProcessor extends HttpCommandProcessor<HttpPostCommand> {
@@ -99,6 +102,8 @@ public class RestHttpPostCommandProcessor extends HttpCommandProcessor<HttpPostC
                 handleEncrypt(httpPostCommand);
             } else if (uri.startsWith(UPDATE_TAGS_URL)) {
                 handleUpdateTags(httpPostCommand);
+            } else if (uri.startsWith(UPDATE_READ_LIMIT_URL)) {
+                handleUpdateReadLimit(httpPostCommand);
             } else {
                 original.handle(httpPostCommand);
             }
@@ -286,6 +291,47 @@ public class RestHttpPostCommandProcessor extends HttpCommandProcessor<HttpPostC
                         .add("message", "update node tags done."));
     }
 
+    private void handleUpdateReadLimit(HttpPostCommand httpPostCommand) {
+        Map<String, Object> params = JsonUtils.toMap(requestHandle(httpPostCommand));
+        if (params.get(RestConstant.JOB_ID) == null) {
+            throw new IllegalArgumentException("jobId cannot be empty.");
+        }
+        long jobId = Long.parseLong(params.get(RestConstant.JOB_ID).toString());
+        // a limit that is not set is unlimited, like in the job config
+        int bytesPerSecond = readLimit(params, EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND.key());
+        int countPerSecond = readLimit(params, EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND.key());
+
+        NodeEngineImpl nodeEngine = getSeaTunnelServer().getNodeEngine();
+        int updatedTasks = 0;
+        for (Member member : nodeEngine.getClusterService().getMembers()) {
+            updatedTasks +=
+                    (Integer)
+                            NodeEngineUtil.sendOperationToMemberNode(
+                                            nodeEngine,
+                                            new UpdateReadLimitOperation(
+                                                    jobId, bytesPerSecond, countPerSecond),
+                                            member.getAddress())
+                                    .join();
+        }
+        this.prepareResponse(
+                httpPostCommand,
+                new JsonObject()
+                        .add(RestConstant.JOB_ID, String.valueOf(jobId))
+                        .add(RestConstant.UPDATED_TASKS, updatedTasks));
+    }
+
+    private static int readLimit(Map<String, Object> params, String key) {
+        Object value = params.get(key);
+        if (value == null) {
+            return Integer.MAX_VALUE;
+        }
+        int limit = Integer.parseInt(value.toString());
+        if (limit <= 0) {
+            throw new IllegalArgumentException(key + " must be positive.");
+        }
+        return limit;
+    }
+
     @Override
     public void handleRejection(HttpPostCommand httpPostCommand) {
         handle(httpPostCommand);
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table id dictionary plus one compiled {@link SeaTunnelRowCodec} per table. The dictionary index
+ * of a table is its position in the catalog table list, so every task built from the same shuffle
+ * strategy agrees on it without any exchange.
+ */
+@Slf4j
+public class MultipleTableRowCodec {
+    private final String[] tableIds;
+    private final Map<String, Integer> tableIndexes;
+    private final SeaTunnelRowCodec[] codecs;
+    private final boolean[] encodeDisabled;
+
+    public MultipleTableRowCodec(List<CatalogTable> catalogTables) {
+        this.tableIds = new String[catalogTables.size()];
+        this.tableIndexes = new HashMap<>();
+        this.codecs = new SeaTunnelRowCodec[catalogTables.size()];
+        this.encodeDisabled = new boolean[catalogTables.size()];
+        for (int i = 0; i < catalogTables.size(); i++) {
+            CatalogTable catalogTable = catalogTables.get(i);
+            String tableId = catalogTable.getTableId().toTablePath().toString();
+            SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+            tableIds[i] = tableId;
+            tableIndexes.put(tableId, i);
+            if (SeaTunnelRowCodec.isSupported(rowType)) {
+                codecs[i] = SeaTunnelRowCodec.of(rowType);
+            } else {
+                log.info("Table [{}] is not supported by binary row codec, fallback", tableId);
+            }
+        }
+    }
+
+    /**
+     * Encode the row with the codec of its table.
+     *
+     * @return the encoded row, or the row itself if its table has no usable codec
+     */
+    public Object encode(SeaTunnelRow row) {
+        Integer tableIndex = tableIndexes.get(row.getTableId());
+        if (tableIndex == null) {
+            return row;
+        }
+        SeaTunnelRowCodec codec = codecs[tableIndex];
+        if (codec == null || encodeDisabled[tableIndex] || codec.getArity() != row.getArity()) {
+            return row;
+        }
+        try {
+            return new EncodedSeaTunnelRow(tableIndex, codec.encode(row));
+        } catch (IOException | ClassCastException e) {
+            log.warn(
+                    "Table [{}] row does not match its schema, disable binary row codec",
+                    row.getTableId(),
+                    e);
+            encodeDisabled[tableIndex] = true;
+            return row;
+        }
+    }
+
+    public SeaTunnelRow decode(EncodedSeaTunnelRow encodedRow) throws IOException {
+        SeaTunnelRow row = codecs[encodedRow.getTableIndex()].decode(encodedRow.getPayload());
+        row.setTableId(tableIds[encodedRow.getTableIndex()]);
+        return row;
+    }
+
+    /**
+     * Stop encoding rows of the table, used once its schema changed. Rows already encoded can still
+     * be decoded because the codec itself is kept.
+     */
+    public void disable(String tableId) {
+        Integer tableIndex = tableIndexes.get(tableId);
+        if (tableIndex != null && !encodeDisabled[tableIndex]) {
+            log.info("Table [{}] schema changed, disable binary row codec", tableId);
+            encodeDisabled[tableIndex] = true;
+        }
+    }
+}
@@ -22,6 +22,9 @@ import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelSwitch;
+import org.apache.seatunnel.engine.server.task.shuffle.UnalignedBarrier;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -33,20 +36,24 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        ENCODED_SEATUNNEL_ROW,
+        SHUFFLE_CHANNEL_SWITCH,
+        UNALIGNED_BARRIER,
+        LATENCY_MARKER;
     }
 
     @Override
     public void write(ObjectDataOutput out, Record record) throws IOException {
         Object data = record.getData();
         if (data instanceof CheckpointBarrier) {
-            CheckpointBarrier checkpointBarrier = (CheckpointBarrier) data;
             out.writeByte(RecordDataType.CHECKPOINT_BARRIER.ordinal());
-            out.writeLong(checkpointBarrier.getId());
-            out.writeLong(checkpointBarrier.getTimestamp());
-            out.writeString(checkpointBarrier.getCheckpointType().getName());
-            out.writeObject(checkpointBarrier.getPrepareCloseTasks());
-            out.writeObject(checkpointBarrier.getClosedTasks());
+            writeBarrier(out, (CheckpointBarrier) data);
+        } else if (data instanceof UnalignedBarrier) {
+            UnalignedBarrier unalignedBarrier = (UnalignedBarrier) data;
+            out.writeByte(RecordDataType.UNALIGNED_BARRIER.ordinal());
+            out.writeLong(unalignedBarrier.getPosition());
+            writeBarrier(out, unalignedBarrier.getBarrier());
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
@@ -56,6 +63,19 @@ public class RecordSerializer implements StreamSerializer<Record> {
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof EncodedSeaTunnelRow) {
+            EncodedSeaTunnelRow row = (EncodedSeaTunnelRow) data;
+            out.writeByte(RecordDataType.ENCODED_SEATUNNEL_ROW.ordinal());
+            SeaTunnelRowCodec.writeVarInt(out, row.getTableIndex());
+            SeaTunnelRowCodec.writeVarInt(out, row.getPayload().length);
+            out.write(row.getPayload());
+        } else if (data instanceof ShuffleChannelSwitch) {
+            out.writeByte(RecordDataType.SHUFFLE_CHANNEL_SWITCH.ordinal());
+        } else if (data instanceof LatencyMarker) {
+            LatencyMarker marker = (LatencyMarker) data;
+            out.writeByte(RecordDataType.LATENCY_MARKER.ordinal());
+            out.writeLong(marker.getMarkedTime());
+            out.writeString(marker.getTableId());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -67,13 +87,10 @@ public class RecordSerializer implements StreamSerializer<Record> {
         Object data;
         byte dataType = in.readByte();
         if (dataType == RecordDataType.CHECKPOINT_BARRIER.ordinal()) {
-            data =
-                    new CheckpointBarrier(
-                            in.readLong(),
-                            in.readLong(),
-                            CheckpointType.fromName(in.readString()),
-                            in.readObject(),
-                            in.readObject());
+            data = readBarrier(in);
+        } else if (dataType == RecordDataType.UNALIGNED_BARRIER.ordinal()) {
+            long position = in.readLong();
+            data = new UnalignedBarrier(readBarrier(in), position);
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
@@ -85,6 +102,15 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.ENCODED_SEATUNNEL_ROW.ordinal()) {
+            int tableIndex = SeaTunnelRowCodec.readVarInt(in);
+            byte[] payload = new byte[SeaTunnelRowCodec.readVarInt(in)];
+            in.readFully(payload);
+            data = new EncodedSeaTunnelRow(tableIndex, payload);
+        } else if (dataType == RecordDataType.SHUFFLE_CHANNEL_SWITCH.ordinal()) {
+            data = ShuffleChannelSwitch.INSTANCE;
+        } else if (dataType == RecordDataType.LATENCY_MARKER.ordinal()) {
+            data = new LatencyMarker(in.readLong(), in.readString());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
@@ -92,6 +118,26 @@ public class RecordSerializer implements StreamSerializer<Record> {
         return new Record(data);
     }
 
+    private static void writeBarrier(ObjectDataOutput out, CheckpointBarrier checkpointBarrier)
+            throws IOException {
+        out.writeLong(checkpointBarrier.getId());
+        out.writeLong(checkpointBarrier.getTimestamp());
+        out.writeString(checkpointBarrier.getCheckpointType().getName());
+        out.writeObject(checkpointBarrier.getPrepareCloseTasks());
+        out.writeObject(checkpointBarrier.getClosedTasks());
+        out.writeLong(checkpointBarrier.getAlignedTimeout());
+    }
+
+    private static CheckpointBarrier readBarrier(ObjectDataInput in) throws IOException {
+        return new CheckpointBarrier(
+                in.readLong(),
+                in.readLong(),
+                CheckpointType.fromName(in.readString()),
+                in.readObject(),
+                in.readObject(),
+                in.readLong());
+    }
+
     @Override
     public int getTypeId() {
         return TypeId.RECORD;
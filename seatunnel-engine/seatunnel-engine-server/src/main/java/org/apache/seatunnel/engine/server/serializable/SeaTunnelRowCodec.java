@@ -0,0 +1,545 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binary codec for {@link SeaTunnelRow} compiled once per {@link SeaTunnelRowType}.
+ *
+ * <p>A row is written as its {@link RowKind} byte, a null bitmap and the non-null fields in
+ * declaration order. Primitives use their fixed width, variable length values are prefixed with a
+ * varint length. No per-field type header is written, so both sides must compile the codec from the
+ * same row type.
+ */
+public final class SeaTunnelRowCodec {
+
+    private static final byte SPARSE_VECTOR_INT_KEY = 0;
+    private static final byte SPARSE_VECTOR_LONG_KEY = 1;
+
+    private final FieldCodec[] fieldCodecs;
+
+    private SeaTunnelRowCodec(FieldCodec[] fieldCodecs) {
+        this.fieldCodecs = fieldCodecs;
+    }
+
+    /**
+     * Compile a codec for the given row type.
+     *
+     * @throws UnsupportedOperationException if the row type contains a type that can not be
+     *     encoded, see {@link #isSupported(SeaTunnelDataType)}
+     */
+    public static SeaTunnelRowCodec of(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        FieldCodec[] fieldCodecs = new FieldCodec[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldCodecs[i] = compile(fieldTypes[i]);
+        }
+        return new SeaTunnelRowCodec(fieldCodecs);
+    }
+
+    /** Whether every (nested) type of the given data type can be handled by this codec. */
+    public static boolean isSupported(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case ARRAY:
+                return isSupported(((ArrayType<?, ?>) dataType).getElementType());
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                return isSupported(mapType.getKeyType()) && isSupported(mapType.getValueType());
+            case ROW:
+                for (SeaTunnelDataType<?> fieldType :
+                        ((SeaTunnelRowType) dataType).getFieldTypes()) {
+                    if (!isSupported(fieldType)) {
+                        return false;
+                    }
+                }
+                return true;
+            case MULTIPLE_ROW:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    public int getArity() {
+        return fieldCodecs.length;
+    }
+
+    public byte[] encode(SeaTunnelRow row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        write(out, row);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public SeaTunnelRow decode(byte[] bytes) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    public void write(DataOutput out, SeaTunnelRow row) throws IOException {
+        Object[] fields = row.getFields();
+        if (fields.length != fieldCodecs.length) {
+            throw new IOException(
+                    String.format(
+                            "Row arity %s does not match codec arity %s",
+                            fields.length, fieldCodecs.length));
+        }
+        out.writeByte(row.getRowKind().toByteValue());
+        writeNullBitmap(out, fields);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                fieldCodecs[i].write(out, fields[i]);
+            }
+        }
+    }
+
+    public SeaTunnelRow read(DataInput in) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        boolean[] nulls = readNullBitmap(in, fieldCodecs.length);
+        SeaTunnelRow row = new SeaTunnelRow(fieldCodecs.length);
+        row.setRowKind(rowKind);
+        for (int i = 0; i < fieldCodecs.length; i++) {
+            if (!nulls[i]) {
+                row.setField(i, fieldCodecs[i].read(in));
+            }
+        }
+        return row;
+    }
+
+    private static FieldCodec compile(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return new String(readBytes(in), StandardCharsets.UTF_8);
+                    }
+                };
+            case BOOLEAN:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeBoolean((Boolean) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readBoolean();
+                    }
+                };
+            case TINYINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeByte((Byte) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readByte();
+                    }
+                };
+            case SMALLINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeShort((Short) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readShort();
+                    }
+                };
+            case INT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeInt((Integer) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readInt();
+                    }
+                };
+            case BIGINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeLong((Long) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readLong();
+                    }
+                };
+            case FLOAT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeFloat((Float) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readFloat();
+                    }
+                };
+            case DOUBLE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeDouble((Double) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readDouble();
+                    }
+                };
+            case DECIMAL:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        BigDecimal decimal = (BigDecimal) value;
+                        writeVarInt(out, zigZag(decimal.scale()));
+                        writeBytes(out, decimal.unscaledValue().toByteArray());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        int scale = unZigZag(readVarInt(in));
+                        return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                    }
+                };
+            case NULL:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) {}
+
+                    @Override
+                    public Object read(DataInput in) {
+                        return null;
+                    }
+                };
+            case BYTES:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        writeBytes(out, (byte[]) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return readBytes(in);
+                    }
+                };
+            case DATE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeInt((int) ((LocalDate) value).toEpochDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return LocalDate.ofEpochDay(in.readInt());
+                    }
+                };
+            case TIME:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeLong(((LocalTime) value).toNanoOfDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return LocalTime.ofNanoOfDay(in.readLong());
+                    }
+                };
+            case TIMESTAMP:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        LocalDateTime dateTime = (LocalDateTime) value;
+                        out.writeInt((int) dateTime.toLocalDate().toEpochDay());
+                        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        LocalDate date = LocalDate.ofEpochDay(in.readInt());
+                        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+                    }
+                };
+            case BINARY_VECTOR:
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                        byte[] bytes = new byte[buffer.remaining()];
+                        buffer.get(bytes);
+                        writeBytes(out, bytes);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return ByteBuffer.wrap(readBytes(in));
+                    }
+                };
+            case SPARSE_FLOAT_VECTOR:
+                return new SparseFloatVectorCodec();
+            case ARRAY:
+                return new ArrayCodec(((ArrayType<?, ?>) dataType).getElementType());
+            case MAP:
+                return new MapCodec((MapType<?, ?>) dataType);
+            case ROW:
+                SeaTunnelRowCodec rowCodec = of((SeaTunnelRowType) dataType);
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        rowCodec.write(out, (SeaTunnelRow) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return rowCodec.read(in);
+                    }
+                };
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for binary row codec: " + dataType);
+        }
+    }
+
+    private interface FieldCodec {
+        void write(DataOutput out, Object value) throws IOException;
+
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static final class ArrayCodec implements FieldCodec {
+        private final Class<?> elementClass;
+        private final FieldCodec elementCodec;
+
+        private ArrayCodec(SeaTunnelDataType<?> elementType) {
+            this.elementClass = elementType.getTypeClass();
+            this.elementCodec = compile(elementType);
+        }
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            Object[] elements = (Object[]) value;
+            writeVarInt(out, elements.length);
+            writeNullBitmap(out, elements);
+            for (Object element : elements) {
+                if (element != null) {
+                    elementCodec.write(out, element);
+                }
+            }
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            int length = readVarInt(in);
+            boolean[] nulls = readNullBitmap(in, length);
+            Object[] elements = (Object[]) Array.newInstance(elementClass, length);
+            for (int i = 0; i < length; i++) {
+                if (!nulls[i]) {
+                    elements[i] = elementCodec.read(in);
+                }
+            }
+            return elements;
+        }
+    }
+
+    private static final class MapCodec implements FieldCodec {
+        private final FieldCodec keyCodec;
+        private final FieldCodec valueCodec;
+
+        private MapCodec(MapType<?, ?> mapType) {
+            this.keyCodec = compile(mapType.getKeyType());
+            this.valueCodec = compile(mapType.getValueType());
+        }
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeNullable(out, keyCodec, entry.getKey());
+                writeNullable(out, valueCodec, entry.getValue());
+            }
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            int size = readVarInt(in);
+            Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Object key = readNullable(in, keyCodec);
+                map.put(key, readNullable(in, valueCodec));
+            }
+            return map;
+        }
+    }
+
+    /** Sparse vectors are maps of Integer or Long index to Float value. */
+    private static final class SparseFloatVectorCodec implements FieldCodec {
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            Map<?, ?> vector = (Map<?, ?>) value;
+            boolean longKey =
+                    !vector.isEmpty() && vector.keySet().iterator().next() instanceof Long;
+            out.writeByte(longKey ? SPARSE_VECTOR_LONG_KEY : SPARSE_VECTOR_INT_KEY);
+            writeVarInt(out, vector.size());
+            for (Map.Entry<?, ?> entry : vector.entrySet()) {
+                if (longKey) {
+                    out.writeLong((Long) entry.getKey());
+                } else {
+                    out.writeInt((Integer) entry.getKey());
+                }
+                out.writeFloat((Float) entry.getValue());
+            }
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            boolean longKey = in.readByte() == SPARSE_VECTOR_LONG_KEY;
+            int size = readVarInt(in);
+            Map<Object, Object> vector = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Object key = longKey ? (Object) in.readLong() : (Object) in.readInt();
+                vector.put(key, in.readFloat());
+            }
+            return vector;
+        }
+    }
+
+    private static void writeNullable(DataOutput out, FieldCodec codec, Object value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            codec.write(out, value);
+        }
+    }
+
+    private static Object readNullable(DataInput in, FieldCodec codec) throws IOException {
+        return in.readBoolean() ? codec.read(in) : null;
+    }
+
+    private static void writeNullBitmap(DataOutput out, Object[] values) throws IOException {
+        int bits = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                bits |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7 || i == values.length - 1) {
+                out.writeByte(bits);
+                bits = 0;
+            }
+        }
+    }
+
+    private static boolean[] readNullBitmap(DataInput in, int length) throws IOException {
+        boolean[] nulls = new boolean[length];
+        int bits = 0;
+        for (int i = 0; i < length; i++) {
+            if ((i & 7) == 0) {
+                bits = in.readUnsignedByte();
+            }
+            nulls[i] = (bits & (1 << (i & 7))) != 0;
+        }
+        return nulls;
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /** Write a non-negative int using 1 to 5 bytes, 7 bits per byte. */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
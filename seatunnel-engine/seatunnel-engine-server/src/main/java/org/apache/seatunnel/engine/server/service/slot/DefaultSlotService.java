@@ -34,6 +34,8 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -266,6 +268,14 @@ public class DefaultSlotService implements SlotService {
         workerProfile.setUnassignedResource(unassignedResource.get());
         workerProfile.setAttributes(nodeEngine.getLocalMember().getAttributes());
         workerProfile.setDynamicSlot(config.isDynamicSlot());
+        int processors = Runtime.getRuntime().availableProcessors();
+        double systemLoad = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+        workerProfile.setCpuLoad(systemLoad < 0 ? -1 : systemLoad / processors);
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        workerProfile.setMemoryUsage(
+                heap.getMax() > 0 ? (double) heap.getUsed() / heap.getMax() : 0);
+        workerProfile.setRunningTasks(taskExecutionService.getRunningTaskCount());
+        workerProfile.setProcessors(processors);
         return workerProfile;
     }
 
@@ -34,6 +34,7 @@ import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -67,6 +68,12 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     private SeaTunnelDataType rowType;
     private FlowControlGate flowControlGate;
 
+    /** The interval in milliseconds between two latency markers of a table, 0 if disabled. */
+    private final long latencyMarkerInterval;
+
+    /** The time of the last latency marker of each table, single tables use the empty string. */
+    private final Map<String, Long> lastLatencyMarkerTimes = new HashMap<>();
+
     public SeaTunnelSourceCollector(
             Object checkpointLock,
             List<OneInputFlowLifeCycle<Record<?>>> outputs,
@@ -74,7 +81,19 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
             List<TablePath> tablePaths) {
+        this(checkpointLock, outputs, metricsContext, flowControlStrategy, rowType, tablePaths, 0);
+    }
+
+    public SeaTunnelSourceCollector(
+            Object checkpointLock,
+            List<OneInputFlowLifeCycle<Record<?>>> outputs,
+            MetricsContext metricsContext,
+            FlowControlStrategy flowControlStrategy,
+            SeaTunnelDataType rowType,
+            List<TablePath> tablePaths,
+            long latencyMarkerInterval) {
         this.checkpointLock = checkpointLock;
+        this.latencyMarkerInterval = latencyMarkerInterval;
         this.outputs = outputs;
         this.rowType = rowType;
         this.metricsContext = metricsContext;
@@ -92,11 +111,16 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         flowControlGate = FlowControlGate.create(flowControlStrategy);
     }
 
+    public FlowControlGate getFlowControlGate() {
+        return flowControlGate;
+    }
+
     @Override
     public void collect(T row) {
         try {
+            String tableId = null;
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
+                tableId = ((SeaTunnelRow) row).getTableId();
                 int size;
                 if (rowType instanceof SeaTunnelRowType) {
                     size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
@@ -109,7 +133,11 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                 flowControlGate.audit((SeaTunnelRow) row);
                 taskMetricsCalcContext.updateMetrics(row);
             }
+            long collectTime = latencyMarkerInterval > 0 ? System.currentTimeMillis() : 0;
             sendRecordToNext(new Record<>(row));
+            if (latencyMarkerInterval > 0) {
+                markLatency(tableId, collectTime);
+            }
             emptyThisPollNext = false;
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -189,6 +217,21 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    /**
+     * Send a latency marker after the row if the interval of its table has passed. The marker
+     * follows the row through the same queues and shuffle channels, so it arrives at the sink
+     * shortly after the row.
+     */
+    private void markLatency(String tableId, long collectTime) throws IOException {
+        String key = tableId == null ? "" : tableId;
+        Long lastTime = lastLatencyMarkerTimes.get(key);
+        if (lastTime != null && collectTime - lastTime < latencyMarkerInterval) {
+            return;
+        }
+        lastLatencyMarkerTimes.put(key, collectTime);
+        sendRecordToNext(new Record<>(new LatencyMarker(collectTime, tableId)));
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
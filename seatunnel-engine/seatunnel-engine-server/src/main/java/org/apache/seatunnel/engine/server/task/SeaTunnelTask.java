@@ -45,6 +45,7 @@ import org.apache.seatunnel.engine.server.dag.physical.flow.PhysicalExecutionFlo
 import org.apache.seatunnel.engine.server.dag.physical.flow.UnknownFlowException;
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.task.flow.ActionFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.FlowLifeCycle;
@@ -75,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -104,6 +106,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected List<CompletableFuture<Void>> flowFutures;
 
+    private volatile CompletableFuture<?> lastAckFuture;
+
     protected final Map<Long, List<ActionSubtaskState>> checkpointStates =
             new ConcurrentHashMap<>();
 
@@ -115,6 +119,10 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     private SeaTunnelMetricsContext metricsContext;
 
+    private transient BackPressureMetrics backPressureMetrics;
+
+    private String vertexName;
+
     public SeaTunnelTask(long jobID, TaskLocation taskID, int indexID, Flow executionFlow) {
         super(jobID, taskID);
         this.indexID = indexID;
@@ -125,7 +133,10 @@ public abstract class SeaTunnelTask extends AbstractTask {
     @Override
     public void init() throws Exception {
         super.init();
+        lastAckFuture = CompletableFuture.completedFuture(null);
         metricsContext = getExecutionContext().getOrCreateMetricsContext(taskLocation);
+        backPressureMetrics = new BackPressureMetrics(metricsContext);
+        vertexName = createVertexName();
         this.currState = SeaTunnelTaskState.INIT;
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
@@ -166,6 +177,11 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 break;
             case RUNNING:
                 collect();
+                for (FlowLifeCycle cycle : allCycles) {
+                    if (cycle instanceof TransformFlowLifeCycle) {
+                        ((TransformFlowLifeCycle<?>) cycle).flushPending();
+                    }
+                }
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -297,7 +313,57 @@ public abstract class SeaTunnelTask extends AbstractTask {
     }
 
     public Set<ActionStateKey> getActionStateKeys() {
-        return getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
+        Set<ActionStateKey> stateKeys =
+                getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
+        ShuffleAction shuffleSourceAction = getShuffleSourceAction();
+        if (shuffleSourceAction != null) {
+            stateKeys.add(ActionStateKey.ofInFlightRecords(shuffleSourceAction));
+        }
+        return stateKeys;
+    }
+
+    /** @return the shuffle action this task reads from, or null if it reads no shuffle */
+    public ShuffleAction getShuffleSourceAction() {
+        if (executionFlow instanceof PhysicalExecutionFlow
+                && ((PhysicalExecutionFlow) executionFlow).getAction() instanceof ShuffleAction
+                && !executionFlow.getNext().isEmpty()) {
+            return (ShuffleAction) ((PhysicalExecutionFlow) executionFlow).getAction();
+        }
+        return null;
+    }
+
+    /** @return whether this task reads records from a shuffle */
+    public boolean isShuffleReader() {
+        return getShuffleSourceAction() != null;
+    }
+
+    /** @return whether this task writes records into a shuffle that other tasks read */
+    public boolean isShuffleWriter() {
+        return getShuffleSourceAction() == null
+                && !getFlowInfo(
+                                (action, set) -> {
+                                    if (action instanceof ShuffleAction) {
+                                        set.add(action);
+                                    }
+                                })
+                        .isEmpty();
+    }
+
+    /** The names of the actions of this task in the order of the flow. */
+    private String createVertexName() {
+        List<String> names = new ArrayList<>();
+        List<Flow> now = Collections.singletonList(executionFlow);
+        while (!now.isEmpty()) {
+            List<Flow> next = new ArrayList<>();
+            for (Flow flow : now) {
+                if (flow instanceof PhysicalExecutionFlow) {
+                    names.add(((PhysicalExecutionFlow) flow).getAction().getName());
+                }
+                next.addAll(flow.getNext());
+            }
+            now = next;
+        }
+        return String.join(" -> ", names);
     }
 
     private <T> Set<T> getFlowInfo(BiConsumer<Action, Set<T>> function) {
@@ -332,6 +398,20 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 log.error("Close FlowLifeCycle error.", e);
                             }
                         });
+        awaitLastAck();
+    }
+
+    private void awaitLastAck() throws IOException {
+        CompletableFuture<?> ackFuture = lastAckFuture;
+        if (ackFuture == null) {
+            return;
+        }
+        try {
+            ackFuture.join();
+        } catch (CompletionException e) {
+            throw new IOException(
+                    "Failed to acknowledge the checkpoint of task " + taskLocation, e.getCause());
+        }
     }
 
     public void ack(Barrier barrier) {
@@ -345,13 +425,21 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
             if (barrier.snapshot()) {
-                this.getExecutionContext()
-                        .sendToMaster(
-                                new TaskAcknowledgeOperation(
-                                        this.taskLocation,
-                                        (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
-                        .join();
+                // the states are sent in the background, so the task goes on processing records
+                // while they are uploaded. A failed ack fails the task on the next barrier or on
+                // close.
+                lastAckFuture.join();
+                lastAckFuture =
+                        this.getExecutionContext()
+                                .sendToMaster(
+                                        new TaskAcknowledgeOperation(
+                                                this.taskLocation,
+                                                (CheckpointBarrier) barrier,
+                                                checkpointStates.remove(barrier.getId())));
+                if (barrier.prepareClose(this.taskLocation)) {
+                    // no barrier follows the last one, the task must not finish before its ack
+                    lastAckFuture.join();
+                }
             }
         }
     }
@@ -417,6 +505,16 @@ public abstract class SeaTunnelTask extends AbstractTask {
                         .collect(
                                 Collectors.groupingBy(
                                         ActionSubtaskState::getStateKey, Collectors.toList()));
+        allCycles.stream()
+                .filter(cycle -> cycle instanceof ShuffleSourceFlowLifeCycle)
+                .forEach(
+                        cycle ->
+                                ((ShuffleSourceFlowLifeCycle<?>) cycle)
+                                        .restoreState(
+                                                stateMap.getOrDefault(
+                                                        ActionStateKey.ofInFlightRecords(
+                                                                getShuffleSourceAction()),
+                                                        Collections.emptyList())));
         allCycles.stream()
                 .filter(cycle -> cycle instanceof ActionFlowLifeCycle)
                 .map(cycle -> (ActionFlowLifeCycle) cycle)
@@ -440,15 +538,22 @@ public abstract class SeaTunnelTask extends AbstractTask {
         return metricsContext;
     }
 
+    public BackPressureMetrics getBackPressureMetrics() {
+        return backPressureMetrics;
+    }
+
     @Override
     public void provideDynamicMetrics(
             MetricDescriptor descriptor, MetricsCollectionContext context) {
         if (null != metricsContext) {
-            metricsContext.provideDynamicMetrics(
+            MetricDescriptor taskDescriptor =
                     descriptor
                             .copy()
-                            .withTag(MetricTags.TASK_NAME, this.getClass().getSimpleName()),
-                    context);
+                            .withTag(MetricTags.TASK_NAME, this.getClass().getSimpleName());
+            if (vertexName != null) {
+                taskDescriptor.withTag(MetricTags.VERTEX, vertexName);
+            }
+            metricsContext.provideDynamicMetrics(taskDescriptor, context);
         }
     }
 }
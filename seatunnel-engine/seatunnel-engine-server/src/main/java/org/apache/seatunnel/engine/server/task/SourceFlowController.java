@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Metric;
+import org.apache.seatunnel.api.sink.event.WriterOverloadedEvent;
+import org.apache.seatunnel.core.starter.flowcontrol.AdaptiveFlowControl;
+import org.apache.seatunnel.engine.server.TaskExecutionService;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_COMMIT_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY;
+
+/**
+ * Adjust the read limits of a source task by the feedback of the downstream. Once per interval the
+ * downstream is congested if
+ *
+ * <ul>
+ *   <li>the source was blocked on its full output queues for a tenth of the interval, or
+ *   <li>the mean write or commit latency of the sinks of the job on this worker was twice its
+ *       moving average, or
+ *   <li>a sink of the job on this worker reported a {@link WriterOverloadedEvent}.
+ * </ul>
+ *
+ * Sinks on other workers slow the source down by the back pressure of the queues in between.
+ */
+@Slf4j
+public class SourceFlowController {
+
+    static final long ADJUST_INTERVAL_MILLIS = 1000;
+
+    private static final double BACK_PRESSURED_RATIO = 0.1;
+
+    private static final double LATENCY_RATIO = 2;
+
+    /** The weight of the latest interval in the moving average of the latencies. */
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final AdaptiveFlowControl flowControl;
+
+    private final BackPressureMetrics backPressureMetrics;
+
+    private final TaskExecutionService taskExecutionService;
+
+    private final long jobId;
+
+    private final LatencyTrend writeLatency = new LatencyTrend(SINK_WRITE_LATENCY);
+
+    private final LatencyTrend commitLatency = new LatencyTrend(SINK_COMMIT_LATENCY);
+
+    private long lastAdjustTime;
+
+    private long lastBackPressuredMillis;
+
+    private long lastWriterOverloadedCount;
+
+    public SourceFlowController(
+            AdaptiveFlowControl flowControl,
+            BackPressureMetrics backPressureMetrics,
+            TaskExecutionService taskExecutionService,
+            long jobId) {
+        this.flowControl = flowControl;
+        this.backPressureMetrics = backPressureMetrics;
+        this.taskExecutionService = taskExecutionService;
+        this.jobId = jobId;
+        this.lastAdjustTime = System.currentTimeMillis();
+        this.lastBackPressuredMillis = backPressureMetrics.getBackPressuredMillis();
+        this.lastWriterOverloadedCount = taskExecutionService.getWriterOverloadedCount(jobId);
+    }
+
+    /** Adjust the limits if the interval passed, called by the thread that collects the rows. */
+    public void tryAdjust() {
+        long now = System.currentTimeMillis();
+        long interval = now - lastAdjustTime;
+        if (interval < ADJUST_INTERVAL_MILLIS) {
+            return;
+        }
+        lastAdjustTime = now;
+        adjust(interval);
+    }
+
+    void adjust(long interval) {
+        long backPressuredMillis = backPressureMetrics.getBackPressuredMillis();
+        boolean backPressured =
+                backPressuredMillis - lastBackPressuredMillis > interval * BACK_PRESSURED_RATIO;
+        lastBackPressuredMillis = backPressuredMillis;
+
+        long writerOverloadedCount = taskExecutionService.getWriterOverloadedCount(jobId);
+        boolean writerOverloaded = writerOverloadedCount > lastWriterOverloadedCount;
+        lastWriterOverloadedCount = writerOverloadedCount;
+
+        Map<TaskLocation, SeaTunnelMetricsContext> metricsContexts =
+                taskExecutionService.getMetricsContexts(false);
+        // both trends are updated in every interval
+        boolean writeSlowed = writeLatency.update(metricsContexts);
+        boolean commitSlowed = commitLatency.update(metricsContexts);
+
+        boolean congested = backPressured || writerOverloaded || writeSlowed || commitSlowed;
+        if (congested && log.isDebugEnabled()) {
+            log.debug(
+                    "The downstream of job {} is congested, back pressured: {}, writer overloaded:"
+                            + " {}, write slowed: {}, commit slowed: {}",
+                    jobId,
+                    backPressured,
+                    writerOverloaded,
+                    writeSlowed,
+                    commitSlowed);
+        }
+        flowControl.adjust(congested, interval);
+    }
+
+    public void setLimits(int bytesPerSecond, int countPerSecond) {
+        flowControl.setLimits(bytesPerSecond, countPerSecond);
+    }
+
+    /** The mean of a latency histogram of the local sinks of the job per interval. */
+    private class LatencyTrend {
+
+        private final String metricName;
+
+        private long lastCount;
+
+        private double lastSum;
+
+        /** The moving average of the interval means, 0 before the first interval with samples. */
+        private double average;
+
+        private LatencyTrend(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /** @return whether the mean of this interval is far above the moving average */
+        private boolean update(Map<TaskLocation, SeaTunnelMetricsContext> metricsContexts) {
+            long count = 0;
+            double sum = 0;
+            for (Map.Entry<TaskLocation, SeaTunnelMetricsContext> entry :
+                    metricsContexts.entrySet()) {
+                if (entry.getKey().getJobId() != jobId) {
+                    continue;
+                }
+                Metric metric = entry.getValue().getMetrics().get(metricName);
+                if (metric instanceof Histogram) {
+                    Histogram histogram = (Histogram) metric;
+                    long histogramCount = histogram.getCount();
+                    count += histogramCount;
+                    sum += histogram.getMean() * histogramCount;
+                }
+            }
+            long intervalCount = count - lastCount;
+            double intervalSum = sum - lastSum;
+            lastCount = count;
+            lastSum = sum;
+            if (intervalCount <= 0) {
+                // no samples, or a sink task was restarted
+                return false;
+            }
+            double mean = intervalSum / intervalCount;
+            if (average == 0) {
+                average = mean;
+                return false;
+            }
+            boolean slowed = mean > average * LATENCY_RATIO;
+            // the average follows a lasting change of the latency, e.g. a larger batch size
+            average += (mean - average) * LATENCY_SMOOTHING;
+            return slowed;
+        }
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -25,6 +27,7 @@ import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.core.starter.flowcontrol.AdaptiveFlowControl;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
@@ -49,7 +52,10 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
 
     private static final ILogger LOGGER = Logger.getLogger(SourceSeaTunnelTask.class);
 
-    private transient SeaTunnelSourceCollector<T> collector;
+    private transient volatile SeaTunnelSourceCollector<T> collector;
+
+    /** Adjusts the read limits by the feedback of the downstream, null if not adaptive. */
+    private transient SourceFlowController flowController;
 
     private transient Object checkpointLock;
     @Getter private transient Serializer<SplitT> splitSerializer;
@@ -94,16 +100,38 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
                 // TODO remove it when all connector use `getProducedCatalogTables`
                 sourceProducedType = sourceFlow.getAction().getSource().getProducedType();
             }
-            this.collector =
+            FlowControlStrategy flowControlStrategy = FlowControlStrategy.fromMap(envOption);
+            SeaTunnelSourceCollector<T> sourceCollector =
                     new SeaTunnelSourceCollector<>(
                             checkpointLock,
                             outputs,
                             this.getMetricsContext(),
-                            FlowControlStrategy.fromMap(envOption),
+                            flowControlStrategy,
                             sourceProducedType,
-                            tablePaths);
-            ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).setCollector(collector);
+                            tablePaths,
+                            getLatencyMarkerInterval());
+            if (flowControlStrategy.isAdaptive()) {
+                this.flowController =
+                        new SourceFlowController(
+                                new AdaptiveFlowControl(
+                                        sourceCollector.getFlowControlGate(), flowControlStrategy),
+                                getBackPressureMetrics(),
+                                getExecutionContext().getTaskExecutionService(),
+                                jobID);
+            }
+            // the volatile write publishes the flow controller to updateReadLimit
+            this.collector = sourceCollector;
+            ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).setCollector(sourceCollector);
+        }
+    }
+
+    private long getLatencyMarkerInterval() {
+        if (envOption == null) {
+            return 0;
         }
+        return ReadonlyConfig.fromMap(envOption)
+                .getOptional(EnvCommonOptions.LATENCY_TRACKING_INTERVAL)
+                .orElse(0L);
     }
 
     @Override
@@ -125,6 +153,28 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
     @Override
     protected void collect() throws Exception {
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
+        if (flowController != null) {
+            flowController.tryAdjust();
+        }
+    }
+
+    /**
+     * Replace the read limits while the task is running, {@link Integer#MAX_VALUE} is unlimited.
+     * Adaptive limits are adjusted from the new limits.
+     *
+     * @return whether the task was initialized and its limits were replaced
+     */
+    public boolean updateReadLimit(int bytesPerSecond, int countPerSecond) {
+        SeaTunnelSourceCollector<T> sourceCollector = collector;
+        if (sourceCollector == null) {
+            return false;
+        }
+        if (flowController != null) {
+            flowController.setLimits(bytesPerSecond, countPerSecond);
+        } else {
+            sourceCollector.getFlowControlGate().updateLimits(bytesPerSecond, countPerSecond);
+        }
+        return true;
     }
 
     @NonNull @Override
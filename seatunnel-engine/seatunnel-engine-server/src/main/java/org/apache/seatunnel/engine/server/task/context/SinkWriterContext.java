@@ -30,12 +30,22 @@ public class SinkWriterContext implements SinkWriter.Context {
     private final int numberOfParallelSubtasks;
     private final MetricsContext metricsContext;
     private final EventListener eventListener;
+    private final boolean virtualThreadsEnabled;
 
     public SinkWriterContext(
             int numberOfParallelSubtasks,
             int indexOfSubtask,
             MetricsContext metricsContext,
             EventListener eventListener) {
+        this(numberOfParallelSubtasks, indexOfSubtask, metricsContext, eventListener, false);
+    }
+
+    public SinkWriterContext(
+            int numberOfParallelSubtasks,
+            int indexOfSubtask,
+            MetricsContext metricsContext,
+            EventListener eventListener,
+            boolean virtualThreadsEnabled) {
         Preconditions.checkArgument(
                 numberOfParallelSubtasks >= 1, "Parallelism must be a positive number.");
         Preconditions.checkArgument(
@@ -44,6 +54,7 @@ public class SinkWriterContext implements SinkWriter.Context {
         this.indexOfSubtask = indexOfSubtask;
         this.metricsContext = metricsContext;
         this.eventListener = eventListener;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
     }
 
     @Override
@@ -64,4 +75,9 @@ public class SinkWriterContext implements SinkWriter.Context {
     public EventListener getEventListener() {
         return eventListener;
     }
+
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SupportAsyncTransform;
+import org.apache.seatunnel.engine.server.task.TaskRuntimeException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The requests in flight of one {@link SupportAsyncTransform}. Futures complete on threads of the
+ * transform, but results are only emitted, and requests only retried, by the task thread that calls
+ * this stage.
+ */
+@Slf4j
+class AsyncTransformStage<T> {
+
+    private final SupportAsyncTransform<T> transform;
+    private final Collector<T> downstream;
+    private final int capacity;
+    private final long timeoutMillis;
+    private final int maxRetries;
+    private final boolean ordered;
+
+    /** Requests in input order. */
+    private final ArrayDeque<Request> inFlight;
+
+    /** Wakes up the task thread when a future completes, stale signals are harmless. */
+    private final BlockingQueue<Request> completions = new LinkedBlockingQueue<>();
+
+    AsyncTransformStage(SupportAsyncTransform<T> transform, Collector<T> downstream) {
+        this.transform = transform;
+        this.downstream = downstream;
+        this.capacity = Math.max(1, transform.getAsyncCapacity());
+        this.timeoutMillis = transform.getAsyncTimeoutMillis();
+        this.maxRetries = Math.max(0, transform.getAsyncMaxRetries());
+        this.ordered = transform.isAsyncOrdered();
+        this.inFlight = new ArrayDeque<>(capacity);
+    }
+
+    /** Start a request, waiting for a free slot first if the stage is at capacity. */
+    void submit(T row) {
+        while (inFlight.size() >= capacity) {
+            awaitCompletion();
+        }
+        Request request = new Request(row);
+        inFlight.add(request);
+        request.start();
+        emitCompleted();
+    }
+
+    /** Emit the rows whose requests completed, without waiting. */
+    void emitCompleted() {
+        long now = System.currentTimeMillis();
+        // in order mode a row is emitted only after all rows before it
+        boolean emittable = true;
+        Iterator<Request> iterator = inFlight.iterator();
+        while (iterator.hasNext()) {
+            Request request = iterator.next();
+            // every request is checked, so that failed ones are retried early
+            boolean completed = request.tryComplete(now);
+            if (completed && (emittable || !ordered)) {
+                iterator.remove();
+                emit(request);
+            } else {
+                emittable = false;
+            }
+        }
+    }
+
+    /** Wait until all requests completed and their rows are emitted, e.g. before a barrier. */
+    void awaitAll() {
+        emitCompleted();
+        while (!inFlight.isEmpty()) {
+            awaitCompletion();
+        }
+    }
+
+    boolean isEmpty() {
+        return inFlight.isEmpty();
+    }
+
+    /** Cancel the requests in flight, their rows are dropped. */
+    void cancel() {
+        for (Request request : inFlight) {
+            request.future.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    private void awaitCompletion() {
+        int size = inFlight.size();
+        emitCompleted();
+        if (inFlight.size() < size) {
+            return;
+        }
+        long nextDeadline = Long.MAX_VALUE;
+        for (Request request : inFlight) {
+            nextDeadline = Math.min(nextDeadline, request.deadline);
+        }
+        long waitMillis = Math.max(1, nextDeadline - System.currentTimeMillis());
+        try {
+            completions.poll(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRuntimeException("Interrupted while waiting for async transform", e);
+        }
+        completions.clear();
+        emitCompleted();
+    }
+
+    private void emit(Request request) {
+        T result = request.future.getNow(null);
+        if (result != null) {
+            downstream.collect(result);
+        } else {
+            log.trace("Async transform[{}] filtered data row {}", transform, request.row);
+        }
+    }
+
+    private class Request {
+        private final T row;
+        private int attempt;
+        private long deadline;
+        private CompletableFuture<T> future;
+
+        private Request(T row) {
+            this.row = row;
+        }
+
+        private void start() {
+            deadline =
+                    timeoutMillis > 0 ? System.currentTimeMillis() + timeoutMillis : Long.MAX_VALUE;
+            try {
+                future = transform.asyncMap(row);
+            } catch (Exception e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            future.whenComplete((result, error) -> completions.offer(this));
+        }
+
+        /**
+         * Whether the request completed successfully. A failed or timed out request is restarted
+         * while attempts remain, otherwise the task fails.
+         */
+        private boolean tryComplete(long now) {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return true;
+            }
+            Throwable error;
+            if (future.isDone()) {
+                error = causeOf(future);
+            } else if (now >= deadline) {
+                future.cancel(true);
+                error =
+                        new TaskRuntimeException(
+                                String.format(
+                                        "Async request timed out after %s ms", timeoutMillis));
+            } else {
+                return false;
+            }
+            if (attempt >= maxRetries) {
+                throw new TaskRuntimeException(
+                        String.format(
+                                "Async transform[%s] failed after %s attempts",
+                                transform, attempt + 1),
+                        error);
+            }
+            attempt++;
+            log.warn(
+                    "Async transform[{}] request failed, retry {} of {}",
+                    transform,
+                    attempt,
+                    maxRetries,
+                    error);
+            start();
+            return false;
+        }
+    }
+
+    private static Throwable causeOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        } catch (RuntimeException e) {
+            // cancelled
+            return e;
+        }
+    }
+}
@@ -19,23 +19,38 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
+import org.apache.seatunnel.engine.server.serializable.MultipleTableRowCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
+import org.apache.seatunnel.engine.server.task.shuffle.LocalShuffleChannel;
+import org.apache.seatunnel.engine.server.task.shuffle.LocalShuffleChannelRegistry;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelSwitch;
+import org.apache.seatunnel.engine.server.task.shuffle.UnalignedBarrier;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.engine.server.metrics.BackPressureMetrics.MAX_WAIT_MILLIS;
 
 @SuppressWarnings("MagicNumber")
 @Slf4j
@@ -49,6 +64,16 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final MultipleTableRowCodec rowCodec;
+    private final Map<String, LocalShuffleChannel> localChannels = new HashMap<>();
+    private final HazelcastInstance hazelcastInstance;
+    /** The number of records written to each shuffle queue, the position of unaligned barriers. */
+    private final Map<String, Long> writtenRecords = new HashMap<>();
+
+    private final Map<String, IQueue<Record<?>>> barrierQueues = new HashMap<>();
+    /** The queue of the last shuffled row, latency markers follow the row they were sent after. */
+    private String lastShuffleKey;
+
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -62,11 +87,19 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
+        this.hazelcastInstance = hazelcastInstance;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
         this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        if (shuffleStrategy instanceof ShuffleMultipleRowStrategy) {
+            this.rowCodec =
+                    new MultipleTableRowCodec(
+                            ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables());
+        } else {
+            this.rowCodec = null;
+        }
     }
 
     @Override
@@ -88,10 +121,31 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
+            boolean unaligned =
+                    shuffleAction.getConfig().isUnalignedCheckpoint()
+                            && barrier instanceof CheckpointBarrier
+                            && ((CheckpointBarrier) barrier).isUnaligned(startTime);
             for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+                LocalShuffleChannel localChannel = getLocalChannel(shuffle.getKey());
                 try {
-                    shuffleQueue.put(record);
+                    if (unaligned) {
+                        // the barrier overtakes the records in the queue, the reader stores the
+                        // records before the position as in-flight state
+                        getBarrierQueue(shuffle.getKey())
+                                .put(
+                                        new Record<>(
+                                                new UnalignedBarrier(
+                                                        (CheckpointBarrier) barrier,
+                                                        writtenRecords.getOrDefault(
+                                                                shuffle.getKey(), 0L))));
+                        continue;
+                    }
+                    countWritten(shuffle.getKey(), 1);
+                    if (localChannel != null) {
+                        localChannel.send(Collections.singletonList(record));
+                    } else {
+                        shuffle.getValue().put(record);
+                    }
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -107,7 +161,15 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                 return;
             }
 
+            if (rowCodec != null) {
+                rowCodec.disable(((SchemaChangeEvent) record.getData()).tablePath().toString());
+            }
             shuffleItem(record);
+        } else if (record.getData() instanceof LatencyMarker) {
+            if (prepareClose || lastShuffleKey == null) {
+                return;
+            }
+            shuffleItem(lastShuffleKey, record);
         } else {
             if (prepareClose) {
                 return;
@@ -124,10 +186,17 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             log.info("destroy shuffle queue: {}", shuffleItem.getKey());
             shuffleItem.getValue().destroy();
         }
+        for (IQueue<Record<?>> barrierQueue : barrierQueues.values()) {
+            barrierQueue.destroy();
+        }
     }
 
     private synchronized void shuffleItem(Record<?> record) {
-        String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
+        lastShuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
+        shuffleItem(lastShuffleKey, record);
+    }
+
+    private synchronized void shuffleItem(String shuffleKey, Record<?> record) {
         shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
         shuffleBufferSize++;
 
@@ -140,25 +209,112 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
+            if (shuffleBatch.getValue().isEmpty()) {
+                continue;
+            }
+            LocalShuffleChannel localChannel = getLocalChannel(shuffleBatch.getKey());
+            countWritten(shuffleBatch.getKey(), shuffleBatch.getValue().size());
+            if (localChannel != null) {
+                send(localChannel, new ArrayList<>(shuffleBatch.getValue()));
+                shuffleBatch.getValue().clear();
+                continue;
+            }
+
             IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
+            Queue<Record<?>> shuffleQueueBatch = encode(shuffleBatch.getValue());
+            if (shuffleQueue.remainingCapacity() <= 0 || !shuffleQueue.addAll(shuffleQueueBatch)) {
                 for (; ; ) {
                     Record<?> shuffleItem = shuffleQueueBatch.poll();
                     if (shuffleItem == null) {
                         break;
                     }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+                    put(shuffleQueue, shuffleItem);
                 }
             }
-            shuffleQueueBatch.clear();
+            shuffleBatch.getValue().clear();
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    /**
+     * Get the local channel of the shuffle queue if its reader runs in this JVM. On the first hit a
+     * {@link ShuffleChannelSwitch} is put into the queue, the reader drains the queue up to it
+     * before it reads the local channel.
+     */
+    private LocalShuffleChannel getLocalChannel(String queueName) {
+        LocalShuffleChannel localChannel = localChannels.get(queueName);
+        if (localChannel == null) {
+            localChannel = LocalShuffleChannelRegistry.get(queueName);
+            if (localChannel != null) {
+                try {
+                    shuffles.get(queueName).put(new Record<>(ShuffleChannelSwitch.INSTANCE));
+                    countWritten(queueName, 1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                localChannels.put(queueName, localChannel);
+                log.info("shuffle queue [{}] switched to local channel", queueName);
+            }
+        }
+        return localChannel;
+    }
+
+    /** Put the record into the queue, the time waiting for the readers is back pressure. */
+    private void put(IQueue<Record<?>> shuffleQueue, Record<?> record) {
+        if (shuffleQueue.offer(record)) {
+            return;
+        }
+        BackPressureMetrics metrics = runningTask.getBackPressureMetrics();
+        long startTime = System.nanoTime();
+        try {
+            while (!shuffleQueue.offer(record, MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                long now = System.nanoTime();
+                metrics.addBackPressuredTime(now - startTime);
+                startTime = now;
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        metrics.addBackPressuredTime(System.nanoTime() - startTime);
+    }
+
+    /** Send the frame, the time waiting for the credits of the reader is back pressure. */
+    private void send(LocalShuffleChannel localChannel, List<Record<?>> frame) {
+        if (localChannel.trySend(frame)) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        try {
+            localChannel.send(frame);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        runningTask.getBackPressureMetrics().addBackPressuredTime(System.nanoTime() - startTime);
+    }
+
+    private void countWritten(String queueName, int records) {
+        writtenRecords.merge(queueName, (long) records, Long::sum);
+    }
+
+    private IQueue<Record<?>> getBarrierQueue(String queueName) {
+        return barrierQueues.computeIfAbsent(
+                queueName,
+                name -> hazelcastInstance.getQueue(UnalignedBarrier.barrierQueueName(name)));
+    }
+
+    private Queue<Record<?>> encode(Queue<Record<?>> records) {
+        if (rowCodec == null) {
+            return records;
+        }
+        Queue<Record<?>> encodedRecords = new LinkedList<>();
+        for (Record<?> record : records) {
+            if (record.getData() instanceof SeaTunnelRow) {
+                encodedRecords.add(new Record<>(rowCodec.encode((SeaTunnelRow) record.getData())));
+            } else {
+                encodedRecords.add(record);
+            }
+        }
+        return encodedRecords;
+    }
 }
@@ -17,25 +17,51 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.serializable.EncodedSeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.MultipleTableRowCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.LocalShuffleChannel;
+import org.apache.seatunnel.engine.server.task.shuffle.LocalShuffleChannelRegistry;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelSwitch;
+import org.apache.seatunnel.engine.server.task.shuffle.UnalignedBarrier;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.CHECKPOINT_ALIGNMENT_LATENCY;
+
+/**
+ * Read the shuffle queues of a task. Barriers of aligned checkpoints block each queue until the
+ * barrier arrived on all queues. A barrier of an unaligned checkpoint is forwarded as soon as it
+ * arrives on any queue, the records the other queues hold before their barrier are forwarded too
+ * and stored as in-flight state of the checkpoint, which is replayed on restore.
+ */
 @Slf4j
 @SuppressWarnings("MagicNumber")
 public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
@@ -43,11 +69,35 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
     private final IQueue<Record<?>>[] shuffles;
+    private final MultipleTableRowCodec rowCodec;
+    private final LocalShuffleChannel[] localChannels;
+    private final boolean[] localChannelActive;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
+    /** The time in nanoseconds when the first queue delivered the barrier being aligned. */
+    private long alignmentStartTime;
+
+    private final Histogram alignmentLatency;
+
+    private final SerializationService serializationService;
+    /** The queues of unaligned barriers, null if the checkpoints of the job are aligned. */
+    private final IQueue<Record<?>>[] barrierQueues;
+    /** The number of records taken from each queue, compared with unaligned barrier positions. */
+    private final long[] handledRecords;
+    /** The unaligned barrier that was forwarded but not yet reached on all queues. */
+    private CheckpointBarrier unalignedBarrier;
+    /** The position of the unaligned barrier on each queue, -1 if it is unknown yet. */
+    private final long[] unalignedPositions;
+    /** Whether the unaligned barrier was reached on each queue. */
+    private final boolean[] unalignedReached;
+    /** The records forwarded after the unaligned barrier that belong before it. */
+    private final List<Record<?>> inFlightRecords = new ArrayList<>();
 
+    private final List<Record<?>> replayRecords = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
@@ -57,56 +107,123 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         super(runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
-        this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+        ShuffleStrategy shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
+        this.shuffles = shuffleStrategy.getShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.localChannels = new LocalShuffleChannel[shuffles.length];
+        this.localChannelActive = new boolean[shuffles.length];
+        for (int i = 0; i < shuffles.length; i++) {
+            localChannels[i] =
+                    new LocalShuffleChannel(
+                            shuffles[i].getName(), shuffleStrategy.getQueueMaxSize());
+            LocalShuffleChannelRegistry.register(localChannels[i]);
+        }
+        if (shuffleStrategy instanceof ShuffleMultipleRowStrategy) {
+            this.rowCodec =
+                    new MultipleTableRowCodec(
+                            ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables());
+        } else {
+            this.rowCodec = null;
+        }
+        this.serializationService =
+                ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
+        this.alignmentLatency =
+                runningTask.getMetricsContext().histogram(CHECKPOINT_ALIGNMENT_LATENCY, Unit.US);
+        this.handledRecords = new long[shuffles.length];
+        this.unalignedPositions = new long[shuffles.length];
+        this.unalignedReached = new boolean[shuffles.length];
+        if (shuffleAction.getConfig().isUnalignedCheckpoint()) {
+            this.barrierQueues = new IQueue[shuffles.length];
+            for (int i = 0; i < shuffles.length; i++) {
+                barrierQueues[i] =
+                        hazelcastInstance.getQueue(
+                                UnalignedBarrier.barrierQueueName(shuffles[i].getName()));
+            }
+        } else {
+            this.barrierQueues = null;
+        }
+    }
+
+    /** Restore the in-flight records of the last unaligned checkpoint, they are replayed first. */
+    public void restoreState(List<ActionSubtaskState> actionStateList) {
+        for (ActionSubtaskState state : actionStateList) {
+            for (byte[] bytes : state.getState()) {
+                Object data = serializationService.toObject(new HeapData(bytes));
+                replayRecords.add(data instanceof Record ? (Record<?>) data : new Record<>(data));
+            }
+        }
+        if (!replayRecords.isEmpty()) {
+            log.info(
+                    "replay {} in-flight records of shuffle [{}]",
+                    replayRecords.size(),
+                    shuffleAction.getName());
+        }
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (!replayRecords.isEmpty()) {
+            for (Record<?> record : replayRecords) {
+                collector.collect(decode(record));
+            }
+            replayRecords.clear();
+        }
+        checkAlignedTimeout(collector);
+
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
-            if (shuffleQueue.size() == 0) {
+            if (unsentBuffer.isEmpty() && isChannelEmpty(i)) {
+                pollUnalignedBarrier(i, collector);
                 emptyShuffleQueueCount++;
                 continue;
             }
             // aligned barrier
-            if (alignedBarriers.get(i) != null
+            if (unalignedBarrier == null
+                    && alignedBarriers.get(i) != null
                     && alignedBarriers.get(i).getId() == currentCheckpointId) {
                 continue;
             }
 
-            List<Record<?>> shuffleBatch = new LinkedList<>();
-            if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
-            } else if (!unsentBuffer.isEmpty()) {
-                shuffleBatch.addAll(unsentBuffer);
-                unsentBuffer.clear();
+            List<Record<?>> shuffleBatch = new LinkedList<>(unsentBuffer);
+            unsentBuffer.clear();
+            if (localChannelActive[i]) {
+                localChannels[i].drainTo(shuffleBatch, shuffleBatchSize);
+            } else {
+                shuffles[i].drainTo(shuffleBatch, shuffleBatchSize);
             }
-
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+            // the writer puts an unaligned barrier before the records after it, so the barrier of
+            // every drained record after its position is known before the record is forwarded
+            pollUnalignedBarrier(i, collector);
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
+                reachUnalignedBarrier(i);
+                handledRecords[i]++;
                 if (record.getData() instanceof Barrier) {
                     long startTime = System.currentTimeMillis();
 
                     Barrier barrier = (Barrier) record.getData();
 
+                    if (unalignedBarrier != null && unalignedBarrier.getId() == barrier.getId()) {
+                        // the aligned barrier of a queue that was overtaken by the timeout
+                        unalignedReached[i] = true;
+                        completeUnalignedBarrier();
+                        continue;
+                    }
+
                     // mark queue barrier
                     alignedBarriers.put(i, barrier);
-                    alignedBarriersCounter++;
+                    if (alignedBarriersCounter++ == 0) {
+                        alignmentStartTime = System.nanoTime();
+                    }
                     currentCheckpointId = barrier.getId();
 
                     // publish barrier
                     if (alignedBarriersCounter == shuffles.length) {
+                        recordAlignment();
                         if (barrier.prepareClose(runningTask.getTaskLocation())) {
                             prepareClose = true;
                         }
@@ -127,6 +244,9 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
 
                         alignedBarriersCounter = 0;
                         alignedBarriers.clear();
+                    } else if (isUnaligned(barrier)) {
+                        startUnalignedBarrier((CheckpointBarrier) barrier, collector);
+                        continue;
                     }
 
                     if (recordIndex + 1 < shuffleBatch.size()) {
@@ -134,26 +254,164 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                                 shuffleBatch.subList(recordIndex + 1, shuffleBatch.size()));
                     }
                     break;
+                } else if (record.getData() instanceof ShuffleChannelSwitch) {
+                    // the writer sends everything after the switch through the local channel
+                    localChannelActive[i] = true;
+                    log.info("shuffle queue [{}] switched to local channel", shuffles[i].getName());
                 } else {
                     if (prepareClose) {
                         return;
                     }
-                    collector.collect(record);
+                    if (unalignedBarrier != null && !unalignedReached[i]) {
+                        inFlightRecords.add(record);
+                    }
+                    collector.collect(decode(record));
                 }
             }
+            reachUnalignedBarrier(i);
         }
 
         if (emptyShuffleQueueCount == shuffles.length) {
+            long startTime = System.nanoTime();
             Thread.sleep(100);
+            runningTask.getBackPressureMetrics().addIdleTime(System.nanoTime() - startTime);
         }
     }
 
+    /** An unaligned barrier that overtakes all queues at once did not wait for alignment. */
+    private void recordAlignment() {
+        long latency = alignedBarriersCounter == 0 ? 0 : System.nanoTime() - alignmentStartTime;
+        alignmentLatency.update(TimeUnit.NANOSECONDS.toMicros(latency));
+    }
+
+    private Record<?> decode(Record<?> record) throws IOException {
+        if (record.getData() instanceof EncodedSeaTunnelRow) {
+            return new Record<>(rowCodec.decode((EncodedSeaTunnelRow) record.getData()));
+        }
+        return record;
+    }
+
+    private boolean isUnaligned(Barrier barrier) {
+        return barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).isUnaligned(System.currentTimeMillis());
+    }
+
+    /** Switch a pending alignment to an unaligned checkpoint once the aligned timeout passed. */
+    private void checkAlignedTimeout(Collector<Record<?>> collector) {
+        if (unalignedBarrier != null || alignedBarriersCounter == 0) {
+            return;
+        }
+        Barrier barrier = alignedBarriers.values().iterator().next();
+        if (barrier.getId() == currentCheckpointId && isUnaligned(barrier)) {
+            startUnalignedBarrier((CheckpointBarrier) barrier, collector);
+        }
+    }
+
+    private void pollUnalignedBarrier(int channel, Collector<Record<?>> collector) {
+        if (barrierQueues == null
+                || (unalignedBarrier != null
+                        && (unalignedReached[channel] || unalignedPositions[channel] >= 0))) {
+            return;
+        }
+        Record<?> record = barrierQueues[channel].poll();
+        if (record == null) {
+            return;
+        }
+        UnalignedBarrier barrier = (UnalignedBarrier) record.getData();
+        if (unalignedBarrier != null && barrier.getBarrier().getId() < unalignedBarrier.getId()) {
+            log.warn("drop the unaligned barrier of an expired checkpoint: {}", barrier);
+            return;
+        }
+        if (unalignedBarrier == null) {
+            startUnalignedBarrier(barrier.getBarrier(), collector);
+        }
+        unalignedPositions[channel] = barrier.getPosition();
+        reachUnalignedBarrier(channel);
+    }
+
+    /**
+     * Forward the barrier before the records of the queues that did not deliver it yet. Queues that
+     * are blocked by its aligned barrier have reached it already.
+     */
+    private void startUnalignedBarrier(CheckpointBarrier barrier, Collector<Record<?>> collector) {
+        recordAlignment();
+        unalignedBarrier = barrier;
+        Arrays.fill(unalignedPositions, -1);
+        Arrays.fill(unalignedReached, false);
+        for (Map.Entry<Integer, Barrier> alignedBarrier : alignedBarriers.entrySet()) {
+            if (alignedBarrier.getValue().getId() == barrier.getId()) {
+                unalignedReached[alignedBarrier.getKey()] = true;
+            }
+        }
+        alignedBarriers.clear();
+        alignedBarriersCounter = 0;
+        currentCheckpointId = Long.MAX_VALUE;
+
+        collector.collect(new Record<>(barrier));
+        log.debug(
+                "trigger unaligned barrier [{}]. taskLocation: [{}]",
+                barrier.getId(),
+                runningTask.getTaskLocation());
+        completeUnalignedBarrier();
+    }
+
+    private void reachUnalignedBarrier(int channel) {
+        if (unalignedBarrier != null
+                && !unalignedReached[channel]
+                && unalignedPositions[channel] >= 0
+                && handledRecords[channel] >= unalignedPositions[channel]) {
+            unalignedReached[channel] = true;
+            completeUnalignedBarrier();
+        }
+    }
+
+    /** Store the in-flight records and ack the barrier once it was reached on all queues. */
+    private void completeUnalignedBarrier() {
+        for (boolean reached : unalignedReached) {
+            if (!reached) {
+                return;
+            }
+        }
+        CheckpointBarrier barrier = unalignedBarrier;
+        unalignedBarrier = null;
+        List<byte[]> inFlightState = new ArrayList<>(inFlightRecords.size());
+        for (Record<?> record : inFlightRecords) {
+            inFlightState.add(serializationService.toData(record).toByteArray());
+        }
+        inFlightRecords.clear();
+        runningTask.addState(barrier, ActionStateKey.of(shuffleAction), Collections.emptyList());
+        runningTask.addState(
+                barrier, ActionStateKey.ofInFlightRecords(shuffleAction), inFlightState);
+        runningTask.ack(barrier);
+        log.debug(
+                "unaligned barrier [{}] finished with {} in-flight records. taskLocation: [{}]",
+                barrier.getId(),
+                inFlightState.size(),
+                runningTask.getTaskLocation());
+    }
+
+    private boolean isChannelEmpty(int channel) {
+        if (localChannelActive[channel]) {
+            return localChannels[channel].isEmpty();
+        }
+        return shuffles[channel].size() == 0;
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
+        for (LocalShuffleChannel localChannel : localChannels) {
+            LocalShuffleChannelRegistry.unregister(localChannel);
+            localChannel.clear();
+        }
         for (IQueue<Record<?>> shuffleQueue : shuffles) {
             log.info("destroy shuffle queue: {}", shuffleQueue.getName());
             shuffleQueue.destroy();
         }
+        if (barrierQueues != null) {
+            for (IQueue<Record<?>> barrierQueue : barrierQueues) {
+                barrierQueue.destroy();
+            }
+        }
     }
 }
@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
@@ -44,6 +46,7 @@ import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowO
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.cluster.Address;
 import lombok.extern.slf4j.Slf4j;
@@ -53,13 +56,19 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_COMMIT_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_TO_SINK_LATENCY;
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStates;
 
@@ -91,6 +100,14 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     private TaskMetricsCalcContext taskMetricsCalcContext;
 
+    private final Histogram writeLatency;
+
+    private final Histogram commitLatency;
+
+    private final Histogram sourceToSinkLatency;
+
+    private final Map<String, Histogram> tableSourceToSinkLatencies = new HashMap<>();
+
     private final boolean containAggCommitter;
 
     private MultiTableResourceManager resourceManager;
@@ -121,6 +138,9 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+        this.writeLatency = metricsContext.histogram(SINK_WRITE_LATENCY, Unit.US);
+        this.commitLatency = metricsContext.histogram(SINK_COMMIT_LATENCY, Unit.US);
+        this.sourceToSinkLatency = metricsContext.histogram(SOURCE_TO_SINK_LATENCY, Unit.US);
     }
 
     @Override
@@ -242,11 +262,18 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 }
                 SchemaChangeEvent event = (SchemaChangeEvent) record.getData();
                 writer.applySchemaChange(event);
+            } else if (record.getData() instanceof LatencyMarker) {
+                if (prepareClose) {
+                    return;
+                }
+                recordLatency((LatencyMarker) record.getData());
             } else {
                 if (prepareClose) {
                     return;
                 }
+                long startTime = System.nanoTime();
                 writer.write((T) record.getData());
+                writeLatency.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
                 taskMetricsCalcContext.updateMetrics(record.getData());
             }
         } catch (Exception e) {
@@ -254,10 +281,32 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
     }
 
+    /**
+     * Record the time since the source sent the marker. The clocks of the workers may differ, so
+     * negative latencies are counted as zero.
+     */
+    private void recordLatency(LatencyMarker marker) {
+        long latency =
+                TimeUnit.MILLISECONDS.toMicros(
+                        Math.max(0, System.currentTimeMillis() - marker.getMarkedTime()));
+        sourceToSinkLatency.update(latency);
+        if (marker.getTableId() != null) {
+            tableSourceToSinkLatencies
+                    .computeIfAbsent(
+                            marker.getTableId(),
+                            tableId ->
+                                    metricsContext.histogram(
+                                            SOURCE_TO_SINK_LATENCY + "#" + tableId, Unit.US))
+                    .update(latency);
+        }
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (committer.isPresent() && lastCommitInfo.isPresent()) {
+            long startTime = System.nanoTime();
             committer.get().commit(Collections.singletonList(lastCommitInfo.get()));
+            commitLatency.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
         }
     }
 
@@ -288,7 +337,14 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
         this.writerContext =
                 new SinkWriterContext(
-                        sinkAction.getParallelism(), indexID, metricsContext, eventListener);
+                        sinkAction.getParallelism(),
+                        indexID,
+                        metricsContext,
+                        eventListener,
+                        runningTask
+                                .getExecutionContext()
+                                .getTaskExecutionService()
+                                .isVirtualThreadsEnabled());
         if (states.isEmpty()) {
             this.writer = sinkAction.getSink().createWriter(writerContext);
         } else {
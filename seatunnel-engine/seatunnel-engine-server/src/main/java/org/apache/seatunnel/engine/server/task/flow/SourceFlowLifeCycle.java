@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SourceEvent;
@@ -59,9 +61,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_POLL_LATENCY;
 import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStates;
 
 @Slf4j
@@ -84,6 +88,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     private SeaTunnelSourceCollector<T> collector;
 
     private final MetricsContext metricsContext;
+    private Histogram pollLatency;
     private final EventListener eventListener;
     private SourceReader.Context context;
 
@@ -122,6 +127,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                         metricsContext,
                         eventListener);
         this.reader = sourceAction.getSource().createReader(context);
+        this.pollLatency = metricsContext.histogram(SOURCE_POLL_LATENCY, Unit.US);
         this.enumeratorTaskAddress = getEnumeratorTaskAddress();
     }
 
@@ -156,9 +162,15 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 return;
             }
 
+            long startTime = System.nanoTime();
             reader.pollNext(collector);
+            pollLatency.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
             if (collector.isEmptyThisPollNext()) {
+                long sleepStartTime = System.nanoTime();
                 Thread.sleep(100);
+                runningTask
+                        .getBackPressureMetrics()
+                        .addIdleTime(System.nanoTime() - sleepStartTime);
             } else {
                 collector.resetEmptyThisPollNext();
                 /**
@@ -17,22 +17,31 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportAsyncTransform;
+import org.apache.seatunnel.api.transform.SupportBatchTransform;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.TRANSFORM_LATENCY;
 
 @Slf4j
 public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
@@ -44,6 +53,17 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    /** The pending rows of each batch transform, null for transforms that only support map. */
+    private final MicroBatch<T>[] batches;
+
+    /** The requests in flight of each async transform, null for the others. */
+    private final AsyncTransformStage<T>[] asyncStages;
+
+    private final boolean hasPendingStage;
+
+    /** The latency of the map transforms of a row, without batch, async and downstream time. */
+    private final Histogram latency;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -53,6 +73,39 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        this.batches = new MicroBatch[transform.size()];
+        this.asyncStages = new AsyncTransformStage[transform.size()];
+        boolean pendingStage = false;
+        for (int i = 0; i < transform.size(); i++) {
+            int nextIndex = i + 1;
+            Collector<T> downstream =
+                    new Collector<T>() {
+                        @Override
+                        public void collect(T record) {
+                            transform(record, nextIndex);
+                        }
+
+                        @Override
+                        public void close() {}
+                    };
+            // a transform supporting both is batched
+            if (transform.get(i) instanceof SupportBatchTransform) {
+                SupportBatchTransform<T> t = (SupportBatchTransform<T>) transform.get(i);
+                batches[i] =
+                        new MicroBatch<>(
+                                Math.max(1, t.getBatchSize()),
+                                t.getBatchLingerMillis(),
+                                downstream);
+                pendingStage = true;
+            } else if (transform.get(i) instanceof SupportAsyncTransform) {
+                asyncStages[i] =
+                        new AsyncTransformStage<>(
+                                (SupportAsyncTransform<T>) transform.get(i), downstream);
+                pendingStage = true;
+            }
+        }
+        this.hasPendingStage = pendingStage;
+        this.latency = runningTask.getMetricsContext().histogram(TRANSFORM_LATENCY, Unit.US);
     }
 
     @Override
@@ -72,8 +125,11 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
     }
 
     @Override
-    public void received(Record<?> record) {
+    public synchronized void received(Record<?> record) {
         if (record.getData() instanceof Barrier) {
+            // rows buffered by batch or async transforms belong to the checkpoint before this
+            // barrier
+            flushAll();
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
@@ -84,25 +140,90 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             // ack after #addState
             runningTask.ack(barrier);
             collector.collect(record);
+        } else if (record.getData() instanceof LatencyMarker) {
+            // markers overtake the rows buffered by batch or async transforms
+            if (!prepareClose) {
+                collector.collect(record);
+            }
         } else {
             if (prepareClose) {
                 return;
             }
-            T inputData = (T) record.getData();
-            T outputData = inputData;
-            for (SeaTunnelTransform<T> t : transform) {
-                outputData = t.map(inputData);
-                log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
-                if (outputData == null) {
-                    log.trace("Transform[{}] filtered data row {}", t, inputData);
-                    break;
+            transform((T) record.getData(), 0);
+        }
+    }
+
+    /** Run the row through the transforms from the given index, until a batch transform. */
+    private void transform(T row, int fromIndex) {
+        long startTime = System.nanoTime();
+        T inputData = row;
+        T outputData = inputData;
+        for (int i = fromIndex; i < transform.size(); i++) {
+            if (batches[i] != null) {
+                batches[i].add(inputData);
+                if (batches[i].size() >= batches[i].batchSize) {
+                    flushBatch(i);
                 }
+                return;
+            }
+            if (asyncStages[i] != null) {
+                asyncStages[i].submit(inputData);
+                return;
+            }
+            SeaTunnelTransform<T> t = transform.get(i);
+            outputData = t.map(inputData);
+            log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
+            if (outputData == null) {
+                log.trace("Transform[{}] filtered data row {}", t, inputData);
+                break;
+            }
 
-                inputData = outputData;
+            inputData = outputData;
+        }
+        latency.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        if (outputData != null) {
+            // todo log metrics
+            collector.collect(new Record<>(outputData));
+        }
+    }
+
+    private void flushBatch(int index) {
+        MicroBatch<T> batch = batches[index];
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<T> rows = batch.drain();
+        ((SupportBatchTransform<T>) transform.get(index)).flatMap(rows, batch.downstream);
+    }
+
+    /**
+     * Flush all pending batches and wait for all async requests, upstream first so that their
+     * output reaches later stages.
+     */
+    private void flushAll() {
+        for (int i = 0; i < transform.size(); i++) {
+            if (batches[i] != null) {
+                flushBatch(i);
+            } else if (asyncStages[i] != null) {
+                asyncStages[i].awaitAll();
             }
-            if (outputData != null) {
-                // todo log metrics
-                collector.collect(new Record<>(outputData));
+        }
+    }
+
+    /**
+     * Flush the batches whose first row has waited longer than the linger time and emit the rows of
+     * completed async requests.
+     */
+    public synchronized void flushPending() {
+        if (!hasPendingStage || prepareClose) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < transform.size(); i++) {
+            if (batches[i] != null && batches[i].isExpired(now)) {
+                flushBatch(i);
+            } else if (asyncStages[i] != null && !asyncStages[i].isEmpty()) {
+                asyncStages[i].emitCompleted();
             }
         }
     }
@@ -114,6 +235,11 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     @Override
     public void close() throws IOException {
+        for (AsyncTransformStage<T> asyncStage : asyncStages) {
+            if (asyncStage != null) {
+                asyncStage.cancel();
+            }
+        }
         for (SeaTunnelTransform<T> t : transform) {
             try {
                 t.close();
@@ -127,4 +253,44 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
         super.close();
     }
+
+    private static class MicroBatch<T> {
+        private final int batchSize;
+        private final long lingerMillis;
+        private final Collector<T> downstream;
+        private List<T> rows;
+        private long firstRowTime;
+
+        private MicroBatch(int batchSize, long lingerMillis, Collector<T> downstream) {
+            this.batchSize = batchSize;
+            this.lingerMillis = lingerMillis;
+            this.downstream = downstream;
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        private void add(T row) {
+            if (rows.isEmpty()) {
+                firstRowTime = System.currentTimeMillis();
+            }
+            rows.add(row);
+        }
+
+        private int size() {
+            return rows.size();
+        }
+
+        private boolean isEmpty() {
+            return rows.isEmpty();
+        }
+
+        private boolean isExpired(long now) {
+            return !rows.isEmpty() && now - firstRowTime >= lingerMillis;
+        }
+
+        private List<T> drain() {
+            List<T> drained = rows;
+            rows = new ArrayList<>(batchSize);
+            return drained;
+        }
+    }
 }
@@ -21,12 +21,15 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.common.utils.function.ConsumerWithException;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import java.io.IOException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.seatunnel.engine.server.metrics.BackPressureMetrics.MAX_WAIT_MILLIS;
+
 public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
 
     public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
@@ -36,7 +39,7 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
     @Override
     public void received(Record<?> record) {
         try {
-            handleRecord(record, getIntermediateQueue()::put);
+            handleRecord(record, this::put);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -45,7 +48,14 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
         while (true) {
-            Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
+            Record<?> record = getIntermediateQueue().poll();
+            if (record == null) {
+                long startTime = System.nanoTime();
+                record = getIntermediateQueue().poll(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                getRunningTask()
+                        .getBackPressureMetrics()
+                        .addIdleTime(System.nanoTime() - startTime);
+            }
             if (record != null) {
                 handleRecord(record, collector::collect);
             } else {
@@ -54,6 +64,21 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
         }
     }
 
+    /** Put the record, the time waiting for a full queue is reported as back pressure. */
+    private void put(Record<?> record) throws InterruptedException {
+        if (getIntermediateQueue().offer(record)) {
+            return;
+        }
+        BackPressureMetrics metrics = getRunningTask().getBackPressureMetrics();
+        long startTime = System.nanoTime();
+        while (!getIntermediateQueue().offer(record, MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            long now = System.nanoTime();
+            metrics.addBackPressuredTime(now - startTime);
+            startTime = now;
+        }
+        metrics.addBackPressuredTime(System.nanoTime() - startTime);
+    }
+
     @Override
     public void close() throws IOException {
         getIntermediateQueue().clear();
@@ -44,7 +44,18 @@ public class RecordEventProducer {
             }
         }
 
-        long sequence = ringBuffer.next();
+        long sequence;
+        if (ringBuffer.hasAvailableCapacity(1)) {
+            sequence = ringBuffer.next();
+        } else {
+            // the consumer is slower, the time waiting for a free slot is back pressure
+            long startTime = System.nanoTime();
+            sequence = ringBuffer.next();
+            intermediateQueueFlowLifeCycle
+                    .getRunningTask()
+                    .getBackPressureMetrics()
+                    .addBackPressuredTime(System.nanoTime() - startTime);
+        }
         try {
             RecordEvent recordEvent = ringBuffer.get(sequence);
             recordEvent.setRecord(record);
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation.source;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+
+/** Replace the read limits of the source tasks of a job on a member, returns the updated tasks. */
+public class UpdateReadLimitOperation extends Operation implements IdentifiedDataSerializable {
+
+    private long jobId;
+
+    private int bytesPerSecond;
+
+    private int countPerSecond;
+
+    private int response;
+
+    public UpdateReadLimitOperation() {}
+
+    public UpdateReadLimitOperation(long jobId, int bytesPerSecond, int countPerSecond) {
+        this.jobId = jobId;
+        this.bytesPerSecond = bytesPerSecond;
+        this.countPerSecond = countPerSecond;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.UPDATE_READ_LIMIT_OPERATION;
+    }
+
+    @Override
+    public void run() throws Exception {
+        SeaTunnelServer server = getService();
+        response =
+                server.getTaskExecutionService()
+                        .updateReadLimit(jobId, bytesPerSecond, countPerSecond);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeLong(jobId);
+        out.writeInt(bytesPerSecond);
+        out.writeInt(countPerSecond);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        jobId = in.readLong();
+        bytesPerSecond = in.readInt();
+        countPerSecond = in.readInt();
+    }
+}
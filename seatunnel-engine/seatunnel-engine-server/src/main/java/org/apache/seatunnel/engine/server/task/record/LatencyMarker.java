@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * Marker emitted by a source in a fixed interval right after a row. It flows through the queues,
+ * transforms and shuffles like the rows, but is never written by a sink. The sink measures the time
+ * between the emission and its arrival as the source to sink latency.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class LatencyMarker implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The wall clock time in milliseconds when the source collected the row. */
+    private final long markedTime;
+
+    /** The table of the row the marker follows, null for single table sources. */
+    private final String tableId;
+}
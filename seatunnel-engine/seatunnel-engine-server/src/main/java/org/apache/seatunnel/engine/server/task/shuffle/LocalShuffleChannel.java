@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * In-memory shuffle channel used when the writer and the reader of a shuffle queue run in the same
+ * JVM. Records are transferred as whole frames without serialization. The channel grants the writer
+ * as many credits as the shuffle queue capacity, a frame consumes one credit per record and the
+ * credits are returned when the reader takes the frame.
+ */
+public class LocalShuffleChannel {
+    @Getter private final String name;
+    private final int capacity;
+    private final Semaphore credits;
+    private final Queue<Frame> frames = new ConcurrentLinkedQueue<>();
+
+    public LocalShuffleChannel(String name, int capacity) {
+        this.name = name;
+        this.capacity = Math.max(1, capacity);
+        this.credits = new Semaphore(this.capacity);
+    }
+
+    /** Send a frame, blocks until the reader has returned enough credits. */
+    public void send(List<Record<?>> records) throws InterruptedException {
+        if (records.isEmpty()) {
+            return;
+        }
+        int frameCredits = frameCredits(records);
+        credits.acquire(frameCredits);
+        frames.add(new Frame(records, frameCredits));
+    }
+
+    /**
+     * Send a frame if the channel has enough credits for it.
+     *
+     * @return false if the frame was not sent because the reader has not returned the credits
+     */
+    public boolean trySend(List<Record<?>> records) {
+        if (records.isEmpty()) {
+            return true;
+        }
+        int frameCredits = frameCredits(records);
+        if (!credits.tryAcquire(frameCredits)) {
+            return false;
+        }
+        frames.add(new Frame(records, frameCredits));
+        return true;
+    }
+
+    private int frameCredits(List<Record<?>> records) {
+        // a frame larger than the capacity waits for the whole channel to be drained
+        return Math.min(records.size(), capacity);
+    }
+
+    /** Move the records of the next frames into the given collection. */
+    public void drainTo(Collection<Record<?>> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            Frame frame = frames.poll();
+            if (frame == null) {
+                break;
+            }
+            target.addAll(frame.records);
+            drained += frame.records.size();
+            credits.release(frame.credits);
+        }
+    }
+
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public void clear() {
+        Frame frame;
+        while ((frame = frames.poll()) != null) {
+            credits.release(frame.credits);
+        }
+    }
+
+    private static class Frame {
+        private final List<Record<?>> records;
+        private final int credits;
+
+        private Frame(List<Record<?>> records, int credits) {
+            this.records = records;
+            this.credits = credits;
+        }
+    }
+}
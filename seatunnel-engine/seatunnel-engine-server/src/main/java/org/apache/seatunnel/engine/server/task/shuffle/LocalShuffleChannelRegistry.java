@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local shuffle channels of the shuffle readers running in this JVM, keyed by the name of the
+ * shuffle queue they read. A shuffle writer that finds the reader of a queue here switches from the
+ * Hazelcast queue to the local channel.
+ */
+public final class LocalShuffleChannelRegistry {
+    private static final Map<String, LocalShuffleChannel> CHANNELS = new ConcurrentHashMap<>();
+
+    private LocalShuffleChannelRegistry() {}
+
+    public static void register(LocalShuffleChannel channel) {
+        CHANNELS.put(channel.getName(), channel);
+    }
+
+    public static void unregister(LocalShuffleChannel channel) {
+        CHANNELS.remove(channel.getName(), channel);
+    }
+
+    public static LocalShuffleChannel get(String queueName) {
+        return CHANNELS.get(queueName);
+    }
+}
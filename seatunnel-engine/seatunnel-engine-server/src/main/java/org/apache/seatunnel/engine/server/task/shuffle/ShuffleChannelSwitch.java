@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+/**
+ * The last record a shuffle writer puts into a Hazelcast shuffle queue before it continues on the
+ * {@link LocalShuffleChannel} of the same queue. The reader drains the queue up to this marker and
+ * then only reads the local channel, so the order of records is kept.
+ */
+public final class ShuffleChannelSwitch {
+    public static final ShuffleChannelSwitch INSTANCE = new ShuffleChannelSwitch();
+
+    private ShuffleChannelSwitch() {}
+
+    @Override
+    public String toString() {
+        return "ShuffleChannelSwitch";
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A barrier of an unaligned checkpoint that a shuffle writer puts into the barrier queue of a
+ * shuffle queue instead of the shuffle queue itself, so it overtakes the records buffered in the
+ * shuffle queue. The position is the number of records the writer put into the shuffle queue and
+ * its {@link LocalShuffleChannel} before the barrier, the reader stores the records up to the
+ * position which it has not read yet in the checkpoint.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UnalignedBarrier {
+    private final CheckpointBarrier barrier;
+    private final long position;
+
+    public static String barrierQueueName(String shuffleQueueName) {
+        return shuffleQueueName + "-barrier";
+    }
+}
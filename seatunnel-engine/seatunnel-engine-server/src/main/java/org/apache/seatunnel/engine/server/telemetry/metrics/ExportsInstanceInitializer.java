@@ -21,6 +21,7 @@ import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetri
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.NodeMetricExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.TaskMetricExports;
 
 import com.hazelcast.instance.impl.Node;
 import io.prometheus.client.CollectorRegistry;
@@ -41,6 +42,8 @@ public final class ExportsInstanceInitializer {
             CollectorRegistry collectorRegistry = CollectorRegistry.defaultRegistry;
             // Job info detail
             new JobMetricExports(node).register(collectorRegistry);
+            // Task rates and latencies
+            new TaskMetricExports(node).register(collectorRegistry);
             // Thread pool status
             new JobThreadPoolStatusExports(node).register(collectorRegistry);
             // Node metrics
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TaskMetricExports extends AbstractCollector {
+
+    public TaskMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        if (getServer().getTaskExecutionService() == null) {
+            return mfs;
+        }
+        String address = localAddress();
+        GaugeMetricFamily rateMetricFamily =
+                new GaugeMetricFamily(
+                        "job_task_rate",
+                        "The exponentially decayed rates per second of the running tasks",
+                        clusterLabelNames(ADDRESS, "jobId", "taskId", "metric", "window"));
+        GaugeMetricFamily latencyMetricFamily =
+                new GaugeMetricFamily(
+                        "job_task_latency_microseconds",
+                        "The latencies in microseconds of the running tasks",
+                        clusterLabelNames(ADDRESS, "jobId", "taskId", "metric", "quantile"));
+        for (Map.Entry<TaskLocation, SeaTunnelMetricsContext> entry :
+                getServer().getTaskExecutionService().getMetricsContexts(false).entrySet()) {
+            String jobId = String.valueOf(entry.getKey().getJobId());
+            String task = String.valueOf(entry.getKey().getTaskID());
+            entry.getValue()
+                    .getMetrics()
+                    .forEach(
+                            (name, metric) -> {
+                                // the metrics of single tables are left to the rest api
+                                if (name.contains("#")) {
+                                    return;
+                                }
+                                if (metric instanceof Meter) {
+                                    Meter meter = (Meter) metric;
+                                    rateMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "1m"),
+                                            meter.getOneMinuteRate());
+                                    rateMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "5m"),
+                                            meter.getFiveMinuteRate());
+                                    rateMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "15m"),
+                                            meter.getFifteenMinuteRate());
+                                } else if (metric instanceof Histogram) {
+                                    Histogram histogram = (Histogram) metric;
+                                    latencyMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "0.5"),
+                                            histogram.getQuantile(0.5));
+                                    latencyMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "0.95"),
+                                            histogram.getQuantile(0.95));
+                                    latencyMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "0.99"),
+                                            histogram.getQuantile(0.99));
+                                    latencyMetricFamily.addMetric(
+                                            labelValues(address, jobId, task, name, "1"),
+                                            histogram.getMax());
+                                }
+                            });
+        }
+        mfs.add(rateMetricFamily);
+        mfs.add(latencyMetricFamily);
+        return mfs;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server;
+
+import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
+import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
+import org.apache.seatunnel.engine.server.execution.BlockTask;
+import org.apache.seatunnel.engine.server.execution.FixedCallTestTimeTask;
+import org.apache.seatunnel.engine.server.execution.SlowCallTask;
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
+import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.seatunnel.engine.server.execution.ExecutionState.CANCELED;
+import static org.apache.seatunnel.engine.server.execution.ExecutionState.FINISHED;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskExecutionServiceThreadShareTest
+        extends AbstractSeaTunnelServerTest<TaskExecutionServiceThreadShareTest> {
+
+    private static final int COOPERATIVE_THREADS = 2;
+
+    private final long jobId = 10002;
+    private final int pipelineId = 1;
+    private final AtomicLong idGenerator = new AtomicLong();
+
+    @Override
+    public SeaTunnelConfig loadSeaTunnelConfig() {
+        SeaTunnelConfig seaTunnelConfig = super.loadSeaTunnelConfig();
+        seaTunnelConfig.getEngineConfig().setTaskExecutionThreadShareMode(ThreadShareMode.PART);
+        seaTunnelConfig.getEngineConfig().setTaskExecutionCooperativeThreads(COOPERATIVE_THREADS);
+        return seaTunnelConfig;
+    }
+
+    private PassiveCompletableFuture<TaskExecutionState> deployLocalTask(
+            TaskGroupLocation location, List<Task> tasks) {
+        ConcurrentHashMap<Long, ClassLoader> classLoaders = new ConcurrentHashMap<>();
+        for (Task task : tasks) {
+            classLoaders.put(task.getTaskID(), Thread.currentThread().getContextClassLoader());
+        }
+        return server.getTaskExecutionService()
+                .deployLocalTask(
+                        new TaskGroupDefaultImpl(location, location.toString(), tasks),
+                        classLoaders,
+                        new ConcurrentHashMap<>());
+    }
+
+    private TaskGroupLocation newLocation() {
+        return new TaskGroupLocation(jobId, pipelineId, idGenerator.incrementAndGet());
+    }
+
+    @Test
+    public void testShareThreadsBetweenGroups() {
+        AtomicBoolean stop = new AtomicBoolean(false);
+        CopyOnWriteArrayList<Long> lagList = new CopyOnWriteArrayList<>();
+        List<PassiveCompletableFuture<TaskExecutionState>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            List<Task> tasks = new ArrayList<>();
+            for (int j = 0; j < 10; j++) {
+                tasks.add(new FixedCallTestTimeTask(1, "task-" + i + "-" + j, stop, lagList));
+            }
+            futures.add(deployLocalTask(newLocation(), tasks));
+        }
+
+        // one hundred tasks make progress on two threads
+        await().atMost(10, TimeUnit.SECONDS).until(() -> lagList.size() > 1000);
+        stop.set(true);
+        for (PassiveCompletableFuture<TaskExecutionState> future : futures) {
+            await().atMost(10, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertEquals(FINISHED, future.get().getExecutionState()));
+        }
+    }
+
+    @Test
+    public void testBlockedTaskDoesNotStallWorkers() {
+        List<Task> blockTasks = new ArrayList<>();
+        for (int i = 0; i < COOPERATIVE_THREADS; i++) {
+            blockTasks.add(new BlockTask());
+        }
+        TaskGroupLocation blockLocation = newLocation();
+        PassiveCompletableFuture<TaskExecutionState> blockFuture =
+                deployLocalTask(blockLocation, blockTasks);
+
+        // the blocking tasks occupy every worker, the watchdog replaces the workers
+        AtomicBoolean stop = new AtomicBoolean(false);
+        CopyOnWriteArrayList<Long> lagList = new CopyOnWriteArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new FixedCallTestTimeTask(1, "task-" + i, stop, lagList));
+        }
+        PassiveCompletableFuture<TaskExecutionState> future = deployLocalTask(newLocation(), tasks);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> lagList.size() > 100);
+        stop.set(true);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(FINISHED, future.get().getExecutionState()));
+
+        assertFalse(blockFuture.isDone());
+
+        server.getTaskExecutionService().cancelTaskGroup(blockLocation);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(CANCELED, blockFuture.get().getExecutionState()));
+    }
+
+    @Test
+    public void testTaskBlockingEveryCallMovesToBlockingThread() {
+        AtomicBoolean stop = new AtomicBoolean(false);
+        SlowCallTask slowTask = new SlowCallTask(1500, stop);
+        CopyOnWriteArrayList<Long> lagList = new CopyOnWriteArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new FixedCallTestTimeTask(1, "task-" + i, stop, lagList));
+        }
+        PassiveCompletableFuture<TaskExecutionState> slowFuture =
+                deployLocalTask(newLocation(), Collections.singletonList(slowTask));
+        PassiveCompletableFuture<TaskExecutionState> future = deployLocalTask(newLocation(), tasks);
+
+        // the task detached its workers three times, it runs on its own thread afterwards
+        await().atMost(20, TimeUnit.SECONDS).until(() -> slowTask.getCalls() > 3);
+        lagList.clear();
+        await().atMost(20, TimeUnit.SECONDS).until(() -> slowTask.getCalls() > 5);
+        long maxLag = lagList.stream().mapToLong(Long::longValue).max().orElse(0);
+        assertTrue(lagList.size() > 100);
+        assertTrue(maxLag < 500, "the cooperative tasks were stalled for " + maxLag + " ms");
+
+        stop.set(true);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(FINISHED, future.get().getExecutionState()));
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(FINISHED, slowFuture.get().getExecutionState()));
+    }
+}
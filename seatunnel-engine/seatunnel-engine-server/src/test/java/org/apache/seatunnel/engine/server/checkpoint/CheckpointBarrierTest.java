@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.shuffle.UnalignedBarrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.util.Collections;
+
+import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.CHECKPOINT_TYPE;
+import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.SAVEPOINT_TYPE;
+
+public class CheckpointBarrierTest {
+
+    @Test
+    public void testUnaligned() {
+        CheckpointBarrier aligned = new CheckpointBarrier(1, 1000, CHECKPOINT_TYPE);
+        Assertions.assertFalse(aligned.isUnaligned(100000));
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1,
+                        1000,
+                        CHECKPOINT_TYPE,
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        500);
+        Assertions.assertFalse(barrier.isUnaligned(1499));
+        Assertions.assertTrue(barrier.isUnaligned(1500));
+
+        // savepoints and barriers that close tasks stay aligned
+        CheckpointBarrier savepoint =
+                new CheckpointBarrier(
+                        1, 1000, SAVEPOINT_TYPE, Collections.emptySet(), Collections.emptySet(), 0);
+        Assertions.assertFalse(savepoint.isUnaligned(1000));
+        CheckpointBarrier prepareClose =
+                new CheckpointBarrier(
+                        1,
+                        1000,
+                        CHECKPOINT_TYPE,
+                        Collections.singleton(new TaskLocation()),
+                        Collections.emptySet(),
+                        0);
+        Assertions.assertFalse(prepareClose.isUnaligned(1000));
+    }
+
+    @Test
+    public void testSerializeUnalignedBarrier() {
+        SerializationService serializationService =
+                new DefaultSerializationServiceBuilder().build();
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        2,
+                        1000,
+                        CHECKPOINT_TYPE,
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        0);
+        Data data = serializationService.toData(new Record<>(new UnalignedBarrier(barrier, 42)));
+        Record<?> record = serializationService.toObject(data);
+
+        UnalignedBarrier unalignedBarrier = (UnalignedBarrier) record.getData();
+        Assertions.assertEquals(42, unalignedBarrier.getPosition());
+        Assertions.assertEquals(2, unalignedBarrier.getBarrier().getId());
+        Assertions.assertEquals(0, unalignedBarrier.getBarrier().getAlignedTimeout());
+        Assertions.assertTrue(unalignedBarrier.getBarrier().isUnaligned(1000));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalCheckpointRegistryTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+
+    @Test
+    public void testIncrementalCheckpoint() {
+        IncrementalCheckpointRegistry registry = new IncrementalCheckpointRegistry();
+        Map<Long, CompletedCheckpoint> storage = new HashMap<>();
+
+        storage.put(1L, registry.toIncremental(checkpoint(1, "a", "b", "c"), ids(1L)));
+        CompletedCheckpoint second =
+                registry.toIncremental(checkpoint(2, "a", "x", "c"), ids(1L, 2L));
+        storage.put(2L, second);
+        ActionState actionState = second.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(1L, actionState.getCoordinatorState().getSharedCheckpointId());
+        Assertions.assertNull(actionState.getCoordinatorState().getState());
+        Assertions.assertNull(actionState.getSubtaskStates().get(0).getSharedCheckpointId());
+        Assertions.assertEquals(1L, actionState.getSubtaskStates().get(1).getSharedCheckpointId());
+
+        CompletedCheckpoint restored =
+                IncrementalCheckpointRegistry.resolve(storage.get(2L), storage::get);
+        Assertions.assertEquals(Arrays.asList("a", "x", "c"), states(restored));
+
+        // checkpoint 1 is still referred to by the retained checkpoint 2
+        Assertions.assertTrue(registry.expire(ids(1L), ids(2L)).isEmpty());
+        // the unchanged states are stored again, as checkpoint 1 is not retained
+        CompletedCheckpoint third =
+                registry.toIncremental(checkpoint(3, "a", "x", "c"), ids(2L, 3L));
+        actionState = third.getTaskStates().get(SOURCE);
+        Assertions.assertNull(actionState.getCoordinatorState().getSharedCheckpointId());
+        Assertions.assertEquals(2L, actionState.getSubtaskStates().get(0).getSharedCheckpointId());
+        Assertions.assertNull(actionState.getSubtaskStates().get(1).getSharedCheckpointId());
+        // checkpoint 2 is referred to by checkpoint 3, checkpoint 1 by no retained checkpoint
+        Assertions.assertEquals(ids(1L), registry.expire(ids(2L), ids(3L)));
+    }
+
+    @Test
+    public void testRestoredCheckpointsAreDeleted() {
+        IncrementalCheckpointRegistry registry = new IncrementalCheckpointRegistry();
+        Map<Long, CompletedCheckpoint> storage = new HashMap<>();
+        storage.put(1L, registry.toIncremental(checkpoint(1, "a", "b", "c"), ids(1L)));
+        storage.put(2L, registry.toIncremental(checkpoint(2, "a", "x", "c"), ids(1L, 2L)));
+
+        // the restarted coordinator only knows the stored checkpoint 2
+        IncrementalCheckpointRegistry restored = new IncrementalCheckpointRegistry();
+        CompletedCheckpoint checkpoint = storage.get(2L);
+        Assertions.assertEquals(ids(1L, 2L), restored.restore(checkpoint, storage::get));
+        Assertions.assertEquals(Arrays.asList("a", "x", "c"), states(checkpoint));
+
+        // the unchanged states refer to the checkpoints stored before the restore
+        CompletedCheckpoint third =
+                restored.toIncremental(checkpoint(3, "a", "x", "c"), ids(1L, 2L, 3L));
+        ActionState actionState = third.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(1L, actionState.getCoordinatorState().getSharedCheckpointId());
+        Assertions.assertEquals(2L, actionState.getSubtaskStates().get(0).getSharedCheckpointId());
+        Assertions.assertEquals(1L, actionState.getSubtaskStates().get(1).getSharedCheckpointId());
+        restored.toIncremental(checkpoint(4, "d", "e", "f"), ids(1L, 2L, 3L, 4L));
+
+        // the checkpoints of the restore are deleted once the referring checkpoint expires
+        Assertions.assertTrue(restored.expire(ids(1L, 2L), ids(3L, 4L)).isEmpty());
+        restored.toIncremental(checkpoint(5, "d", "e", "f"), ids(4L, 5L));
+        Assertions.assertEquals(ids(1L, 2L, 3L), restored.expire(ids(3L), ids(4L, 5L)));
+    }
+
+    @Test
+    public void testResolveMissingCheckpoint() {
+        IncrementalCheckpointRegistry registry = new IncrementalCheckpointRegistry();
+        registry.toIncremental(checkpoint(1, "a", "b", "c"), ids(1L));
+        CompletedCheckpoint second =
+                registry.toIncremental(checkpoint(2, "a", "b", "c"), ids(1L, 2L));
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> IncrementalCheckpointRegistry.resolve(second, id -> null));
+    }
+
+    /** A checkpoint of one action with a coordinator state and two subtask states. */
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId, String coordinatorState, String... subtaskStates) {
+        ActionState actionState = new ActionState(SOURCE, subtaskStates.length);
+        actionState.reportState(-1, subtaskState(-1, coordinatorState));
+        for (int i = 0; i < subtaskStates.length; i++) {
+            actionState.reportState(i, subtaskState(i, subtaskStates[i]));
+        }
+        return new CompletedCheckpoint(
+                1L,
+                1,
+                checkpointId,
+                checkpointId,
+                CheckpointType.CHECKPOINT_TYPE,
+                checkpointId,
+                Collections.singletonMap(SOURCE, actionState),
+                new HashMap<>());
+    }
+
+    private static ActionSubtaskState subtaskState(int index, String state) {
+        return new ActionSubtaskState(SOURCE, index, Collections.singletonList(state.getBytes()));
+    }
+
+    private static List<String> states(CompletedCheckpoint checkpoint) {
+        ActionState actionState = checkpoint.getTaskStates().get(SOURCE);
+        return Arrays.asList(
+                new String(actionState.getCoordinatorState().getState().get(0)),
+                new String(actionState.getSubtaskStates().get(0).getState().get(0)),
+                new String(actionState.getSubtaskStates().get(1).getState().get(0)));
+    }
+
+    private static List<Long> ids(Long... ids) {
+        return Arrays.asList(ids);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.dag.physical;
+
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class ResourceUtilsTest {
+
+    @Test
+    public void testWorkersOfPendingSlots() throws Exception {
+        Address worker = new Address("127.0.0.1", 5801);
+        CompletableFuture<SlotProfile> applied = new CompletableFuture<>();
+        CompletableFuture<SlotProfile> failed = new CompletableFuture<>();
+
+        CompletableFuture<Set<Address>> workers =
+                ResourceUtils.workersOf(Arrays.asList(applied, failed));
+        // the readers are only applied once the writers have their slots
+        Assertions.assertFalse(workers.isDone());
+
+        applied.complete(new SlotProfile(worker, 1, new ResourceProfile(), "0"));
+        Assertions.assertFalse(workers.isDone());
+        failed.completeExceptionally(new IllegalStateException("no slot"));
+        Assertions.assertEquals(Collections.singleton(worker), workers.get());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** A thread share task whose every call blocks for the given time. */
+public class SlowCallTask implements Task {
+    private final long callTime;
+    private final AtomicBoolean stop;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public SlowCallTask(long callTime, AtomicBoolean stop) {
+        this.callTime = callTime;
+        this.stop = stop;
+    }
+
+    @NonNull @Override
+    public ProgressState call() throws Exception {
+        calls.incrementAndGet();
+        Thread.sleep(callTime);
+        if (stop.get()) {
+            return ProgressState.DONE;
+        }
+        return ProgressState.MADE_PROGRESS;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    @NonNull @Override
+    public Long getTaskID() {
+        return (long) this.hashCode();
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return true;
+    }
+}
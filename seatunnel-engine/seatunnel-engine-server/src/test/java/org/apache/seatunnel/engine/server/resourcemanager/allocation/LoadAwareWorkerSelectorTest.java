@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.allocation;
+
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class LoadAwareWorkerSelectorTest {
+
+    @Test
+    public void testSelectLeastLoadedWorker() throws UnknownHostException {
+        WorkerProfile busy = worker(5801, 0.5, 0.5, 2);
+        WorkerProfile idle = worker(5802, 0.1, 0.2, 0);
+        List<WorkerProfile> candidates = Arrays.asList(busy, idle);
+        LoadAwareWorkerSelector selector = new LoadAwareWorkerSelector();
+
+        Assertions.assertEquals(
+                idle, selector.select(candidates, Collections.emptySet()).orElse(null));
+        // the slots chosen before the next heartbeat count as load of the worker
+        List<WorkerProfile> selected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            selected.add(selector.select(candidates, Collections.emptySet()).orElse(null));
+        }
+        Assertions.assertTrue(selected.contains(busy));
+        Assertions.assertTrue(selected.contains(idle));
+        selector.heartbeat(idle);
+        Assertions.assertEquals(
+                idle, selector.select(candidates, Collections.emptySet()).orElse(null));
+
+        Assertions.assertFalse(
+                selector.select(Collections.emptyList(), Collections.emptySet()).isPresent());
+    }
+
+    @Test
+    public void testPreferWorkersOfShuffleWriters() throws UnknownHostException {
+        WorkerProfile writer = worker(5801, 0.3, 0.3, 1);
+        WorkerProfile other = worker(5802, 0.2, 0.2, 0);
+        WorkerProfile overloaded = worker(5803, 1, 0.9, 16);
+        LoadAwareWorkerSelector selector = new LoadAwareWorkerSelector();
+
+        Assertions.assertEquals(
+                writer,
+                selector.select(
+                                Arrays.asList(writer, other),
+                                Collections.singleton(writer.getAddress()))
+                        .orElse(null));
+        // locality does not outweigh a much busier worker
+        Assertions.assertEquals(
+                other,
+                selector.select(
+                                Arrays.asList(overloaded, other),
+                                Collections.singleton(overloaded.getAddress()))
+                        .orElse(null));
+    }
+
+    private static WorkerProfile worker(
+            int port, double cpuLoad, double memoryUsage, int runningTasks)
+            throws UnknownHostException {
+        WorkerProfile worker =
+                new WorkerProfile(
+                        new Address("localhost", port),
+                        new ResourceProfile(),
+                        new ResourceProfile(),
+                        true,
+                        new SlotProfile[] {},
+                        new SlotProfile[] {},
+                        Collections.emptyMap());
+        worker.setCpuLoad(cpuLoad);
+        worker.setMemoryUsage(memoryUsage);
+        worker.setRunningTasks(runningTasks);
+        worker.setProcessors(4);
+        return worker;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.api.table.type.VectorType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class SeaTunnelRowCodecTest {
+
+    private static final SeaTunnelRowType NESTED_ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_array",
+                        "c_map",
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_null",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_binary_vector",
+                        "c_float_vector",
+                        "c_float16_vector",
+                        "c_bfloat16_vector",
+                        "c_sparse_float_vector",
+                        "c_row",
+                        "c_decimal_array",
+                        "c_date_array",
+                        "c_row_array"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.LONG_TYPE),
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(38, 10),
+                        BasicType.VOID_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        VectorType.VECTOR_BINARY_TYPE,
+                        VectorType.VECTOR_FLOAT_TYPE,
+                        VectorType.VECTOR_FLOAT16_TYPE,
+                        VectorType.VECTOR_BFLOAT16_TYPE,
+                        VectorType.VECTOR_SPARSE_FLOAT_TYPE,
+                        NESTED_ROW_TYPE,
+                        new DecimalArrayType(new DecimalType(10, 2)),
+                        ArrayType.LOCAL_DATE_ARRAY_TYPE,
+                        new ArrayType<SeaTunnelRow[], SeaTunnelRow>(
+                                SeaTunnelRow[].class, NESTED_ROW_TYPE) {}
+                    });
+
+    @Test
+    public void testCoversAllSqlTypes() {
+        Set<SqlType> covered = EnumSet.noneOf(SqlType.class);
+        for (SeaTunnelDataType<?> fieldType : ROW_TYPE.getFieldTypes()) {
+            covered.add(fieldType.getSqlType());
+        }
+        // MULTIPLE_ROW is never a field type, it is only used to describe multi-table streams
+        covered.add(SqlType.MULTIPLE_ROW);
+        Assertions.assertEquals(EnumSet.allOf(SqlType.class), covered);
+    }
+
+    @Test
+    public void testRoundTripAllTypes() throws IOException {
+        SeaTunnelRowCodec codec = SeaTunnelRowCodec.of(ROW_TYPE);
+        SeaTunnelRow row = createRow();
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        SeaTunnelRow decoded = codec.decode(codec.encode(row));
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, decoded.getRowKind());
+        Assertions.assertEquals(row, decoded);
+        Assertions.assertEquals(String[].class, decoded.getField(0).getClass());
+        Assertions.assertEquals(LocalDate[].class, decoded.getField(23).getClass());
+    }
+
+    @Test
+    public void testRoundTripAllNulls() throws IOException {
+        SeaTunnelRowCodec codec = SeaTunnelRowCodec.of(ROW_TYPE);
+        SeaTunnelRow row = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+
+        byte[] encoded = codec.encode(row);
+        // row kind + null bitmap only
+        Assertions.assertEquals(1 + (ROW_TYPE.getTotalFields() + 7) / 8, encoded.length);
+        Assertions.assertEquals(row, codec.decode(encoded));
+    }
+
+    @Test
+    public void testRoundTripNullElements() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_array", "c_map"},
+                        new SeaTunnelDataType<?>[] {
+                            ArrayType.INT_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                        });
+        Map<String, String> map = new HashMap<>();
+        map.put("k", null);
+        map.put(null, "v");
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {new Integer[] {1, null, 3}, map});
+
+        SeaTunnelRowCodec codec = SeaTunnelRowCodec.of(rowType);
+        Assertions.assertEquals(row, codec.decode(codec.encode(row)));
+    }
+
+    @Test
+    public void testSparseFloatVectorKeyTypes() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_sparse"},
+                        new SeaTunnelDataType<?>[] {VectorType.VECTOR_SPARSE_FLOAT_TYPE});
+        SeaTunnelRowCodec codec = SeaTunnelRowCodec.of(rowType);
+
+        Map<Long, Float> longKeys = new HashMap<>();
+        longKeys.put(Long.MAX_VALUE, 1.5f);
+        SeaTunnelRow longKeyRow = new SeaTunnelRow(new Object[] {longKeys});
+        Assertions.assertEquals(longKeyRow, codec.decode(codec.encode(longKeyRow)));
+
+        SeaTunnelRow emptyRow = new SeaTunnelRow(new Object[] {Collections.emptyMap()});
+        Assertions.assertEquals(emptyRow, codec.decode(codec.encode(emptyRow)));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_multiple_row"},
+                        new SeaTunnelDataType<?>[] {new MultipleRowType(new HashMap<>())});
+        Assertions.assertFalse(SeaTunnelRowCodec.isSupported(rowType));
+        Assertions.assertThrows(
+                UnsupportedOperationException.class, () -> SeaTunnelRowCodec.of(rowType));
+    }
+
+    @Test
+    public void testMultipleTableRowCodec() throws IOException {
+        CatalogTable table1 = CatalogTableUtil.getCatalogTable("table1", ROW_TYPE);
+        CatalogTable table2 = CatalogTableUtil.getCatalogTable("table2", NESTED_ROW_TYPE);
+        String tableId2 = table2.getTableId().toTablePath().toString();
+        MultipleTableRowCodec rowCodec = new MultipleTableRowCodec(Arrays.asList(table1, table2));
+
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1, "a"});
+        row.setTableId(tableId2);
+        Object encoded = rowCodec.encode(row);
+        Assertions.assertTrue(encoded instanceof EncodedSeaTunnelRow);
+        Assertions.assertEquals(1, ((EncodedSeaTunnelRow) encoded).getTableIndex());
+        SeaTunnelRow decoded = rowCodec.decode((EncodedSeaTunnelRow) encoded);
+        Assertions.assertEquals(tableId2, decoded.getTableId());
+        Assertions.assertEquals(row, decoded);
+
+        // unknown table and mismatched rows are passed through as-is
+        SeaTunnelRow unknownTableRow = new SeaTunnelRow(new Object[] {1, "a"});
+        unknownTableRow.setTableId("unknown");
+        Assertions.assertSame(unknownTableRow, rowCodec.encode(unknownTableRow));
+        SeaTunnelRow mismatchedRow = new SeaTunnelRow(new Object[] {"not int", "a"});
+        mismatchedRow.setTableId(tableId2);
+        Assertions.assertSame(mismatchedRow, rowCodec.encode(mismatchedRow));
+        Assertions.assertSame(row, rowCodec.encode(row));
+
+        // encoded rows in flight are still decodable after the table is disabled
+        MultipleTableRowCodec decoder = new MultipleTableRowCodec(Arrays.asList(table1, table2));
+        decoder.disable(tableId2);
+        Assertions.assertEquals(row, decoder.decode((EncodedSeaTunnelRow) encoded));
+    }
+
+    private static SeaTunnelRow createRow() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("a", 1L);
+        map.put("b", Long.MIN_VALUE);
+        Map<Integer, Float> sparseVector = new HashMap<>();
+        sparseVector.put(1, 0.5f);
+        sparseVector.put(100, -2.25f);
+        SeaTunnelRow nestedRow = new SeaTunnelRow(new Object[] {7, "nested"});
+        return new SeaTunnelRow(
+                new Object[] {
+                    new String[] {"a", null, "中文"},
+                    map,
+                    "string value",
+                    true,
+                    (byte) -1,
+                    (short) 300,
+                    Integer.MIN_VALUE,
+                    Long.MAX_VALUE,
+                    1.25f,
+                    -3.5d,
+                    new BigDecimal("-12345678901234567890.0123456789"),
+                    null,
+                    new byte[] {1, 2, 3},
+                    LocalDate.of(1969, 7, 20),
+                    LocalTime.of(23, 59, 59, 999_999_999),
+                    LocalDateTime.of(2024, 2, 29, 12, 30, 15, 123_456_789),
+                    ByteBuffer.wrap(new byte[] {1, 0, 1}),
+                    ByteBuffer.wrap(new byte[] {0, 0, -128, 63}),
+                    ByteBuffer.wrap(new byte[] {0, 60}),
+                    ByteBuffer.wrap(new byte[] {-128, 63}),
+                    sparseVector,
+                    nestedRow,
+                    new BigDecimal[] {new BigDecimal("1.10"), null},
+                    new LocalDate[] {LocalDate.of(2000, 1, 1)},
+                    new SeaTunnelRow[] {nestedRow, null}
+                });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SeaTunnelSourceCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+
+    @Test
+    public void testLatencyMarkers() {
+        List<Object> output = new ArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> flow = record -> output.add(record.getData());
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.singletonList(flow),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.builder().build(),
+                        ROW_TYPE,
+                        Collections.emptyList(),
+                        60_000);
+
+        long startTime = System.currentTimeMillis();
+        collector.collect(row("db.a", 1));
+        collector.collect(row("db.a", 2));
+        collector.collect(row("db.b", 3));
+
+        // the first row of each table is followed by a marker, the next only after the interval
+        Assertions.assertEquals(5, output.size());
+        Assertions.assertEquals(1, ((SeaTunnelRow) output.get(0)).getField(0));
+        LatencyMarker marker = (LatencyMarker) output.get(1);
+        Assertions.assertEquals("db.a", marker.getTableId());
+        Assertions.assertTrue(marker.getMarkedTime() >= startTime);
+        Assertions.assertEquals(2, ((SeaTunnelRow) output.get(2)).getField(0));
+        Assertions.assertEquals(3, ((SeaTunnelRow) output.get(3)).getField(0));
+        Assertions.assertEquals("db.b", ((LatencyMarker) output.get(4)).getTableId());
+    }
+
+    @Test
+    public void testLatencyMarkersDisabled() {
+        List<Object> output = new ArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> flow = record -> output.add(record.getData());
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.singletonList(flow),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.builder().build(),
+                        ROW_TYPE,
+                        Collections.emptyList());
+
+        collector.collect(row("db.a", 1));
+        Assertions.assertEquals(1, output.size());
+    }
+
+    private static SeaTunnelRow row(String tableId, int id) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id});
+        row.setTableId(tableId);
+        return row;
+    }
+}
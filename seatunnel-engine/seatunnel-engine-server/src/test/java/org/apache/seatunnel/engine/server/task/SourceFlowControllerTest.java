@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.Unit;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.core.starter.flowcontrol.AdaptiveFlowControl;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.TaskExecutionService;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+public class SourceFlowControllerTest {
+
+    private static final long JOB_ID = 1;
+
+    private FlowControlGate gate;
+
+    private BackPressureMetrics backPressureMetrics;
+
+    private SeaTunnelMetricsContext sinkMetricsContext;
+
+    private TaskExecutionService taskExecutionService;
+
+    private SourceFlowController controller;
+
+    @BeforeEach
+    public void setUp() {
+        FlowControlStrategy strategy =
+                FlowControlStrategy.builder().countPerSecond(1000).adaptive(true).build();
+        gate = FlowControlGate.create(strategy);
+        backPressureMetrics = new BackPressureMetrics(new SeaTunnelMetricsContext());
+        sinkMetricsContext = new SeaTunnelMetricsContext();
+        HashMap<TaskLocation, SeaTunnelMetricsContext> metricsContexts = new HashMap<>();
+        metricsContexts.put(
+                new TaskLocation(new TaskGroupLocation(JOB_ID, 1, 1), 1, 0), sinkMetricsContext);
+        taskExecutionService = Mockito.mock(TaskExecutionService.class);
+        Mockito.when(taskExecutionService.getMetricsContexts(false)).thenReturn(metricsContexts);
+        controller =
+                new SourceFlowController(
+                        new AdaptiveFlowControl(gate, strategy),
+                        backPressureMetrics,
+                        taskExecutionService,
+                        JOB_ID);
+    }
+
+    @Test
+    public void testBackPressured() {
+        audit(100);
+        backPressureMetrics.addBackPressuredTime(TimeUnit.MILLISECONDS.toNanos(50));
+        controller.adjust(1000);
+        Assertions.assertEquals(1000, gate.getCountPerSecond());
+
+        audit(100);
+        backPressureMetrics.addBackPressuredTime(TimeUnit.MILLISECONDS.toNanos(500));
+        controller.adjust(1000);
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+    }
+
+    @Test
+    public void testWriterOverloaded() {
+        audit(100);
+        Mockito.when(taskExecutionService.getWriterOverloadedCount(JOB_ID)).thenReturn(1L);
+        controller.adjust(1000);
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+
+        // no new events, the limit is raised again
+        controller.adjust(1000);
+        Assertions.assertEquals(150, gate.getCountPerSecond());
+    }
+
+    @Test
+    public void testSinkLatency() {
+        Histogram writeLatency =
+                sinkMetricsContext.histogram(MetricNames.SINK_WRITE_LATENCY, Unit.US);
+        for (int i = 0; i < 3; i++) {
+            audit(100);
+            writeLatency(writeLatency, 1000);
+            controller.adjust(1000);
+            Assertions.assertEquals(1000, gate.getCountPerSecond());
+        }
+
+        // the mean of the interval is compared, not the mean of all writes
+        audit(100);
+        writeLatency(writeLatency, 5000);
+        controller.adjust(1000);
+        Assertions.assertEquals(50, gate.getCountPerSecond());
+    }
+
+    private void audit(int rows) {
+        for (int i = 0; i < rows; i++) {
+            gate.audit(new SeaTunnelRow(new Object[] {i}));
+        }
+    }
+
+    private static void writeLatency(Histogram histogram, long micros) {
+        for (int i = 0; i < 100; i++) {
+            histogram.update(micros);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportAsyncTransform;
+import org.apache.seatunnel.api.transform.SupportBatchTransform;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TransformFlowLifeCycleTest {
+
+    @Test
+    public void testBatchTransformFlushedBySizeAndBarrier() throws Exception {
+        DuplicateTransform duplicate = new DuplicateTransform(3, Long.MAX_VALUE);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Arrays.asList(new IncrementTransform(), duplicate), output);
+
+        for (int i = 0; i < 5; i++) {
+            lifeCycle.received(new Record<>(i));
+        }
+        Assertions.assertEquals(Collections.singletonList(3), duplicate.batchSizes);
+        Assertions.assertEquals(Arrays.asList(1, 1, 2, 2, 3, 3), output);
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        lifeCycle.received(new Record<>(barrier));
+        Assertions.assertEquals(Arrays.asList(3, 2), duplicate.batchSizes);
+        Assertions.assertEquals(Arrays.asList(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, barrier), output);
+    }
+
+    @Test
+    public void testLatencyMarkerForwarded() throws Exception {
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Collections.singletonList(new IncrementTransform()), output);
+
+        LatencyMarker marker = new LatencyMarker(System.currentTimeMillis(), null);
+        lifeCycle.received(new Record<>(1));
+        lifeCycle.received(new Record<>(marker));
+        Assertions.assertEquals(Arrays.asList(2, marker), output);
+    }
+
+    @Test
+    public void testBatchTransformFlushedByLinger() throws Exception {
+        DuplicateTransform duplicate = new DuplicateTransform(100, 0);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Arrays.asList(duplicate, new IncrementTransform()), output);
+
+        lifeCycle.received(new Record<>(1));
+        Assertions.assertTrue(output.isEmpty());
+        lifeCycle.flushPending();
+        Assertions.assertEquals(Arrays.asList(2, 2), output);
+        lifeCycle.flushPending();
+        Assertions.assertEquals(Collections.singletonList(1), duplicate.batchSizes);
+    }
+
+    @Test
+    public void testAsyncTransformOrderedAndBarrier() throws Exception {
+        ManualAsyncTransform async = new ManualAsyncTransform(true, 0);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Arrays.asList(async, new IncrementTransform()), output);
+
+        lifeCycle.received(new Record<>(1));
+        lifeCycle.received(new Record<>(2));
+        lifeCycle.received(new Record<>(3));
+        async.futures.get(1).complete(20);
+        lifeCycle.flushPending();
+        // the first row is still in flight
+        Assertions.assertTrue(output.isEmpty());
+
+        async.futures.get(0).complete(10);
+        lifeCycle.flushPending();
+        Assertions.assertEquals(Arrays.asList(11, 21), output);
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        CompletableFuture.runAsync(
+                () -> {
+                    sleep(50);
+                    async.futures.get(2).complete(30);
+                });
+        lifeCycle.received(new Record<>(barrier));
+        Assertions.assertEquals(Arrays.asList(11, 21, 31, barrier), output);
+    }
+
+    @Test
+    public void testAsyncTransformUnorderedAndCapacity() throws Exception {
+        ManualAsyncTransform async = new ManualAsyncTransform(false, 0);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Collections.singletonList(async), output);
+
+        lifeCycle.received(new Record<>(1));
+        lifeCycle.received(new Record<>(2));
+        async.futures.get(1).complete(20);
+        lifeCycle.flushPending();
+        Assertions.assertEquals(Collections.singletonList(20), output);
+
+        // at capacity the next row waits for a free slot
+        lifeCycle.received(new Record<>(3));
+        CompletableFuture.runAsync(
+                () -> {
+                    sleep(50);
+                    async.futures.get(0).complete(null);
+                });
+        lifeCycle.received(new Record<>(4));
+        Assertions.assertEquals(4, async.futures.size());
+        Assertions.assertEquals(Collections.singletonList(20), output);
+    }
+
+    @Test
+    public void testAsyncTransformRetryAndFailure() throws Exception {
+        ManualAsyncTransform async = new ManualAsyncTransform(true, 1);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<Integer> lifeCycle =
+                createLifeCycle(Collections.singletonList(async), output);
+
+        lifeCycle.received(new Record<>(1));
+        async.futures.get(0).completeExceptionally(new RuntimeException("first failure"));
+        lifeCycle.flushPending();
+        Assertions.assertEquals(2, async.futures.size());
+        async.futures.get(1).complete(10);
+        lifeCycle.flushPending();
+        Assertions.assertEquals(Collections.singletonList(10), output);
+
+        lifeCycle.received(new Record<>(2));
+        async.futures.get(2).completeExceptionally(new RuntimeException("first failure"));
+        lifeCycle.flushPending();
+        async.futures.get(3).completeExceptionally(new RuntimeException("second failure"));
+        Assertions.assertThrows(RuntimeException.class, lifeCycle::flushPending);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static TransformFlowLifeCycle<Integer> createLifeCycle(
+            List<SeaTunnelTransform<Integer>> transforms, List<Object> output) {
+        TransformChainAction<Integer> action =
+                new TransformChainAction<>(
+                        1, "transform", Collections.emptySet(), Collections.emptySet(), transforms);
+        SeaTunnelTask runningTask = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(runningTask.getMetricsContext()).thenReturn(new SeaTunnelMetricsContext());
+        return new TransformFlowLifeCycle<>(
+                action,
+                runningTask,
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        output.add(record.getData());
+                    }
+
+                    @Override
+                    public void close() {}
+                },
+                new CompletableFuture<>());
+    }
+
+    private static class IncrementTransform implements SeaTunnelTransform<Integer> {
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            return null;
+        }
+
+        @Override
+        public Integer map(Integer row) {
+            return row + 1;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Increment";
+        }
+    }
+
+    private static class DuplicateTransform
+            implements SeaTunnelTransform<Integer>, SupportBatchTransform<Integer> {
+        private final int batchSize;
+        private final long lingerMillis;
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        private DuplicateTransform(int batchSize, long lingerMillis) {
+            this.batchSize = batchSize;
+            this.lingerMillis = lingerMillis;
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            return null;
+        }
+
+        @Override
+        public Integer map(Integer row) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void flatMap(List<Integer> rows, Collector<Integer> collector) {
+            batchSizes.add(rows.size());
+            for (Integer row : rows) {
+                collector.collect(row);
+                collector.collect(row);
+            }
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public long getBatchLingerMillis() {
+            return lingerMillis;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Duplicate";
+        }
+    }
+
+    private static class ManualAsyncTransform
+            implements SeaTunnelTransform<Integer>, SupportAsyncTransform<Integer> {
+        private final boolean ordered;
+        private final int maxRetries;
+        private final List<CompletableFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+
+        private ManualAsyncTransform(boolean ordered, int maxRetries) {
+            this.ordered = ordered;
+            this.maxRetries = maxRetries;
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            return null;
+        }
+
+        @Override
+        public Integer map(Integer row) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Integer> asyncMap(Integer row) {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public int getAsyncCapacity() {
+            return 3;
+        }
+
+        @Override
+        public int getAsyncMaxRetries() {
+            return maxRetries;
+        }
+
+        @Override
+        public boolean isAsyncOrdered() {
+            return ordered;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "ManualAsync";
+        }
+    }
+}
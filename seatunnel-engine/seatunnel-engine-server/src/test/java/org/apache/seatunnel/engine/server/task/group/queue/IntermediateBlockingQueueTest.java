@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeQPSMeter;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.server.metrics.BackPressureMetrics;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+public class IntermediateBlockingQueueTest {
+
+    @Test
+    public void testBackPressuredAndIdleTime() throws Exception {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getBackPressureMetrics())
+                .thenReturn(new BackPressureMetrics(metricsContext));
+        IntermediateBlockingQueue queue =
+                new IntermediateBlockingQueue(new ArrayBlockingQueue<>(1));
+        new IntermediateQueueFlowLifeCycle<>(task, new CompletableFuture<>(), queue);
+
+        queue.received(new Record<>(1));
+        CompletableFuture<Void> blockedPut =
+                CompletableFuture.runAsync(() -> queue.received(new Record<>(2)));
+        Thread.sleep(300);
+        Assertions.assertFalse(blockedPut.isDone());
+        // the put reports the time it is blocked before it completes
+        Assertions.assertTrue(getCount(metricsContext, MetricNames.BACK_PRESSURED_TIME) >= 200);
+
+        List<Object> output = new ArrayList<>();
+        queue.collect(
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        output.add(record.getData());
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+        blockedPut.get();
+        Assertions.assertEquals(2, output.size());
+        // the collect returns after waiting for records of the empty queue
+        Assertions.assertTrue(
+                getCount(metricsContext, MetricNames.IDLE_TIME)
+                        >= BackPressureMetrics.MAX_WAIT_MILLIS / 2);
+    }
+
+    private static long getCount(SeaTunnelMetricsContext metricsContext, String name) {
+        return ((ThreadSafeQPSMeter) metricsContext.getMetrics().get(name)).getCount();
+    }
+}
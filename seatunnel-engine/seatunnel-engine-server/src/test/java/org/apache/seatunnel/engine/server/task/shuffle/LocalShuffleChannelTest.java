@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class LocalShuffleChannelTest {
+
+    @Test
+    public void testFramesKeepOrder() throws InterruptedException {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 10);
+        channel.send(Arrays.asList(new Record<>(1), new Record<>(2)));
+        channel.send(Arrays.asList(new Record<>(3)));
+
+        List<Record<?>> records = new ArrayList<>();
+        channel.drainTo(records, 10);
+        Assertions.assertEquals(3, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(i + 1, records.get(i).getData());
+        }
+        Assertions.assertTrue(channel.isEmpty());
+    }
+
+    @Test
+    public void testSendBlocksWithoutCredits() throws Exception {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 2);
+        channel.send(Arrays.asList(new Record<>(1), new Record<>(2)));
+
+        CompletableFuture<Void> blockedSend =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                channel.send(Arrays.asList(new Record<>(3)));
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> blockedSend.get(200, TimeUnit.MILLISECONDS));
+
+        // draining returns the credits of the first frame
+        channel.drainTo(new ArrayList<>(), 1);
+        blockedSend.get(10, TimeUnit.SECONDS);
+        List<Record<?>> records = new ArrayList<>();
+        channel.drainTo(records, 10);
+        Assertions.assertEquals(1, records.size());
+    }
+
+    @Test
+    public void testTrySendWithoutCredits() {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test", 2);
+        Assertions.assertTrue(channel.trySend(Arrays.asList(new Record<>(1), new Record<>(2))));
+        Assertions.assertFalse(channel.trySend(Arrays.asList(new Record<>(3))));
+
+        channel.drainTo(new ArrayList<>(), 1);
+        Assertions.assertTrue(channel.trySend(Arrays.asList(new Record<>(3))));
+        List<Record<?>> records = new ArrayList<>();
+        channel.drainTo(records, 10);
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals(3, records.get(0).getData());
+    }
+
+    @Test
+    public void testRegistry() {
+        LocalShuffleChannel channel = new LocalShuffleChannel("test-registry", 1);
+        LocalShuffleChannelRegistry.register(channel);
+        Assertions.assertSame(channel, LocalShuffleChannelRegistry.get("test-registry"));
+
+        // a stale channel does not remove the registration of a newer reader
+        LocalShuffleChannel newChannel = new LocalShuffleChannel("test-registry", 1);
+        LocalShuffleChannelRegistry.register(newChannel);
+        LocalShuffleChannelRegistry.unregister(channel);
+        Assertions.assertSame(newChannel, LocalShuffleChannelRegistry.get("test-registry"));
+
+        LocalShuffleChannelRegistry.unregister(newChannel);
+        Assertions.assertNull(LocalShuffleChannelRegistry.get("test-registry"));
+    }
+}
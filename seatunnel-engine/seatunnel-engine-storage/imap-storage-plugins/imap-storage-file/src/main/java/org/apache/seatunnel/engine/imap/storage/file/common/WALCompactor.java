@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.wal.reader.DefaultReader;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Merge the sealed segments of a writer in the background into a snapshot that keeps the latest
+ * record of each key, so recovery reads the snapshot and the segments after it instead of the whole
+ * history. The snapshot keeps deletions, because the key may have been written by a writer of a
+ * former member into another directory.
+ */
+@Slf4j
+public class WALCompactor implements AutoCloseable {
+
+    private final FileSystem fs;
+
+    private final Path parentPath;
+
+    private final Serializer serializer;
+
+    private final DefaultReader reader;
+
+    /** compact once there are as many sealed segments after the snapshot */
+    private final int compactionSegments;
+
+    private final ExecutorService executorService =
+            Executors.newSingleThreadExecutor(
+                    r -> {
+                        Thread thread = new Thread(r, "imap-wal-compactor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    private final AtomicBoolean compacting = new AtomicBoolean(false);
+
+    /** the last segment in the snapshot, 0 if there is no snapshot */
+    private volatile long snapshotIndex;
+
+    /**
+     * the inputs of the last compaction, kept until the next compaction so that a reader which
+     * listed them before the snapshot was renamed can still read them
+     */
+    private List<Path> obsoleteFiles = Collections.emptyList();
+
+    public WALCompactor(
+            FileSystem fs, Path parentPath, Serializer serializer, int compactionSegments)
+            throws IOException {
+        this.fs = fs;
+        this.parentPath = parentPath;
+        this.serializer = serializer;
+        this.compactionSegments = compactionSegments;
+        this.reader = new DefaultReader();
+        reader.initialize(fs, serializer);
+    }
+
+    /** Compact in the background if enough segments up to the given segment are sealed. */
+    public void maybeCompact(long lastSealedSegment) {
+        if (lastSealedSegment - snapshotIndex < compactionSegments
+                || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        executorService.execute(
+                () -> {
+                    try {
+                        compact(lastSealedSegment);
+                    } catch (Exception e) {
+                        log.warn("compact wal segments in {} error", parentPath, e);
+                    } finally {
+                        compacting.set(false);
+                    }
+                });
+    }
+
+    /** Merge the snapshot and the segments up to the given segment into a new snapshot. */
+    public void compact(long lastSealedSegment) throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        if (snapshotIndex > 0) {
+            inputs.add(new Path(parentPath, WALDataUtils.snapshotFileName(snapshotIndex)));
+        }
+        for (long i = snapshotIndex + 1; i <= lastSealedSegment; i++) {
+            inputs.add(new Path(parentPath, WALDataUtils.segmentFileName(i)));
+        }
+        List<IMapFileData> records = new ArrayList<>();
+        for (Path input : inputs) {
+            records.addAll(reader.readData(input));
+        }
+
+        // the snapshot becomes visible by the rename, never half written
+        Path snapshot = new Path(parentPath, WALDataUtils.snapshotFileName(lastSealedSegment));
+        Path tmp = new Path(parentPath, snapshot.getName() + ".tmp");
+        try (FSDataOutputStream out = fs.create(tmp, true)) {
+            for (IMapFileData data : WALReader.latestRecords(records)) {
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(data)));
+            }
+        }
+        if (!fs.rename(tmp, snapshot)) {
+            throw new IOException("rename " + tmp + " to " + snapshot + " failed");
+        }
+        snapshotIndex = lastSealedSegment;
+        deleteObsoleteFiles();
+        obsoleteFiles = inputs;
+        log.info(
+                "compacted {} wal files with {} records into {}",
+                inputs.size(),
+                records.size(),
+                snapshot);
+    }
+
+    private void deleteObsoleteFiles() throws IOException {
+        for (Path file : obsoleteFiles) {
+            fs.delete(file, false);
+        }
+        obsoleteFiles = Collections.emptyList();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executorService.shutdown();
+        if (executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+            try {
+                deleteObsoleteFiles();
+            } catch (IOException e) {
+                log.warn("delete compacted wal files in {} error", parentPath, e);
+            }
+        }
+    }
+}
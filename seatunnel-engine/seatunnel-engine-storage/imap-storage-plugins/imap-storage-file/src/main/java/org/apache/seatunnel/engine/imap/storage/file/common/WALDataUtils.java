@@ -24,6 +24,50 @@ public class WALDataUtils {
 
     public static final int WAL_DATA_METADATA_LENGTH = 12;
 
+    public static final String WAL_FILE_NAME = "wal.txt";
+
+    private static final String SEGMENT_FILE_SUFFIX = "_" + WAL_FILE_NAME;
+
+    private static final String SNAPSHOT_FILE_PREFIX = "snapshot_";
+
+    /** The segments of a writer are numbered from 1, e.g. {@code 3_wal.txt}. */
+    public static String segmentFileName(long index) {
+        return index + SEGMENT_FILE_SUFFIX;
+    }
+
+    /** A snapshot holds the latest record of each key in the segments up to the index. */
+    public static String snapshotFileName(long index) {
+        return SNAPSHOT_FILE_PREFIX + segmentFileName(index);
+    }
+
+    /** @return the index of the segment file, or -1 if it is not a numbered segment */
+    public static long segmentIndexOf(String fileName) {
+        if (fileName.startsWith(SNAPSHOT_FILE_PREFIX)) {
+            return -1;
+        }
+        return parseIndex(fileName);
+    }
+
+    /** @return the last segment index in the snapshot file, or -1 if it is not a snapshot */
+    public static long snapshotIndexOf(String fileName) {
+        if (!fileName.startsWith(SNAPSHOT_FILE_PREFIX)) {
+            return -1;
+        }
+        return parseIndex(fileName.substring(SNAPSHOT_FILE_PREFIX.length()));
+    }
+
+    private static long parseIndex(String fileName) {
+        if (!fileName.endsWith(SEGMENT_FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(
+                    fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     public static byte[] wrapperBytes(byte[] bytes) {
         byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
         byte[] length = intToByteArray(bytes.length);
@@ -32,10 +32,14 @@ import org.apache.commons.lang3.ClassUtils;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -60,22 +64,11 @@ public class WALReader {
         if (CollectionUtils.isEmpty(allData)) {
             return new HashSet<>();
         }
-        Collections.sort(allData);
-        Set<Object> result = new HashSet<>(allData.size());
-        Map<Object, Long> deleteMap = new HashMap<>();
-        for (IMapFileData data : allData) {
-            Object key = deserializeData(data.getKey(), data.getKeyClassName());
-            if (deleteMap.containsKey(key)) {
-                continue;
-            }
-            if (data.isDeleted()) {
-                deleteMap.put(key, data.getTimestamp());
-                continue;
-            }
-            if (result.contains(key)) {
-                continue;
+        Set<Object> result = new HashSet<>();
+        for (IMapFileData data : latestRecords(allData)) {
+            if (!data.isDeleted()) {
+                result.add(deserializeData(data.getKey(), data.getKeyClassName()));
             }
-            result.add(key);
         }
         return result;
     }
@@ -86,23 +79,15 @@ public class WALReader {
         if (CollectionUtils.isEmpty(allData)) {
             return new HashMap<>();
         }
-        Collections.sort(allData);
-        Map<Object, Object> result = new HashMap<>(allData.size());
-        Map<Object, Long> deleteMap = new HashMap<>();
+        Collection<IMapFileData> latestRecords = latestRecords(allData);
+        Map<Object, Object> result = new HashMap<>(latestRecords.size());
         boolean searchByKeys = CollectionUtils.isNotEmpty(searchKeys);
-        for (IMapFileData data : allData) {
-            Object key = deserializeData(data.getKey(), data.getKeyClassName());
-            if (searchByKeys && !searchKeys.contains(data.getKey())) {
-                continue;
-            }
-            if (deleteMap.containsKey(key)) {
-                continue;
-            }
+        for (IMapFileData data : latestRecords) {
             if (data.isDeleted()) {
-                deleteMap.put(key, data.getTimestamp());
                 continue;
             }
-            if (result.containsKey(key)) {
+            Object key = deserializeData(data.getKey(), data.getKeyClassName());
+            if (searchByKeys && !searchKeys.contains(key)) {
                 continue;
             }
             Object value = deserializeData(data.getValue(), data.getValueClassName());
@@ -111,6 +96,22 @@ public class WALReader {
         return result;
     }
 
+    /**
+     * Keep the latest record of each key, including deletions. A record replaces the records of the
+     * key with a smaller or the same timestamp, so the records that are read later win ties.
+     */
+    public static Collection<IMapFileData> latestRecords(List<IMapFileData> records) {
+        Map<RecordKey, IMapFileData> latest = new LinkedHashMap<>();
+        for (IMapFileData data : records) {
+            RecordKey key = new RecordKey(data.getKeyClassName(), data.getKey());
+            IMapFileData current = latest.get(key);
+            if (current == null || data.getTimestamp() >= current.getTimestamp()) {
+                latest.put(key, data);
+            }
+        }
+        return latest.values();
+    }
+
     private Object deserializeData(byte[] data, String className) {
         try {
             Class<?> clazz = ClassUtils.getClass(className);
@@ -128,4 +129,11 @@ public class WALReader {
                     e, "deserialize data error, class name is {}", className);
         }
     }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class RecordKey {
+        private final String className;
+        private final byte[] key;
+    }
 }
@@ -35,6 +35,8 @@ public class WALWriter implements AutoCloseable {
 
     IFileWriter writer;
 
+    private final WALCompactor compactor;
+
     public WALWriter(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -44,14 +46,31 @@ public class WALWriter implements AutoCloseable {
         this.writer = DiscoveryWalFileFactory.getWriter(fileConfiguration.getName());
         this.writer.setBlockSize(fileConfiguration.getConfiguration().getBlockSize());
         this.writer.initialize(fs, parentPath, serializer);
+        int compactionSegments = fileConfiguration.getConfiguration().getCompactionSegments();
+        this.compactor =
+                compactionSegments > 0
+                        ? new WALCompactor(fs, parentPath, serializer, compactionSegments)
+                        : null;
     }
 
+    /** Write the data, it is persisted by the next {@link #flush()}. */
     public void write(IMapFileData data) throws IOException {
         this.writer.write(data);
     }
 
+    /** Persist the data written since the last flush. */
+    public void flush() throws IOException {
+        this.writer.flush();
+        if (compactor != null) {
+            compactor.maybeCompact(writer.getSegmentIndex() - 1);
+        }
+    }
+
     @Override
     public void close() throws Exception {
         this.writer.close();
+        if (compactor != null) {
+            compactor.close();
+        }
     }
 }
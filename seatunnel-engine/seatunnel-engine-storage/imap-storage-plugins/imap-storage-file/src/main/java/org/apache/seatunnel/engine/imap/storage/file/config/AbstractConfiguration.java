@@ -28,10 +28,13 @@ import java.util.Map;
 
 public abstract class AbstractConfiguration {
     public static final String BLOCK_SIZE = "block.size";
+    public static final String COMPACTION_SEGMENTS = "compaction.segments";
     protected static final String HDFS_IMPL_KEY = "impl";
 
     private Long blockSize = 1024 * 1024L;
 
+    private int compactionSegments = 4;
+
     public Long getBlockSize() {
         return blockSize;
     }
@@ -40,6 +43,25 @@ public abstract class AbstractConfiguration {
         this.blockSize = blockSize;
     }
 
+    public int getCompactionSegments() {
+        return compactionSegments;
+    }
+
+    /** @param compactionSegments the number of segments that trigger a compaction, 0 disables it */
+    public void setCompactionSegments(int compactionSegments) {
+        this.compactionSegments = compactionSegments;
+    }
+
+    /** set the options of the wal files */
+    void setWalConfiguration(Map<String, String> config) {
+        if (config.containsKey(BLOCK_SIZE)) {
+            setBlockSize(Long.parseLong(config.get(BLOCK_SIZE)));
+        }
+        if (config.containsKey(COMPACTION_SEGMENTS)) {
+            setCompactionSegments(Integer.parseInt(config.get(COMPACTION_SEGMENTS)));
+        }
+    }
+
     /**
      * check the configuration keys
      *
@@ -66,11 +88,9 @@ public abstract class AbstractConfiguration {
      */
     void setExtraConfiguration(
             Configuration hadoopConf, Map<String, String> config, String prefix) {
+        setWalConfiguration(config);
         config.forEach(
                 (k, v) -> {
-                    if (config.containsKey(BLOCK_SIZE)) {
-                        setBlockSize(Long.parseLong(config.get(BLOCK_SIZE)));
-                    }
                     if (k.startsWith(prefix)) {
                         hadoopConf.set(k, String.valueOf(v));
                     }
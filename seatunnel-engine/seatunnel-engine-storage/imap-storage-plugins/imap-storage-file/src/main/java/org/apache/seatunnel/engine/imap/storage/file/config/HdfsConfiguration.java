@@ -75,6 +75,7 @@ public class HdfsConfiguration extends AbstractConfiguration {
         if (config.containsKey(HDFS_SITE_PATH)) {
             hadoopConf.addResource(new Path(config.get(HDFS_SITE_PATH)));
         }
+        setWalConfiguration(config);
         //  support other hdfs optional config keys
         config.entrySet().stream()
                 .filter(entry -> entry.getKey().startsWith(SEATUNNEL_HADOOP_PREFIX))
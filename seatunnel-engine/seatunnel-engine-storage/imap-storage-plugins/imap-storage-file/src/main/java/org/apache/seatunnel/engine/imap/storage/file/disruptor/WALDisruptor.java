@@ -74,7 +74,7 @@ public class WALDisruptor implements Closeable {
                         ProducerType.SINGLE,
                         new BlockingWaitStrategy());
 
-        disruptor.handleEventsWithWorkerPool(
+        disruptor.handleEventsWith(
                 new WALWorkHandler(fs, fileConfiguration, parentPath, serializer));
 
         disruptor.start();
@@ -30,17 +30,25 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
-import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.EventHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** NOTICE: Single thread to write data to orc file. */
+/**
+ * NOTICE: Single thread to write data to the wal files. The writes of a batch of events are
+ * persisted with a single flush at the end of the batch (group commit), and the requests are
+ * answered after the flush.
+ */
 @Slf4j
-public class WALWorkHandler implements WorkHandler<FileWALEvent> {
+public class WALWorkHandler implements EventHandler<FileWALEvent> {
 
     private WALWriter writer;
 
+    private final List<Long> uncommittedRequests = new ArrayList<>();
+
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -55,33 +63,55 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
     }
 
     @Override
-    public void onEvent(FileWALEvent fileWALEvent) throws Exception {
-        log.debug("write data to orc file");
+    public void onEvent(FileWALEvent fileWALEvent, long sequence, boolean endOfBatch)
+            throws Exception {
+        log.debug("write data to wal file");
         walEvent(fileWALEvent.getData(), fileWALEvent.getType(), fileWALEvent.getRequestId());
+        if (endOfBatch) {
+            commit();
+        }
     }
 
     private void walEvent(IMapFileData iMapFileData, WALEventType type, long requestId)
             throws Exception {
         if (type == WALEventType.APPEND) {
-            boolean writeSuccess = true;
             // write to current writer
             try {
                 writer.write(iMapFileData);
+                uncommittedRequests.add(requestId);
             } catch (IOException e) {
-                writeSuccess = false;
-                log.error("write orc file error, walEventBean is {} ", iMapFileData, e);
+                log.error("write wal file error, walEventBean is {} ", iMapFileData, e);
+                // return the result to the client
+                executeResponse(requestId, false);
             }
-            // return the result to the client
-            executeResponse(requestId, writeSuccess);
             return;
         }
 
         if (type == WALEventType.CLOSED) {
             // close writer and archive
+            commit();
             writer.close();
         }
     }
 
+    private void commit() {
+        if (uncommittedRequests.isEmpty()) {
+            return;
+        }
+        boolean writeSuccess = true;
+        try {
+            writer.flush();
+        } catch (Exception e) {
+            writeSuccess = false;
+            log.error("flush wal file error, {} writes are lost", uncommittedRequests.size(), e);
+        }
+        // return the result to the clients
+        for (long requestId : uncommittedRequests) {
+            executeResponse(requestId, writeSuccess);
+        }
+        uncommittedRequests.clear();
+    }
+
     private void executeResponse(long requestId, boolean success) {
         if (null == RequestFutureCache.get(requestId)) {
             log.warn("requestId is {} not found in RequestFutureCache", requestId);
@@ -33,7 +33,10 @@ import org.apache.hadoop.fs.RemoteIterator;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
 
@@ -53,40 +56,80 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         this.serializer = serializer;
     }
 
+    /**
+     * Read the files of all writers below the parent path. The files of a writer are read in the
+     * order they were written, starting from its latest snapshot, the segments that are already in
+     * the snapshot are skipped.
+     */
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        List<String> fileNames = getFileNames(parentPath);
-        if (CollectionUtils.isEmpty(fileNames)) {
+        List<Path> files = getFiles(parentPath);
+        if (CollectionUtils.isEmpty(files)) {
             return new ArrayList<>();
         }
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
+        for (Path file : files) {
+            result.addAll(readData(file));
         }
         return result;
     }
 
-    private List<String> getFileNames(Path parentPath) {
+    private List<Path> getFiles(Path parentPath) {
         try {
             if (!fs.exists(parentPath)) {
                 return new ArrayList<>();
             }
             RemoteIterator<LocatedFileStatus> fileStatusRemoteIterator =
                     fs.listFiles(parentPath, true);
-            List<String> fileNames = new ArrayList<>();
+            Map<Path, List<Path>> filesByWriter = new HashMap<>();
             while (fileStatusRemoteIterator.hasNext()) {
                 LocatedFileStatus fileStatus = fileStatusRemoteIterator.next();
-                if (fileStatus.getPath().getName().endsWith("wal.txt")) {
-                    fileNames.add(fileStatus.getPath().toString());
+                if (fileStatus.getPath().getName().endsWith(WALDataUtils.WAL_FILE_NAME)) {
+                    filesByWriter
+                            .computeIfAbsent(
+                                    fileStatus.getPath().getParent(), k -> new ArrayList<>())
+                            .add(fileStatus.getPath());
                 }
             }
-            return fileNames;
+            List<Path> files = new ArrayList<>();
+            filesByWriter.values().forEach(writerFiles -> files.addAll(liveFiles(writerFiles)));
+            return files;
         } catch (IOException e) {
             throw new IMapStorageException(e, "get file names error,path is s%", parentPath);
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
+    /**
+     * @return the latest snapshot and the segments after it in write order, a compaction that
+     *     failed before deleting its input may leave older files behind
+     */
+    private List<Path> liveFiles(List<Path> writerFiles) {
+        long snapshotIndex = -1;
+        for (Path file : writerFiles) {
+            snapshotIndex = Math.max(snapshotIndex, WALDataUtils.snapshotIndexOf(file.getName()));
+        }
+        List<Path> result = new ArrayList<>();
+        for (Path file : writerFiles) {
+            String name = file.getName();
+            long index = WALDataUtils.segmentIndexOf(name);
+            if (WALDataUtils.snapshotIndexOf(name) == snapshotIndex
+                    || (index == -1 && WALDataUtils.snapshotIndexOf(name) == -1)
+                    || index > snapshotIndex) {
+                result.add(file);
+            }
+        }
+        result.sort(
+                Comparator.comparingLong(
+                        file -> {
+                            long index = WALDataUtils.segmentIndexOf(file.getName());
+                            // the snapshot first, files without an index are written by older
+                            // versions and have a single file per writer
+                            return index == -1 ? Long.MIN_VALUE : index;
+                        }));
+        return result;
+    }
+
+    public List<IMapFileData> readData(Path path) throws IOException {
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
         long length = fs.getFileStatus(path).getLen();
         try (FSDataInputStream in = fs.open(path)) {
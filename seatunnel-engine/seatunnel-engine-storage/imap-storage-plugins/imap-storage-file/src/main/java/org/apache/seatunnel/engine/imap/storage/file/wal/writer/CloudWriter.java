@@ -19,7 +19,6 @@
  */
 package org.apache.seatunnel.engine.imap.storage.file.wal.writer;
 
-import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -44,8 +43,12 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     private Path path;
     private Serializer serializer;
 
+    // the current segment, objects can not be appended to, so the segment is uploaded as a whole
     private ByteBuf bf = Unpooled.buffer(1024);
 
+    // whether the segment has data that is not uploaded yet
+    private boolean dirty;
+
     // block size,  default 1024*1024
     private long blockSize = 1024 * 1024;
 
@@ -73,51 +76,41 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    // TODO Synchronous write, asynchronous write can be added in the future
     @Override
     public void write(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        bf.writeBytes(WALDataUtils.wrapperBytes(bytes));
+        dirty = true;
     }
 
-    private void write(byte[] bytes) {
+    @Override
+    public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
         try (FSDataOutputStream out = fs.create(path, true)) {
-            // Write to bytebuffer
-            byte[] data = WALDataUtils.wrapperBytes(bytes);
-            bf.writeBytes(data);
-
-            // Read all bytes
-            byte[] allBytes = new byte[bf.readableBytes()];
-            bf.readBytes(allBytes);
-
-            // write filesystem
-            out.write(allBytes);
-
-            // check and reset
-            checkAndSetNextScheduleRotation(allBytes.length);
-
-        } catch (Exception ex) {
-            throw new IMapStorageException(ex);
+            bf.getBytes(bf.readerIndex(), out, bf.readableBytes());
         }
-    }
-
-    private void checkAndSetNextScheduleRotation(long allBytes) {
-        if (allBytes > blockSize) {
+        dirty = false;
+        if (bf.readableBytes() > blockSize) {
             this.path = createNewPath();
             this.bf.clear();
-        } else {
-            // reset index
-            bf.resetReaderIndex();
         }
     }
 
+    @Override
+    public long getSegmentIndex() {
+        return index.get();
+    }
+
     public Path createNewPath() {
-        return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
+        return new Path(parentPath, WALDataUtils.segmentFileName(index.incrementAndGet()));
     }
 
     @Override
     public void close() throws Exception {
-        bf.clear();
+        flush();
+        bf.release();
         this.bf = null;
     }
 }
@@ -35,10 +35,20 @@ import java.util.EnumSet;
 
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
     private FSDataOutputStream out;
 
     private Serializer serializer;
 
+    private long blockSize = DEFAULT_BLOCK_SIZE;
+
+    private long index;
+
+    private long segmentLength;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,17 +57,27 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        openNextSegment();
+    }
+
+    @Override
+    public void setBlockSize(Long blockSize) {
+        if (blockSize != null && blockSize > DEFAULT_BLOCK_SIZE) {
+            this.blockSize = blockSize;
+        }
     }
 
     @Override
     public void write(IMapFileData data) throws IOException {
-        byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        byte[] bytes = WALDataUtils.wrapperBytes(serializer.serialize(data));
+        this.out.write(bytes);
+        segmentLength += bytes.length;
     }
 
+    @Override
     public void flush() throws IOException {
         // hsync to flag
         if (out instanceof HdfsDataOutputStream) {
@@ -71,12 +91,21 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
             out.hsync();
         }
         this.out.hflush();
+        if (segmentLength > blockSize) {
+            out.close();
+            openNextSegment();
+        }
+    }
+
+    @Override
+    public long getSegmentIndex() {
+        return index;
     }
 
-    private void write(byte[] bytes) throws IOException {
-        byte[] data = WALDataUtils.wrapperBytes(bytes);
-        this.out.write(data);
-        this.flush();
+    private void openNextSegment() throws IOException {
+        index++;
+        this.out = fs.create(new Path(parentPath, WALDataUtils.segmentFileName(index)));
+        this.segmentLength = 0;
     }
 
     @Override
@@ -27,7 +27,6 @@ import org.apache.hadoop.fs.Path;
 import java.io.IOException;
 
 public interface IFileWriter<T> extends AutoCloseable {
-    String FILE_NAME = "wal.txt";
     Long DEFAULT_BLOCK_SIZE = 1024 * 1024L;
 
     String identifier();
@@ -36,5 +35,15 @@ public interface IFileWriter<T> extends AutoCloseable {
 
     default void setBlockSize(Long blockSize) {}
 
+    /** Write the data to the current segment, it is persisted by the next {@link #flush()}. */
     void write(T data) throws IOException;
+
+    /**
+     * Persist the data written since the last flush, and start a new segment once the current
+     * segment is larger than the block size. One flush commits a group of writes.
+     */
+    void flush() throws IOException;
+
+    /** @return the index of the segment that is written, the segments before it are sealed */
+    long getSegmentIndex();
 }
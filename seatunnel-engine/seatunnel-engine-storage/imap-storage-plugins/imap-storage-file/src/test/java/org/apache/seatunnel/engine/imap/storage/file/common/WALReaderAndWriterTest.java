@@ -26,6 +26,8 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
@@ -36,7 +38,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.awaitility.Awaitility.await;
@@ -48,6 +53,8 @@ public class WALReaderAndWriterTest {
 
     private static FileSystem FS;
     private static final Path PARENT_PATH = new Path("/tmp/9/");
+    private static final Path COMPACTION_PARENT_PATH = new Path("/tmp/10/");
+    private static final Path COMPACTOR_PARENT_PATH = new Path("/tmp/11/");
     private static final Serializer SERIALIZER = new ProtoStuffSerializer();
 
     @BeforeAll
@@ -114,9 +121,92 @@ public class WALReaderAndWriterTest {
         Assertions.assertNull(result.get("key519"));
     }
 
+    @Test
+    public void testCompaction() throws Exception {
+        Path parentPath = COMPACTION_PARENT_PATH;
+        WALWriter writer = new WALWriter(FS, FileConfiguration.HDFS, parentPath, SERIALIZER);
+        // 100 keys with 10KB values are updated until there are more than 4 sealed segments
+        char[] padding = new char[10 * 1024];
+        Arrays.fill(padding, 'x');
+        for (int i = 0; i < 800; i++) {
+            writer.write(
+                    IMapFileData.builder()
+                            .key(SERIALIZER.serialize("key" + i % 100))
+                            .keyClassName(String.class.getName())
+                            .value(SERIALIZER.serialize(i / 100 + new String(padding)))
+                            .valueClassName(String.class.getName())
+                            .deleted(i == 799)
+                            .timestamp(i)
+                            .build());
+            if (i % 10 == 9) {
+                writer.flush();
+            }
+        }
+        writer.close();
+
+        List<String> fileNames = new ArrayList<>();
+        for (FileStatus status : FS.listStatus(parentPath)) {
+            fileNames.add(status.getPath().getName());
+        }
+        Assertions.assertTrue(
+                fileNames.stream().anyMatch(name -> WALDataUtils.snapshotIndexOf(name) > 0),
+                fileNames.toString());
+        Assertions.assertFalse(fileNames.contains(WALDataUtils.segmentFileName(1)));
+
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, new ProtoStuffSerializer());
+        Map<Object, Object> result = reader.loadAllData(parentPath, new HashSet<>());
+        Assertions.assertEquals(99, result.size());
+        Assertions.assertNull(result.get("key99"));
+        Assertions.assertTrue(((String) result.get("key0")).startsWith("7x"));
+        Assertions.assertEquals(99, reader.loadAllKeys(parentPath).size());
+    }
+
+    @Test
+    public void testCompactionKeepsInputsUntilNextCompaction() throws Exception {
+        Path parentPath = COMPACTOR_PARENT_PATH;
+        for (int i = 1; i <= 4; i++) {
+            try (FSDataOutputStream out =
+                    FS.create(new Path(parentPath, WALDataUtils.segmentFileName(i)), true)) {
+                IMapFileData data =
+                        IMapFileData.builder()
+                                .key(SERIALIZER.serialize("key" + i % 2))
+                                .keyClassName(String.class.getName())
+                                .value(SERIALIZER.serialize("value" + i))
+                                .valueClassName(String.class.getName())
+                                .timestamp(i)
+                                .build();
+                out.write(WALDataUtils.wrapperBytes(SERIALIZER.serialize(data)));
+            }
+        }
+        WALCompactor compactor = new WALCompactor(FS, parentPath, SERIALIZER, 2);
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, new ProtoStuffSerializer());
+
+        compactor.compact(2);
+        // a reader may have listed the segments before the snapshot was renamed
+        Assertions.assertTrue(FS.exists(new Path(parentPath, WALDataUtils.segmentFileName(1))));
+        Assertions.assertTrue(FS.exists(new Path(parentPath, WALDataUtils.segmentFileName(2))));
+        Assertions.assertEquals(
+                "value4", reader.loadAllData(parentPath, new HashSet<>()).get("key0"));
+
+        compactor.compact(4);
+        Assertions.assertFalse(FS.exists(new Path(parentPath, WALDataUtils.segmentFileName(1))));
+        Assertions.assertFalse(FS.exists(new Path(parentPath, WALDataUtils.segmentFileName(2))));
+        Assertions.assertTrue(FS.exists(new Path(parentPath, WALDataUtils.snapshotFileName(2))));
+
+        compactor.close();
+        FileStatus[] files = FS.listStatus(parentPath);
+        Assertions.assertEquals(1, files.length);
+        Assertions.assertEquals(WALDataUtils.snapshotFileName(4), files[0].getPath().getName());
+        Map<Object, Object> result = reader.loadAllData(parentPath, new HashSet<>());
+        Assertions.assertEquals("value4", result.get("key0"));
+        Assertions.assertEquals("value3", result.get("key1"));
+    }
+
     @AfterAll
     public static void close() throws IOException {
         FS.delete(PARENT_PATH, true);
+        FS.delete(COMPACTION_PARENT_PATH, true);
+        FS.delete(COMPACTOR_PARENT_PATH, true);
         FS.close();
     }
 }
@@ -44,7 +44,16 @@ public abstract class SingleFieldOutputTransform extends AbstractCatalogSupportT
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object fieldValue = getOutputFieldValue(new SeaTunnelRowAccessor(inputRow));
+        return createOutputRow(inputRow, fieldValue);
+    }
 
+    /**
+     * Outputs the row with the new field value, e.g. a value computed for a batch of rows.
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValue The new field value of the inputRow.
+     */
+    protected SeaTunnelRow createOutputRow(SeaTunnelRow inputRow, Object fieldValue) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         outputRow.setField(fieldIndex, fieldValue);
         return outputRow;
@@ -24,6 +24,8 @@ import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
 import org.apache.seatunnel.api.table.catalog.SeaTunnelDataTypeConvertorUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SupportBatchTransform;
 import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;
 import org.apache.seatunnel.transform.common.SingleFieldOutputTransform;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
@@ -36,11 +38,13 @@ import org.apache.seatunnel.transform.nlpmodel.llm.remote.openai.OpenAIModel;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-public class LLMTransform extends SingleFieldOutputTransform {
+public class LLMTransform extends SingleFieldOutputTransform
+        implements SupportBatchTransform<SeaTunnelRow> {
     private final ReadonlyConfig config;
     private final SeaTunnelDataType<?> outputDataType;
     private Model model;
@@ -128,27 +132,60 @@ public class LLMTransform extends SingleFieldOutputTransform {
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(inputRow.getFields());
         try {
             List<String> values = model.inference(Collections.singletonList(seaTunnelRow));
-            switch (outputDataType.getSqlType()) {
-                case STRING:
-                    return String.valueOf(values.get(0));
-                case INT:
-                    return Integer.parseInt(values.get(0));
-                case BIGINT:
-                    return Long.parseLong(values.get(0));
-                case DOUBLE:
-                    return Double.parseDouble(values.get(0));
-                case BOOLEAN:
-                    return Boolean.parseBoolean(values.get(0));
-                default:
-                    throw new IllegalArgumentException(
-                            "Unsupported output data type: " + outputDataType);
-            }
+            return convertOutputValue(values.get(0));
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Failed to inference model with row %s", seaTunnelRow), e);
         }
     }
 
+    @Override
+    public void flatMap(List<SeaTunnelRow> rows, Collector<SeaTunnelRow> collector) {
+        tryOpen();
+        List<Object> outputValues = new ArrayList<>(rows.size());
+        try {
+            List<String> values = model.inference(rows);
+            if (values.size() != rows.size()) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The model returned %s values for %s rows",
+                                values.size(), rows.size()));
+            }
+            for (String value : values) {
+                outputValues.add(convertOutputValue(value));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Failed to inference model with %s rows", rows.size()), e);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            collector.collect(createOutputRow(rows.get(i), outputValues.get(i)));
+        }
+    }
+
+    @Override
+    public int getBatchSize() {
+        return config.get(LLMTransformConfig.PROCESS_BATCH_SIZE);
+    }
+
+    private Object convertOutputValue(String value) {
+        switch (outputDataType.getSqlType()) {
+            case STRING:
+                return String.valueOf(value);
+            case INT:
+                return Integer.parseInt(value);
+            case BIGINT:
+                return Long.parseLong(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case BOOLEAN:
+                return Boolean.parseBoolean(value);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported output data type: " + outputDataType);
+        }
+    }
+
     @Override
     protected Column getOutputColumn() {
         String customFieldName = config.get(LLMTransformConfig.OUTPUT_COLUMN_NAME);
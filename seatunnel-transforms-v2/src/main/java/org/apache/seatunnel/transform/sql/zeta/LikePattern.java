@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import java.util.regex.Pattern;
+
+/**
+ * A compiled LIKE pattern. The pattern is translated to a regular expression once; the common
+ * shapes {@code 'abc'}, {@code 'abc%'}, {@code '%abc'} and {@code '%abc%'} are matched with plain
+ * string operations instead.
+ */
+final class LikePattern {
+    static final String KIND = "LIKE";
+
+    private static final String REGEX_META_CHARS = "\\.[]{}()*+?^$|'%_";
+
+    private final Pattern regex;
+    // null if the pattern has wildcards or characters that only the regex handles
+    private final String literal;
+    private final boolean anyPrefix;
+    private final boolean anySuffix;
+
+    private LikePattern(Pattern regex, String literal, boolean anyPrefix, boolean anySuffix) {
+        this.regex = regex;
+        this.literal = literal;
+        this.anyPrefix = anyPrefix;
+        this.anySuffix = anySuffix;
+    }
+
+    static LikePattern compile(String likePattern) {
+        Pattern regex = Pattern.compile(toRegex(likePattern));
+        boolean anyPrefix = likePattern.startsWith("%");
+        String rest = anyPrefix ? likePattern.substring(1) : likePattern;
+        boolean anySuffix = rest.endsWith("%");
+        String literal = anySuffix ? rest.substring(0, rest.length() - 1) : rest;
+        for (int i = 0; i < literal.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(literal.charAt(i)) >= 0) {
+                return new LikePattern(regex, null, anyPrefix, anySuffix);
+            }
+        }
+        return new LikePattern(regex, literal, anyPrefix, anySuffix);
+    }
+
+    boolean matches(String input) {
+        // '.' does not match line terminators, leave such input to the regex
+        if (literal == null || hasLineTerminator(input)) {
+            return regex.matcher(input).matches();
+        }
+        if (anyPrefix && anySuffix) {
+            return input.contains(literal);
+        }
+        if (anyPrefix) {
+            return input.endsWith(literal);
+        }
+        if (anySuffix) {
+            return input.startsWith(literal);
+        }
+        return input.equals(literal);
+    }
+
+    /** Translate a LIKE pattern to the regular expression the filter has always used. */
+    static String toRegex(String likePattern) {
+        String regex = likePattern;
+        String likeIdent = "%";
+        if (regex.startsWith(likeIdent)) {
+            regex = regex.replaceFirst(likeIdent, ".*");
+        }
+        if (regex.endsWith(likeIdent)) {
+            regex = regex.substring(0, regex.length() - 1) + ".*";
+        }
+        if (regex.startsWith("_")) {
+            regex = regex.replaceFirst("_", ".");
+        }
+        if (regex.endsWith("_")) {
+            regex = regex.substring(0, regex.length() - 1) + ".";
+        }
+        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
+            regex = regex.substring(0, regex.length() - 3) + "..*";
+        }
+        if (regex.startsWith("'") && regex.endsWith("'")) {
+            regex = regex.substring(0, regex.length() - 1).substring(1);
+        }
+        return regex;
+    }
+
+    private static boolean hasLineTerminator(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
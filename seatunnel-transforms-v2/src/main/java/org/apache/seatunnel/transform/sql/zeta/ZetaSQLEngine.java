@@ -46,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class ZetaSQLEngine implements SQLEngine {
@@ -63,6 +64,9 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
+    private Predicate<Object[]> filter;
+    private ZetaSQLEvaluator[] projections;
+
     private Integer allColumnsCount = null;
 
     public ZetaSQLEngine() {}
@@ -87,6 +91,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        planQuery();
     }
 
     private void parseSQL() {
@@ -102,6 +107,22 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void planQuery() {
+        ZetaSQLPlanner planner =
+                new ZetaSQLPlanner(inputRowType, zetaSQLFunction, zetaSQLFilter, zetaSQLType);
+        this.filter = planner.planFilter(selectBody.getWhere());
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        this.projections = new ZetaSQLEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof SelectExpressionItem) {
+                projections[i] =
+                        planner.planExpression(((SelectExpressionItem) selectItem).getExpression());
+            }
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -232,7 +253,7 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = filter.test(inputFields);
         if (!retain) {
             return null;
         }
@@ -259,16 +280,15 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
             if (selectItem instanceof AllColumns) {
                 for (Object inputField : inputFields) {
                     fields[idx] = inputField;
                     idx++;
                 }
             } else if (selectItem instanceof SelectExpressionItem) {
-                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-                Expression expression = expressionItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                fields[idx] = projections[i].evaluate(inputFields);
                 idx++;
             } else {
                 idx++;
@@ -43,8 +43,6 @@ import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class ZetaSQLFilter {
     private final ZetaSQLFunction zetaSQLFunction;
@@ -177,33 +175,7 @@ public class ZetaSQLFilter {
         }
         Expression rightExpr = likeExpression.getRightExpression();
         Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
-            return false;
-        }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return matcher.matches();
+        return getLikePattern(rightVal.toString()).matches(leftVal.toString());
     }
 
     /**
@@ -221,33 +193,13 @@ public class ZetaSQLFilter {
         }
         Expression rightExpr = likeExpression.getRightExpression();
         Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
-            return false;
-        }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
+        return !getLikePattern(rightVal.toString()).matches(leftVal.toString());
+    }
 
-        return !matcher.matches();
+    LikePattern getLikePattern(String likePattern) {
+        return zetaSQLFunction
+                .getPatternCache()
+                .get(LikePattern.KIND, likePattern, LikePattern::compile);
     }
 
     private Pair<Object, Object> executeComparisonOperator(
@@ -271,7 +223,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
+    boolean notEqualsToExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null) {
@@ -283,7 +235,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
+    boolean greaterThanExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -311,7 +263,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
+    boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -341,7 +293,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
+    boolean minorThanExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
@@ -369,7 +321,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
+    boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
         Object leftVal = pair.getLeft();
         Object rightVal = pair.getRight();
         if (leftVal == null || rightVal == null) {
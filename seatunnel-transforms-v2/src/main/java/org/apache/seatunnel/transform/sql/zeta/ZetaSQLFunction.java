@@ -27,6 +27,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.transform.exception.TransformException;
 import org.apache.seatunnel.transform.sql.zeta.functions.DateTimeFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
 import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
 
@@ -177,6 +178,8 @@ public class ZetaSQLFunction {
 
     private final List<ZetaUDF> udfList;
 
+    private final PatternCache patternCache = new PatternCache();
+
     public ZetaSQLFunction(
             SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType, List<ZetaUDF> udfList) {
         this.inputRowType = inputRowType;
@@ -185,6 +188,11 @@ public class ZetaSQLFunction {
         this.udfList = udfList;
     }
 
+    /** Compiled regexp and LIKE patterns of this transform. */
+    public PatternCache getPatternCache() {
+        return patternCache;
+    }
+
     public Object computeForValue(Expression expression, Object[] inputFields) {
         if (expression instanceof NullValue) {
             return null;
@@ -340,193 +348,229 @@ public class ZetaSQLFunction {
     }
 
     public Object executeFunctionExpr(String functionName, List<Object> args) {
+        FunctionExecutor executor = resolveFunction(functionName);
+        if (executor == null) {
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Unsupported function: %s", functionName));
+        }
+        return executor.execute(args);
+    }
+
+    /**
+     * Resolve the executor of a function once, so that callers evaluating the same function for
+     * every row can skip the name lookup.
+     *
+     * @return the function executor, or null if the function is unknown
+     */
+    public FunctionExecutor resolveFunction(String functionName) {
         switch (functionName.toUpperCase()) {
             case ASCII:
-                return StringFunction.ascii(args);
+                return args -> StringFunction.ascii(args);
             case BIT_LENGTH:
-                return StringFunction.bitLength(args);
+                return args -> StringFunction.bitLength(args);
             case CHAR_LENGTH:
             case LENGTH:
-                return StringFunction.charLength(args);
+                return args -> StringFunction.charLength(args);
             case OCTET_LENGTH:
-                return StringFunction.octetLength(args);
+                return args -> StringFunction.octetLength(args);
             case CHAR:
             case CHR:
-                return StringFunction.chr(args);
+                return args -> StringFunction.chr(args);
             case CONCAT:
-                return StringFunction.concat(args);
+                return args -> StringFunction.concat(args);
             case CONCAT_WS:
-                return StringFunction.concatWs(args);
+                return args -> StringFunction.concatWs(args);
             case HEXTORAW:
-                return StringFunction.hextoraw(args);
+                return args -> StringFunction.hextoraw(args);
             case RAWTOHEX:
-                return StringFunction.rawtohex(args);
+                return args -> StringFunction.rawtohex(args);
             case INSERT:
-                return StringFunction.insert(args);
+                return args -> StringFunction.insert(args);
             case LOWER:
             case LCASE:
-                return StringFunction.lower(args);
+                return args -> StringFunction.lower(args);
             case UPPER:
             case UCASE:
-                return StringFunction.upper(args);
+                return args -> StringFunction.upper(args);
             case LEFT:
-                return StringFunction.left(args);
+                return args -> StringFunction.left(args);
             case RIGHT:
-                return StringFunction.right(args);
+                return args -> StringFunction.right(args);
             case LOCATE:
             case POSITION:
-                return StringFunction.location(functionName, args);
+                return args -> StringFunction.location(functionName, args);
             case INSTR:
-                return StringFunction.instr(args);
+                return args -> StringFunction.instr(args);
             case LPAD:
             case RPAD:
-                return StringFunction.pad(functionName, args);
+                return args -> StringFunction.pad(functionName, args);
             case LTRIM:
-                return StringFunction.ltrim(args);
+                return args -> StringFunction.ltrim(args);
             case RTRIM:
-                return StringFunction.rtrim(args);
+                return args -> StringFunction.rtrim(args);
             case TRIM:
-                return StringFunction.trim(args);
+                return args -> StringFunction.trim(args);
             case REGEXP_REPLACE:
-                return StringFunction.regexpReplace(args);
+                return args -> StringFunction.regexpReplace(args, patternCache);
             case REGEXP_LIKE:
-                return StringFunction.regexpLike(args);
+                return args -> StringFunction.regexpLike(args, patternCache);
             case REGEXP_SUBSTR:
-                return StringFunction.regexpSubstr(args);
+                return args -> StringFunction.regexpSubstr(args, patternCache);
             case REPEAT:
-                return StringFunction.repeat(args);
+                return args -> StringFunction.repeat(args);
             case REPLACE:
-                return StringFunction.replace(args);
+                return args -> StringFunction.replace(args);
             case SOUNDEX:
-                return StringFunction.soundex(args);
+                return args -> StringFunction.soundex(args);
             case SPACE:
-                return StringFunction.space(args);
+                return args -> StringFunction.space(args);
             case SUBSTRING:
             case SUBSTR:
-                return StringFunction.substring(args);
+                return args -> StringFunction.substring(args);
             case TO_CHAR:
-                return StringFunction.toChar(args);
+                return args -> StringFunction.toChar(args);
             case TRANSLATE:
-                return StringFunction.translate(args);
+                return args -> StringFunction.translate(args);
             case ABS:
-                return NumericFunction.abs(args);
+                return args -> NumericFunction.abs(args);
             case ACOS:
-                return NumericFunction.acos(args);
+                return args -> NumericFunction.acos(args);
             case ASIN:
-                return NumericFunction.asin(args);
+                return args -> NumericFunction.asin(args);
             case ATAN:
-                return NumericFunction.atan(args);
+                return args -> NumericFunction.atan(args);
             case COS:
-                return NumericFunction.cos(args);
+                return args -> NumericFunction.cos(args);
             case COSH:
-                return NumericFunction.cosh(args);
+                return args -> NumericFunction.cosh(args);
             case COT:
-                return NumericFunction.cot(args);
+                return args -> NumericFunction.cot(args);
             case SIN:
-                return NumericFunction.sin(args);
+                return args -> NumericFunction.sin(args);
             case SINH:
-                return NumericFunction.sinh(args);
+                return args -> NumericFunction.sinh(args);
             case TAN:
-                return NumericFunction.tan(args);
+                return args -> NumericFunction.tan(args);
             case TANH:
-                return NumericFunction.tanh(args);
+                return args -> NumericFunction.tanh(args);
             case ATAN2:
-                return NumericFunction.atan2(args);
+                return args -> NumericFunction.atan2(args);
             case MOD:
-                return NumericFunction.mod(args);
+                return args -> NumericFunction.mod(args);
             case CEIL:
             case CEILING:
-                return NumericFunction.ceil(args);
+                return args -> NumericFunction.ceil(args);
             case EXP:
-                return NumericFunction.exp(args);
+                return args -> NumericFunction.exp(args);
             case FLOOR:
-                return NumericFunction.floor(args);
+                return args -> NumericFunction.floor(args);
             case LN:
-                return NumericFunction.ln(args);
+                return args -> NumericFunction.ln(args);
             case LOG:
-                return NumericFunction.log(args);
+                return args -> NumericFunction.log(args);
             case LOG10:
-                return NumericFunction.log10(args);
+                return args -> NumericFunction.log10(args);
             case RADIANS:
-                return NumericFunction.radians(args);
+                return args -> NumericFunction.radians(args);
             case SQRT:
-                return NumericFunction.sqrt(args);
+                return args -> NumericFunction.sqrt(args);
             case PI:
-                return NumericFunction.pi(args);
+                return args -> NumericFunction.pi(args);
             case POWER:
-                return NumericFunction.power(args);
+                return args -> NumericFunction.power(args);
             case RAND:
             case RANDOM:
-                return NumericFunction.random(args);
+                return args -> NumericFunction.random(args);
             case ROUND:
-                return NumericFunction.round(args);
+                return args -> NumericFunction.round(args);
             case SIGN:
-                return NumericFunction.sign(args);
+                return args -> NumericFunction.sign(args);
             case TRUNC:
             case TRUNCATE:
-                return NumericFunction.trunc(args);
+                return args -> NumericFunction.trunc(args);
             case NOW:
-                return DateTimeFunction.currentTimestamp();
+                return args -> DateTimeFunction.currentTimestamp();
             case DATEADD:
             case TIMESTAMPADD:
-                return DateTimeFunction.dateadd(args);
+                return args -> DateTimeFunction.dateadd(args);
             case DATEDIFF:
-                return DateTimeFunction.datediff(args);
+                return args -> DateTimeFunction.datediff(args);
             case DATE_TRUNC:
-                return DateTimeFunction.dateTrunc(args);
+                return args -> DateTimeFunction.dateTrunc(args);
             case DAYNAME:
-                return DateTimeFunction.dayname(args);
+                return args -> DateTimeFunction.dayname(args);
             case DAY_OF_MONTH:
-                return DateTimeFunction.dayOfMonth(args);
+                return args -> DateTimeFunction.dayOfMonth(args);
             case DAY_OF_WEEK:
-                return DateTimeFunction.dayOfWeek(args);
+                return args -> DateTimeFunction.dayOfWeek(args);
             case DAY_OF_YEAR:
-                return DateTimeFunction.dayOfYear(args);
+                return args -> DateTimeFunction.dayOfYear(args);
             case FROM_UNIXTIME:
-                return DateTimeFunction.fromUnixTime(args);
+                return args -> DateTimeFunction.fromUnixTime(args);
             case EXTRACT:
-                return DateTimeFunction.extract(args);
+                return args -> DateTimeFunction.extract(args);
             case FORMATDATETIME:
-                return DateTimeFunction.formatdatetime(args);
+                return args -> DateTimeFunction.formatdatetime(args);
             case HOUR:
-                return DateTimeFunction.hour(args);
+                return args -> DateTimeFunction.hour(args);
             case MINUTE:
-                return DateTimeFunction.minute(args);
+                return args -> DateTimeFunction.minute(args);
             case MONTH:
-                return DateTimeFunction.month(args);
+                return args -> DateTimeFunction.month(args);
             case MONTHNAME:
-                return DateTimeFunction.monthname(args);
+                return args -> DateTimeFunction.monthname(args);
             case PARSEDATETIME:
             case TO_DATE:
-                return DateTimeFunction.parsedatetime(args);
+                return args -> DateTimeFunction.parsedatetime(args);
             case IS_DATE:
-                return DateTimeFunction.isDate(args);
+                return args -> DateTimeFunction.isDate(args);
             case QUARTER:
-                return DateTimeFunction.quarter(args);
+                return args -> DateTimeFunction.quarter(args);
             case SECOND:
-                return DateTimeFunction.second(args);
+                return args -> DateTimeFunction.second(args);
             case WEEK:
-                return DateTimeFunction.week(args);
+                return args -> DateTimeFunction.week(args);
             case YEAR:
-                return DateTimeFunction.year(args);
+                return args -> DateTimeFunction.year(args);
             case COALESCE:
-                return SystemFunction.coalesce(args);
+                return args -> SystemFunction.coalesce(args);
             case IFNULL:
-                return SystemFunction.ifnull(args);
+                return args -> SystemFunction.ifnull(args);
             case NULLIF:
-                return SystemFunction.nullif(args);
+                return args -> SystemFunction.nullif(args);
             default:
                 for (ZetaUDF udf : udfList) {
                     if (udf.functionName().equalsIgnoreCase(functionName)) {
-                        return udf.evaluate(args);
+                        return udf::evaluate;
                     }
                 }
-                throw new TransformException(
-                        CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
-                        String.format("Unsupported function: %s", functionName));
+                return null;
+        }
+    }
+
+    /** Whether the function returns the same result for the same arguments. */
+    public boolean isDeterministicFunction(String functionName) {
+        switch (functionName.toUpperCase()) {
+            case RAND:
+            case RANDOM:
+            case NOW:
+                return false;
+            default:
+                // user defined functions are not assumed to be deterministic
+                return resolveFunction(functionName) != null
+                        && udfList.stream()
+                                .noneMatch(
+                                        udf -> udf.functionName().equalsIgnoreCase(functionName));
         }
     }
 
+    /** Executor of a resolved function. */
+    @FunctionalInterface
+    public interface FunctionExecutor {
+        Object execute(List<Object> args);
+    }
+
     public Object executeTimeKeyExpr(String timeKeyExpr) {
         switch (timeKeyExpr.toUpperCase()) {
             case CURRENT_DATE:
@@ -579,6 +623,20 @@ public class ZetaSQLFunction {
             return null;
         }
         SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return executeArithmetic(binaryExpression, resultType, leftValue, rightValue);
+    }
+
+    /**
+     * Apply the arithmetic operator of the binary expression to the non-null operands.
+     *
+     * @param binaryExpression the expression, only used for its operator
+     * @param resultType the result type of the expression
+     */
+    public Object executeArithmetic(
+            BinaryExpression binaryExpression,
+            SeaTunnelDataType<?> resultType,
+            Number leftValue,
+            Number rightValue) {
         if (resultType.getSqlType() == SqlType.INT) {
             if (binaryExpression instanceof Addition) {
                 return leftValue.intValue() + rightValue.intValue();
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Lowers the JSqlParser expressions of a query into {@link ZetaSQLEvaluator} trees once, instead of
+ * walking the AST for every row. Column indexes, function executors, cast targets and arithmetic
+ * result types are resolved at plan time, sub-expressions with only constant inputs are folded and
+ * literal LIKE and regexp patterns are compiled once. Expressions without a dedicated node are
+ * delegated to {@link ZetaSQLFunction} and {@link ZetaSQLFilter}, so the result is always the same
+ * as the interpreter.
+ */
+@Slf4j
+public class ZetaSQLPlanner {
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+    private final ZetaSQLType zetaSQLType;
+
+    public ZetaSQLPlanner(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            ZetaSQLType zetaSQLType) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.zetaSQLType = zetaSQLType;
+    }
+
+    /** Plan a value expression, e.g. a projection. */
+    public ZetaSQLEvaluator planExpression(Expression expression) {
+        try {
+            return lower(expression);
+        } catch (RuntimeException e) {
+            // keep the error for the row that triggers it, like the interpreter does
+            log.debug("Fallback to interpreter for expression: {}", expression, e);
+            return interpret(expression);
+        }
+    }
+
+    /** Plan a condition, e.g. the WHERE clause. A null condition accepts every row. */
+    public Predicate<Object[]> planFilter(Expression whereExpr) {
+        if (whereExpr == null) {
+            return inputFields -> true;
+        }
+        try {
+            return lowerFilter(whereExpr);
+        } catch (RuntimeException e) {
+            log.debug("Fallback to interpreter for condition: {}", whereExpr, e);
+            return inputFields -> zetaSQLFilter.executeFilter(whereExpr, inputFields);
+        }
+    }
+
+    static boolean isConstant(ZetaSQLEvaluator evaluator) {
+        return evaluator instanceof ConstantEvaluator;
+    }
+
+    private ZetaSQLEvaluator lower(Expression expression) {
+        if (expression instanceof NullValue
+                || expression instanceof LongValue
+                || expression instanceof DoubleValue
+                || expression instanceof StringValue) {
+            return new ConstantEvaluator(zetaSQLFunction.computeForValue(expression, null));
+        }
+        if (expression instanceof Column) {
+            return lowerColumn((Column) expression);
+        }
+        if (expression instanceof Parenthesis) {
+            return lower(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof SignedExpression) {
+            return lowerSigned((SignedExpression) expression);
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            List<Expression> parameters =
+                    function.getParameters() == null
+                            ? new ArrayList<>()
+                            : function.getParameters().getExpressions();
+            return lowerFunction(expression, function.getName(), parameters);
+        }
+        if (expression instanceof CastExpression) {
+            return lowerCast((CastExpression) expression);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return lowerFunction(
+                    expression,
+                    ZetaSQLFunction.CONCAT,
+                    Arrays.asList(concat.getLeftExpression(), concat.getRightExpression()));
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo) {
+            return lowerArithmetic((BinaryExpression) expression);
+        }
+        return interpret(expression);
+    }
+
+    private ZetaSQLEvaluator lowerColumn(Column column) {
+        String columnName = column.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        if (index == -1) {
+            // nested row or map field
+            return interpret(column);
+        }
+        final int fieldIndex = index;
+        return inputFields -> inputFields[fieldIndex];
+    }
+
+    private ZetaSQLEvaluator lowerSigned(SignedExpression signedExpression) {
+        if (signedExpression.getSign() != '-') {
+            return interpret(signedExpression);
+        }
+        ZetaSQLEvaluator child = lower(signedExpression.getExpression());
+        ZetaSQLEvaluator evaluator =
+                inputFields -> {
+                    Object value = child.evaluate(inputFields);
+                    if (value instanceof Integer) {
+                        return -((Integer) value);
+                    }
+                    if (value instanceof Long) {
+                        return -((Long) value);
+                    }
+                    if (value instanceof Double) {
+                        return -((Double) value);
+                    }
+                    if (value instanceof Number) {
+                        return -((Number) value).doubleValue();
+                    }
+                    throw new TransformException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                            String.format("Unsupported SQL Expression: %s ", signedExpression));
+                };
+        return fold(evaluator, child);
+    }
+
+    private ZetaSQLEvaluator lowerFunction(
+            Expression expression, String functionName, List<Expression> parameters) {
+        ZetaSQLFunction.FunctionExecutor executor = zetaSQLFunction.resolveFunction(functionName);
+        if (executor == null) {
+            // unknown functions still fail when a row reaches them
+            return interpret(expression);
+        }
+        ZetaSQLEvaluator[] args = new ZetaSQLEvaluator[parameters.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = lower(parameters.get(i));
+        }
+        pinRegexpPattern(functionName, args);
+        ZetaSQLEvaluator evaluator =
+                inputFields -> {
+                    List<Object> functionArgs = new ArrayList<>(args.length);
+                    for (ZetaSQLEvaluator arg : args) {
+                        functionArgs.add(arg.evaluate(inputFields));
+                    }
+                    return executor.execute(functionArgs);
+                };
+        if (!zetaSQLFunction.isDeterministicFunction(functionName)) {
+            return evaluator;
+        }
+        return fold(evaluator, args);
+    }
+
+    /** Compile the pattern of a regexp function once if it is a literal of the query. */
+    private void pinRegexpPattern(String functionName, ZetaSQLEvaluator[] args) {
+        int modeIndex;
+        switch (functionName.toUpperCase()) {
+            case ZetaSQLFunction.REGEXP_REPLACE:
+                modeIndex = 3;
+                break;
+            case ZetaSQLFunction.REGEXP_LIKE:
+                modeIndex = 2;
+                break;
+            case ZetaSQLFunction.REGEXP_SUBSTR:
+                modeIndex = 4;
+                break;
+            default:
+                return;
+        }
+        if (args.length < 2 || !isConstant(args[1])) {
+            return;
+        }
+        if (args.length > modeIndex && !isConstant(args[modeIndex])) {
+            return;
+        }
+        try {
+            String regexp = (String) args[1].evaluate(null);
+            String regexpMode =
+                    args.length > modeIndex ? (String) args[modeIndex].evaluate(null) : null;
+            if (regexp != null) {
+                zetaSQLFunction
+                        .getPatternCache()
+                        .pinPattern(regexp, StringFunction.makeRegexpFlags(regexpMode, false));
+            }
+        } catch (RuntimeException e) {
+            // invalid patterns keep failing when a row reaches them
+            log.debug("Skip precompiling pattern of function: {}", functionName, e);
+        }
+    }
+
+    private ZetaSQLEvaluator lowerCast(CastExpression castExpression) {
+        ZetaSQLEvaluator child = lower(castExpression.getLeftExpression());
+        String dataType = castExpression.getType().getDataType();
+        List<Object> castArgs = new ArrayList<>(3);
+        castArgs.add(dataType.toUpperCase());
+        if (dataType.equalsIgnoreCase("DECIMAL")) {
+            List<String> ps = castExpression.getType().getArgumentsStringList();
+            castArgs.add(Integer.parseInt(ps.get(0)));
+            castArgs.add(Integer.parseInt(ps.get(1)));
+        }
+        ZetaSQLEvaluator evaluator =
+                inputFields -> {
+                    List<Object> args = new ArrayList<>(castArgs.size() + 1);
+                    args.add(child.evaluate(inputFields));
+                    args.addAll(castArgs);
+                    return SystemFunction.castAs(args);
+                };
+        return fold(evaluator, child);
+    }
+
+    private ZetaSQLEvaluator lowerArithmetic(BinaryExpression binaryExpression) {
+        ZetaSQLEvaluator left = lower(binaryExpression.getLeftExpression());
+        ZetaSQLEvaluator right = lower(binaryExpression.getRightExpression());
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        ZetaSQLEvaluator evaluator =
+                inputFields -> {
+                    Number leftValue = (Number) left.evaluate(inputFields);
+                    Number rightValue = (Number) right.evaluate(inputFields);
+                    if (leftValue == null || rightValue == null) {
+                        return null;
+                    }
+                    return zetaSQLFunction.executeArithmetic(
+                            binaryExpression, resultType, leftValue, rightValue);
+                };
+        return fold(evaluator, left, right);
+    }
+
+    private Predicate<Object[]> lowerFilter(Expression whereExpr) {
+        if (whereExpr instanceof Parenthesis) {
+            return lowerFilter(((Parenthesis) whereExpr).getExpression());
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            Predicate<Object[]> left = lowerFilter(andExpression.getLeftExpression());
+            Predicate<Object[]> right = lowerFilter(andExpression.getRightExpression());
+            // both sides are evaluated, as in ZetaSQLFilter
+            return inputFields -> left.test(inputFields) & right.test(inputFields);
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            Predicate<Object[]> left = lowerFilter(orExpression.getLeftExpression());
+            Predicate<Object[]> right = lowerFilter(orExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) | right.test(inputFields);
+        }
+        if (whereExpr instanceof Function) {
+            ZetaSQLEvaluator function = lower(whereExpr);
+            return inputFields -> {
+                Boolean result = (Boolean) function.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            ZetaSQLEvaluator left = lower(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> left.evaluate(inputFields) != null;
+            }
+            return inputFields -> left.evaluate(inputFields) == null;
+        }
+        if (whereExpr instanceof EqualsTo) {
+            return lowerComparison((BinaryExpression) whereExpr, zetaSQLFilter::equalsToExpr);
+        }
+        if (whereExpr instanceof NotEqualsTo) {
+            return lowerComparison((BinaryExpression) whereExpr, zetaSQLFilter::notEqualsToExpr);
+        }
+        if (whereExpr instanceof GreaterThan) {
+            return lowerComparison((BinaryExpression) whereExpr, zetaSQLFilter::greaterThanExpr);
+        }
+        if (whereExpr instanceof GreaterThanEquals) {
+            return lowerComparison(
+                    (BinaryExpression) whereExpr, zetaSQLFilter::greaterThanEqualsExpr);
+        }
+        if (whereExpr instanceof MinorThan) {
+            return lowerComparison((BinaryExpression) whereExpr, zetaSQLFilter::minorThanExpr);
+        }
+        if (whereExpr instanceof MinorThanEquals) {
+            return lowerComparison(
+                    (BinaryExpression) whereExpr, zetaSQLFilter::minorThanEqualsExpr);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            return lowerLike((LikeExpression) whereExpr);
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(whereExpr, inputFields);
+    }
+
+    private Predicate<Object[]> lowerLike(LikeExpression likeExpression) {
+        ZetaSQLEvaluator left = lower(likeExpression.getLeftExpression());
+        ZetaSQLEvaluator right = lower(likeExpression.getRightExpression());
+        boolean isNot = likeExpression.isNot();
+        if (isConstant(right)) {
+            LikePattern likePattern =
+                    zetaSQLFunction
+                            .getPatternCache()
+                            .pin(
+                                    LikePattern.KIND,
+                                    right.evaluate(null).toString(),
+                                    LikePattern::compile);
+            return inputFields -> {
+                Object leftVal = left.evaluate(inputFields);
+                // null never matches, with or without NOT
+                return leftVal != null && likePattern.matches(leftVal.toString()) != isNot;
+            };
+        }
+        return inputFields -> {
+            Object leftVal = left.evaluate(inputFields);
+            if (leftVal == null) {
+                return false;
+            }
+            LikePattern likePattern =
+                    zetaSQLFilter.getLikePattern(right.evaluate(inputFields).toString());
+            return likePattern.matches(leftVal.toString()) != isNot;
+        };
+    }
+
+    private Predicate<Object[]> lowerComparison(
+            BinaryExpression comparison, Predicate<Pair<Object, Object>> comparator) {
+        ZetaSQLEvaluator left = lower(comparison.getLeftExpression());
+        ZetaSQLEvaluator right = lower(comparison.getRightExpression());
+        return inputFields ->
+                comparator.test(Pair.of(left.evaluate(inputFields), right.evaluate(inputFields)));
+    }
+
+    private ZetaSQLEvaluator interpret(Expression expression) {
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    /** Evaluate the expression once if all of its inputs are constants. */
+    private static ZetaSQLEvaluator fold(ZetaSQLEvaluator evaluator, ZetaSQLEvaluator... inputs) {
+        for (ZetaSQLEvaluator input : inputs) {
+            if (!isConstant(input)) {
+                return evaluator;
+            }
+        }
+        return new ConstantEvaluator(evaluator.evaluate(null));
+    }
+
+    private static class ConstantEvaluator implements ZetaSQLEvaluator {
+        private final Object value;
+
+        private ConstantEvaluator(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Object[] inputFields) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta.functions;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled patterns of one SQL transform. Patterns that are literals of the query are pinned at
+ * plan time and never evicted, patterns computed from row values are kept in a bounded LRU so a
+ * high-cardinality pattern column cannot grow the cache without limit.
+ *
+ * <p>Not thread safe, every transform instance owns its own cache.
+ */
+public class PatternCache {
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<Key, Object> pinned = new HashMap<>();
+    private final LinkedHashMap<Key, Object> recent;
+
+    public PatternCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PatternCache(int maxSize) {
+        this.recent =
+                new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+    }
+
+    public Pattern getPattern(String regexp, int flags) {
+        return (Pattern) get(new Key(regexp, flags), key -> Pattern.compile(regexp, flags));
+    }
+
+    public Pattern pinPattern(String regexp, int flags) {
+        return (Pattern) pin(new Key(regexp, flags), key -> Pattern.compile(regexp, flags));
+    }
+
+    /**
+     * Get a compiled form of the pattern other than a {@link Pattern}, e.g. a LIKE matcher. The
+     * kind is part of the key, so different compilers of the same pattern string do not clash.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String kind, String pattern, Function<String, T> compiler) {
+        Objects.requireNonNull(pattern);
+        return (T) get(new Key(kind + ':' + pattern, -1), key -> compiler.apply(pattern));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T pin(String kind, String pattern, Function<String, T> compiler) {
+        Objects.requireNonNull(pattern);
+        return (T) pin(new Key(kind + ':' + pattern, -1), key -> compiler.apply(pattern));
+    }
+
+    public int size() {
+        return pinned.size() + recent.size();
+    }
+
+    private Object get(Key key, Function<Key, Object> compiler) {
+        Object compiled = pinned.get(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        return recent.computeIfAbsent(key, compiler);
+    }
+
+    private Object pin(Key key, Function<Key, Object> compiler) {
+        Object compiled = recent.remove(key);
+        if (compiled != null) {
+            pinned.put(key, compiled);
+            return compiled;
+        }
+        return pinned.computeIfAbsent(key, compiler);
+    }
+
+    private static final class Key {
+        private final String pattern;
+        private final int flags;
+
+        private Key(String pattern, int flags) {
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return flags == key.flags && pattern.equals(key.pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, flags);
+        }
+    }
+}
@@ -350,6 +350,10 @@ public class StringFunction {
     }
 
     public static String regexpReplace(List<Object> args) {
+        return regexpReplace(args, null);
+    }
+
+    public static String regexpReplace(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -360,7 +364,7 @@ public class StringFunction {
         if (args.size() >= 4) {
             regexpMode = (String) args.get(3);
         }
-        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode);
+        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode, patternCache);
     }
 
     private static String regexpReplace(
@@ -369,10 +373,13 @@ public class StringFunction {
             String replacement,
             int position,
             int occurrence,
-            String regexpMode) {
+            String regexpMode,
+            PatternCache patternCache) {
         int flags = makeRegexpFlags(regexpMode, false);
         Matcher matcher =
-                Pattern.compile(regexp, flags).matcher(input).region(position - 1, input.length());
+                compile(regexp, flags, patternCache)
+                        .matcher(input)
+                        .region(position - 1, input.length());
         if (occurrence == 0) {
             return matcher.replaceAll(replacement);
         } else {
@@ -391,6 +398,10 @@ public class StringFunction {
     }
 
     public static Boolean regexpLike(List<Object> args) {
+        return regexpLike(args, null);
+    }
+
+    public static Boolean regexpLike(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -401,10 +412,17 @@ public class StringFunction {
             regexpMode = (String) args.get(2);
         }
         int flags = makeRegexpFlags(regexpMode, false);
-        return Pattern.compile(regexp, flags).matcher(input).find();
+        return compile(regexp, flags, patternCache).matcher(input).find();
     }
 
-    private static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
+    private static Pattern compile(String regexp, int flags, PatternCache patternCache) {
+        if (patternCache == null) {
+            return Pattern.compile(regexp, flags);
+        }
+        return patternCache.getPattern(regexp, flags);
+    }
+
+    public static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
         int flags = Pattern.UNICODE_CASE;
         if (stringFlags != null) {
             for (int i = 0; i < stringFlags.length(); ++i) {
@@ -439,13 +457,17 @@ public class StringFunction {
     }
 
     public static String regexpSubstr(List<Object> args) {
+        return regexpSubstr(args, null);
+    }
+
+    public static String regexpSubstr(List<Object> args, PatternCache patternCache) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
         }
         String regexp = (String) args.get(1);
         if (args.size() == 2) {
-            return regexpSubstr(input, regexp, null, null, null, null);
+            return regexpSubstr(input, regexp, null, null, null, null, patternCache);
         }
         if (args.size() >= 6) {
             Integer positionArg = null;
@@ -462,7 +484,13 @@ public class StringFunction {
                 subexpressionArg = ((Number) args.get(5)).intValue();
             }
             return regexpSubstr(
-                    input, regexp, positionArg, occurrenceArg, regexpMode, subexpressionArg);
+                    input,
+                    regexp,
+                    positionArg,
+                    occurrenceArg,
+                    regexpMode,
+                    subexpressionArg,
+                    patternCache);
         }
 
         return null;
@@ -475,11 +503,23 @@ public class StringFunction {
             Integer occurrenceArg,
             String regexpMode,
             Integer subexpressionArg) {
+        return regexpSubstr(
+                input, regexp, positionArg, occurrenceArg, regexpMode, subexpressionArg, null);
+    }
+
+    private static String regexpSubstr(
+            String input,
+            String regexp,
+            Integer positionArg,
+            Integer occurrenceArg,
+            String regexpMode,
+            Integer subexpressionArg,
+            PatternCache patternCache) {
         int position = positionArg != null ? positionArg - 1 : 0;
         int requestedOccurrence = occurrenceArg != null ? occurrenceArg : 1;
         int subexpression = subexpressionArg != null ? subexpressionArg : 0;
         int flags = makeRegexpFlags(regexpMode, false);
-        Matcher m = Pattern.compile(regexp, flags).matcher(input);
+        Matcher m = compile(regexp, flags, patternCache).matcher(input);
 
         boolean found = m.find(position);
         for (int occurrence = 1; occurrence < requestedOccurrence && found; occurrence++) {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+public class LikePatternTest {
+
+    @Test
+    public void testMatchesSameAsRegex() {
+        String[] patterns = {
+            "abc", "abc%", "%abc", "%abc%", "%", "a.c%", "%a_c", "_bc", "ab_", "'abc'", "a%c", ""
+        };
+        String[] inputs = {
+            "abc", "abcd", "xabc", "xabcx", "", "a.c", "axc", "ab", "abc\nd", "x\nabc", "a%c",
+            "'abc'"
+        };
+        for (String like : patterns) {
+            LikePattern likePattern = LikePattern.compile(like);
+            Pattern regex = Pattern.compile(LikePattern.toRegex(like));
+            for (String input : inputs) {
+                Assertions.assertEquals(
+                        regex.matcher(input).matches(),
+                        likePattern.matches(input),
+                        like + " / " + input);
+            }
+        }
+    }
+
+    @Test
+    public void testPatternCache() {
+        PatternCache patternCache = new PatternCache(2);
+        Pattern pinned = patternCache.pinPattern("a+", 0);
+        Pattern dynamic = patternCache.getPattern("b+", 0);
+        Assertions.assertSame(dynamic, patternCache.getPattern("b+", 0));
+        Assertions.assertNotSame(dynamic, patternCache.getPattern("b+", Pattern.DOTALL));
+
+        patternCache.getPattern("c+", 0);
+        patternCache.getPattern("d+", 0);
+        // the literal survives the eviction of the least recently used dynamic patterns
+        Assertions.assertSame(pinned, patternCache.getPattern("a+", 0));
+        Assertions.assertNotSame(dynamic, patternCache.getPattern("b+", 0));
+        Assertions.assertEquals(3, patternCache.size());
+
+        LikePattern likePattern = patternCache.get(LikePattern.KIND, "a+", LikePattern::compile);
+        Assertions.assertSame(
+                likePattern, patternCache.get(LikePattern.KIND, "a+", LikePattern::compile));
+        Assertions.assertSame(pinned, patternCache.getPattern("a+", 0));
+    }
+}
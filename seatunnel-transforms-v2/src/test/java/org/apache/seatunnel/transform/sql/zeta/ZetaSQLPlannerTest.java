@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ZetaSQLPlannerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "price"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2)
+                    });
+
+    private static final List<Object[]> ROWS =
+            Arrays.asList(
+                    new Object[] {1L, "Alice", 18, 90.5d, new BigDecimal("10.50")},
+                    new Object[] {2L, "bob", null, 60d, new BigDecimal("0.01")},
+                    new Object[] {3L, null, 40, null, null});
+
+    private final ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, new ArrayList<>());
+    private final ZetaSQLFunction zetaSQLFunction =
+            new ZetaSQLFunction(ROW_TYPE, zetaSQLType, new ArrayList<>());
+    private final ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+    private final ZetaSQLPlanner planner =
+            new ZetaSQLPlanner(ROW_TYPE, zetaSQLFunction, zetaSQLFilter, zetaSQLType);
+
+    @Test
+    public void testExpressionsMatchInterpreter() throws JSQLParserException {
+        String[] expressions = {
+            "id",
+            "`name`",
+            "-age",
+            "age + 1",
+            "id * 2 - age",
+            "score / 2",
+            "age % 7",
+            "price * 2",
+            "name || '_suffix'",
+            "upper(name)",
+            "concat(name, '-', id)",
+            "coalesce(name, 'unknown')",
+            "cast(age as string)",
+            "cast(score as decimal(10, 2))",
+            "(age + 1) * 2",
+            "case when age > 20 then 'old' else 'young' end",
+            "substring(name, 1, 2)"
+        };
+        for (String sql : expressions) {
+            Expression expression = CCJSqlParserUtil.parseExpression(sql);
+            ZetaSQLEvaluator evaluator = planner.planExpression(expression);
+            for (Object[] row : ROWS) {
+                Assertions.assertEquals(
+                        outcome(() -> zetaSQLFunction.computeForValue(expression, row)),
+                        outcome(() -> evaluator.evaluate(row)),
+                        sql);
+            }
+        }
+    }
+
+    /** The value, or the exception type if the evaluation fails. */
+    private static Object outcome(Supplier<Object> evaluation) {
+        try {
+            return evaluation.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    @Test
+    public void testConditionsMatchInterpreter() throws JSQLParserException {
+        String[] conditions = {
+            "age > 18",
+            "age >= 18 and score < 100",
+            "(id = 1 or id = 3) and name is not null",
+            "name is null",
+            "name <> 'bob'",
+            "age <= 40",
+            "id in (1, 2)",
+            "name like 'A%'",
+            "name not like '%o%'",
+            "name like '_lice'",
+            "name like concat(substring(name, 1, 1), '%')",
+            "regexp_like(name, '^[a-z]+$')"
+        };
+        for (String sql : conditions) {
+            Expression expression = CCJSqlParserUtil.parseCondExpression(sql);
+            for (Object[] row : ROWS) {
+                Assertions.assertEquals(
+                        zetaSQLFilter.executeFilter(expression, row),
+                        planner.planFilter(expression).test(row),
+                        sql);
+            }
+        }
+        Assertions.assertTrue(planner.planFilter(null).test(ROWS.get(0)));
+    }
+
+    @Test
+    public void testConstantFolding() throws JSQLParserException {
+        Assertions.assertTrue(
+                ZetaSQLPlanner.isConstant(
+                        planner.planExpression(CCJSqlParserUtil.parseExpression("(1 + 2) * 3"))));
+        Assertions.assertTrue(
+                ZetaSQLPlanner.isConstant(
+                        planner.planExpression(
+                                CCJSqlParserUtil.parseExpression("upper(concat('a', 'b'))"))));
+        Assertions.assertFalse(
+                ZetaSQLPlanner.isConstant(
+                        planner.planExpression(CCJSqlParserUtil.parseExpression("age + 1"))));
+        Assertions.assertFalse(
+                ZetaSQLPlanner.isConstant(
+                        planner.planExpression(CCJSqlParserUtil.parseExpression("rand()"))));
+        Assertions.assertEquals(
+                9,
+                planner.planExpression(CCJSqlParserUtil.parseExpression("(1 + 2) * 3"))
+                        .evaluate(null));
+    }
+
+    @Test
+    public void testErrorsAreRaisedPerRow() throws JSQLParserException {
+        ZetaSQLEvaluator evaluator =
+                planner.planExpression(CCJSqlParserUtil.parseExpression("unknown_func(age)"));
+        Assertions.assertThrows(Exception.class, () -> evaluator.evaluate(ROWS.get(0)));
+    }
+
+    @Test
+    public void testEngineUsesPlan() {
+        SQLEngine sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select id, upper(name) as name, age + 1 as next_age, * from test where age > 18");
+        Assertions.assertNull(sqlEngine.transformBySQL(new SeaTunnelRow(ROWS.get(0))));
+        SeaTunnelRow outRow = sqlEngine.transformBySQL(new SeaTunnelRow(ROWS.get(2)));
+        Assertions.assertEquals(3L, outRow.getField(0));
+        Assertions.assertNull(outRow.getField(1));
+        Assertions.assertEquals(41, outRow.getField(2));
+        Assertions.assertEquals(8, outRow.getArity());
+    }
+}